@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.benchmarks.spanner;
+
+import com.google.cloud.ByteArray;
+import com.google.cloud.Date;
+import com.google.cloud.Timestamp;
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.Embedded;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import com.google.spanner.v1.TypeCode;
+import java.math.BigDecimal;
+import java.util.List;
+
+/** The entity shapes that the Cloud Spanner benchmarks convert. */
+public final class BenchmarkEntities {
+
+  private BenchmarkEntities() {}
+
+  /** An entity with a few scalar columns. */
+  @Table(name = "narrow")
+  public static class Narrow {
+    @PrimaryKey String id;
+
+    String name;
+
+    long count;
+  }
+
+  /** An entity with many columns of mixed types. */
+  @Table(name = "wide")
+  public static class Wide {
+    @PrimaryKey String id;
+
+    @PrimaryKey(keyOrder = 2)
+    long version;
+
+    String name;
+
+    String description;
+
+    String category;
+
+    String owner;
+
+    long quantity;
+
+    Long reserved;
+
+    int shelf;
+
+    double price;
+
+    Double discount;
+
+    float weight;
+
+    boolean active;
+
+    Boolean archived;
+
+    BigDecimal cost;
+
+    Timestamp createdAt;
+
+    Timestamp updatedAt;
+
+    Date releaseDate;
+
+    ByteArray checksum;
+
+    String region;
+
+    String supplier;
+
+    long ordered;
+
+    double rating;
+
+    String notes;
+  }
+
+  /** An entity whose columns are partly declared by embedded objects. */
+  @Table(name = "embedded")
+  public static class WithEmbedded {
+    @PrimaryKey String id;
+
+    String name;
+
+    @Embedded Address shipping;
+
+    @Embedded Audit audit;
+  }
+
+  /** Columns embedded in {@link WithEmbedded}. */
+  public static class Address {
+    String street;
+
+    String city;
+
+    String postalCode;
+
+    String country;
+  }
+
+  /** Columns embedded in {@link WithEmbedded}. */
+  public static class Audit {
+    String createdBy;
+
+    Timestamp createdAt;
+
+    String modifiedBy;
+
+    Timestamp modifiedAt;
+  }
+
+  /** An entity with JSON columns. */
+  @Table(name = "json")
+  public static class WithJson {
+    @PrimaryKey String id;
+
+    @Column(spannerType = TypeCode.JSON)
+    Details details;
+
+    @Column(spannerType = TypeCode.JSON)
+    List<Details> history;
+  }
+
+  /** The value of the JSON columns of {@link WithJson}. */
+  public static class Details {
+    String label;
+
+    long score;
+
+    List<String> tags;
+  }
+
+  /** An entity with array columns. */
+  @Table(name = "arrays")
+  public static class WithArrays {
+    @PrimaryKey String id;
+
+    List<String> names;
+
+    List<Long> counts;
+
+    List<Double> measures;
+
+    List<Boolean> flags;
+
+    List<Timestamp> events;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.benchmarks.spanner;
+
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.ResultSets;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.Type;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The mapping infrastructure and the synthetic rows of one {@link EntityShape}. The rows are
+ * created by writing the entities of the shape to {@link Struct}s, so that they have exactly the
+ * columns and types that the entity processor expects to read.
+ */
+final class ConversionFixture {
+
+  final SpannerMappingContext mappingContext;
+
+  final SpannerEntityProcessor entityProcessor;
+
+  final SpannerSchemaUtils schemaUtils;
+
+  final Class<?> entityType;
+
+  final List<Object> entities;
+
+  final List<Struct> rows;
+
+  final Type rowType;
+
+  ConversionFixture(EntityShape shape, int rowCount) {
+    this.mappingContext = new SpannerMappingContext(new Gson());
+    this.entityProcessor = new ConverterAwareMappingSpannerEntityProcessor(this.mappingContext);
+    this.schemaUtils = new SpannerSchemaUtils(this.mappingContext, this.entityProcessor, true);
+    this.entityType = shape.entityType();
+    this.entities = new ArrayList<>(rowCount);
+    this.rows = new ArrayList<>(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      Object entity = shape.newEntity(i);
+      Struct.Builder row = Struct.newBuilder();
+      this.entityProcessor.write(entity, row::set);
+      this.entities.add(entity);
+      this.rows.add(row.build());
+    }
+    this.rowType = this.rows.get(0).getType();
+  }
+
+  /** Returns a new result set over the synthetic rows. */
+  ResultSet newResultSet() {
+    return ResultSets.forRows(this.rowType, this.rows);
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.benchmarks.spanner;
+
+import com.google.cloud.ByteArray;
+import com.google.cloud.Date;
+import com.google.cloud.Timestamp;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.Address;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.Audit;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.Details;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.Narrow;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.Wide;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.WithArrays;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.WithEmbedded;
+import com.google.cloud.spring.benchmarks.spanner.BenchmarkEntities.WithJson;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/** The entity shapes that the benchmarks are parameterized with, and their synthetic data. */
+public enum EntityShape {
+  NARROW(Narrow.class) {
+    @Override
+    Object newEntity(int i) {
+      Narrow narrow = new Narrow();
+      narrow.id = "narrow-" + i;
+      narrow.name = "name-" + i;
+      narrow.count = i;
+      return narrow;
+    }
+  },
+
+  WIDE(Wide.class) {
+    @Override
+    Object newEntity(int i) {
+      Wide wide = new Wide();
+      wide.id = "wide-" + i;
+      wide.version = i % 7;
+      wide.name = "name-" + i;
+      wide.description = "a description of the item with the number " + i;
+      wide.category = "category-" + (i % 10);
+      wide.owner = "owner-" + (i % 100);
+      wide.quantity = i * 3L;
+      wide.reserved = (long) i;
+      wide.shelf = i % 40;
+      wide.price = i * 1.25;
+      wide.discount = 0.1;
+      wide.weight = i * 0.5f;
+      wide.active = i % 2 == 0;
+      wide.archived = Boolean.FALSE;
+      wide.cost = BigDecimal.valueOf(i, 2);
+      wide.createdAt = timestamp(i);
+      wide.updatedAt = timestamp(i + 60);
+      wide.releaseDate = Date.fromYearMonthDay(2026, 1 + i % 12, 1 + i % 28);
+      wide.checksum = ByteArray.copyFrom("checksum-" + i);
+      wide.region = "region-" + (i % 5);
+      wide.supplier = "supplier-" + (i % 20);
+      wide.ordered = i * 7L;
+      wide.rating = (i % 5) + 0.5;
+      wide.notes = "notes-" + i;
+      return wide;
+    }
+  },
+
+  EMBEDDED(WithEmbedded.class) {
+    @Override
+    Object newEntity(int i) {
+      WithEmbedded entity = new WithEmbedded();
+      entity.id = "embedded-" + i;
+      entity.name = "name-" + i;
+      entity.shipping = new Address();
+      entity.shipping.street = i + " Main Street";
+      entity.shipping.city = "city-" + (i % 50);
+      entity.shipping.postalCode = Integer.toString(10000 + i);
+      entity.shipping.country = "country-" + (i % 3);
+      entity.audit = new Audit();
+      entity.audit.createdBy = "creator-" + (i % 10);
+      entity.audit.createdAt = timestamp(i);
+      entity.audit.modifiedBy = "modifier-" + (i % 10);
+      entity.audit.modifiedAt = timestamp(i + 60);
+      return entity;
+    }
+  },
+
+  JSON(WithJson.class) {
+    @Override
+    Object newEntity(int i) {
+      WithJson entity = new WithJson();
+      entity.id = "json-" + i;
+      entity.details = details(i);
+      entity.history = new ArrayList<>();
+      for (int j = 0; j < 5; j++) {
+        entity.history.add(details(i + j));
+      }
+      return entity;
+    }
+  },
+
+  ARRAYS(WithArrays.class) {
+    @Override
+    Object newEntity(int i) {
+      WithArrays entity = new WithArrays();
+      entity.id = "arrays-" + i;
+      entity.names = new ArrayList<>();
+      entity.counts = new ArrayList<>();
+      entity.measures = new ArrayList<>();
+      entity.flags = new ArrayList<>();
+      entity.events = new ArrayList<>();
+      for (int j = 0; j < 20; j++) {
+        entity.names.add("name-" + (i + j));
+        entity.counts.add((long) (i + j));
+        entity.measures.add((i + j) * 0.25);
+        entity.flags.add(j % 2 == 0);
+        entity.events.add(timestamp(i + j));
+      }
+      return entity;
+    }
+  };
+
+  private final Class<?> entityType;
+
+  EntityShape(Class<?> entityType) {
+    this.entityType = entityType;
+  }
+
+  /** Returns the entity class of this shape. */
+  Class<?> entityType() {
+    return this.entityType;
+  }
+
+  /** Creates the entity with the given number, whose columns are all non-null. */
+  abstract Object newEntity(int i);
+
+  private static Timestamp timestamp(int i) {
+    return Timestamp.ofTimeSecondsAndNanos(1_767_225_600L + i, i % 1000);
+  }
+
+  private static Details details(int i) {
+    Details details = new Details();
+    details.label = "label-" + i;
+    details.score = i;
+    details.tags = Arrays.asList("red", "green", "tag-" + i);
+    return details;
+  }
+}
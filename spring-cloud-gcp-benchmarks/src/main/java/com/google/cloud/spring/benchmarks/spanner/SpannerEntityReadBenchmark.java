@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.benchmarks.spanner;
+
+import com.google.cloud.spanner.Struct;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the conversion of Cloud Spanner rows to entities. Every invocation converts {@value
+ * #ROWS} rows, so the reported throughput and allocation rates ({@code -prof gc}) are per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpannerEntityReadBenchmark {
+
+  static final int ROWS = 100;
+
+  @Param({"NARROW", "WIDE", "EMBEDDED", "JSON", "ARRAYS"})
+  EntityShape shape;
+
+  private ConversionFixture fixture;
+
+  /** Creates the rows of the benchmarked shape. */
+  @Setup
+  public void setUp() {
+    this.fixture = new ConversionFixture(this.shape, ROWS);
+  }
+
+  /** Converts single rows, as the template does for reads by key. */
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void readStruct(Blackhole blackhole) {
+    for (Struct row : this.fixture.rows) {
+      blackhole.consume(this.fixture.entityProcessor.read(this.fixture.entityType, row));
+    }
+  }
+
+  /** Converts a result set, as the template does for queries. */
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public List<?> mapResultSet() {
+    return this.fixture.entityProcessor.mapToList(
+        this.fixture.newResultSet(), this.fixture.entityType);
+  }
+}
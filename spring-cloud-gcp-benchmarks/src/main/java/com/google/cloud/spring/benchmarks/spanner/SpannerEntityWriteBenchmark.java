@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.benchmarks.spanner;
+
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spring.data.spanner.core.SpannerMutationFactory;
+import com.google.cloud.spring.data.spanner.core.SpannerMutationFactoryImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the conversion of entities to Cloud Spanner mutations. Every invocation converts {@value
+ * #ROWS} entities, so the reported throughput and allocation rates ({@code -prof gc}) are per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpannerEntityWriteBenchmark {
+
+  static final int ROWS = 100;
+
+  @Param({"NARROW", "WIDE", "EMBEDDED", "JSON", "ARRAYS"})
+  EntityShape shape;
+
+  private ConversionFixture fixture;
+
+  private SpannerMutationFactory mutationFactory;
+
+  private String tableName;
+
+  /** Creates the entities of the benchmarked shape. */
+  @Setup
+  public void setUp() {
+    this.fixture = new ConversionFixture(this.shape, ROWS);
+    this.mutationFactory =
+        new SpannerMutationFactoryImpl(
+            this.fixture.entityProcessor,
+            this.fixture.mappingContext,
+            this.fixture.schemaUtils);
+    this.tableName =
+        this.fixture
+            .mappingContext
+            .getPersistentEntityOrFail(this.fixture.entityType)
+            .tableName();
+  }
+
+  /** Writes the columns of entities to mutation builders with the entity processor only. */
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void writeColumns(Blackhole blackhole) {
+    for (Object entity : this.fixture.entities) {
+      Mutation.WriteBuilder builder = Mutation.newInsertOrUpdateBuilder(this.tableName);
+      this.fixture.entityProcessor.write(entity, builder::set);
+      blackhole.consume(builder.build());
+    }
+  }
+
+  /** Creates the upsert mutations of entities, as the template does for saves. */
+  @Benchmark
+  @OperationsPerInvocation(ROWS)
+  public void upsertMutations(Blackhole blackhole) {
+    for (Object entity : this.fixture.entities) {
+      blackhole.consume(this.mutationFactory.upsert(entity, null));
+    }
+  }
+}
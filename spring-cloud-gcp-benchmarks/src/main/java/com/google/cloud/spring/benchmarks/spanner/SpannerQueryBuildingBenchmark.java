@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.benchmarks.spanner;
+
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spring.data.spanner.core.SpannerPageableQueryOptions;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.repository.query.SpannerStatementQueryExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+/** Measures the building of the SQL that reads entities. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpannerQueryBuildingBenchmark {
+
+  static final int KEYS = 100;
+
+  @Param({"NARROW", "WIDE", "EMBEDDED", "JSON", "ARRAYS"})
+  EntityShape shape;
+
+  private ConversionFixture fixture;
+
+  private SpannerPersistentEntity<?> persistentEntity;
+
+  private KeySet keySet;
+
+  private SpannerPageableQueryOptions pageableOptions;
+
+  /** Creates the keys of the benchmarked shape. */
+  @Setup
+  public void setUp() {
+    this.fixture = new ConversionFixture(this.shape, KEYS);
+    this.persistentEntity =
+        this.fixture.mappingContext.getPersistentEntityOrFail(this.fixture.entityType);
+    KeySet.Builder keys = KeySet.newBuilder();
+    for (Object entity : this.fixture.entities) {
+      keys.addKey(this.fixture.schemaUtils.getKey(entity));
+    }
+    this.keySet = keys.build();
+    this.pageableOptions =
+        new SpannerPageableQueryOptions()
+            .setSort(Sort.by("id").descending())
+            .setLimit(50)
+            .setOffset(100L);
+  }
+
+  /** Builds the column list of the entity, as every query of the template does. */
+  @Benchmark
+  public String selectColumns() {
+    return SpannerStatementQueryExecutor.getColumnsStringForSelect(
+        this.persistentEntity, this.fixture.mappingContext, true);
+  }
+
+  /** Builds the statement that reads {@value #KEYS} entities by key. */
+  @Benchmark
+  public Statement keyQuery() {
+    return SpannerStatementQueryExecutor.buildQuery(
+        this.keySet,
+        this.persistentEntity,
+        this.fixture.entityProcessor.getWriteConverter(),
+        this.fixture.mappingContext);
+  }
+
+  /** Wraps a query with the sorting and paging of a pageable query method. */
+  @Benchmark
+  public String sortedPagedQuery() {
+    return SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
+        this.fixture.entityType,
+        this.pageableOptions,
+        "SELECT * FROM " + this.persistentEntity.tableName(),
+        this.fixture.mappingContext,
+        false);
+  }
+}
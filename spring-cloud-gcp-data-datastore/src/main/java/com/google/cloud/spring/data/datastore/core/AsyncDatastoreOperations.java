@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import com.google.cloud.datastore.BaseEntity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.StructuredQuery;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * An interface of operations that can be done asynchronously with Cloud Datastore. The results of
+ * the operations are completed when the operations are done, without blocking the caller.
+ *
+ * @since 6.0.2
+ */
+public interface AsyncDatastoreOperations {
+
+  /**
+   * Get an entity based on a id.
+   *
+   * @param id the id of the entity, as for {@link DatastoreOperations#findById(Object, Class)}.
+   * @param entityClass the type of the entity to get.
+   * @param <T> the class type of the entity.
+   * @return a future of the entity that was found with that id, or of {@code null} if there is
+   *     none.
+   */
+  <T> CompletableFuture<T> findById(Object id, Class<T> entityClass);
+
+  /**
+   * Find all the entities of the given IDs.
+   *
+   * @param ids the IDs to search.
+   * @param entityClass the type of entity to retrieve.
+   * @param <T> the type parameter of the entity type.
+   * @return a future of the entities that were found.
+   */
+  <T> CompletableFuture<List<T>> findAllById(Iterable<?> ids, Class<T> entityClass);
+
+  /**
+   * Check if the given ID belongs to an entity in Cloud Datastore.
+   *
+   * @param id the ID to search for.
+   * @param entityClass the type of the entity.
+   * @param <T> the type parameter of the entity type.
+   * @return a future of {@code true} if the entity exists.
+   */
+  <T> CompletableFuture<Boolean> existsById(Object id, Class<T> entityClass);
+
+  /**
+   * Saves an instance of an object to Cloud Datastore. Behaves as update or insert.
+   *
+   * @param instance the instance to save.
+   * @param ancestors ancestors that should be added to the entry
+   * @param <T> the type of the object to save.
+   * @return a future of the instance that was saved.
+   */
+  <T> CompletableFuture<T> save(T instance, Key... ancestors);
+
+  /**
+   * Saves multiple instances of objects to Cloud Datastore in batches. Behaves as update or
+   * insert.
+   *
+   * @param entities the objects to save.
+   * @param ancestors ancestors that should be added to each entry
+   * @param <T> the type of entities to save
+   * @return a future of the entities that were saved.
+   */
+  <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, Key... ancestors);
+
+  /**
+   * Delete an entity from Cloud Datastore.
+   *
+   * @param id the ID of the entity to delete.
+   * @param entityClass the type of the entity to delete.
+   * @param <T> the entity type
+   * @return a future completed when the entity is deleted.
+   */
+  <T> CompletableFuture<Void> deleteById(Object id, Class<T> entityClass);
+
+  /**
+   * Delete multiple IDs from Cloud Datastore.
+   *
+   * @param ids the IDs to delete.
+   * @param entityClass the type of entities to delete.
+   * @param <T> the entity type
+   * @return a future completed when the entities are deleted.
+   */
+  <T> CompletableFuture<Void> deleteAllById(Iterable<?> ids, Class<T> entityClass);
+
+  /**
+   * Count all occurrences of entities of the given domain type.
+   *
+   * @param entityClass the domain type to count.
+   * @return a future of the number of entities of that type.
+   */
+  CompletableFuture<Long> count(Class<?> entityClass);
+
+  /**
+   * Runs a query whose results are read and converted page by page, as they are requested by the
+   * subscribers of the returned publisher. Each subscriber runs the query anew.
+   *
+   * @param query the query to run.
+   * @param entityClass the type of the entities to convert the results to.
+   * @param <T> the type of the entities.
+   * @return a publisher of the converted entities.
+   */
+  <T> Flow.Publisher<T> query(StructuredQuery<? extends BaseEntity> query, Class<T> entityClass);
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import com.google.cloud.datastore.BaseEntity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.datastore.StructuredQuery;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of {@link AsyncDatastoreOperations} that offloads the operations of a {@link
+ * DatastoreOperations} to an {@link Executor}, so that the entities are converted with the same
+ * {@link com.google.cloud.spring.data.datastore.core.convert.DatastoreEntityConverter} and mapping
+ * context as the blocking operations.
+ *
+ * <p>The operations still use the synchronous Cloud Datastore client, so every running operation
+ * blocks a thread of the executor until Cloud Datastore responds. At most {@code maxConcurrency}
+ * operations run at a time, and the others are queued in order until one of them completes. The
+ * results of queries are read by as many results as are requested by the subscribers, in reads of
+ * at most {@link #setQueryBatchSize(int) the query batch size}.
+ *
+ * <p>The operations run outside of the transaction of the caller, if any.
+ *
+ * @since 6.0.2
+ */
+public class AsyncDatastoreTemplate implements AsyncDatastoreOperations {
+
+  private final DatastoreOperations datastoreOperations;
+
+  private final Executor executor;
+
+  private final int maxConcurrency;
+
+  private final Queue<Operation<?>> pendingOperations = new ConcurrentLinkedQueue<>();
+
+  private final AtomicInteger runningOperations = new AtomicInteger();
+
+  private int queryBatchSize = 500;
+
+  /**
+   * Constructor.
+   *
+   * @param datastoreOperations the operations to run asynchronously.
+   * @param executor the executor to run the operations on.
+   * @param maxConcurrency the maximum number of operations that run at a time.
+   */
+  public AsyncDatastoreTemplate(
+      DatastoreOperations datastoreOperations, Executor executor, int maxConcurrency) {
+    Assert.notNull(datastoreOperations, "A non-null DatastoreOperations is required.");
+    Assert.notNull(executor, "A non-null executor is required.");
+    Assert.isTrue(maxConcurrency > 0, "The maximum concurrency must be positive.");
+    this.datastoreOperations = datastoreOperations;
+    this.executor = executor;
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Sets the maximum number of results read by a query at a time, when more are requested.
+   *
+   * @param queryBatchSize the maximum number of results of a read. Defaults to 500.
+   */
+  public void setQueryBatchSize(int queryBatchSize) {
+    Assert.isTrue(queryBatchSize > 0, "The query batch size must be positive.");
+    this.queryBatchSize = queryBatchSize;
+  }
+
+  @Override
+  public <T> CompletableFuture<T> findById(Object id, Class<T> entityClass) {
+    return submit(() -> this.datastoreOperations.findById(id, entityClass));
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> findAllById(Iterable<?> ids, Class<T> entityClass) {
+    return submit(() -> toList(this.datastoreOperations.findAllById(ids, entityClass)));
+  }
+
+  @Override
+  public <T> CompletableFuture<Boolean> existsById(Object id, Class<T> entityClass) {
+    return submit(() -> this.datastoreOperations.existsById(id, entityClass));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> save(T instance, Key... ancestors) {
+    return submit(() -> this.datastoreOperations.save(instance, ancestors));
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> saveAll(Iterable<T> entities, Key... ancestors) {
+    return submit(() -> toList(this.datastoreOperations.saveAll(entities, ancestors)));
+  }
+
+  @Override
+  public <T> CompletableFuture<Void> deleteById(Object id, Class<T> entityClass) {
+    return submit(
+        () -> {
+          this.datastoreOperations.deleteById(id, entityClass);
+          return null;
+        });
+  }
+
+  @Override
+  public <T> CompletableFuture<Void> deleteAllById(Iterable<?> ids, Class<T> entityClass) {
+    return submit(
+        () -> {
+          this.datastoreOperations.deleteAllById(ids, entityClass);
+          return null;
+        });
+  }
+
+  @Override
+  public CompletableFuture<Long> count(Class<?> entityClass) {
+    return submit(() -> this.datastoreOperations.count(entityClass));
+  }
+
+  @Override
+  public <T> Flow.Publisher<T> query(
+      StructuredQuery<? extends BaseEntity> query, Class<T> entityClass) {
+    Assert.notNull(query, "A non-null query is required.");
+    return subscriber -> {
+      Assert.notNull(subscriber, "A non-null subscriber is required.");
+      subscriber.onSubscribe(new QuerySubscription<>(query, entityClass, subscriber));
+    };
+  }
+
+  private static <T> List<T> toList(Iterable<T> iterable) {
+    List<T> list = new ArrayList<>();
+    if (iterable != null) {
+      iterable.forEach(list::add);
+    }
+    return list;
+  }
+
+  private <R> CompletableFuture<R> submit(Supplier<R> supplier) {
+    Operation<R> operation = new Operation<>(supplier, new CompletableFuture<>());
+    this.pendingOperations.add(operation);
+    runPendingOperations();
+    return operation.result();
+  }
+
+  // Starts pending operations for as long as fewer than maxConcurrency operations are running
+  private void runPendingOperations() {
+    while (!this.pendingOperations.isEmpty()) {
+      int running = this.runningOperations.get();
+      if (running >= this.maxConcurrency) {
+        return;
+      }
+      if (!this.runningOperations.compareAndSet(running, running + 1)) {
+        continue;
+      }
+      Operation<?> operation = this.pendingOperations.poll();
+      if (operation == null) {
+        this.runningOperations.decrementAndGet();
+        continue;
+      }
+      try {
+        this.executor.execute(
+            () -> {
+              try {
+                operation.run();
+              } finally {
+                this.runningOperations.decrementAndGet();
+                runPendingOperations();
+              }
+            });
+      } catch (RejectedExecutionException ex) {
+        this.runningOperations.decrementAndGet();
+        operation.result().completeExceptionally(ex);
+      }
+    }
+  }
+
+  /** An operation and the future of its result. */
+  private record Operation<R>(Supplier<R> supplier, CompletableFuture<R> result) {
+
+    void run() {
+      try {
+        this.result.complete(this.supplier.get());
+      } catch (Throwable ex) {
+        this.result.completeExceptionally(ex);
+      }
+    }
+  }
+
+  /**
+   * The subscription to the results of a query. The results are read by the operations of the
+   * template, one read at a time, and emitted in a serialized drain loop.
+   */
+  private final class QuerySubscription<T> implements Flow.Subscription {
+
+    private final StructuredQuery<? extends BaseEntity> query;
+
+    private final Class<T> entityClass;
+
+    private final Flow.Subscriber<? super T> subscriber;
+
+    private final Queue<T> readResults = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong demand = new AtomicLong();
+
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    private volatile boolean reading;
+
+    private volatile boolean exhausted;
+
+    private volatile boolean cancelled;
+
+    private volatile Throwable error;
+
+    // only accessed by one read at a time, or once no read is running
+    private Stream<T> results;
+
+    private Iterator<T> resultsIterator;
+
+    QuerySubscription(
+        StructuredQuery<? extends BaseEntity> query,
+        Class<T> entityClass,
+        Flow.Subscriber<? super T> subscriber) {
+      this.query = query;
+      this.entityClass = entityClass;
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        this.error = new IllegalArgumentException("The requested number must be positive.");
+      } else {
+        // the demand is unbounded once it overflows
+        this.demand.accumulateAndGet(
+            n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      this.cancelled = true;
+      drain();
+    }
+
+    private void drain() {
+      if (this.drainRequests.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        if (this.cancelled) {
+          this.readResults.clear();
+          if (!this.reading) {
+            closeResults();
+          }
+        } else {
+          emit();
+        }
+        missed = this.drainRequests.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void emit() {
+      T result;
+      while (this.demand.get() > 0 && (result = this.readResults.poll()) != null) {
+        this.demand.decrementAndGet();
+        this.subscriber.onNext(result);
+      }
+      if (!this.readResults.isEmpty() || this.reading) {
+        return;
+      }
+      if (this.error != null || this.exhausted) {
+        this.cancelled = true;
+        closeResults();
+        if (this.error != null) {
+          this.subscriber.onError(this.error);
+        } else {
+          this.subscriber.onComplete();
+        }
+      } else if (this.demand.get() > 0) {
+        this.reading = true;
+        int limit = (int) Math.min(this.demand.get(), AsyncDatastoreTemplate.this.queryBatchSize);
+        CompletableFuture<List<T>> unused =
+            submit(() -> read(limit))
+                .whenComplete(
+                    (read, ex) -> {
+                      if (ex != null) {
+                        this.error = ex;
+                      } else {
+                        this.readResults.addAll(read);
+                      }
+                      this.reading = false;
+                      drain();
+                    });
+      }
+    }
+
+    private List<T> read(int limit) {
+      if (this.resultsIterator == null) {
+        this.results =
+            AsyncDatastoreTemplate.this.datastoreOperations.queryStream(
+                this.query, this.entityClass);
+        this.resultsIterator = this.results.iterator();
+      }
+      List<T> read = new ArrayList<>();
+      while (read.size() < limit && this.resultsIterator.hasNext()) {
+        read.add(this.resultsIterator.next());
+      }
+      if (read.size() < limit) {
+        this.exhausted = true;
+      }
+      return read;
+    }
+
+    private void closeResults() {
+      if (this.results != null) {
+        this.results.close();
+        this.results = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import com.google.cloud.datastore.DatastoreReaderWriter;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.spring.data.datastore.core.util.SliceUtil;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.springframework.util.Assert;
+
+/**
+ * Coalesces the keys looked up concurrently within a time window into shared lookups. The first
+ * caller of a window waits for the window to elapse, or for the batch to fill up, and then looks up
+ * the deduplicated keys of all the callers of the window in batches of at most {@code
+ * maxBatchSize} keys, while the other callers wait for the result.
+ *
+ * @since 6.0.2
+ */
+class CoalescingKeyLoader {
+
+  private final long windowNanos;
+
+  private final int maxBatchSize;
+
+  // the open batch of each client, as keys can only be looked up by the client they belong to.
+  // Clients are compared by identity: a transaction must never share a batch with another
+  // client, whatever equals its implementation defines.
+  @SuppressWarnings("IdentityHashMapUsage")
+  private final Map<DatastoreReaderWriter, Batch> openBatches = new IdentityHashMap<>();
+
+  CoalescingKeyLoader(Duration window, int maxBatchSize) {
+    Assert.isTrue(
+        window != null && !window.isNegative(), "A non-negative batching window is required.");
+    Assert.isTrue(maxBatchSize > 0, "The maximum batch size must be positive.");
+    this.windowNanos = window.toNanos();
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Looks up entities by their keys together with the keys looked up by the concurrent callers.
+   *
+   * @param keys the keys to look up.
+   * @param datastoreReaderWriter the client to look up the keys with.
+   * @return the entities of the given keys, with {@code null} values for the keys that were not
+   *     found.
+   */
+  Map<Key, Entity> load(Collection<Key> keys, DatastoreReaderWriter datastoreReaderWriter) {
+    if (keys.isEmpty()) {
+      return new HashMap<>();
+    }
+    Batch batch;
+    boolean leader = false;
+    synchronized (this.openBatches) {
+      batch = this.openBatches.get(datastoreReaderWriter);
+      if (batch == null) {
+        batch = new Batch();
+        this.openBatches.put(datastoreReaderWriter, batch);
+        leader = true;
+      }
+      batch.keys.addAll(keys);
+      if (batch.keys.size() >= this.maxBatchSize) {
+        this.openBatches.remove(datastoreReaderWriter);
+        batch.filled.countDown();
+      }
+    }
+    if (leader) {
+      lookUp(batch, datastoreReaderWriter);
+    }
+
+    Map<Key, Entity> found;
+    try {
+      found = batch.result.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+    Map<Key, Entity> results = new LinkedHashMap<>();
+    keys.forEach(key -> results.put(key, found.get(key)));
+    return results;
+  }
+
+  // Waits for the other callers of the window on the calling thread and looks up their keys
+  private void lookUp(Batch batch, DatastoreReaderWriter datastoreReaderWriter) {
+    try {
+      batch.filled.await(this.windowNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    synchronized (this.openBatches) {
+      this.openBatches.remove(datastoreReaderWriter, batch);
+    }
+    try {
+      Map<Key, Entity> found = new HashMap<>();
+      SliceUtil.sliceAndExecute(
+          batch.keys.toArray(new Key[0]),
+          this.maxBatchSize,
+          slice -> {
+            List<Entity> entities = datastoreReaderWriter.fetch(slice);
+            Assert.isTrue(slice.length == entities.size(), "Fetched incorrect number of entities");
+            for (int i = 0; i < slice.length; i++) {
+              found.put(slice[i], entities.get(i));
+            }
+          });
+      batch.result.complete(found);
+    } catch (RuntimeException ex) {
+      batch.result.completeExceptionally(ex);
+    }
+  }
+
+  /** The keys looked up within a window. */
+  private static final class Batch {
+
+    private final Set<Key> keys = new LinkedHashSet<>();
+
+    private final CountDownLatch filled = new CountDownLatch(1);
+
+    private final CompletableFuture<Map<Key, Entity>> result = new CompletableFuture<>();
+  }
+}
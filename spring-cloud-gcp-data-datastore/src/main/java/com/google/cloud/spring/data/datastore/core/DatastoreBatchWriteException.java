@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import com.google.cloud.datastore.Key;
+import com.google.cloud.spring.data.datastore.core.mapping.DatastoreDataException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when batches of a write run on the {@link
+ * DatastoreTemplate#setWriteExecutor(java.util.concurrent.Executor) write executor} fail. The other
+ * batches of the write have been attempted, so only the entities of the failed batches need to be
+ * written again.
+ *
+ * @since 6.0.2
+ */
+public class DatastoreBatchWriteException extends DatastoreDataException {
+
+  private final transient List<FailedBatch> failedBatches;
+
+  public DatastoreBatchWriteException(String message, List<FailedBatch> failedBatches) {
+    super(message, failedBatches.isEmpty() ? null : failedBatches.get(0).getCause());
+    this.failedBatches = Collections.unmodifiableList(failedBatches);
+  }
+
+  /**
+   * Get the batches that failed, in the order they were written.
+   *
+   * @return the failed batches.
+   */
+  public List<FailedBatch> getFailedBatches() {
+    return this.failedBatches;
+  }
+
+  /** A batch of entities that could not be written. */
+  public static class FailedBatch {
+
+    private final List<Key> keys;
+
+    private final RuntimeException cause;
+
+    public FailedBatch(List<Key> keys, RuntimeException cause) {
+      this.keys = Collections.unmodifiableList(keys);
+      this.cause = cause;
+    }
+
+    /**
+     * Get the keys of the entities of the batch.
+     *
+     * @return the keys of the entities that were not written.
+     */
+    public List<Key> getKeys() {
+      return this.keys;
+    }
+
+    /**
+     * Get the reason the batch failed.
+     *
+     * @return the exception thrown by the write of the batch.
+     */
+    public RuntimeException getCause() {
+      return this.cause;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.spring.data.datastore.core.mapping.Cached;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.lang.Nullable;
+
+/**
+ * Caches the Cloud Datastore entities of the Kinds annotated with {@link Cached} by key. Each Kind
+ * has its own region, bounded in size and in the time its entities are kept.
+ *
+ * <p>Entities are only cached if no entity was evicted since their lookup started, as determined by
+ * a {@link #stamp()} taken before the lookup, so that a lookup that raced with a write does not
+ * cache the entity as it was before the write.
+ *
+ * @since 6.0.2
+ */
+class DatastoreEntityCache {
+
+  private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+  // guarded by this
+  private long evictions;
+
+  /**
+   * Caches the entities of a Kind, unless they are already cached.
+   *
+   * @param kind the Kind of the entities to cache.
+   * @param settings the size and time to live of the entities of the Kind.
+   */
+  void register(String kind, Cached settings) {
+    this.regions.computeIfAbsent(
+        kind,
+        k -> new Region(settings.maxSize(), TimeUnit.SECONDS.toNanos(settings.ttlSeconds())));
+  }
+
+  boolean isEmpty() {
+    return this.regions.isEmpty();
+  }
+
+  boolean isCached(Key key) {
+    return this.regions.containsKey(key.getKind());
+  }
+
+  synchronized long stamp() {
+    return this.evictions;
+  }
+
+  @Nullable
+  Entity get(Key key) {
+    Region region = this.regions.get(key.getKind());
+    return region == null ? null : region.get(key);
+  }
+
+  synchronized void put(Key key, Entity entity, long stamp) {
+    Region region = this.regions.get(key.getKind());
+    if (region != null && stamp == this.evictions) {
+      region.put(key, entity);
+    }
+  }
+
+  synchronized void evict(Collection<Key> keys) {
+    boolean evicted = false;
+    for (Key key : keys) {
+      Region region = this.regions.get(key.getKind());
+      if (region != null) {
+        region.remove(key);
+        evicted = true;
+      }
+    }
+    if (evicted) {
+      this.evictions++;
+    }
+  }
+
+  /** The cached entities of a Kind, from the least to the most recently read. */
+  private static final class Region {
+
+    private final long ttlNanos;
+
+    private final LinkedHashMap<Key, CachedEntity> entities;
+
+    Region(int maxSize, long ttlNanos) {
+      this.ttlNanos = ttlNanos;
+      this.entities =
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedEntity> eldest) {
+              return size() > maxSize;
+            }
+          };
+    }
+
+    synchronized Entity get(Key key) {
+      CachedEntity cachedEntity = this.entities.get(key);
+      if (cachedEntity == null) {
+        return null;
+      }
+      if (System.nanoTime() - cachedEntity.expiresAt() >= 0) {
+        this.entities.remove(key);
+        return null;
+      }
+      return cachedEntity.entity();
+    }
+
+    synchronized void put(Key key, Entity entity) {
+      this.entities.put(key, new CachedEntity(entity, System.nanoTime() + this.ttlNanos));
+    }
+
+    synchronized void remove(Key key) {
+      this.entities.remove(key);
+    }
+  }
+
+  /** An entity and the time at which it expires, as given by {@link System#nanoTime()}. */
+  private record CachedEntity(Entity entity, long expiresAt) {}
+}
@@ -16,6 +16,8 @@
 
 package com.google.cloud.spring.data.datastore.core;
 
+import com.google.cloud.datastore.AggregationQuery;
+import com.google.cloud.datastore.AggregationResult;
 import com.google.cloud.datastore.BaseEntity;
 import com.google.cloud.datastore.DatastoreException;
 import com.google.cloud.datastore.Key;
@@ -26,6 +28,7 @@ import com.google.cloud.spring.data.datastore.core.convert.DatastoreEntityConver
 import java.util.Collection;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -148,6 +151,21 @@ public interface DatastoreOperations {
    */
   long deleteAll(Class<?> entityClass);
 
+  /**
+   * Delete all entities whose keys are returned by a key query. The keys are read and deleted in
+   * batches, so the memory used does not grow with the number of deleted entities. A {@link
+   * com.google.cloud.spring.data.datastore.core.mapping.event.BeforeDeleteEvent} and an {@link
+   * com.google.cloud.spring.data.datastore.core.mapping.event.AfterDeleteEvent} are published for
+   * each batch, which reports the progress of large deletes.
+   *
+   * @param query the query of the keys to delete. Its limit, offset and start cursor are applied.
+   * @param entityClass the domain type deleted, reported in the delete events. May be {@code
+   *     null}.
+   * @return the number of entities that were deleted.
+   * @since 6.0.2
+   */
+  long deleteAll(KeyQuery query, Class<?> entityClass);
+
   /**
    * Count all occurrences of entities of the given domain type.
    *
@@ -156,6 +174,17 @@ public interface DatastoreOperations {
    */
   long count(Class<?> entityClass);
 
+  /**
+   * Runs an aggregation query, such as a count, sum or average over a structured or GQL query.
+   * The aggregations are computed by Cloud Datastore, so the aggregated entities are neither read
+   * nor transferred.
+   *
+   * @param aggregationQuery the aggregation query to run.
+   * @return the result holding a value for each alias of the aggregation query.
+   * @since 6.0.2
+   */
+  AggregationResult aggregate(AggregationQuery aggregationQuery);
+
   /**
    * Find all the entities of the given IDs. If an ID is actually a {@link
    * com.google.cloud.datastore.Key} then it will be used. Otherwise it will be attempted to be
@@ -351,6 +380,19 @@ public interface DatastoreOperations {
    */
   <T> DatastoreResultsIterable<?> queryKeysOrEntities(Query query, Class<T> entityClass);
 
+  /**
+   * Finds objects by using a Cloud Datastore query, reading and converting the results lazily one
+   * page at a time as the stream is consumed, so that only the current page of results is held in
+   * memory. The limit, offset and start cursor of the query apply to the stream as a whole.
+   *
+   * @param query the query to execute.
+   * @param entityClass the type of object to retrieve.
+   * @param <T> the type of object to retrieve.
+   * @return a stream of the found objects, which should be closed if it is not fully consumed.
+   * @since 6.0.2
+   */
+  <T> Stream<T> queryStream(StructuredQuery<? extends BaseEntity> query, Class<T> entityClass);
+
   /**
    * Runs given query and applies given function to each entity in the result.
    *
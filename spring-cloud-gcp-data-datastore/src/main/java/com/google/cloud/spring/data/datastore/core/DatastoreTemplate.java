@@ -41,11 +41,13 @@ import com.google.cloud.datastore.QueryResults;
 import com.google.cloud.datastore.StructuredQuery;
 import com.google.cloud.datastore.StructuredQuery.Filter;
 import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
+import com.google.cloud.datastore.Transaction;
 import com.google.cloud.datastore.Value;
 import com.google.cloud.datastore.aggregation.Aggregation;
 import com.google.cloud.spring.data.datastore.aot.DatastoreCoreRuntimeHints;
 import com.google.cloud.spring.data.datastore.core.convert.DatastoreEntityConverter;
 import com.google.cloud.spring.data.datastore.core.convert.ObjectToKeyFactory;
+import com.google.cloud.spring.data.datastore.core.mapping.Cached;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastoreDataException;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastoreMappingContext;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastorePersistentEntity;
@@ -61,22 +63,37 @@ import com.google.cloud.spring.data.datastore.core.util.SliceUtil;
 import com.google.cloud.spring.data.datastore.core.util.ValueUtil;
 import com.google.cloud.spring.data.datastore.repository.query.DatastorePageable;
 import com.google.common.collect.Iterables;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
@@ -95,6 +112,7 @@ import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.TypeUtils;
@@ -107,8 +125,12 @@ import org.springframework.util.TypeUtils;
 @ImportRuntimeHints(DatastoreCoreRuntimeHints.class)
 public class DatastoreTemplate implements DatastoreOperations, ApplicationEventPublisherAware {
 
+  private static final int MAX_LOOKUP_SIZE = 1000;
+
   private int maxWriteSize = 500;
 
+  private long maxWriteBytes = 8L * 1024 * 1024;
+
   private final Supplier<? extends DatastoreReaderWriter> datastore;
 
   private final DatastoreEntityConverter datastoreEntityConverter;
@@ -119,6 +141,27 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
   private @Nullable ApplicationEventPublisher eventPublisher;
 
+  private @Nullable Executor descendantQueryExecutor;
+
+  private @Nullable Executor deleteExecutor;
+
+  private int maxConcurrentDeletes = 4;
+
+  private @Nullable Executor writeExecutor;
+
+  private int maxConcurrentWrites = 4;
+
+  private int streamPageSize = 500;
+
+  private @Nullable Executor streamPrefetchExecutor;
+
+  private @Nullable CoalescingKeyLoader findByIdLoader;
+
+  private DatastoreEntityCache entityCache = new DatastoreEntityCache();
+
+  // the keys written by a template of performTransaction, evicted again once it completes
+  private @Nullable Set<Key> transactionEvictions;
+
   public DatastoreTemplate(
       Supplier<? extends DatastoreReaderWriter> datastore,
       DatastoreEntityConverter datastoreEntityConverter,
@@ -144,6 +187,128 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     this.eventPublisher = applicationEventPublisher;
   }
 
+  /**
+   * Sets the executor that runs the descendant queries of the entities read together
+   * concurrently. The descendant queries are run one after the other on the calling thread if it
+   * is {@code null}, which is the default, and always inside a transaction.
+   *
+   * @param descendantQueryExecutor the executor of descendant queries.
+   * @since 6.0.2
+   */
+  public void setDescendantQueryExecutor(@Nullable Executor descendantQueryExecutor) {
+    this.descendantQueryExecutor = descendantQueryExecutor;
+  }
+
+  /**
+   * Sets the executor that runs the batched deletes of {@link #deleteAll(Class)} and {@link
+   * #deleteAll(KeyQuery, Class)}, so that the next page of keys is read while the previous pages
+   * are deleted. The batches are deleted one after the other on the calling thread if it is {@code
+   * null}, which is the default, or within a transaction.
+   *
+   * @param deleteExecutor the executor of batched deletes.
+   * @since 6.0.2
+   */
+  public void setDeleteExecutor(@Nullable Executor deleteExecutor) {
+    this.deleteExecutor = deleteExecutor;
+  }
+
+  /**
+   * Sets the maximum number of batched deletes that run concurrently on the {@link
+   * #setDeleteExecutor(Executor) delete executor}. Defaults to 4.
+   *
+   * @param maxConcurrentDeletes the maximum number of concurrent batched deletes.
+   * @since 6.0.2
+   */
+  public void setMaxConcurrentDeletes(int maxConcurrentDeletes) {
+    Assert.isTrue(
+        maxConcurrentDeletes > 0, "The maximum number of concurrent deletes must be positive.");
+    this.maxConcurrentDeletes = maxConcurrentDeletes;
+  }
+
+  /**
+   * Sets the executor that writes the batches of entities of the save and insert operations. The
+   * entities are then converted and written in a pipeline: the next batch is converted while up to
+   * {@link #setMaxConcurrentWrites(int)} batches are being written, and all batches are attempted
+   * even if some of them fail, which is reported by a {@link DatastoreBatchWriteException}. The
+   * entities are all converted first and then written one batch after the other on the calling
+   * thread if it is {@code null}, which is the default, or within a transaction.
+   *
+   * @param writeExecutor the executor of batched writes.
+   * @since 6.0.2
+   */
+  public void setWriteExecutor(@Nullable Executor writeExecutor) {
+    this.writeExecutor = writeExecutor;
+  }
+
+  /**
+   * Sets the maximum number of batches that are written concurrently on the {@link
+   * #setWriteExecutor(Executor) write executor}. Defaults to 4.
+   *
+   * @param maxConcurrentWrites the maximum number of concurrent batched writes.
+   * @since 6.0.2
+   */
+  public void setMaxConcurrentWrites(int maxConcurrentWrites) {
+    Assert.isTrue(
+        maxConcurrentWrites > 0, "The maximum number of concurrent writes must be positive.");
+    this.maxConcurrentWrites = maxConcurrentWrites;
+  }
+
+  /**
+   * Sets the maximum size of the entities written in a batch, in addition to the maximum of 500
+   * entities. Defaults to 8 MiB, which leaves room for the overhead of the 10 MiB Cloud Datastore
+   * requests.
+   *
+   * @param maxWriteBytes the maximum serialized size of the entities of a batch.
+   * @since 6.0.2
+   */
+  public void setMaxWriteBytes(long maxWriteBytes) {
+    Assert.isTrue(maxWriteBytes > 0, "The maximum size of a batch must be positive.");
+    this.maxWriteBytes = maxWriteBytes;
+  }
+
+  /**
+   * Sets the number of results that {@link #queryStream(StructuredQuery, Class)} reads and
+   * converts at a time. Defaults to 500.
+   *
+   * @param streamPageSize the number of results of each page of a stream.
+   * @since 6.0.2
+   */
+  public void setStreamPageSize(int streamPageSize) {
+    Assert.isTrue(streamPageSize > 0, "The page size of streams must be positive.");
+    this.streamPageSize = streamPageSize;
+  }
+
+  /**
+   * Sets the executor that reads and converts the next page of the results of {@link
+   * #queryStream(StructuredQuery, Class)} while the current page is consumed. The pages are read
+   * on the consuming thread when the current page is exhausted if it is {@code null}, which is the
+   * default, or within a transaction.
+   *
+   * @param streamPrefetchExecutor the executor that prefetches pages of streams.
+   * @since 6.0.2
+   */
+  public void setStreamPrefetchExecutor(@Nullable Executor streamPrefetchExecutor) {
+    this.streamPrefetchExecutor = streamPrefetchExecutor;
+  }
+
+  /**
+   * Sets the window within which the keys of concurrent {@link #findById(Object, Class)} and {@link
+   * #findAllById(Iterable, Class)} calls are coalesced. The first call of a window waits for the
+   * window to elapse, or for 1,000 keys to be requested, and then looks up the deduplicated keys of
+   * all the calls of the window in shared batches, while each call converts its own entities. Each
+   * call looks up its own keys immediately if it is {@code null}, which is the default, or within
+   * a transaction.
+   *
+   * @param findByIdBatchWindow the time to wait for concurrent lookups by ID.
+   * @since 6.0.2
+   */
+  public void setFindByIdBatchWindow(@Nullable Duration findByIdBatchWindow) {
+    this.findByIdLoader =
+        findByIdBatchWindow == null
+            ? null
+            : new CoalescingKeyLoader(findByIdBatchWindow, MAX_LOOKUP_SIZE);
+  }
+
   @Override
   public <T> T findById(Object id, Class<T> entityClass) {
     Iterator<T> results = performFindByKey(Collections.singleton(id), entityClass).iterator();
@@ -153,30 +318,31 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
   @Override
   public <T> T save(T instance, Key... ancestors) {
     List<T> instances = Collections.singletonList(instance);
-    insertOrSaveEntities(instances, ancestors, getDatastoreReadWriter()::put);
+    insertOrSaveEntities(instances, ancestors, DatastoreReaderWriter::put);
     return instance;
   }
 
   @Override
   public <T> Iterable<T> saveAll(Iterable<T> entities, Key... ancestors) {
-    insertOrSaveEntities(entities, ancestors, getDatastoreReadWriter()::put);
+    insertOrSaveEntities(entities, ancestors, DatastoreReaderWriter::put);
     return entities;
   }
 
   @Override
   public <T> T insert(final T instance, final Key... ancestors) {
     List<T> instances = Collections.singletonList(instance);
-    insertOrSaveEntities(instances, ancestors, getDatastoreReadWriter()::add);
+    insertOrSaveEntities(instances, ancestors, DatastoreReaderWriter::add);
     return instance;
   }
 
   @Override
   public <T> Iterable<T> insertAll(final Iterable<T> entities, final Key... ancestors) {
-    insertOrSaveEntities(entities, ancestors, getDatastoreReadWriter()::add);
+    insertOrSaveEntities(entities, ancestors, DatastoreReaderWriter::add);
     return entities;
   }
 
-  private <T> void insertOrSaveEntities(Iterable<T> iterable, Key[] ancestors, Consumer<FullEntity<?>[]> consumer) {
+  private <T> void insertOrSaveEntities(
+      Iterable<T> iterable, Key[] ancestors, BiConsumer<DatastoreReaderWriter, Entity[]> write) {
     List<T> instances;
     if (iterable instanceof List) {
       instances = (List<T>) iterable;
@@ -187,8 +353,31 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
     if (!instances.isEmpty()) {
       maybeEmitEvent(new BeforeSaveEvent(instances));
-      List<Entity> entities = getEntitiesForSave(instances, new HashSet<>(), ancestors);
-      SliceUtil.sliceAndExecute(entities.toArray(new Entity[0]), this.maxWriteSize, consumer);
+      DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+      Executor executor =
+          datastoreReaderWriter instanceof Transaction ? null : this.writeExecutor;
+      BatchWriter batchWriter =
+          new BatchWriter(batch -> write.accept(datastoreReaderWriter, batch), executor);
+      List<Entity> entities = new ArrayList<>();
+      try {
+        if (executor == null) {
+          entities.addAll(getEntitiesForSave(instances, new HashSet<>(), ancestors));
+          entities.forEach(batchWriter::add);
+        } else {
+          // each batch is written as soon as it is converted
+          Set<Key> persisted = new HashSet<>();
+          for (T instance : instances) {
+            List<Entity> converted =
+                getEntitiesForSave(Collections.singletonList(instance), persisted, ancestors);
+            converted.forEach(batchWriter::add);
+            entities.addAll(converted);
+          }
+        }
+        batchWriter.finish();
+      } finally {
+        evictCachedEntities(
+            entities.stream().map(Entity::getKey).toList(), datastoreReaderWriter);
+      }
       maybeEmitEvent(new AfterSaveEvent(entities, instances));
     }
   }
@@ -242,14 +431,99 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
   @Override
   public long deleteAll(Class<?> entityClass) {
-    Key[] keysToDelete = findAllKeys(entityClass);
-    performDelete(keysToDelete, null, null, entityClass);
-    return keysToDelete.length;
+    return deleteAll(
+        Query.newKeyQueryBuilder().setKind(getPersistentEntity(entityClass).kindName()).build(),
+        entityClass);
+  }
+
+  @Override
+  public long deleteAll(KeyQuery query, @Nullable Class<?> entityClass) {
+    Assert.notNull(query, "A non-null key query is required.");
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    Executor executor = datastoreReaderWriter instanceof Transaction ? null : this.deleteExecutor;
+    Deque<PendingDelete> pendingDeletes = new ArrayDeque<>();
+    Integer remaining = query.getLimit();
+    Cursor cursor = query.getStartCursor();
+    int offset = query.getOffset();
+    long deleted = 0;
+    // Pages through the keys with cursors so that at most maxWriteSize keys are read at once for
+    // each of the deletes in flight
+    while (remaining == null || remaining > 0) {
+      int pageSize = remaining == null ? this.maxWriteSize : Math.min(remaining, this.maxWriteSize);
+      KeyQuery pageQuery =
+          query.toBuilder().setStartCursor(cursor).setOffset(offset).setLimit(pageSize).build();
+      QueryResults<Key> results = datastoreReaderWriter.run(pageQuery);
+      List<Key> keys = new ArrayList<>(pageSize);
+      results.forEachRemaining(keys::add);
+      maybeEmitEvent(new AfterQueryEvent(keys, pageQuery));
+      if (keys.isEmpty()) {
+        break;
+      }
+
+      if (pendingDeletes.size() >= this.maxConcurrentDeletes) {
+        completeDelete(pendingDeletes.removeFirst(), entityClass);
+      }
+      pendingDeletes.addLast(
+          startDelete(keys.toArray(new Key[0]), entityClass, datastoreReaderWriter, executor));
+      deleted += keys.size();
+
+      if (keys.size() < pageSize) {
+        break;
+      }
+      remaining = remaining == null ? null : remaining - keys.size();
+      cursor = results.getCursorAfter();
+      offset = 0;
+    }
+    while (!pendingDeletes.isEmpty()) {
+      completeDelete(pendingDeletes.removeFirst(), entityClass);
+    }
+    return deleted;
+  }
+
+  private PendingDelete startDelete(
+      Key[] keys,
+      @Nullable Class<?> entityClass,
+      DatastoreReaderWriter datastoreReaderWriter,
+      @Nullable Executor executor) {
+    maybeEmitEvent(new BeforeDeleteEvent(keys, entityClass, null, null));
+    List<Key> keyList = Arrays.asList(keys);
+    // the keys are evicted once deleted, so that reads in the meantime do not cache them again
+    if (executor == null) {
+      try {
+        datastoreReaderWriter.delete(keys);
+      } finally {
+        evictCachedEntities(keyList, datastoreReaderWriter);
+      }
+      return new PendingDelete(keyList, CompletableFuture.completedFuture(null));
+    }
+    return new PendingDelete(
+        keyList,
+        CompletableFuture.runAsync(() -> datastoreReaderWriter.delete(keys), executor)
+            .whenComplete((result, ex) -> evictCachedEntities(keyList, datastoreReaderWriter)));
+  }
+
+  // Waits for a batched delete on the calling thread, which publishes its after-delete event
+  private void completeDelete(PendingDelete pendingDelete, @Nullable Class<?> entityClass) {
+    try {
+      pendingDelete.completion().join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+    maybeEmitEvent(
+        new AfterDeleteEvent(pendingDelete.keys().toArray(new Key[0]), entityClass, null, null));
   }
 
   private void performDelete(Key[] keys, Iterable ids, Iterable entities, Class entityClass) {
     maybeEmitEvent(new BeforeDeleteEvent(keys, entityClass, ids, entities));
-    SliceUtil.sliceAndExecute(keys, this.maxWriteSize, getDatastoreReadWriter()::delete);
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    try {
+      SliceUtil.sliceAndExecute(keys, this.maxWriteSize, datastoreReaderWriter::delete);
+    } finally {
+      evictCachedEntities(Arrays.asList(keys), datastoreReaderWriter);
+    }
     maybeEmitEvent(new AfterDeleteEvent(keys, entityClass, ids, entities));
   }
 
@@ -264,10 +538,16 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
         .addAggregation(Aggregation.count().as("total_count"))
         .build();
 
-    AggregationResults aggregationResults = getDatastoreReadWriter().runAggregation(countAggregationQuery);
-    maybeEmitEvent(new AfterQueryEvent(aggregationResults, countAggregationQuery));
-    AggregationResult aggregationResult = Iterables.getOnlyElement(aggregationResults);
-    return aggregationResult.get("total_count");
+    return aggregate(countAggregationQuery).get("total_count");
+  }
+
+  @Override
+  public AggregationResult aggregate(AggregationQuery aggregationQuery) {
+    Assert.notNull(aggregationQuery, "A non-null aggregation query is required.");
+    AggregationResults aggregationResults =
+        getDatastoreReadWriter().runAggregation(aggregationQuery);
+    maybeEmitEvent(new AfterQueryEvent(aggregationResults, aggregationQuery));
+    return Iterables.getOnlyElement(aggregationResults);
   }
 
   @Override
@@ -277,25 +557,121 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
   private <T> Collection<T> performFindByKey(Iterable<?> ids, Class<T> entityClass) {
     Set<Key> keys = getKeysFromIds(ids, entityClass);
-    List<T> results = findAllById(keys, entityClass, new ReadContext());
+    ReadContext context = new ReadContext();
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    if (this.findByIdLoader != null && !(datastoreReaderWriter instanceof Transaction)) {
+      registerCachedKind(entityClass);
+      long cacheStamp = this.entityCache.stamp();
+      List<Key> missingKeys =
+          keys.stream()
+              .filter(key -> !readCachedEntity(key, datastoreReaderWriter, context))
+              .toList();
+      this.findByIdLoader
+          .load(missingKeys, datastoreReaderWriter)
+          .forEach(
+              (key, entity) -> {
+                context.putReadEntity(key, entity);
+                cacheEntity(key, entity, cacheStamp, datastoreReaderWriter);
+              });
+    }
+    List<T> results = findAllById(keys, entityClass, context);
     maybeEmitEvent(new AfterFindByKeyEvent(results, keys));
     return results;
   }
 
   private <T> List<T> findAllById(Set<Key> keys, Class<T> entityClass, ReadContext context) {
+    registerCachedKind(entityClass);
     List<Key> missingKeys = keys.stream().filter(context::notCached).toList();
+    fetchReadEntities(missingKeys, getDatastoreReadWriter(), context);
+    return convertEntitiesForRead(keys, entityClass, context);
+  }
 
-    if (!missingKeys.isEmpty()) {
-      List<Entity> entities = getDatastoreReadWriter().fetch(missingKeys.toArray(new Key[] {}));
-      Assert.isTrue(missingKeys.size() == entities.size(), "Fetched incorrect number of entities");
+  // Fetches entities that are not cached in lookups of at most MAX_LOOKUP_SIZE keys
+  private void fetchReadEntities(
+      List<Key> keys, DatastoreReaderWriter datastoreReaderWriter, ReadContext context) {
+    long cacheStamp = this.entityCache.stamp();
+    Key[] missingKeys =
+        keys.stream()
+            .filter(key -> !readCachedEntity(key, datastoreReaderWriter, context))
+            .toArray(Key[]::new);
+    if (missingKeys.length == 0) {
+      return;
+    }
+    SliceUtil.sliceAndExecute(
+        missingKeys,
+        MAX_LOOKUP_SIZE,
+        slice -> {
+          List<Entity> entities = datastoreReaderWriter.fetch(slice);
+          Assert.isTrue(slice.length == entities.size(), "Fetched incorrect number of entities");
+          for (int i = 0; i < slice.length; i++) {
+            context.putReadEntity(slice[i], entities.get(i));
+            cacheEntity(slice[i], entities.get(i), cacheStamp, datastoreReaderWriter);
+          }
+        });
+  }
 
-      for (int i = 0; i < missingKeys.size(); i++) {
-        BaseKey key = missingKeys.get(i);
-        context.putReadEntity(key, entities.get(i));
-      }
+  // Caches the entities of the class if it is annotated with @Cached
+  private void registerCachedKind(Class<?> entityClass) {
+    DatastorePersistentEntity<?> persistentEntity = getPersistentEntity(entityClass);
+    Cached cached = persistentEntity.findAnnotation(Cached.class);
+    if (cached != null) {
+      this.entityCache.register(persistentEntity.kindName(), cached);
     }
+  }
 
-    return convertEntitiesForRead(keys, entityClass, context);
+  // Reads an entity from the cache, which transactions bypass to read their own snapshot
+  private boolean readCachedEntity(
+      Key key, DatastoreReaderWriter datastoreReaderWriter, ReadContext context) {
+    if (this.entityCache.isEmpty() || datastoreReaderWriter instanceof Transaction) {
+      return false;
+    }
+    Entity entity = this.entityCache.get(key);
+    if (entity == null) {
+      return false;
+    }
+    context.putReadEntity(key, entity);
+    return true;
+  }
+
+  private void cacheEntity(
+      Key key,
+      @Nullable Entity entity,
+      long cacheStamp,
+      DatastoreReaderWriter datastoreReaderWriter) {
+    if (entity != null
+        && !this.entityCache.isEmpty()
+        && !(datastoreReaderWriter instanceof Transaction)
+        && this.entityCache.isCached(key)) {
+      this.entityCache.put(key, entity, cacheStamp);
+    }
+  }
+
+  /**
+   * Evicts written entities from the cache. Within a transaction, they are evicted again once it
+   * completes, so that the entities read by other clients before it committed are not kept.
+   */
+  private void evictCachedEntities(
+      Collection<Key> keys, DatastoreReaderWriter datastoreReaderWriter) {
+    if (this.entityCache.isEmpty() || keys.isEmpty()) {
+      return;
+    }
+    this.entityCache.evict(keys);
+    if (!(datastoreReaderWriter instanceof Transaction)) {
+      return;
+    }
+    if (this.transactionEvictions != null) {
+      this.transactionEvictions.addAll(keys);
+    } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      DatastoreEntityCache cache = this.entityCache;
+      List<Key> evictedKeys = new ArrayList<>(keys);
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              cache.evict(evictedKeys);
+            }
+          });
+    }
   }
 
   @Override
@@ -325,13 +701,27 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
 
   private <T> SliceImpl<T> buildSlice(
       StructuredQuery query, Pageable pageable, Class<T> entityClass) {
-    DatastoreResultsIterable<T> results =
-        (DatastoreResultsIterable<T>)
-            queryKeysOrEntities(applyPageable(query, pageable), entityClass);
-    return new SliceImpl<>(
-        results.toList(),
-        DatastorePageable.from(pageable, results.getCursor(), null),
-        nextPageExists(query, results.getCursor()));
+    StructuredQuery pageQuery = applyPageable(query, pageable);
+    Integer pageSize = pageQuery.getLimit();
+    if (pageSize != null) {
+      // the result past the end of the page tells whether there is a next page
+      pageQuery = pageQuery.toBuilder().setLimit(pageSize + 1).build();
+    }
+    QueryResults results = getDatastoreReadWriter().run(pageQuery);
+    List pageResults = new ArrayList<>();
+    while ((pageSize == null || pageResults.size() < pageSize) && results.hasNext()) {
+      pageResults.add(results.next());
+    }
+    // the cursor follows the last result of the page as long as the next one is not read
+    Cursor cursorAfter = results.getCursorAfter();
+    boolean hasNext = pageSize != null && results.hasNext();
+
+    List<T> content =
+        results.getResultClass() == Key.class
+            ? pageResults
+            : convertEntitiesForRead(pageResults.iterator(), entityClass);
+    maybeEmitEvent(new AfterQueryEvent(content, pageQuery));
+    return new SliceImpl<>(content, DatastorePageable.from(pageable, cursorAfter, null), hasNext);
   }
 
   private StructuredQuery applyPageable(StructuredQuery query, Pageable pageable) {
@@ -366,12 +756,18 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     return resultsIterable;
   }
 
-  private boolean nextPageExists(StructuredQuery query, Cursor cursorAfter) {
-    QueryResults results =
-        getDatastoreReadWriter()
-            .run(query.toBuilder().setStartCursor(cursorAfter).setLimit(1).setOffset(0).build());
-
-    return results.hasNext();
+  @Override
+  public <T> Stream<T> queryStream(
+      StructuredQuery<? extends BaseEntity> query, Class<T> entityClass) {
+    Assert.notNull(query, "A non-null query is required.");
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    Executor executor =
+        datastoreReaderWriter instanceof Transaction ? null : this.streamPrefetchExecutor;
+    PagedQueryIterator<T> iterator =
+        new PagedQueryIterator<>(query, entityClass, datastoreReaderWriter, executor);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .onClose(iterator::close);
   }
 
   @Override
@@ -483,18 +879,27 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
               + " object is required to run functions as transactions. Ensure that this method "
               + "was not called in an ongoing transaction.");
     }
-    return ((Datastore) getDatastoreReadWriter())
-        .runInTransaction(
-            (DatastoreReaderWriter readerWriter) -> {
-              DatastoreTemplate template =
-                  new DatastoreTemplate(
-                      () -> readerWriter,
-                      DatastoreTemplate.this.datastoreEntityConverter,
-                      DatastoreTemplate.this.datastoreMappingContext,
-                      DatastoreTemplate.this.objectToKeyFactory);
-              template.setApplicationEventPublisher(DatastoreTemplate.this.eventPublisher);
-              return operations.apply(template);
-            });
+    Set<Key> evictions = ConcurrentHashMap.newKeySet();
+    try {
+      return ((Datastore) getDatastoreReadWriter())
+          .runInTransaction(
+              (DatastoreReaderWriter readerWriter) -> {
+                DatastoreTemplate template =
+                    new DatastoreTemplate(
+                        () -> readerWriter,
+                        DatastoreTemplate.this.datastoreEntityConverter,
+                        DatastoreTemplate.this.datastoreMappingContext,
+                        DatastoreTemplate.this.objectToKeyFactory);
+                template.setApplicationEventPublisher(DatastoreTemplate.this.eventPublisher);
+                template.entityCache = DatastoreTemplate.this.entityCache;
+                template.transactionEvictions = evictions;
+                return operations.apply(template);
+              });
+    } finally {
+      if (!evictions.isEmpty()) {
+        this.entityCache.evict(evictions);
+      }
+    }
   }
 
   @Override
@@ -518,7 +923,12 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
             builder.set(
                 key, this.datastoreEntityConverter.getConversions().convertOnWriteSingle(value)));
     Entity entity = builder.build();
-    getDatastoreReadWriter().put(entity);
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    try {
+      datastoreReaderWriter.put(entity);
+    } finally {
+      evictCachedEntities(Collections.singletonList(datastoreKey), datastoreReaderWriter);
+    }
   }
 
   @Override
@@ -687,12 +1097,148 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
       return Collections.emptyList();
     }
 
+    prefetchReferencesAndDescendants(keys, entityClass, context);
     return keys.stream()
         .map(key -> convertEntityResolveDescendantsAndReferences(entityClass, key, context))
         .filter(Objects::nonNull)
         .toList();
   }
 
+  /**
+   * Reads the eagerly loaded references and the descendants of entities level by level, so that
+   * converting the entities and resolving their references and descendants is served from the read
+   * context. The references of all the entities of a level are fetched together, and their
+   * descendant queries are run concurrently if there is a descendant query executor.
+   */
+  private void prefetchReferencesAndDescendants(
+      Collection<? extends BaseKey> keys, Class<?> entityClass, ReadContext context) {
+    DatastoreReaderWriter datastoreReaderWriter = getDatastoreReadWriter();
+    Map<BaseKey, Class<?>> level = new LinkedHashMap<>();
+    keys.forEach(key -> level.putIfAbsent(key, entityClass));
+    while (!level.isEmpty()) {
+      Map<Key, Class<?>> referencedKeys = new LinkedHashMap<>();
+      Map<EntityQuery, Class<?>> descendantQueries = new LinkedHashMap<>();
+      level.forEach(
+          (key, type) ->
+              collectReferencesAndDescendants(
+                  key, type, context, referencedKeys, descendantQueries));
+      level.clear();
+
+      fetchReadEntities(new ArrayList<>(referencedKeys.keySet()), datastoreReaderWriter, context);
+      level.putAll(referencedKeys);
+
+      Map<EntityQuery, List<BaseEntity>> descendants =
+          runDescendantQueries(descendantQueries.keySet(), datastoreReaderWriter);
+      descendants.forEach(
+          (descendantQuery, entities) -> {
+            List<BaseKey> descendantKeys = new ArrayList<>();
+            for (BaseEntity entity : entities) {
+              context.putReadEntity(entity.getKey(), entity);
+              descendantKeys.add(entity.getKey());
+              level.putIfAbsent(entity.getKey(), descendantQueries.get(descendantQuery));
+            }
+            context.putDescendantKeys(descendantQuery, descendantKeys);
+          });
+    }
+  }
+
+  private void collectReferencesAndDescendants(
+      BaseKey key,
+      Class<?> type,
+      ReadContext context,
+      Map<Key, Class<?>> referencedKeys,
+      Map<EntityQuery, Class<?>> descendantQueries) {
+    BaseEntity<?> entity = context.getReadEntity(key);
+    if (entity == null || !context.markPrefetched(key)) {
+      return;
+    }
+    DatastorePersistentEntity<?> persistentEntity =
+        this.datastoreEntityConverter.getDiscriminationPersistentEntity(type, entity);
+    if (persistentEntity == null) {
+      return;
+    }
+    persistentEntity.doWithAssociations(
+        (AssociationHandler<DatastorePersistentProperty>)
+            association -> {
+              DatastorePersistentProperty referenceProperty = association.getInverse();
+              String fieldName = referenceProperty.getFieldName();
+              if (referenceProperty.isLazyLoaded()
+                  || !entity.contains(fieldName)
+                  || entity.isNull(fieldName)) {
+                return;
+              }
+              try {
+                if (referenceProperty.isCollectionLike()) {
+                  for (Key referencedKey : valuesToKeys(entity.getList(fieldName))) {
+                    collectReferencedKey(
+                        referencedKey, referenceProperty.getComponentType(), context, referencedKeys);
+                  }
+                } else {
+                  collectReferencedKey(
+                      entity.getKey(fieldName), referenceProperty.getType(), context, referencedKeys);
+                }
+              } catch (ClassCastException ex) {
+                // Reported when the reference is resolved.
+              }
+            });
+    if (entity.getKey() instanceof Key entityKey) {
+      persistentEntity.doWithDescendantProperties(
+          descendantProperty -> {
+            EntityQuery descendantQuery = createDescendantQuery(descendantProperty, entityKey);
+            if (context.getDescendantKeys(descendantQuery) == null) {
+              descendantQueries.putIfAbsent(
+                  descendantQuery, descendantProperty.getComponentType());
+            }
+          });
+    }
+  }
+
+  private static void collectReferencedKey(
+      Key key, Class<?> type, ReadContext context, Map<Key, Class<?>> referencedKeys) {
+    if (context.notCached(key)) {
+      referencedKeys.putIfAbsent(key, type);
+    }
+  }
+
+  private Map<EntityQuery, List<BaseEntity>> runDescendantQueries(
+      Collection<EntityQuery> descendantQueries, DatastoreReaderWriter datastoreReaderWriter) {
+    Map<EntityQuery, List<BaseEntity>> results = new LinkedHashMap<>();
+    if (this.descendantQueryExecutor == null
+        || descendantQueries.size() < 2
+        || datastoreReaderWriter instanceof Transaction) {
+      descendantQueries.forEach(
+          query -> results.put(query, runDescendantQuery(query, datastoreReaderWriter)));
+      return results;
+    }
+    Map<EntityQuery, CompletableFuture<List<BaseEntity>>> futures = new LinkedHashMap<>();
+    descendantQueries.forEach(
+        query ->
+            futures.put(
+                query,
+                CompletableFuture.supplyAsync(
+                    () -> runDescendantQuery(query, datastoreReaderWriter),
+                    this.descendantQueryExecutor)));
+    try {
+      futures.forEach((query, future) -> results.put(query, future.join()));
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+    return results;
+  }
+
+  private static List<BaseEntity> runDescendantQuery(
+      EntityQuery query, DatastoreReaderWriter datastoreReaderWriter) {
+    List<BaseEntity> entities = new ArrayList<>();
+    QueryResults<Entity> results = datastoreReaderWriter.run(query);
+    if (results != null) {
+      results.forEachRemaining(entities::add);
+    }
+    return entities;
+  }
+
   private <T> T convertEntityResolveDescendantsAndReferences(
       Class<T> entityClass, BaseKey key, ReadContext context) {
     T convertedObject;
@@ -753,6 +1299,8 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     T referenced;
     if (referenceProperty.isLazyLoaded()) {
       DatastoreReaderWriter originalTx = getDatastoreReadWriter();
+      List<Key> referencedKeys = lazyReferencedKeys(entity, referenceProperty);
+      context.addPendingLazyKeys(referencedKeys);
       referenced =
           LazyUtil.wrapSimpleLazyProxy(
               () -> {
@@ -760,7 +1308,14 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
                   throw new DatastoreDataException(
                       "Lazy load should be invoked within the same transaction");
                 }
-                return (T) findReferenced(entity, referenceProperty, context);
+                synchronized (context) {
+                  // the pending lazy references of the same read are looked up along with this one
+                  fetchReadEntities(
+                      context.takePendingLazyKeys(referencedKeys, MAX_LOOKUP_SIZE),
+                      originalTx,
+                      context);
+                  return (T) findReferenced(entity, referenceProperty, context);
+                }
               },
               type,
               entity.getValue(fieldName));
@@ -770,6 +1325,19 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     return referenced;
   }
 
+  private List<Key> lazyReferencedKeys(
+      BaseEntity entity, DatastorePersistentProperty referenceProperty) {
+    String fieldName = referenceProperty.getFieldName();
+    try {
+      return referenceProperty.isCollectionLike()
+          ? new ArrayList<>(valuesToKeys(entity.getList(fieldName)))
+          : Collections.singletonList(entity.getKey(fieldName));
+    } catch (ClassCastException ex) {
+      // Reported when the reference is resolved.
+      return Collections.emptyList();
+    }
+  }
+
   // Extracts key(s) from a property, fetches and if necessary, converts values to the required type
   private Object findReferenced(
       BaseEntity entity,
@@ -826,30 +1394,17 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
         descendantPersistentProperty -> {
           Class descendantType = descendantPersistentProperty.getComponentType();
 
-          Key entityKey = (Key) entity.getKey();
-          Key ancestorKey = KeyUtil.getKeyWithoutAncestors(entityKey);
-
-          DatastorePersistentEntity descendantEntityType =
-              this.datastoreMappingContext.getPersistentEntity(descendantType);
-
-          Filter ancestorFilter =
-              descendantEntityType.getDiscriminationFieldName() != null
-                  ? StructuredQuery.CompositeFilter.and(
-                      PropertyFilter.eq(
-                          descendantEntityType.getDiscriminationFieldName(),
-                          descendantEntityType.getDiscriminatorValue()),
-                      PropertyFilter.hasAncestor(ancestorKey))
-                  : PropertyFilter.hasAncestor(ancestorKey);
-
           EntityQuery descendantQuery =
-              Query.newEntityQueryBuilder()
-                  .setKind(descendantEntityType.kindName())
-                  .setFilter(ancestorFilter)
-                  .build();
+              createDescendantQuery(
+                  (DatastorePersistentProperty) descendantPersistentProperty,
+                  (Key) entity.getKey());
+          List<BaseKey> descendantKeys = context.getDescendantKeys(descendantQuery);
 
           List entities =
-              convertEntitiesForRead(
-                  getDatastoreReadWriter().run(descendantQuery), descendantType, context);
+              descendantKeys != null
+                  ? convertEntitiesForRead(descendantKeys, descendantType, context)
+                  : convertEntitiesForRead(
+                      getDatastoreReadWriter().run(descendantQuery), descendantType, context);
 
           datastorePersistentEntity
               .getPropertyAccessor(convertedObject)
@@ -863,6 +1418,29 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
         });
   }
 
+  private EntityQuery createDescendantQuery(
+      DatastorePersistentProperty descendantPersistentProperty, Key entityKey) {
+    Key ancestorKey = KeyUtil.getKeyWithoutAncestors(entityKey);
+
+    DatastorePersistentEntity descendantEntityType =
+        this.datastoreMappingContext.getPersistentEntity(
+            descendantPersistentProperty.getComponentType());
+
+    Filter ancestorFilter =
+        descendantEntityType.getDiscriminationFieldName() != null
+            ? StructuredQuery.CompositeFilter.and(
+                PropertyFilter.eq(
+                    descendantEntityType.getDiscriminationFieldName(),
+                    descendantEntityType.getDiscriminatorValue()),
+                PropertyFilter.hasAncestor(ancestorKey))
+            : PropertyFilter.hasAncestor(ancestorKey);
+
+    return Query.newEntityQueryBuilder()
+        .setKind(descendantEntityType.kindName())
+        .setFilter(ancestorFilter)
+        .build();
+  }
+
   private Key getKeyFromId(Object id, Class entityClass) {
     return this.objectToKeyFactory.getKeyFromId(id, getPersistentEntity(entityClass).kindName());
   }
@@ -882,15 +1460,6 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     return this.objectToKeyFactory.getKeyFromObject(entity, datastorePersistentEntity);
   }
 
-  private Key[] findAllKeys(Class entityClass) {
-    Iterable<Key> keysFound =
-        queryKeys(
-            Query.newKeyQueryBuilder()
-                .setKind(getPersistentEntity(entityClass).kindName())
-                .build());
-    return StreamSupport.stream(keysFound.spliterator(), false).toArray(Key[]::new);
-  }
-
   private <T> Set<Key> getKeysFromIds(Iterable<?> ids, Class<T> entityClass) {
     Set<Key> keys = new HashSet<>();
     ids.forEach(x -> keys.add(getKeyFromId(x, entityClass)));
@@ -1043,6 +1612,229 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     this.maxWriteSize = maxWriteSize;
   }
 
+  /** A page of converted query results, along with what is needed to read the next page. */
+  private record QueryPage<T>(
+      StructuredQuery<? extends BaseEntity> query,
+      List<T> results,
+      int rawCount,
+      Cursor cursorAfter) {}
+
+  /**
+   * Reads the results of a query a page at a time as they are iterated, optionally reading the
+   * next page on an executor while the current one is consumed. Only the current and the next
+   * pages are referenced, so the results already iterated can be collected.
+   */
+  private class PagedQueryIterator<T> implements Iterator<T> {
+
+    private final StructuredQuery<? extends BaseEntity> query;
+
+    private final Class<T> entityClass;
+
+    private final DatastoreReaderWriter datastoreReaderWriter;
+
+    private final @Nullable Executor executor;
+
+    private @Nullable Integer remaining;
+
+    private Cursor cursor;
+
+    private int offset;
+
+    private boolean exhausted;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private @Nullable CompletableFuture<QueryPage<T>> nextPage;
+
+    PagedQueryIterator(
+        StructuredQuery<? extends BaseEntity> query,
+        Class<T> entityClass,
+        DatastoreReaderWriter datastoreReaderWriter,
+        @Nullable Executor executor) {
+      this.query = query;
+      this.entityClass = entityClass;
+      this.datastoreReaderWriter = datastoreReaderWriter;
+      this.executor = executor;
+      this.remaining = query.getLimit();
+      this.cursor = query.getStartCursor();
+      this.offset = query.getOffset();
+      this.exhausted = this.remaining != null && this.remaining <= 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!this.current.hasNext()) {
+        if (this.nextPage == null) {
+          if (this.exhausted) {
+            return false;
+          }
+          this.nextPage = requestPage();
+        }
+        QueryPage<T> page = awaitPage(this.nextPage);
+        this.nextPage = null;
+        maybeEmitEvent(new AfterQueryEvent(page.results(), page.query()));
+        advance(page);
+        this.current = page.results().iterator();
+        if (!this.exhausted && this.executor != null) {
+          this.nextPage = requestPage();
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return this.current.next();
+    }
+
+    void close() {
+      this.exhausted = true;
+      this.current = Collections.emptyIterator();
+      if (this.nextPage != null) {
+        this.nextPage.cancel(false);
+        this.nextPage = null;
+      }
+    }
+
+    private CompletableFuture<QueryPage<T>> requestPage() {
+      int pageSize =
+          this.remaining == null
+              ? DatastoreTemplate.this.streamPageSize
+              : Math.min(this.remaining, DatastoreTemplate.this.streamPageSize);
+      StructuredQuery<? extends BaseEntity> pageQuery =
+          this.query.toBuilder()
+              .setStartCursor(this.cursor)
+              .setOffset(this.offset)
+              .setLimit(pageSize)
+              .build();
+      if (this.executor == null) {
+        return CompletableFuture.completedFuture(readPage(pageQuery));
+      }
+      return CompletableFuture.supplyAsync(() -> readPage(pageQuery), this.executor);
+    }
+
+    private QueryPage<T> readPage(StructuredQuery<? extends BaseEntity> pageQuery) {
+      QueryResults<? extends BaseEntity> results = this.datastoreReaderWriter.run(pageQuery);
+      List<BaseEntity> entities = new ArrayList<>(pageQuery.getLimit());
+      results.forEachRemaining(entities::add);
+      return new QueryPage<>(
+          pageQuery,
+          convertEntitiesForRead(entities.iterator(), this.entityClass),
+          entities.size(),
+          results.getCursorAfter());
+    }
+
+    // Moves past a page, whose cursor is used for the next page so that it can be requested
+    // before the current one is consumed
+    private void advance(QueryPage<T> page) {
+      int pageSize = page.query().getLimit();
+      this.remaining = this.remaining == null ? null : this.remaining - page.rawCount();
+      this.cursor = page.cursorAfter();
+      this.offset = 0;
+      this.exhausted =
+          page.rawCount() < pageSize || (this.remaining != null && this.remaining <= 0);
+    }
+
+    private QueryPage<T> awaitPage(CompletableFuture<QueryPage<T>> page) {
+      try {
+        return page.join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw ex;
+      }
+    }
+  }
+
+  /** A batch of keys being deleted. */
+  private record PendingDelete(List<Key> keys, CompletableFuture<Void> completion) {}
+
+  /** A batch of entities being written. */
+  private record PendingWrite(List<Entity> entities, CompletableFuture<Void> completion) {}
+
+  /**
+   * Groups entities into batches of at most {@code maxWriteSize} entities and {@code
+   * maxWriteBytes} bytes, and writes each batch on the calling thread or on an executor.
+   */
+  private class BatchWriter {
+
+    private final Consumer<Entity[]> write;
+
+    private final @Nullable Executor executor;
+
+    private final List<Entity> batch = new ArrayList<>();
+
+    private long batchBytes;
+
+    private final Deque<PendingWrite> pendingWrites = new ArrayDeque<>();
+
+    private final List<DatastoreBatchWriteException.FailedBatch> failedBatches = new ArrayList<>();
+
+    BatchWriter(Consumer<Entity[]> write, @Nullable Executor executor) {
+      this.write = write;
+      this.executor = executor;
+    }
+
+    void add(Entity entity) {
+      long entityBytes = Entity.calculateSerializedSize(entity);
+      if (!this.batch.isEmpty()
+          && (this.batch.size() >= DatastoreTemplate.this.maxWriteSize
+              || this.batchBytes + entityBytes > DatastoreTemplate.this.maxWriteBytes)) {
+        flush();
+      }
+      this.batch.add(entity);
+      this.batchBytes += entityBytes;
+    }
+
+    void finish() {
+      flush();
+      while (!this.pendingWrites.isEmpty()) {
+        complete(this.pendingWrites.removeFirst());
+      }
+      if (!this.failedBatches.isEmpty()) {
+        throw new DatastoreBatchWriteException(
+            this.failedBatches.size() + " batches of entities could not be written.",
+            this.failedBatches);
+      }
+    }
+
+    private void flush() {
+      if (this.batch.isEmpty()) {
+        return;
+      }
+      Entity[] entities = this.batch.toArray(new Entity[0]);
+      this.batch.clear();
+      this.batchBytes = 0;
+      if (this.executor == null) {
+        this.write.accept(entities);
+        return;
+      }
+      if (this.pendingWrites.size() >= DatastoreTemplate.this.maxConcurrentWrites) {
+        complete(this.pendingWrites.removeFirst());
+      }
+      this.pendingWrites.addLast(
+          new PendingWrite(
+              Arrays.asList(entities),
+              CompletableFuture.runAsync(() -> this.write.accept(entities), this.executor)));
+    }
+
+    private void complete(PendingWrite pendingWrite) {
+      try {
+        pendingWrite.completion().join();
+      } catch (CompletionException ex) {
+        RuntimeException cause =
+            ex.getCause() instanceof RuntimeException runtimeException ? runtimeException : ex;
+        this.failedBatches.add(
+            new DatastoreBatchWriteException.FailedBatch(
+                pendingWrite.entities().stream().map(Entity::getKey).toList(), cause));
+      }
+    }
+  }
+
   /**
    * Class to hold caches for read and conversion.
    *
@@ -1051,6 +1843,10 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
   class ReadContext {
     private final Map<BaseKey, Object> convertedEntities = new HashMap<>();
     private final Map<BaseKey, BaseEntity> readEntities = new HashMap<>();
+    private final Set<BaseKey> prefetchedEntities = new HashSet<>();
+    private final Map<EntityQuery, List<BaseKey>> descendantKeys = new HashMap<>();
+    // the keys of the lazy references that were not loaded yet
+    private final Set<Key> pendingLazyKeys = new LinkedHashSet<>();
 
     void putConvertedEntity(BaseKey key, Object entity) {
       this.convertedEntities.put(key, entity);
@@ -1079,5 +1875,47 @@ public class DatastoreTemplate implements DatastoreOperations, ApplicationEventP
     void removeReadEntity(BaseKey key) {
       this.readEntities.remove(key);
     }
+
+    boolean markPrefetched(BaseKey key) {
+      return this.prefetchedEntities.add(key);
+    }
+
+    List<BaseKey> getDescendantKeys(EntityQuery descendantQuery) {
+      return this.descendantKeys.get(descendantQuery);
+    }
+
+    void putDescendantKeys(EntityQuery descendantQuery, List<BaseKey> keys) {
+      this.descendantKeys.put(descendantQuery, keys);
+    }
+
+    synchronized void addPendingLazyKeys(Collection<Key> keys) {
+      for (Key key : keys) {
+        if (notCached(key)) {
+          this.pendingLazyKeys.add(key);
+        }
+      }
+    }
+
+    /**
+     * Takes the keys of a lazy reference that are not read yet, followed by the pending keys of
+     * the other lazy references up to a total of {@code limit} keys.
+     */
+    synchronized List<Key> takePendingLazyKeys(Collection<Key> keys, int limit) {
+      Set<Key> taken = new LinkedHashSet<>();
+      for (Key key : keys) {
+        if (notCached(key)) {
+          taken.add(key);
+        }
+      }
+      Iterator<Key> pending = this.pendingLazyKeys.iterator();
+      while (pending.hasNext() && taken.size() < limit) {
+        Key key = pending.next();
+        if (notCached(key)) {
+          taken.add(key);
+        }
+      }
+      this.pendingLazyKeys.removeAll(taken);
+      return new ArrayList<>(taken);
+    }
   }
 }
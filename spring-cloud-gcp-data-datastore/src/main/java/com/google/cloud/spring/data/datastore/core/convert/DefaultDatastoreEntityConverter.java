@@ -32,11 +32,13 @@ import com.google.cloud.spring.data.datastore.core.mapping.DatastorePersistentEn
 import com.google.cloud.spring.data.datastore.core.mapping.DatastorePersistentProperty;
 import com.google.cloud.spring.data.datastore.core.mapping.EmbeddedType;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
@@ -58,6 +60,8 @@ public class DefaultDatastoreEntityConverter implements DatastoreEntityConverter
 
   private final ReadWriteConversions conversions;
 
+  private final Map<Class<?>, ConversionPlan> conversionPlans = new ConcurrentHashMap<>();
+
   public DefaultDatastoreEntityConverter(
       DatastoreMappingContext mappingContext, ObjectToKeyFactory objectToKeyFactory) {
     this(
@@ -163,22 +167,23 @@ public class DefaultDatastoreEntityConverter implements DatastoreEntityConverter
     ParameterValueProvider<DatastorePersistentProperty> parameterValueProvider =
         new PersistentEntityParameterValueProvider<>(persistentEntity, propertyValueProvider, null);
 
-    EntityInstantiator instantiator = this.instantiators.getInstantiatorFor(persistentEntity);
+    ConversionPlan plan = getConversionPlan(persistentEntity);
     Object instance;
     try {
-      instance = instantiator.createInstance(persistentEntity, parameterValueProvider);
+      instance = plan.instantiator.createInstance(persistentEntity, parameterValueProvider);
       PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(instance);
 
-      persistentEntity.doWithColumnBackedProperties(
-          datastorePersistentProperty -> {
-            // if a property is a constructor argument, it was already computed on instantiation
-            if (!persistentEntity.isCreatorArgument(datastorePersistentProperty)) {
-              Object value = propertyValueProvider.getPropertyValue(datastorePersistentProperty);
-              if (value != null) {
-                accessor.setProperty(datastorePersistentProperty, value);
-              }
-            }
-          });
+      // constructor arguments are not in the plan, as they were computed on instantiation
+      for (PropertyPlan property : plan.readProperties) {
+        Object value =
+            property.property().isIdProperty()
+                ? propertyValueProvider.getPropertyValue(property.property())
+                : propertyValueProvider.getPropertyValue(
+                    property.fieldName(), property.embeddedType(), property.typeInformation());
+        if (value != null) {
+          accessor.setProperty(property.property(), value);
+        }
+      }
     } catch (DatastoreDataException ex) {
       throw new DatastoreDataException(
           "Unable to read " + persistentEntity.getName() + " entity", ex);
@@ -222,40 +227,36 @@ public class DefaultDatastoreEntityConverter implements DatastoreEntityConverter
   public void write(Object source, @NonNull BaseEntity.Builder sink) {
     DatastorePersistentEntity<?> persistentEntity =
         this.mappingContext.getDatastorePersistentEntity(source.getClass());
+    ConversionPlan plan = getConversionPlan(persistentEntity);
 
-    String discriminationFieldName = persistentEntity.getDiscriminationFieldName();
-    List<String> discriminationValues = persistentEntity.getCompatibleDiscriminationValues();
-    if (!discriminationValues.isEmpty() || discriminationFieldName != null) {
-      sink.set(
-          discriminationFieldName,
-          discriminationValues.stream().map(StringValue::of).toList());
+    if (plan.discriminationValues != null) {
+      sink.set(plan.discriminationFieldName, plan.discriminationValues);
     }
     PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(source);
-    persistentEntity.doWithColumnBackedProperties(
-        (DatastorePersistentProperty persistentProperty) -> {
-          // Datastore doesn't store its Key as a regular field.
-          if (persistentProperty.isIdProperty()) {
-            return;
-          }
-          try {
-            Object val = accessor.getProperty(persistentProperty);
-            Value convertedVal = this.conversions.convertOnWrite(val, persistentProperty);
-
-            if (persistentProperty.isUnindexed()) {
-              convertedVal = setExcludeFromIndexes(convertedVal);
-            }
-            if (!(persistentProperty.isSkipNullValue() && convertedVal.getType().equals(NULL))) {
-              sink.set(persistentProperty.getFieldName(), convertedVal);
-            }
-          } catch (DatastoreDataException ex) {
-            throw new DatastoreDataException(
-                "Unable to write "
-                    + persistentEntity.kindName()
-                    + "."
-                    + persistentProperty.getFieldName(),
-                ex);
-          }
-        });
+    for (PropertyPlan property : plan.writeProperties) {
+      try {
+        Object val = accessor.getProperty(property.property());
+        Value convertedVal = this.conversions.convertOnWrite(val, property.property());
+
+        if (property.unindexed()) {
+          convertedVal = setExcludeFromIndexes(convertedVal);
+        }
+        if (!(property.skipNullValue() && convertedVal.getType().equals(NULL))) {
+          sink.set(property.fieldName(), convertedVal);
+        }
+      } catch (DatastoreDataException ex) {
+        throw new DatastoreDataException(
+            "Unable to write " + persistentEntity.kindName() + "." + property.fieldName(), ex);
+      }
+    }
+  }
+
+  private ConversionPlan getConversionPlan(DatastorePersistentEntity<?> persistentEntity) {
+    return this.conversionPlans.computeIfAbsent(
+        persistentEntity.getType(),
+        type ->
+            new ConversionPlan(
+                persistentEntity, this.instantiators.getInstantiatorFor(persistentEntity)));
   }
 
   private Value setExcludeFromIndexes(Value convertedVal) {
@@ -278,4 +279,58 @@ public class DefaultDatastoreEntityConverter implements DatastoreEntityConverter
       return convertedVal.toBuilder().setExcludeFromIndexes(true).build();
     }
   }
+
+  /**
+   * The metadata of an entity class that is needed to read and write its entities, which is
+   * resolved once instead of for every entity.
+   */
+  private static final class ConversionPlan {
+
+    private final EntityInstantiator instantiator;
+
+    private final List<PropertyPlan> readProperties = new ArrayList<>();
+
+    private final List<PropertyPlan> writeProperties = new ArrayList<>();
+
+    private final String discriminationFieldName;
+
+    private final List<StringValue> discriminationValues;
+
+    ConversionPlan(DatastorePersistentEntity<?> persistentEntity, EntityInstantiator instantiator) {
+      this.instantiator = instantiator;
+      persistentEntity.doWithColumnBackedProperties(
+          persistentProperty -> {
+            PropertyPlan property =
+                new PropertyPlan(
+                    persistentProperty,
+                    persistentProperty.getFieldName(),
+                    persistentProperty.getEmbeddedType(),
+                    persistentProperty.getTypeInformation(),
+                    persistentProperty.isUnindexed(),
+                    persistentProperty.isSkipNullValue());
+            if (!persistentEntity.isCreatorArgument(persistentProperty)) {
+              this.readProperties.add(property);
+            }
+            // Datastore doesn't store its Key as a regular field.
+            if (!persistentProperty.isIdProperty()) {
+              this.writeProperties.add(property);
+            }
+          });
+      this.discriminationFieldName = persistentEntity.getDiscriminationFieldName();
+      List<String> values = persistentEntity.getCompatibleDiscriminationValues();
+      this.discriminationValues =
+          values.isEmpty() && this.discriminationFieldName == null
+              ? null
+              : values.stream().map(StringValue::of).toList();
+    }
+  }
+
+  /** The resolved metadata of a column-backed property. */
+  private record PropertyPlan(
+      DatastorePersistentProperty property,
+      String fieldName,
+      EmbeddedType embeddedType,
+      TypeInformation<?> typeInformation,
+      boolean unindexed,
+      boolean skipNullValue) {}
 }
@@ -90,6 +90,17 @@ public class TwoStepsConversions implements ReadWriteConversions {
 
   private final Map<Class, Optional<Class<?>>> writeConverters = new ConcurrentHashMap<>();
 
+  // the custom conversions are fixed, so the steps that convert a type are resolved only once
+  private final Map<Class<?>, TypeTargets> typeTargets = new ConcurrentHashMap<>();
+
+  private final BiFunction<Object, TypeInformation<?>, ?> singleReadConverter =
+      this::convertOnReadSingle;
+
+  private final BiFunction<Object, TypeInformation<?>, ?> embeddedReadConverter =
+      this::convertOnReadSingleEmbedded;
+
+  private final Function<Object, Value> singleWriteConverter = this::convertOnWriteSingle;
+
   public TwoStepsConversions(
       CustomConversions customConversions,
       ObjectToKeyFactory objectToKeyFactory,
@@ -145,8 +156,8 @@ public class TwoStepsConversions implements ReadWriteConversions {
               Objects.requireNonNull(typeInformation.getComponentType()).getType(),
               typeInformation.getMapValueType(),
               targetComponentType);
-      case EMBEDDED_ENTITY -> this::convertOnReadSingleEmbedded;
-      case NOT_EMBEDDED -> this::convertOnReadSingle;
+      case EMBEDDED_ENTITY -> this.embeddedReadConverter;
+      case NOT_EMBEDDED -> this.singleReadConverter;
     };
 
     if (ValueUtil.isCollectionLike(val.getClass())
@@ -259,13 +270,13 @@ public class TwoStepsConversions implements ReadWriteConversions {
       TypeInformation typeInformation) {
     Object val = propertyVal;
 
-    Function<Object, Value> writeConverter = this::convertOnWriteSingle;
+    Function<Object, Value> writeConverter = this.singleWriteConverter;
     if (propertyVal != null) {
       writeConverter = switch (embeddedType) {
         case EMBEDDED_MAP -> x -> convertOnWriteSingleEmbeddedMap(x, fieldName,
             typeInformation.getMapValueType());
         case EMBEDDED_ENTITY -> x -> convertOnWriteSingleEmbedded(x, fieldName);
-        case NOT_EMBEDDED -> this::convertOnWriteSingle;
+        case NOT_EMBEDDED -> this.singleWriteConverter;
       };
     }
 
@@ -358,6 +369,10 @@ public class TwoStepsConversions implements ReadWriteConversions {
   }
 
   private TypeTargets computeTypeTargets(Class<?> firstStepSource) {
+    return this.typeTargets.computeIfAbsent(firstStepSource, this::resolveTypeTargets);
+  }
+
+  private TypeTargets resolveTypeTargets(Class<?> firstStepSource) {
     Class<?> firstStepTarget = null;
     Class<?> secondStepTarget = null;
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for an entity class whose entities are cached by key when the {@code
+ * DatastoreTemplate} looks them up, which suits kinds that rarely change. The cached entities are
+ * evicted when they are saved or deleted through the template, and the cache is bypassed within
+ * transactions.
+ *
+ * @since 6.0.2
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached {
+
+  /**
+   * The maximum number of entities of the Kind that are cached, beyond which the least recently
+   * read entities are evicted.
+   *
+   * @return the maximum number of cached entities.
+   */
+  int maxSize() default 10_000;
+
+  /**
+   * The time in seconds after which a cached entity is read from Cloud Datastore again, which
+   * bounds how stale it can be when it is written by other clients.
+   *
+   * @return the time to live of cached entities in seconds.
+   */
+  long ttlSeconds() default 300;
+}
@@ -23,6 +23,7 @@ import org.springframework.data.mapping.model.FieldNamingStrategy;
 import org.springframework.data.mapping.model.Property;
 import org.springframework.data.mapping.model.PropertyNameFieldNamingStrategy;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.util.Lazy;
 import org.springframework.util.StringUtils;
 
 /**
@@ -40,6 +41,12 @@ public class DatastorePersistentPropertyImpl
 
   private final boolean isSkipNullValue;
 
+  // resolved once, as they are looked up for every property of every entity read or written
+  private final Lazy<String> fieldName = Lazy.of(this::resolveFieldName);
+
+  private final Lazy<EmbeddedType> embeddedType =
+      Lazy.of(() -> EmbeddedType.of(getTypeInformation()));
+
   /**
    * Constructor.
    *
@@ -82,6 +89,10 @@ public class DatastorePersistentPropertyImpl
 
   @Override
   public String getFieldName() {
+    return this.fieldName.get();
+  }
+
+  private String resolveFieldName() {
     if (isIdProperty()) {
       return KEY_FIELD_NAME;
     }
@@ -112,7 +123,7 @@ public class DatastorePersistentPropertyImpl
 
   @Override
   public EmbeddedType getEmbeddedType() {
-    return EmbeddedType.of(getTypeInformation());
+    return this.embeddedType.get();
   }
 
   @Override
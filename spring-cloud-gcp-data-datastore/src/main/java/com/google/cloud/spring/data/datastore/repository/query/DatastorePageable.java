@@ -17,28 +17,44 @@
 package com.google.cloud.spring.data.datastore.repository.query;
 
 import com.google.cloud.datastore.Cursor;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * A pageable implementation for Cloud Datastore that uses the cursor for efficient reads.
  *
  * <p>The static methods can take either paged or unpaged {@link Pageable}, while instance methods
  * only deal with a paged self object.
+ *
+ * <p>A {@link DatastorePageable} can be handed to web clients as an opaque {@link #toPageToken()
+ * page token} and restored with {@link #fromPageToken(String, Sort)}, so that the next page is read
+ * from the cursor instead of skipping the entities of the previous pages.
  */
 public class DatastorePageable extends PageRequest {
+  private static final String TOKEN_SEPARATOR = ":";
+
+  // the total count of a page token whose total is not counted
+  private static final String NOT_COUNTED = "-";
+
   private final String urlSafeCursor;
 
   private final Long totalCount;
 
-  private DatastorePageable(Pageable pageable, String urlSafeCursor, Long totalCount) {
+  private final boolean countTotal;
+
+  private DatastorePageable(
+      Pageable pageable, String urlSafeCursor, Long totalCount, boolean countTotal) {
     super(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
     this.urlSafeCursor = urlSafeCursor;
     this.totalCount = totalCount;
+    this.countTotal = countTotal;
   }
 
   DatastorePageable(Pageable pageable, Cursor cursor, Long totalCount) {
-    this(pageable, cursor.toUrlSafe(), totalCount);
+    this(pageable, cursor.toUrlSafe(), totalCount, true);
   }
 
   /**
@@ -56,7 +72,8 @@ public class DatastorePageable extends PageRequest {
 
   /**
    * Creates a {@link DatastorePageable} wrapper for a paged request, but passes unpaged requests
-   * back unchanged.
+   * back unchanged. The total count is not counted for the pages of a {@link DatastorePageable}
+   * that opted out of it.
    *
    * @param pageable The source {@link Pageable} that can be paged or unpaged
    * @param urlSafeCursor Current cursor as ; null if not applicable
@@ -67,7 +84,89 @@ public class DatastorePageable extends PageRequest {
     if (pageable.isUnpaged()) {
       return pageable;
     }
-    return new DatastorePageable(pageable, urlSafeCursor, totalCount);
+    boolean countTotal =
+        !(pageable instanceof DatastorePageable datastorePageable)
+            || datastorePageable.countTotal;
+    return new DatastorePageable(
+        pageable, urlSafeCursor, countTotal ? totalCount : null, countTotal);
+  }
+
+  /**
+   * Creates a {@link DatastorePageable} for a paged request whose pages are returned without
+   * counting the total number of results. The total of such pages is only known to be at least
+   * one more than the results up to the current page, if there is a next page.
+   *
+   * @param pageable The source {@link Pageable} that must be paged
+   * @return an instance of {@link DatastorePageable} that does not count the total results.
+   */
+  public static DatastorePageable withoutTotalCount(Pageable pageable) {
+    if (pageable.isUnpaged()) {
+      throw new IllegalArgumentException("Only paged requests can opt out of the total count.");
+    }
+    String urlSafeCursor =
+        pageable instanceof DatastorePageable datastorePageable
+            ? datastorePageable.urlSafeCursor
+            : null;
+    return new DatastorePageable(pageable, urlSafeCursor, null, false);
+  }
+
+  /**
+   * Restores a {@link DatastorePageable} from a page token created by {@link #toPageToken()}.
+   *
+   * @param pageToken The page token
+   * @param sort The sort of the request, which must be the sort the page token was created with
+   * @return the {@link DatastorePageable} of the page token.
+   * @throws IllegalArgumentException if the page token is not a valid page token.
+   */
+  public static DatastorePageable fromPageToken(String pageToken, Sort sort) {
+    String[] parts;
+    try {
+      parts =
+          new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8)
+              .split(TOKEN_SEPARATOR, -1);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, ex);
+    }
+    if (parts.length != 4) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken);
+    }
+    try {
+      PageRequest pageRequest =
+          PageRequest.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), sort);
+      String urlSafeCursor = parts[3].isEmpty() ? null : parts[3];
+      if (NOT_COUNTED.equals(parts[2])) {
+        return new DatastorePageable(pageRequest, urlSafeCursor, null, false);
+      }
+      Long totalCount = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+      return new DatastorePageable(pageRequest, urlSafeCursor, totalCount, true);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Invalid page token: " + pageToken, ex);
+    }
+  }
+
+  /**
+   * Encodes the page number, page size, cursor and total count of this pageable into an opaque,
+   * URL-safe token. The sort is not part of the token.
+   *
+   * @return the page token.
+   */
+  public String toPageToken() {
+    String count;
+    if (!this.countTotal) {
+      count = NOT_COUNTED;
+    } else {
+      count = this.totalCount == null ? "" : this.totalCount.toString();
+    }
+    String token =
+        String.join(
+            TOKEN_SEPARATOR,
+            Integer.toString(getPageNumber()),
+            Integer.toString(getPageSize()),
+            count,
+            this.urlSafeCursor == null ? "" : this.urlSafeCursor);
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(token.getBytes(StandardCharsets.UTF_8));
   }
 
   public String getUrlSafeCursor() {
@@ -77,8 +176,7 @@ public class DatastorePageable extends PageRequest {
   @Override
   public PageRequest next() {
     Pageable nextPage = PageRequest.of(getPageNumber() + 1, getPageSize(), getSort());
-    // Cast is safe because from() either returns the original PageRequest or a DatastorePageable.
-    return (PageRequest) from(nextPage, this.urlSafeCursor, this.totalCount);
+    return new DatastorePageable(nextPage, this.urlSafeCursor, this.totalCount, this.countTotal);
   }
 
   public Cursor toCursor() {
@@ -88,4 +186,13 @@ public class DatastorePageable extends PageRequest {
   public Long getTotalCount() {
     return this.totalCount;
   }
+
+  /**
+   * Whether the total number of results is counted for the pages of this pageable.
+   *
+   * @return {@code false} if this pageable opted out of the total count.
+   */
+  public boolean isCountTotal() {
+    return this.countTotal;
+  }
 }
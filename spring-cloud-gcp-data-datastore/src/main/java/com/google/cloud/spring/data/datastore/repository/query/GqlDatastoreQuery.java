@@ -18,6 +18,7 @@ package com.google.cloud.spring.data.datastore.repository.query;
 
 import static org.springframework.core.annotation.AnnotationUtils.getAnnotation;
 
+import com.google.cloud.datastore.AggregationQuery;
 import com.google.cloud.datastore.BaseEntity;
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.GqlQuery;
@@ -41,7 +42,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -62,17 +65,25 @@ import org.springframework.data.repository.query.SpelEvaluator;
 import org.springframework.data.repository.query.SpelQueryContext;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.data.repository.query.ValueExpressionQueryRewriter;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
 /**
  * Query Method for GQL queries.
  *
+ * <p>Count and exists queries, as well as the total count of a page, wrap the GQL in an {@code
+ * AGGREGATE ... OVER} query, so they are computed by Cloud Datastore without reading the matching
+ * entities.
+ *
  * @param <T> the return type of the Query Method
  * @since 1.1
  */
 @ImportRuntimeHints(DatastoreQueryRuntimeHints.class)
 public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 
+  // sorts can come from requests, so only the GQL of the first ones is kept
+  private static final int MAX_SHAPED_GQLS = 64;
+
   // A small string that isn't used in GQL syntax
   private static final String ENTITY_CLASS_NAME_BOOKEND = "|";
 
@@ -93,6 +104,11 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 
   private SpelQueryContext.EvaluatingSpelQueryContext evaluatingSpelQueryContext;
 
+  // the GQL only depends on the query method, so it is parsed once
+  private volatile ParsedGql parsedGql;
+
+  private final Map<Sort, ShapedGql> shapedGqls = new ConcurrentHashMap<>();
+
   /**
    * Constructor.
    *
@@ -171,6 +187,15 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
     ParsedQueryWithTagsAndValues parsedQueryWithTagsAndValues =
         new ParsedQueryWithTagsAndValues(this.originalParamTags, parameters);
 
+    if (!isPageQuery() && !isSliceQuery()) {
+      if (this.queryMethod.isExistsQuery()) {
+        return countMatchingEntities(parsedQueryWithTagsAndValues, "COUNT_UP_TO(1)") > 0;
+      }
+      if (this.queryMethod.isCountQuery()) {
+        return countMatchingEntities(parsedQueryWithTagsAndValues, "COUNT(*)");
+      }
+    }
+
     GqlQuery query = parsedQueryWithTagsAndValues.bindArgsToGqlQuery();
 
     Class returnedItemType = this.queryMethod.getReturnedObjectType();
@@ -232,21 +257,37 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
       ParsedQueryWithTagsAndValues parsedQueryWithTagsAndValues,
       Cursor cursor,
       List resultsList) {
+    if (pageableParam instanceof DatastorePageable datastorePageable
+        && !datastorePageable.isCountTotal()) {
+      // the total is only known up to the result past the page
+      Slice slice = buildSlice(pageableParam, parsedQueryWithTagsAndValues, cursor, resultsList);
+      long knownTotal =
+          slice.getPageable().getOffset()
+              + slice.getNumberOfElements()
+              + (slice.hasNext() ? 1 : 0);
+      return new PageImpl(resultsList, slice.getPageable(), knownTotal);
+    }
     Long count =
         pageableParam instanceof DatastorePageable
             ? ((DatastorePageable) pageableParam).getTotalCount()
             : null;
     if (count == null) {
-      GqlQuery nextQuery = parsedQueryWithTagsAndValues.bindArgsToGqlQueryNoLimit();
-      DatastoreResultsIterable<?> next =
-          this.datastoreOperations.queryKeysOrEntities(nextQuery, this.entityType);
-      count = StreamSupport.stream(next.spliterator(), false).count();
+      count = countMatchingEntities(parsedQueryWithTagsAndValues, "COUNT(*)");
     }
 
     Pageable pageable = DatastorePageable.from(pageableParam, cursor, count);
     return new PageImpl(resultsList, pageable, count);
   }
 
+  private long countMatchingEntities(
+      ParsedQueryWithTagsAndValues parsedQueryWithTagsAndValues, String countFunction) {
+    AggregationQuery countQuery =
+        parsedQueryWithTagsAndValues.bindArgsToCountQueryNoLimit(countFunction);
+    return this.datastoreOperations
+        .aggregate(countQuery)
+        .getLong(ParsedQueryWithTagsAndValues.COUNT_ALIAS);
+  }
+
   private Object convertCollectionResult(Class returnedItemType, Iterable rawResult) {
     if (this.queryMethod.isStreamQuery()) {
       return StreamSupport.stream(rawResult.spliterator(), false);
@@ -265,14 +306,6 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
       return null;
     }
     Iterator iterator = rawResult.iterator();
-    if (this.queryMethod.isExistsQuery()) {
-      return iterator.hasNext();
-    }
-
-    if (this.queryMethod.isCountQuery()) {
-      return StreamSupport.stream(rawResult.spliterator(), false).count();
-    }
-
     if (!iterator.hasNext()) {
       return null;
     }
@@ -372,6 +405,70 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
     }
   }
 
+  private ParsedGql getParsedGql() {
+    ParsedGql parsed = this.parsedGql;
+    if (parsed == null) {
+      parsed = parseGql();
+      this.parsedGql = parsed;
+    }
+    return parsed;
+  }
+
+  /**
+   * Parses the GQL of the query method. It will favor {@link ValueExpressionDelegate} over the
+   * deprecated {@link QueryMethodEvaluationContextProvider}.
+   */
+  @SuppressWarnings("deprecation")
+  private ParsedGql parseGql() {
+    String queryString;
+    Function<Object[], Map<String, Object>> evaluator;
+    if (this.valueExpressionDelegate != null) {
+      ValueExpressionQueryRewriter.QueryExpressionEvaluator spelEvaluator =
+          this.valueExpressionQueryRewriter.parse(
+              this.gqlResolvedEntityClassName, this.queryMethod.getParameters());
+      queryString = spelEvaluator.getQueryString();
+      evaluator = spelEvaluator::evaluate;
+    } else {
+      SpelEvaluator spelEvaluator =
+          this.evaluatingSpelQueryContext.parse(
+              this.gqlResolvedEntityClassName, this.queryMethod.getParameters());
+      queryString = spelEvaluator.getQueryString();
+      evaluator = spelEvaluator::evaluate;
+    }
+    // the GQL is only rewritten if it has expressions, which otherwise need no evaluation
+    return new ParsedGql(
+        queryString, queryString.equals(this.gqlResolvedEntityClassName) ? null : evaluator);
+  }
+
+  private ShapedGql getShapedGql(String gql, Sort sort) {
+    ShapedGql shapedGql = this.shapedGqls.get(sort);
+    if (shapedGql == null) {
+      String sortedGql = ParsedQueryWithTagsAndValues.addSort(gql, sort);
+      shapedGql =
+          new ShapedGql(
+              sortedGql,
+              sortedGql
+                  + ParsedQueryWithTagsAndValues.LIMIT_CLAUSE
+                  + ParsedQueryWithTagsAndValues.OFFSET_CLAUSE);
+      if (this.shapedGqls.size() < MAX_SHAPED_GQLS) {
+        this.shapedGqls.put(sort, shapedGql);
+      }
+    }
+    return shapedGql;
+  }
+
+  /** The GQL of the query method and the evaluator of its expressions, if it has any. */
+  private record ParsedGql(
+      String queryString, @Nullable Function<Object[], Map<String, Object>> evaluator) {
+
+    Map<String, Object> evaluate(Object[] rawParams) {
+      return this.evaluator == null ? Collections.emptyMap() : this.evaluator.apply(rawParams);
+    }
+  }
+
+  /** The GQL of the query method with a sort, without and with the limit and offset clauses. */
+  private record ShapedGql(String unpaged, String paged) {}
+
   // Convenience class to hold a grouping of GQL, tags, and parameter values.
   private class ParsedQueryWithTagsAndValues {
 
@@ -380,6 +477,7 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
     static final String OFFSET_CLAUSE = " OFFSET @offset";
     static final String OFFSET_TAG_NAME = "offset";
     static final String ORDER_BY = " ORDER BY ";
+    static final String COUNT_ALIAS = "total_count";
     List<String> tagsOrdered;
 
     final Object[] rawParams;
@@ -396,28 +494,11 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 
     Map<String, Object> evaluationResults;
 
-    /**
-     * This method prepares the Gql query and its evaluation results. It will favor
-     * {@link ValueExpressionDelegate} over the deprecated
-     * {@link QueryMethodEvaluationContextProvider}.
-     */
-    @SuppressWarnings("deprecation")
+    /** This method prepares the Gql query and its evaluation results. */
     private void evaluateGql() {
-      if (GqlDatastoreQuery.this.valueExpressionDelegate != null) {
-        ValueExpressionQueryRewriter.QueryExpressionEvaluator spelEvaluator =
-              GqlDatastoreQuery.this.valueExpressionQueryRewriter.parse(
-                  GqlDatastoreQuery.this.gqlResolvedEntityClassName,
-                  GqlDatastoreQuery.this.queryMethod.getParameters());
-        this.evaluationResults = spelEvaluator.evaluate(this.rawParams);
-        this.finalGql = spelEvaluator.getQueryString();
-      } else {
-        SpelEvaluator spelEvaluator =
-            GqlDatastoreQuery.this.evaluatingSpelQueryContext.parse(
-                GqlDatastoreQuery.this.gqlResolvedEntityClassName,
-                GqlDatastoreQuery.this.queryMethod.getParameters());
-        this.evaluationResults = spelEvaluator.evaluate(this.rawParams);
-        this.finalGql = spelEvaluator.getQueryString();
-      }
+      ParsedGql parsed = getParsedGql();
+      this.evaluationResults = parsed.evaluate(this.rawParams);
+      this.finalGql = parsed.queryString();
     }
 
     ParsedQueryWithTagsAndValues(List<String> initialTags, Object[] rawParams) {
@@ -439,17 +520,17 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
           new ParametersParameterAccessor(getQueryMethod().getParameters(), rawParams);
       Sort sort = paramAccessor.getSort();
 
-      this.finalGql = addSort(this.finalGql, sort);
+      ShapedGql shapedGql = getShapedGql(this.finalGql, sort);
 
+      this.finalGql = shapedGql.unpaged();
       this.noLimitQuery = this.finalGql;
       Pageable pageable = paramAccessor.getPageable();
       if (pageable.isPaged()) {
-        this.finalGql += LIMIT_CLAUSE;
+        this.finalGql = shapedGql.paged();
         this.tagsOrdered.add(LIMIT_TAG_NAME);
         this.limitPosition = this.params.size();
         this.params.add(pageable.getPageSize());
 
-        this.finalGql += OFFSET_CLAUSE;
         this.tagsOrdered.add(OFFSET_TAG_NAME);
         this.cursorPosition = this.params.size();
         if (pageable instanceof DatastorePageable
@@ -468,12 +549,18 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
       return bindArgsToGqlQuery();
     }
 
-    private GqlQuery<? extends BaseEntity> bindArgsToGqlQueryNoLimit() {
-      this.finalGql = this.noLimitQuery;
-      this.tagsOrdered = this.tagsOrdered.subList(0, this.limitPosition);
-      this.params = this.params.subList(0, this.limitPosition);
+    private AggregationQuery bindArgsToCountQueryNoLimit(String countFunction) {
+      if (!this.finalGql.equals(this.noLimitQuery)) {
+        this.finalGql = this.noLimitQuery;
+        this.tagsOrdered = this.tagsOrdered.subList(0, this.limitPosition);
+        this.params = this.params.subList(0, this.limitPosition);
+      }
+      this.finalGql =
+          "AGGREGATE " + countFunction + " AS " + COUNT_ALIAS + " OVER (" + this.finalGql + ")";
 
-      return bindArgsToGqlQuery();
+      return com.google.cloud.datastore.Query.newAggregationQueryBuilder()
+          .over(bindArgsToGqlQuery())
+          .build();
     }
 
     private GqlQuery<? extends BaseEntity> bindArgsToGqlQuery() {
@@ -509,7 +596,7 @@ public class GqlDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
       return builder.build();
     }
 
-    private String addSort(String finalGql, Sort sort) {
+    private static String addSort(String finalGql, Sort sort) {
       if (sort.equals(Sort.unsorted())) {
         return finalGql;
       }
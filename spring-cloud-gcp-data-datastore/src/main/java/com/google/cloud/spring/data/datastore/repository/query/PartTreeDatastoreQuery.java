@@ -23,6 +23,8 @@ import static org.springframework.data.repository.query.parser.Part.Type.LESS_TH
 import static org.springframework.data.repository.query.parser.Part.Type.NEGATING_SIMPLE_PROPERTY;
 import static org.springframework.data.repository.query.parser.Part.Type.SIMPLE_PROPERTY;
 
+import com.google.cloud.datastore.AggregationQuery;
+import com.google.cloud.datastore.AggregationResult;
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.EntityQuery;
 import com.google.cloud.datastore.KeyQuery;
@@ -35,6 +37,7 @@ import com.google.cloud.datastore.StructuredQuery.CompositeFilter;
 import com.google.cloud.datastore.StructuredQuery.Filter;
 import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
 import com.google.cloud.datastore.Value;
+import com.google.cloud.datastore.aggregation.Aggregation;
 import com.google.cloud.spring.core.util.MapBuilder;
 import com.google.cloud.spring.data.datastore.core.DatastoreOperations;
 import com.google.cloud.spring.data.datastore.core.DatastoreQueryOptions;
@@ -53,9 +56,11 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collector;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -68,11 +73,19 @@ import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Name-based query method for Cloud Datastore.
  *
+ * <p>Count and exists projections, as well as the total count of a page, are computed with an
+ * aggregation query, so the matching keys are not transferred. Methods named {@code
+ * sum<Property>By...} and {@code avg<Property>By...} return the sum or the average of a property
+ * over the matching entities, which is also computed by Cloud Datastore. Averages, and sums of
+ * floating-point properties, cannot be returned as integral types.
+ *
  * @param <T> the return type of this Query Method
  * @since 1.1
  */
@@ -86,6 +99,22 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
 
   private List<Part> filterParts;
 
+  /** The aggregation function of a sum or average query method, or null for other methods. */
+  @Nullable private final String aggregationFunction;
+
+  /** The field name of the property aggregated by a sum or average query method. */
+  @Nullable private final String aggregatedFieldName;
+
+  /** Whether the result of a sum or average query method is floating-point. */
+  private final boolean floatingPointAggregation;
+
+  private static final Pattern AGGREGATION_METHOD_NAME =
+      Pattern.compile("^(sum|avg)(\\p{Lu}.*?)(By.*)?$");
+
+  private static final String AGGREGATION_ALIAS = "aggregate";
+
+  private static final String COUNT_ALIAS = "count";
+
   private static final Map<Part.Type, BiFunction<String, Value, PropertyFilter>> FILTER_FACTORIES =
       new MapBuilder<Part.Type, BiFunction<String, Value, PropertyFilter>>()
           .put(SIMPLE_PROPERTY, PropertyFilter::eq)
@@ -112,10 +141,28 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
       Class<T> entityType,
       ProjectionFactory projectionFactory) {
     super(queryMethod, datastoreTemplate, datastoreMappingContext, entityType);
-    this.tree = new PartTree(queryMethod.getName(), entityType);
     this.datastorePersistentEntity =
         this.datastoreMappingContext.getPersistentEntity(this.entityType);
 
+    Matcher aggregationMatcher = AGGREGATION_METHOD_NAME.matcher(queryMethod.getName());
+    if (aggregationMatcher.matches()) {
+      // the criteria of a sum or average method are those of the corresponding find method
+      String criteria = aggregationMatcher.group(3);
+      this.tree = new PartTree("find" + (criteria != null ? criteria : "By"), entityType);
+      this.aggregationFunction = aggregationMatcher.group(1);
+      PropertyPath aggregatedProperty = PropertyPath.from(aggregationMatcher.group(2), entityType);
+      this.aggregatedFieldName = getFieldName(aggregatedProperty);
+      this.floatingPointAggregation =
+          "avg".equals(this.aggregationFunction)
+              || isFloatingPoint(aggregatedProperty.getLeafProperty().getType());
+      validateAggregationReturnType(queryMethod);
+    } else {
+      this.tree = new PartTree(queryMethod.getName(), entityType);
+      this.aggregationFunction = null;
+      this.aggregatedFieldName = null;
+      this.floatingPointAggregation = false;
+    }
+
     this.projectionFactory = projectionFactory;
     validateAndSetFilterParts();
   }
@@ -141,24 +188,26 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
   @Override
   public Object execute(Object[] parameters) {
     Class<?> returnedObjectType = getQueryMethod().getReturnedObjectType();
+    if (this.aggregationFunction != null) {
+      return runAggregationQuery(parameters, returnedObjectType);
+    }
     if (isPageQuery()) {
+      Pageable pageableParam = getPageable(parameters);
+      if (pageableParam instanceof DatastorePageable datastorePageable
+          && !datastorePageable.isCountTotal()) {
+        return executeUncountedPageQuery(parameters);
+      }
+
       ExecutionResult executionResult =
           (ExecutionResult) runQuery(parameters, returnedObjectType, List.class, false);
 
       List<?> resultEntries = (List) executionResult.getPayload();
 
-      ParameterAccessor paramAccessor =
-          new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-
-      Pageable pageableParam = paramAccessor.getPageable();
-
-      Long totalCount;
-      if (pageableParam instanceof DatastorePageable) {
-        Long previousCount = ((DatastorePageable) pageableParam).getTotalCount();
-        Assert.notNull(previousCount, "Previous total count can not be null.");
-
-        totalCount = ((DatastorePageable) pageableParam).getTotalCount();
-      } else {
+      Long totalCount =
+          pageableParam instanceof DatastorePageable datastorePageable
+              ? datastorePageable.getTotalCount()
+              : null;
+      if (totalCount == null) {
         totalCount = (Long) runQuery(parameters, Long.class, null, true);
       }
 
@@ -198,16 +247,47 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
         new ExecutionOptions(
             returnedElementType, collectionType, requiresCount, getQueryMethod().isStreamQuery());
 
+    if (!this.tree.isDelete() && (options.isCountingQuery() || this.tree.isExistsProjection())) {
+      long count =
+          countMatchingEntities(
+              applyQueryBody(
+                  parameters,
+                  options.getQueryBuilder(),
+                  requiresCount,
+                  options.isSingularResult(),
+                  null));
+      if (this.tree.isExistsProjection()) {
+        return count > 0;
+      }
+      return count;
+    }
+
+    boolean voidReturnType = returnedElementType == void.class || returnedElementType == Void.class;
+    if (this.tree.isDelete() && (options.isReturnedTypeIsNumber() || voidReturnType)) {
+      // the deleted entities are not returned, so their keys are streamed and deleted in batches
+      KeyQuery keyQuery =
+          (KeyQuery)
+              applyQueryBody(
+                  parameters,
+                  Query.newKeyQueryBuilder().setKind(this.datastorePersistentEntity.kindName()),
+                  false,
+                  false,
+                  null);
+      long deleted = getDatastoreOperations().deleteAll(keyQuery, this.entityType);
+      return voidReturnType ? null : deleted;
+    }
+
+    StructuredQuery query =
+        applyQueryBody(
+            parameters, options.getQueryBuilder(), requiresCount, options.isSingularResult(), null);
+
+    if (getQueryMethod().isStreamQuery() && !this.tree.isDelete() && !(query instanceof KeyQuery)) {
+      // the results are read and converted a page at a time as the stream is consumed
+      return getDatastoreOperations().queryStream(query, this.entityType);
+    }
+
     DatastoreResultsIterable rawResults =
-        getDatastoreOperations()
-            .queryKeysOrEntities(
-                applyQueryBody(
-                    parameters,
-                    options.getQueryBuilder(),
-                    requiresCount,
-                    options.isSingularResult(),
-                    null),
-                this.entityType);
+        getDatastoreOperations().queryKeysOrEntities(query, this.entityType);
 
     if (getQueryMethod().isStreamQuery()) {
       return StreamSupport.stream(rawResults.spliterator(), false);
@@ -219,20 +299,80 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
                 options.isReturnedTypeIsNumber()
                     ? Function.identity()
                     : this::processRawObjectForProjection)
-            .collect(options.getResultsCollector());
+            .collect(Collectors.toList());
 
     if (this.tree.isDelete()) {
-      deleteFoundEntities(options.isReturnedTypeIsNumber(), (Iterable) result);
+      getDatastoreOperations().deleteAll((Iterable) result);
     }
 
-    if (!this.tree.isExistsProjection() && !options.isCountingQuery()) {
-      return new ExecutionResult(
-          convertResultCollection(result, collectionType), rawResults.getCursor());
-    } else if (options.isCountingQuery() && this.tree.isDelete()) {
-      return ((List) result).size();
+    return new ExecutionResult(
+        convertResultCollection(result, collectionType), rawResults.getCursor());
+  }
+
+  private long countMatchingEntities(StructuredQuery<?> query) {
+    AggregationQuery aggregationQuery =
+        Query.newAggregationQueryBuilder()
+            .over(query)
+            .addAggregation(Aggregation.count().as(COUNT_ALIAS))
+            .build();
+    return getDatastoreOperations().aggregate(aggregationQuery).getLong(COUNT_ALIAS);
+  }
+
+  // Rejects floating-point aggregations declared with integral return types when the repository is
+  // created, rather than when the method is first called
+  private void validateAggregationReturnType(DatastoreQueryMethod queryMethod) {
+    Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
+    Class<?> resultType = ClassUtils.resolvePrimitiveIfNecessary(returnedObjectType);
+    if (this.floatingPointAggregation
+        && (resultType == Long.class
+            || resultType == Integer.class
+            || resultType == Short.class
+            || resultType == Byte.class)) {
+      throw new DatastoreDataException(
+          "The "
+              + this.aggregationFunction
+              + " of "
+              + this.aggregatedFieldName
+              + " is floating-point and cannot be returned as "
+              + returnedObjectType.getSimpleName()
+              + ": "
+              + queryMethod.getName());
+    }
+  }
+
+  private Object runAggregationQuery(Object[] parameters, Class<?> returnedObjectType) {
+    StructuredQuery<?> query =
+        applyQueryBody(
+            parameters,
+            Query.newEntityQueryBuilder().setKind(this.datastorePersistentEntity.kindName()),
+            true,
+            false,
+            null);
+    AggregationQuery.Builder aggregationQueryBuilder =
+        Query.newAggregationQueryBuilder().over(query);
+    if ("sum".equals(this.aggregationFunction)) {
+      aggregationQueryBuilder.addAggregation(
+          Aggregation.sum(this.aggregatedFieldName).as(AGGREGATION_ALIAS));
     } else {
-      return result;
+      // the average of no entities is null, which is recognized by counting them alongside
+      aggregationQueryBuilder.addAggregations(
+          Aggregation.avg(this.aggregatedFieldName).as(AGGREGATION_ALIAS),
+          Aggregation.count().as(COUNT_ALIAS));
+    }
+
+    AggregationResult result = getDatastoreOperations().aggregate(aggregationQueryBuilder.build());
+    if (!"sum".equals(this.aggregationFunction) && result.getLong(COUNT_ALIAS) == 0) {
+      return null;
     }
+    if (this.floatingPointAggregation || isFloatingPoint(returnedObjectType)) {
+      return result.getDouble(AGGREGATION_ALIAS);
+    }
+    return result.getLong(AGGREGATION_ALIAS);
+  }
+
+  private static boolean isFloatingPoint(Class<?> type) {
+    Class<?> resolvedType = ClassUtils.resolvePrimitiveIfNecessary(type);
+    return resolvedType == Double.class || resolvedType == Float.class;
   }
 
   /**
@@ -283,6 +423,14 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
     return (Slice) this.processRawObjectForProjection(results);
   }
 
+  // Reads the page like a slice, whose total is only known up to the result past the page
+  private Page executeUncountedPageQuery(Object[] parameters) {
+    Slice<?> slice = executeSliceQuery(parameters);
+    long knownTotal =
+        slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+    return new PageImpl<>(slice.getContent(), slice.getPageable(), knownTotal);
+  }
+
   private StructuredQuery buildSliceQuey(Object[] parameters) {
     StructuredQuery.Builder builder =
         getEntityOrProjectionQueryBuilder().setKind(this.datastorePersistentEntity.kindName());
@@ -306,14 +454,6 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
         .convertOnRead(result, collectionType, getQueryMethod().getReturnedObjectType());
   }
 
-  private void deleteFoundEntities(boolean deleteById, Iterable rawResults) {
-    if (deleteById) {
-      getDatastoreOperations().deleteAllById(rawResults, this.entityType);
-    } else {
-      getDatastoreOperations().deleteAll(rawResults);
-    }
-  }
-
   private StructuredQuery applyQueryBody(
       Object[] parameters, Builder builder, boolean total, boolean singularResult, Cursor cursor) {
     ParameterAccessor paramAccessor =
@@ -373,12 +513,10 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
                 part -> {
                   // build properties chain for nested properties
                   // if the property is not nested, the list would contain only one property
-                  List<DatastorePersistentProperty> propertiesChain = getPropertiesChain(part);
+                  List<DatastorePersistentProperty> propertiesChain =
+                      getPropertiesChain(part.getProperty());
 
-                  String fieldName =
-                      propertiesChain.stream()
-                          .map(DatastorePersistentProperty::getFieldName)
-                          .collect(Collectors.joining("."));
+                  String fieldName = getFieldName(propertiesChain);
 
                   if (part.getType() == Part.Type.IS_NULL) {
                     return PropertyFilter.isNull(fieldName);
@@ -409,10 +547,18 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
             : filters[0]);
   }
 
-  private List<DatastorePersistentProperty> getPropertiesChain(Part part) {
-    Iterable<PropertyPath> iterable = () -> part.getProperty().iterator();
+  private String getFieldName(PropertyPath propertyPath) {
+    return getFieldName(getPropertiesChain(propertyPath));
+  }
+
+  private static String getFieldName(List<DatastorePersistentProperty> propertiesChain) {
+    return propertiesChain.stream()
+        .map(DatastorePersistentProperty::getFieldName)
+        .collect(Collectors.joining("."));
+  }
 
-    return StreamSupport.stream(iterable.spliterator(), false)
+  private List<DatastorePersistentProperty> getPropertiesChain(PropertyPath path) {
+    return StreamSupport.stream(path.spliterator(), false)
         .map(
             propertyPath ->
                 this.datastoreMappingContext
@@ -518,21 +664,5 @@ public class PartTreeDatastoreQuery<T> extends AbstractDatastoreQuery<T> {
     boolean isSingularResult() {
       return singularResult;
     }
-
-    /**
-     * Based on the query options, returns a collector that puts Datastore query results in a
-     * correct form.
-     *
-     * @return collector
-     */
-    private Collector<?, ?, ?> getResultsCollector() {
-      Collector<?, ?, ?> collector = Collectors.toList();
-      if (isCountingQuery && !PartTreeDatastoreQuery.this.tree.isDelete()) {
-        collector = Collectors.counting();
-      } else if (PartTreeDatastoreQuery.this.tree.isExistsProjection()) {
-        collector = Collectors.collectingAndThen(Collectors.counting(), count -> count > 0);
-      }
-      return collector;
-    }
   }
 }
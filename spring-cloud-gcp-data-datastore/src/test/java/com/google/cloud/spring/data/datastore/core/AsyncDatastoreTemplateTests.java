@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.datastore.EntityQuery;
+import com.google.cloud.datastore.Query;
+import com.google.cloud.spring.data.datastore.core.mapping.DatastoreDataException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the asynchronous Datastore template. */
+class AsyncDatastoreTemplateTests {
+
+  private final DatastoreOperations datastoreOperations = mock(DatastoreOperations.class);
+
+  private final EntityQuery query = Query.newEntityQueryBuilder().setKind("kind").build();
+
+  @Test
+  void findByIdTest() {
+    when(this.datastoreOperations.findById("a", String.class)).thenReturn("found");
+    AsyncDatastoreTemplate template =
+        new AsyncDatastoreTemplate(this.datastoreOperations, Runnable::run, 1);
+
+    assertThat(template.findById("a", String.class).join()).isEqualTo("found");
+  }
+
+  @Test
+  void operationFailureTest() {
+    when(this.datastoreOperations.count(String.class))
+        .thenThrow(new DatastoreDataException("failed"));
+    AsyncDatastoreTemplate template =
+        new AsyncDatastoreTemplate(this.datastoreOperations, Runnable::run, 1);
+
+    assertThatThrownBy(template.count(String.class)::join)
+        .hasCauseInstanceOf(DatastoreDataException.class);
+  }
+
+  @Test
+  void operationErrorTest() {
+    when(this.datastoreOperations.count(String.class)).thenThrow(new AssertionError("failed"));
+    AsyncDatastoreTemplate template =
+        new AsyncDatastoreTemplate(this.datastoreOperations, Runnable::run, 1);
+
+    assertThatThrownBy(template.count(String.class)::join).hasCauseInstanceOf(AssertionError.class);
+    // The failed operation released its slot.
+    doReturn(1L).when(this.datastoreOperations).count(String.class);
+    assertThat(template.count(String.class).join()).isEqualTo(1L);
+  }
+
+  @Test
+  void boundedConcurrencyTest() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(this.datastoreOperations.findById("a", String.class))
+        .thenAnswer(
+            invocation -> {
+              started.countDown();
+              release.await();
+              return "a";
+            });
+    when(this.datastoreOperations.findById("b", String.class)).thenReturn("b");
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      AsyncDatastoreTemplate template =
+          new AsyncDatastoreTemplate(this.datastoreOperations, executor, 1);
+
+      CompletableFuture<String> first = template.findById("a", String.class);
+      CompletableFuture<String> second = template.findById("b", String.class);
+      started.await();
+
+      // the second lookup waits for the first one although a thread is available
+      verify(this.datastoreOperations, never()).findById("b", String.class);
+      release.countDown();
+      assertThat(first.join()).isEqualTo("a");
+      assertThat(second.join()).isEqualTo("b");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void queryReadAsRequestedTest() {
+    AtomicInteger readResults = new AtomicInteger();
+    when(this.datastoreOperations.queryStream(this.query, String.class))
+        .thenReturn(Stream.of("a", "b", "c", "d", "e").peek(r -> readResults.incrementAndGet()));
+    AsyncDatastoreTemplate template =
+        new AsyncDatastoreTemplate(this.datastoreOperations, Runnable::run, 1);
+    template.setQueryBatchSize(2);
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    template.query(this.query, String.class).subscribe(subscriber);
+    assertThat(readResults).hasValue(0);
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.received).containsExactly("a");
+    assertThat(readResults).hasValue(1);
+
+    subscriber.subscription.request(10);
+    assertThat(subscriber.received).containsExactly("a", "b", "c", "d", "e");
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  void queryCancelledTest() {
+    AtomicBoolean closed = new AtomicBoolean();
+    when(this.datastoreOperations.queryStream(this.query, String.class))
+        .thenReturn(Stream.of("a", "b", "c").onClose(() -> closed.set(true)));
+    AsyncDatastoreTemplate template =
+        new AsyncDatastoreTemplate(this.datastoreOperations, Runnable::run, 1);
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    template.query(this.query, String.class).subscribe(subscriber);
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.received).containsExactly("a");
+    assertThat(subscriber.completed).isFalse();
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void queryFailureTest() {
+    when(this.datastoreOperations.queryStream(this.query, String.class))
+        .thenThrow(new DatastoreDataException("failed"));
+    AsyncDatastoreTemplate template =
+        new AsyncDatastoreTemplate(this.datastoreOperations, Runnable::run, 1);
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    template.query(this.query, String.class).subscribe(subscriber);
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.error).isInstanceOf(DatastoreDataException.class);
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  /** A subscriber that records the signals it receives. */
+  private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+
+    private final List<String> received = new ArrayList<>();
+
+    private Flow.Subscription subscription;
+
+    private boolean completed;
+
+    private Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(String item) {
+      this.received.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.completed = true;
+    }
+  }
+}
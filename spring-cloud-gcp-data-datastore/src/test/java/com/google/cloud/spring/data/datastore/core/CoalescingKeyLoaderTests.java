@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.cloud.datastore.Datastore;
+import com.google.cloud.datastore.DatastoreException;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the coalescing of concurrent lookups by key. */
+class CoalescingKeyLoaderTests {
+
+  private final Key key1 = Key.newBuilder("project", "kind", "a").build();
+
+  private final Key key2 = Key.newBuilder("project", "kind", "b").build();
+
+  private final Key key3 = Key.newBuilder("project", "other_kind", "c").build();
+
+  private final Entity entity1 = Entity.newBuilder(this.key1).build();
+
+  private final Entity entity2 = Entity.newBuilder(this.key2).build();
+
+  private final Datastore datastore = mock(Datastore.class);
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    this.executor = Executors.newSingleThreadExecutor();
+    doAnswer(
+            invocation -> {
+              List<Entity> entities = new ArrayList<>();
+              for (Object key : invocation.getArguments()) {
+                entities.add(
+                    key.equals(this.key1)
+                        ? this.entity1
+                        : key.equals(this.key2) ? this.entity2 : null);
+              }
+              return entities;
+            })
+        .when(this.datastore)
+        .fetch((Key[]) any());
+  }
+
+  @AfterEach
+  void tearDown() {
+    this.executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentLoadsCoalescedTest() {
+    // the batch is looked up as soon as it is full, instead of after the window
+    CoalescingKeyLoader loader = new CoalescingKeyLoader(Duration.ofMinutes(1), 2);
+
+    CompletableFuture<Map<Key, Entity>> first =
+        CompletableFuture.supplyAsync(
+            () -> loader.load(Collections.singletonList(this.key1), this.datastore),
+            this.executor);
+    Map<Key, Entity> second = loader.load(Collections.singletonList(this.key2), this.datastore);
+
+    assertThat(first.join()).containsExactly(Map.entry(this.key1, this.entity1));
+    assertThat(second).containsExactly(Map.entry(this.key2, this.entity2));
+    verify(this.datastore, times(1)).fetch((Key[]) any());
+  }
+
+  @Test
+  void duplicateKeysLookedUpOnceTest() {
+    CoalescingKeyLoader loader = new CoalescingKeyLoader(Duration.ofMinutes(1), 3);
+
+    CompletableFuture<Map<Key, Entity>> first =
+        CompletableFuture.supplyAsync(
+            () -> loader.load(Arrays.asList(this.key1, this.key2), this.datastore),
+            this.executor);
+    Map<Key, Entity> second = loader.load(Arrays.asList(this.key2, this.key3), this.datastore);
+
+    assertThat(first.join())
+        .containsExactly(Map.entry(this.key1, this.entity1), Map.entry(this.key2, this.entity2));
+    assertThat(second).containsEntry(this.key2, this.entity2).containsEntry(this.key3, null);
+    verify(this.datastore, times(1)).fetch((Key[]) any());
+  }
+
+  @Test
+  void batchesSlicedTest() {
+    CoalescingKeyLoader loader = new CoalescingKeyLoader(Duration.ZERO, 2);
+
+    Map<Key, Entity> results =
+        loader.load(Arrays.asList(this.key1, this.key2, this.key3), this.datastore);
+
+    assertThat(results).hasSize(3).containsEntry(this.key1, this.entity1);
+    verify(this.datastore).fetch(this.key1, this.key2);
+    verify(this.datastore).fetch(this.key3);
+  }
+
+  @Test
+  void lookupFailureReportedToAllCallersTest() {
+    doThrow(new DatastoreException(14, "unavailable", null))
+        .when(this.datastore)
+        .fetch((Key[]) any());
+    CoalescingKeyLoader loader = new CoalescingKeyLoader(Duration.ofMinutes(1), 2);
+
+    CompletableFuture<Map<Key, Entity>> first =
+        CompletableFuture.supplyAsync(
+            () -> loader.load(Collections.singletonList(this.key1), this.datastore),
+            this.executor);
+
+    assertThatThrownBy(() -> loader.load(Collections.singletonList(this.key2), this.datastore))
+        .isInstanceOf(DatastoreException.class);
+    assertThatThrownBy(first::join).hasCauseInstanceOf(DatastoreException.class);
+  }
+}
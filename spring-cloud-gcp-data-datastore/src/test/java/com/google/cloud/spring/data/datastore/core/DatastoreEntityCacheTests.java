@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.Key;
+import com.google.cloud.spring.data.datastore.core.mapping.Cached;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the cache of Datastore entities. */
+class DatastoreEntityCacheTests {
+
+  private final DatastoreEntityCache cache = new DatastoreEntityCache();
+
+  @Test
+  void onlyRegisteredKindsCachedTest() {
+    Key key = Key.newBuilder("project", "kind", "a").build();
+    Key otherKey = Key.newBuilder("project", "other_kind", "a").build();
+    this.cache.register("kind", SmallCache.class.getAnnotation(Cached.class));
+
+    this.cache.put(key, Entity.newBuilder(key).build(), this.cache.stamp());
+    this.cache.put(otherKey, Entity.newBuilder(otherKey).build(), this.cache.stamp());
+
+    assertThat(this.cache.get(key)).isEqualTo(Entity.newBuilder(key).build());
+    assertThat(this.cache.get(otherKey)).isNull();
+  }
+
+  @Test
+  void leastRecentlyReadEvictedTest() {
+    Key key1 = Key.newBuilder("project", "kind", "a").build();
+    Key key2 = Key.newBuilder("project", "kind", "b").build();
+    Key key3 = Key.newBuilder("project", "kind", "c").build();
+    this.cache.register("kind", SmallCache.class.getAnnotation(Cached.class));
+
+    this.cache.put(key1, Entity.newBuilder(key1).build(), this.cache.stamp());
+    this.cache.put(key2, Entity.newBuilder(key2).build(), this.cache.stamp());
+    this.cache.get(key1);
+    this.cache.put(key3, Entity.newBuilder(key3).build(), this.cache.stamp());
+
+    assertThat(this.cache.get(key1)).isNotNull();
+    assertThat(this.cache.get(key2)).isNull();
+    assertThat(this.cache.get(key3)).isNotNull();
+  }
+
+  @Test
+  void expiredEntityNotReturnedTest() {
+    Key key = Key.newBuilder("project", "kind", "a").build();
+    this.cache.register("kind", ExpiredCache.class.getAnnotation(Cached.class));
+
+    this.cache.put(key, Entity.newBuilder(key).build(), this.cache.stamp());
+
+    assertThat(this.cache.get(key)).isNull();
+  }
+
+  @Test
+  void lookupRacingWithEvictionNotCachedTest() {
+    Key key1 = Key.newBuilder("project", "kind", "a").build();
+    Key key2 = Key.newBuilder("project", "kind", "b").build();
+    this.cache.register("kind", SmallCache.class.getAnnotation(Cached.class));
+
+    long stamp = this.cache.stamp();
+    // an entity is written while it is looked up
+    this.cache.evict(Collections.singletonList(key1));
+    this.cache.put(key1, Entity.newBuilder(key1).build(), stamp);
+    this.cache.put(key2, Entity.newBuilder(key2).build(), this.cache.stamp());
+    this.cache.evict(Arrays.asList(key2));
+
+    assertThat(this.cache.get(key1)).isNull();
+    assertThat(this.cache.get(key2)).isNull();
+  }
+
+  @Cached(maxSize = 2)
+  private static class SmallCache {}
+
+  @Cached(ttlSeconds = 0)
+  private static class ExpiredCache {}
+}
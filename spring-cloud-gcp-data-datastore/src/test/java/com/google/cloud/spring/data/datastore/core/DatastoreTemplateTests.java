@@ -24,7 +24,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +34,7 @@ import static org.mockito.Mockito.when;
 import com.google.cloud.datastore.AggregationQuery;
 import com.google.cloud.datastore.AggregationResult;
 import com.google.cloud.datastore.AggregationResults;
+import com.google.cloud.datastore.BaseEntity;
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.Datastore;
 import com.google.cloud.datastore.Datastore.TransactionCallable;
@@ -51,13 +54,16 @@ import com.google.cloud.datastore.PathElement;
 import com.google.cloud.datastore.Query;
 import com.google.cloud.datastore.Query.ResultType;
 import com.google.cloud.datastore.QueryResults;
+import com.google.cloud.datastore.StringValue;
 import com.google.cloud.datastore.StructuredQuery;
 import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
+import com.google.cloud.datastore.Transaction;
 import com.google.cloud.datastore.aggregation.Aggregation;
 import com.google.cloud.spring.core.util.MapBuilder;
 import com.google.cloud.spring.data.datastore.core.convert.DatastoreEntityConverter;
 import com.google.cloud.spring.data.datastore.core.convert.ObjectToKeyFactory;
 import com.google.cloud.spring.data.datastore.core.convert.ReadWriteConversions;
+import com.google.cloud.spring.data.datastore.core.mapping.Cached;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastoreDataException;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastoreMappingContext;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastorePersistentEntity;
@@ -72,6 +78,8 @@ import com.google.cloud.spring.data.datastore.core.mapping.event.AfterQueryEvent
 import com.google.cloud.spring.data.datastore.core.mapping.event.AfterSaveEvent;
 import com.google.cloud.spring.data.datastore.core.mapping.event.BeforeDeleteEvent;
 import com.google.cloud.spring.data.datastore.core.mapping.event.BeforeSaveEvent;
+import com.google.cloud.spring.data.datastore.repository.query.DatastorePageable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -83,9 +91,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -105,6 +116,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /** Tests for the Datastore Template. */
 class DatastoreTemplateTests {
@@ -448,6 +460,133 @@ class DatastoreTemplateTests {
         x -> {});
   }
 
+  @Test
+  void findByIdBatchWindowTest() {
+    this.datastoreTemplate.setFindByIdBatchWindow(Duration.ZERO);
+
+    TestEntity result = this.datastoreTemplate.findById(this.key1, TestEntity.class);
+
+    assertThat(result).isEqualTo(this.ob1);
+    assertThat(result.childEntities).contains(this.childEntity1);
+    // the key is looked up by the loader and not again when the entity is converted
+    verify(this.datastore, times(1)).fetch(this.key1);
+  }
+
+  @Test
+  void cachedFindByIdTest() {
+    Key key = prepareCachedEntity();
+
+    CachedTestEntity first = this.datastoreTemplate.findById(key, CachedTestEntity.class);
+    CachedTestEntity second = this.datastoreTemplate.findById(key, CachedTestEntity.class);
+
+    assertThat(first.color).isEqualTo("red");
+    // each read converts its own object from the cached entity
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.color).isEqualTo("red");
+    verify(this.datastore, times(1)).fetch(key);
+  }
+
+  @Test
+  void cachedEntityEvictedOnWriteTest() {
+    Key key = prepareCachedEntity();
+
+    this.datastoreTemplate.findById(key, CachedTestEntity.class);
+    this.datastoreTemplate.deleteById(key, CachedTestEntity.class);
+    this.datastoreTemplate.findById(key, CachedTestEntity.class);
+    when(this.readWriteConversions.convertOnWriteSingle("blue")).thenReturn(StringValue.of("blue"));
+    this.datastoreTemplate.writeMap(key, Collections.singletonMap("color", "blue"));
+    this.datastoreTemplate.findById(key, CachedTestEntity.class);
+
+    verify(this.datastore, times(3)).fetch(key);
+  }
+
+  @Test
+  void cachedEntityInTransactionTest() {
+    Key key = prepareCachedEntity();
+    Transaction transaction = mock(Transaction.class);
+    when(transaction.fetch(key))
+        .thenReturn(Collections.singletonList(Entity.newBuilder(key).set("color", "red").build()));
+    when(this.datastore.runInTransaction(any()))
+        .thenAnswer(
+            invocation -> {
+              TransactionCallable<?> callable = invocation.getArgument(0);
+              return callable.run(transaction);
+            });
+
+    this.datastoreTemplate.findById(key, CachedTestEntity.class);
+    // the transaction reads its own snapshot instead of the cached entity
+    this.datastoreTemplate.performTransaction(
+        operations -> operations.findById(key, CachedTestEntity.class));
+    verify(transaction).fetch(key);
+    this.datastoreTemplate.findById(key, CachedTestEntity.class);
+    verify(this.datastore, times(1)).fetch(key);
+
+    // the entity deleted by the transaction is evicted once it completes
+    this.datastoreTemplate.performTransaction(
+        operations -> {
+          operations.deleteById(key, CachedTestEntity.class);
+          return null;
+        });
+    this.datastoreTemplate.findById(key, CachedTestEntity.class);
+    verify(this.datastore, times(2)).fetch(key);
+  }
+
+  @Test
+  void cachedEntityEvictedAfterBatchedDeleteTest() {
+    Key key = prepareCachedEntity();
+    QueryResults<Key> queryResults = keyQueryResults(null, key);
+    when(this.datastore.run(Query.newKeyQueryBuilder().setKind("cached_kind").setLimit(500).build()))
+        .thenReturn(queryResults);
+    List<CachedTestEntity> readsDuringDelete = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              // a read racing the delete must not cache the entity again
+              readsDuringDelete.add(this.datastoreTemplate.findById(key, CachedTestEntity.class));
+              doReturn(
+                      Collections.singletonList(Entity.newBuilder(key).set("color", "blue").build()))
+                  .when(this.datastore)
+                  .fetch(key);
+              return null;
+            })
+        .when(this.datastore)
+        .delete(key);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      this.datastoreTemplate.setDeleteExecutor(executor);
+      this.datastoreTemplate.findById(key, CachedTestEntity.class);
+
+      assertThat(this.datastoreTemplate.deleteAll(CachedTestEntity.class)).isEqualTo(1);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(readsDuringDelete).hasSize(1);
+    // the entity cached before the delete is not served after it
+    assertThat(this.datastoreTemplate.findById(key, CachedTestEntity.class).color)
+        .isEqualTo("blue");
+  }
+
+  private Key prepareCachedEntity() {
+    Key key = Key.newBuilder("project", "cached_kind", "cached1").build();
+    Entity entity = Entity.newBuilder(key).set("color", "red").build();
+    doReturn(Collections.singletonList(entity)).when(this.datastore).fetch(key);
+    when(this.objectToKeyFactory.getKeyFromId(eq(key), any())).thenReturn(key);
+    DatastorePersistentEntity persistentEntity =
+        new DatastoreMappingContext().getDatastorePersistentEntity(CachedTestEntity.class);
+    when(this.datastoreEntityConverter.getDiscriminationPersistentEntity(
+            eq(CachedTestEntity.class), any()))
+        .thenReturn(persistentEntity);
+    when(this.datastoreEntityConverter.read(eq(CachedTestEntity.class), any()))
+        .thenAnswer(
+            invocation -> {
+              CachedTestEntity cachedTestEntity = new CachedTestEntity();
+              cachedTestEntity.color =
+                  ((BaseEntity<?>) invocation.getArgument(1)).getString("color");
+              return cachedTestEntity;
+            });
+    return key;
+  }
+
   @Test
   void findByIdNotFoundTest() {
     when(this.datastore.fetch(ArgumentMatchers.<Key[]>any()))
@@ -519,8 +658,7 @@ class DatastoreTemplateTests {
 
     when(this.datastore.fetch(this.key1))
         .thenReturn(Collections.singletonList(referenceTestDatastoreEntity));
-    when(this.datastore.fetch(this.key2)).thenReturn(Collections.singletonList(child));
-    when(this.datastore.fetch(this.childKey2)).thenReturn(Collections.singletonList(child2));
+    when(this.datastore.fetch(this.key2, this.childKey2)).thenReturn(Arrays.asList(child, child2));
 
     ReferenceTestEntity referenceTestEntity = new ReferenceTestEntity();
     ReferenceTestEntity childEntity = new ReferenceTestEntity();
@@ -558,18 +696,158 @@ class DatastoreTemplateTests {
           assertThat(readReferenceTestEntity.sibling).isSameAs(readReferenceTestEntity);
           verify(this.datastore, times(1)).fetch(any());
 
+          // the pending lazy reference is looked up along with the touched one
           assertThat(readReferenceTestEntity.lazyChildren).hasSize(1);
           verify(this.datastore, times(2)).fetch(any());
           verify(this.datastore, times(1)).fetch(this.key1);
-          verify(this.datastore, times(1)).fetch(this.key2);
+          verify(this.datastore, times(1)).fetch(this.key2, this.childKey2);
 
           assertThat(readReferenceTestEntity.lazyChild.toString()).isNotNull();
-          verify(this.datastore, times(3)).fetch(any());
-          verify(this.datastore, times(1)).fetch(this.childKey2);
+          verify(this.datastore, times(2)).fetch(any());
         },
         x -> {});
   }
 
+  @Test
+  void queryReferencesFetchedTogetherTest() {
+    Key childKeyA = createFakeKey("child_a");
+    Key childKeyB = createFakeKey("child_b");
+    Entity parentA = Entity.newBuilder(this.key1).set("singularReference", childKeyA).build();
+    Entity parentB =
+        Entity.newBuilder(this.key2)
+            .set("singularReference", childKeyB)
+            .set("multipleReference", Collections.singletonList(KeyValue.of(childKeyA)))
+            .build();
+    Entity childA = Entity.newBuilder(childKeyA).build();
+    Entity childB = Entity.newBuilder(childKeyB).build();
+
+    DatastorePersistentEntity testPersistentEntity =
+        new DatastoreMappingContext().getDatastorePersistentEntity(TestEntity.class);
+    for (Entity parent : Arrays.asList(parentA, parentB)) {
+      when(this.datastoreEntityConverter.read(TestEntity.class, parent))
+          .thenAnswer(invocation -> new TestEntity());
+      when(this.datastoreEntityConverter.getDiscriminationPersistentEntity(
+              TestEntity.class, parent))
+          .thenReturn(testPersistentEntity);
+    }
+    DatastorePersistentEntity childPersistentEntity =
+        new DatastoreMappingContext().getDatastorePersistentEntity(ChildEntity.class);
+    for (Entity child : Arrays.asList(childA, childB)) {
+      when(this.datastoreEntityConverter.getDiscriminationPersistentEntity(
+              ChildEntity.class, child))
+          .thenReturn(childPersistentEntity);
+    }
+    ChildEntity convertedChildA = new ChildEntity();
+    ChildEntity convertedChildB = new ChildEntity();
+    when(this.datastoreEntityConverter.read(ChildEntity.class, childA))
+        .thenReturn(convertedChildA);
+    when(this.datastoreEntityConverter.read(ChildEntity.class, childB))
+        .thenReturn(convertedChildB);
+    when(this.datastore.fetch(childKeyA, childKeyB)).thenReturn(Arrays.asList(childA, childB));
+
+    List<TestEntity> results =
+        this.datastoreTemplate.convertEntitiesForRead(
+            Arrays.asList(parentA, parentB).iterator(), TestEntity.class);
+
+    assertThat(results).hasSize(2);
+    assertThat(results.get(0).singularReference).isSameAs(convertedChildA);
+    assertThat(results.get(1).singularReference).isSameAs(convertedChildB);
+    assertThat(results.get(1).multipleReference).containsExactly(convertedChildA);
+    // The references of all entities are fetched in one lookup.
+    verify(this.datastore, times(1)).fetch((Key[]) any());
+  }
+
+  @Test
+  void lazyReferencesLoadedTogetherTest() {
+    Key childKeyA = createFakeKey("child_a");
+    Key childKeyB = createFakeKey("child_b");
+    Entity parentA = Entity.newBuilder(this.key1).set("lazyChild", childKeyA).build();
+    Entity parentB = Entity.newBuilder(this.key2).set("lazyChild", childKeyB).build();
+    Entity childA = Entity.newBuilder(childKeyA).build();
+    Entity childB = Entity.newBuilder(childKeyB).build();
+
+    DatastorePersistentEntity referenceTestPersistentEntity =
+        new DatastoreMappingContext().getDatastorePersistentEntity(ReferenceTestEntity.class);
+    for (Entity entity : Arrays.asList(parentA, parentB, childA, childB)) {
+      when(this.datastoreEntityConverter.read(ReferenceTestEntity.class, entity))
+          .thenReturn(new ReferenceTestEntity());
+      when(this.datastoreEntityConverter.getDiscriminationPersistentEntity(
+              ReferenceTestEntity.class, entity))
+          .thenReturn(referenceTestPersistentEntity);
+    }
+    when(this.datastore.fetch(childKeyA, childKeyB)).thenReturn(Arrays.asList(childA, childB));
+
+    List<ReferenceTestEntity> results =
+        this.datastoreTemplate.convertEntitiesForRead(
+            Arrays.asList(parentA, parentB).iterator(), ReferenceTestEntity.class);
+    verify(this.datastore, never()).fetch((Key[]) any());
+
+    assertThat(results.get(0).lazyChild.toString()).isNotNull();
+    assertThat(results.get(1).lazyChild.toString()).isNotNull();
+    // The lazy references of both parents are looked up when the first one is loaded.
+    verify(this.datastore, times(1)).fetch((Key[]) any());
+  }
+
+  @Test
+  void descendantQueryExecutorTest() {
+    AtomicInteger executions = new AtomicInteger();
+    this.datastoreTemplate.setDescendantQueryExecutor(
+        command -> {
+          executions.incrementAndGet();
+          command.run();
+        });
+
+    List<TestEntity> results =
+        this.datastoreTemplate.convertEntitiesForRead(
+            Arrays.asList(this.e1, this.e2).iterator(), TestEntity.class);
+
+    assertThat(results).containsExactly(this.ob1, this.ob2);
+    assertThat(this.ob1.childEntities).containsExactly(this.childEntity1);
+    assertThat(this.ob2.childEntities).isEmpty();
+    // The descendant queries of both entities are run by the executor.
+    assertThat(executions).hasValue(2);
+    verify(this.datastore, times(2)).run(any(EntityQuery.class));
+  }
+
+  @Test
+  void descendantQueriesInTransactionTest() {
+    AtomicInteger executions = new AtomicInteger();
+    this.datastoreTemplate.setDescendantQueryExecutor(
+        command -> {
+          executions.incrementAndGet();
+          command.run();
+        });
+    Transaction transaction = mock(Transaction.class);
+    when(transaction.run(any(EntityQuery.class)))
+        .thenAnswer(invocation -> this.datastore.run(invocation.getArgument(0)));
+    when(transaction.fetch(any(Key[].class)))
+        .thenAnswer(
+            invocation -> {
+              Object[] keys = invocation.getArguments();
+              return this.datastore.fetch(Arrays.copyOf(keys, keys.length, Key[].class));
+            });
+    DatastoreTransactionManager.Tx tx = new DatastoreTransactionManager.Tx(this.datastore);
+    tx.setTransaction(transaction);
+
+    List<TestEntity> results;
+    TransactionSynchronizationManager.bindResource(this.datastore, tx);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      results =
+          this.datastoreTemplate.convertEntitiesForRead(
+              Arrays.asList(this.e1, this.e2).iterator(), TestEntity.class);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+      TransactionSynchronizationManager.unbindResource(this.datastore);
+    }
+
+    assertThat(results).containsExactly(this.ob1, this.ob2);
+    assertThat(this.ob1.childEntities).containsExactly(this.childEntity1);
+    // The descendant queries are run by the transaction on the calling thread.
+    assertThat(executions).hasValue(0);
+    verify(transaction, times(2)).run(any(EntityQuery.class));
+  }
+
   @ParameterizedTest
   @EnumSource(SaveOrInsertMethod.class)
   void saveOrInsertReferenceLoopTest(SaveOrInsertMethod method) {
@@ -941,6 +1219,76 @@ class DatastoreTemplateTests {
     verifyPutOrAdd(method, times(8));
   }
 
+  @Test
+  void saveAllWriteExecutorTest() {
+    List<ChildEntity> children = createChildEntities("a", "b", "c");
+    AtomicInteger executions = new AtomicInteger();
+    this.datastoreTemplate.setWriteExecutor(
+        command -> {
+          executions.incrementAndGet();
+          command.run();
+        });
+    this.datastoreTemplate.setMaxWriteSize(2);
+
+    this.datastoreTemplate.saveAll(children);
+
+    // two batches, of two entities and of one entity
+    assertThat(executions).hasValue(2);
+    Entity entityA = Entity.newBuilder(children.get(0).id).build();
+    Entity entityB = Entity.newBuilder(children.get(1).id).build();
+    Entity entityC = Entity.newBuilder(children.get(2).id).build();
+    verify(this.datastore).put(entityA, entityB);
+    verify(this.datastore).put(new FullEntity<?>[] {entityC});
+  }
+
+  @Test
+  void saveAllMaxWriteBytesTest() {
+    List<ChildEntity> children = createChildEntities("a", "b");
+    Entity entityA = Entity.newBuilder(children.get(0).id).build();
+    Entity entityB = Entity.newBuilder(children.get(1).id).build();
+    this.datastoreTemplate.setMaxWriteBytes(Entity.calculateSerializedSize(entityA) * 3 / 2);
+
+    this.datastoreTemplate.saveAll(children);
+
+    // the two entities do not fit into a single batch
+    verify(this.datastore).put(new FullEntity<?>[] {entityA});
+    verify(this.datastore).put(new FullEntity<?>[] {entityB});
+  }
+
+  @Test
+  void saveAllFailedBatchTest() {
+    List<ChildEntity> children = createChildEntities("a", "b", "c");
+    Entity failing = Entity.newBuilder(children.get(1).id).build();
+    RuntimeException failure = new RuntimeException("write failed");
+    when(this.datastore.put(new FullEntity<?>[] {failing})).thenThrow(failure);
+    this.datastoreTemplate.setWriteExecutor(Runnable::run);
+    this.datastoreTemplate.setMaxWriteSize(1);
+
+    assertThatThrownBy(() -> this.datastoreTemplate.saveAll(children))
+        .isInstanceOfSatisfying(
+            DatastoreBatchWriteException.class,
+            ex -> {
+              assertThat(ex.getFailedBatches()).hasSize(1);
+              assertThat(ex.getFailedBatches().get(0).getKeys())
+                  .containsExactly(children.get(1).id);
+              assertThat(ex.getFailedBatches().get(0).getCause()).isSameAs(failure);
+            });
+
+    // the batches after the failed one are still written
+    verify(this.datastore, times(3)).put(ArgumentMatchers.<FullEntity[]>any());
+  }
+
+  private List<ChildEntity> createChildEntities(String... names) {
+    List<ChildEntity> children = new ArrayList<>();
+    for (String name : names) {
+      ChildEntity child = new ChildEntity();
+      child.id = createFakeKey(name);
+      when(this.objectToKeyFactory.getKeyFromObject(same(child), any())).thenReturn(child.id);
+      children.add(child);
+    }
+    return children;
+  }
+
   private <T> T saveOrInsert(SaveOrInsertMethod method, T instance, Key... ancestors) {
     if (SaveOrInsertMethod.SAVE == method) {
       return this.datastoreTemplate.save(instance, ancestors);
@@ -1019,32 +1367,48 @@ class DatastoreTemplateTests {
   private boolean nextPageTest(boolean hasNextPage) {
     QueryResults<Key> queryResults = mock(QueryResults.class);
     when(queryResults.getResultClass()).thenReturn((Class) Key.class);
-    doAnswer(
-            invocation -> {
-              Arrays.asList(this.key1, this.key2)
-                  .iterator()
-                  .forEachRemaining(invocation.getArgument(0));
-              return null;
-            })
-        .when(queryResults)
-        .forEachRemaining(any());
+    when(queryResults.hasNext()).thenReturn(true, hasNextPage);
+    when(queryResults.next()).thenReturn(this.key1, this.key2);
     Cursor cursor = Cursor.copyFrom("abc".getBytes());
     when(queryResults.getCursorAfter()).thenReturn(cursor);
 
     KeyQuery query = Query.newKeyQueryBuilder().setKind("custom_test_kind").setLimit(1).build();
-    when(this.datastore.run(query)).thenReturn(queryResults);
+    // one more key than the page size is requested instead of querying for the next page
+    KeyQuery pageQuery = query.toBuilder().setOffset(0).setLimit(2).build();
+    when(this.datastore.run(pageQuery)).thenReturn(queryResults);
 
-    QueryResults<Key> nextPageQueryResults = mock(QueryResults.class);
-    when(nextPageQueryResults.hasNext()).thenReturn(hasNextPage);
+    Slice<Key> resultsSlice =
+        this.datastoreTemplate.queryKeysSlice(query, TestEntity.class, PageRequest.of(0, 1));
 
-    KeyQuery nextPageQuery =
-        query.toBuilder().setStartCursor(cursor).setOffset(0).setLimit(1).build();
+    assertThat(resultsSlice.getContent()).containsExactly(this.key1);
+    assertThat(((DatastorePageable) resultsSlice.getPageable()).toCursor()).isEqualTo(cursor);
+    return resultsSlice.hasNext();
+  }
+
+  @Test
+  void sliceFromCursorTest() {
+    QueryResults<Key> queryResults = mock(QueryResults.class);
+    when(queryResults.getResultClass()).thenReturn((Class) Key.class);
+    when(queryResults.hasNext()).thenReturn(true, false);
+    when(queryResults.next()).thenReturn(this.key2);
+    Cursor cursor = Cursor.copyFrom("abc".getBytes());
+    Cursor endCursor = Cursor.copyFrom("def".getBytes());
+    when(queryResults.getCursorAfter()).thenReturn(endCursor);
 
-    when(this.datastore.run(nextPageQuery)).thenReturn(nextPageQueryResults);
+    KeyQuery query = Query.newKeyQueryBuilder().setKind("custom_test_kind").build();
+    // deep pages start from the cursor of the previous page instead of skipping its keys
+    KeyQuery pageQuery = query.toBuilder().setStartCursor(cursor).setOffset(0).setLimit(3).build();
+    when(this.datastore.run(pageQuery)).thenReturn(queryResults);
 
     Slice<Key> resultsSlice =
-        this.datastoreTemplate.queryKeysSlice(query, TestEntity.class, PageRequest.of(0, 1));
-    return resultsSlice.hasNext();
+        this.datastoreTemplate.queryKeysSlice(
+            query,
+            TestEntity.class,
+            DatastorePageable.from(PageRequest.of(100, 2), cursor, null));
+
+    assertThat(resultsSlice.getContent()).containsExactly(this.key2);
+    assertThat(resultsSlice.hasNext()).isFalse();
+    assertThat(((DatastorePageable) resultsSlice.getPageable()).toCursor()).isEqualTo(endCursor);
   }
 
   @Test
@@ -1136,25 +1500,211 @@ class DatastoreTemplateTests {
 
   @Test
   void deleteAllTest() {
+    QueryResults<Key> queryResults = keyQueryResults(null, this.key1, this.key2);
+    when(this.datastore.run(
+            Query.newKeyQueryBuilder().setKind("custom_test_kind").setLimit(500).build()))
+        .thenReturn(queryResults);
+
+    verifyBeforeAndAfterEvents(
+        new BeforeDeleteEvent(new Key[] {this.key1, this.key2}, TestEntity.class, null, null),
+        new AfterDeleteEvent(new Key[] {this.key1, this.key2}, TestEntity.class, null, null),
+        () -> assertThat(this.datastoreTemplate.deleteAll(TestEntity.class)).isEqualTo(2),
+        x -> x.verify(this.datastore, times(1)).delete(same(this.key1), same(this.key2)));
+  }
+
+  @Test
+  void deleteAllInBatchesTest() {
+    Cursor cursor1 = Cursor.copyFrom("cursor1".getBytes());
+    Cursor cursor2 = Cursor.copyFrom("cursor2".getBytes());
+    KeyQuery.Builder pageQuery = Query.newKeyQueryBuilder().setKind("custom_test_kind").setLimit(1);
+    QueryResults<Key> page1 = keyQueryResults(cursor1, this.key1);
+    QueryResults<Key> page2 = keyQueryResults(cursor2, this.key2);
+    QueryResults<Key> page3 = keyQueryResults(null);
+    when(this.datastore.run(pageQuery.build())).thenReturn(page1);
+    when(this.datastore.run(pageQuery.setStartCursor(cursor1).build())).thenReturn(page2);
+    when(this.datastore.run(pageQuery.setStartCursor(cursor2).build())).thenReturn(page3);
+
+    List<ApplicationEvent> events = new ArrayList<>();
+    this.datastoreTemplate.setApplicationEventPublisher(
+        event -> events.add((ApplicationEvent) event));
+    AtomicInteger executions = new AtomicInteger();
+    this.datastoreTemplate.setDeleteExecutor(
+        command -> {
+          executions.incrementAndGet();
+          command.run();
+        });
+    this.datastoreTemplate.setMaxWriteSize(1);
+
+    assertThat(this.datastoreTemplate.deleteAll(TestEntity.class)).isEqualTo(2);
+
+    assertThat(executions).hasValue(2);
+    InOrder inOrder = Mockito.inOrder(this.datastore);
+    inOrder.verify(this.datastore).delete(this.key1);
+    inOrder.verify(this.datastore).delete(this.key2);
+    assertThat(events)
+        .filteredOn(AfterDeleteEvent.class::isInstance)
+        .containsExactly(
+            new AfterDeleteEvent(new Key[] {this.key1}, TestEntity.class, null, null),
+            new AfterDeleteEvent(new Key[] {this.key2}, TestEntity.class, null, null));
+  }
+
+  @Test
+  void deleteAllByQueryWithLimitTest() {
+    Cursor cursor = Cursor.copyFrom("cursor".getBytes());
+    KeyQuery.Builder query =
+        Query.newKeyQueryBuilder()
+            .setKind("custom_test_kind")
+            .setFilter(PropertyFilter.eq("color", "red"))
+            .setOffset(1);
+    QueryResults<Key> page1 = keyQueryResults(cursor, this.key1, this.key2);
+    QueryResults<Key> page2 = keyQueryResults(null, this.keyChild1);
+    when(this.datastore.run(query.setLimit(2).build())).thenReturn(page1);
+    when(this.datastore.run(query.setLimit(1).setOffset(0).setStartCursor(cursor).build()))
+        .thenReturn(page2);
+    this.datastoreTemplate.setMaxWriteSize(2);
+
+    KeyQuery limitedQuery =
+        Query.newKeyQueryBuilder()
+            .setKind("custom_test_kind")
+            .setFilter(PropertyFilter.eq("color", "red"))
+            .setOffset(1)
+            .setLimit(3)
+            .build();
+    assertThat(this.datastoreTemplate.deleteAll(limitedQuery, TestEntity.class)).isEqualTo(3);
+
+    verify(this.datastore).delete(this.key1, this.key2);
+    verify(this.datastore).delete(this.keyChild1);
+    verify(this.datastore, times(2)).run(any(KeyQuery.class));
+  }
+
+  @Test
+  void queryStreamInPagesTest() {
+    Cursor cursor1 = Cursor.copyFrom("cursor1".getBytes());
+    Cursor cursor2 = Cursor.copyFrom("cursor2".getBytes());
+    EntityQuery.Builder pageQuery =
+        Query.newEntityQueryBuilder().setKind("custom_test_kind").setLimit(1);
+    EntityQuery page1Query = pageQuery.build();
+    EntityQuery page2Query = pageQuery.setStartCursor(cursor1).build();
+    EntityQuery page3Query = pageQuery.setStartCursor(cursor2).build();
+    QueryResults<Entity> page1 = entityQueryResults(cursor1, this.e1);
+    QueryResults<Entity> page2 = entityQueryResults(cursor2, this.e2);
+    QueryResults<Entity> page3 = entityQueryResults(null);
+    when(this.datastore.run(page1Query)).thenReturn(page1);
+    when(this.datastore.run(page2Query)).thenReturn(page2);
+    when(this.datastore.run(page3Query)).thenReturn(page3);
+
+    List<ApplicationEvent> events = new ArrayList<>();
+    this.datastoreTemplate.setApplicationEventPublisher(
+        event -> events.add((ApplicationEvent) event));
+    AtomicInteger executions = new AtomicInteger();
+    this.datastoreTemplate.setStreamPrefetchExecutor(
+        command -> {
+          executions.incrementAndGet();
+          command.run();
+        });
+    this.datastoreTemplate.setStreamPageSize(1);
+
+    Stream<TestEntity> results =
+        this.datastoreTemplate.queryStream(
+            Query.newEntityQueryBuilder().setKind("custom_test_kind").build(), TestEntity.class);
+    // nothing is read until the stream is consumed
+    verify(this.datastore, never()).run(any(EntityQuery.class));
+
+    assertThat(results).containsExactly(this.ob1, this.ob2);
+    assertThat(executions).hasValue(3);
+    assertThat(events)
+        .filteredOn(AfterQueryEvent.class::isInstance)
+        .containsExactly(
+            new AfterQueryEvent(Collections.singletonList(this.ob1), page1Query),
+            new AfterQueryEvent(Collections.singletonList(this.ob2), page2Query),
+            new AfterQueryEvent(Collections.emptyList(), page3Query));
+  }
+
+  @Test
+  void queryStreamWithLimitTest() {
+    Cursor cursor = Cursor.copyFrom("cursor".getBytes());
+    EntityQuery.Builder query =
+        Query.newEntityQueryBuilder()
+            .setKind("custom_test_kind")
+            .setFilter(PropertyFilter.eq("color", "red"))
+            .setOffset(1);
+    EntityQuery page1Query = query.setLimit(2).build();
+    EntityQuery page2Query = query.setLimit(1).setOffset(0).setStartCursor(cursor).build();
+    QueryResults<Entity> page1 = entityQueryResults(cursor, this.e1, this.e2);
+    QueryResults<Entity> page2 = entityQueryResults(cursor, this.e2);
+    when(this.datastore.run(page1Query)).thenReturn(page1);
+    when(this.datastore.run(page2Query)).thenReturn(page2);
+    this.datastoreTemplate.setStreamPageSize(2);
+
+    EntityQuery limitedQuery =
+        Query.newEntityQueryBuilder()
+            .setKind("custom_test_kind")
+            .setFilter(PropertyFilter.eq("color", "red"))
+            .setOffset(1)
+            .setLimit(3)
+            .build();
+    assertThat(this.datastoreTemplate.queryStream(limitedQuery, TestEntity.class))
+        .containsExactly(this.ob1, this.ob2, this.ob2);
+
+    verify(this.datastore).run(page1Query);
+    verify(this.datastore).run(page2Query);
+    verify(this.datastore, times(2))
+        .run(
+            Mockito.<Query<Entity>>argThat(
+                runQuery -> runQuery instanceof EntityQuery entityQuery
+                    && "custom_test_kind".equals(entityQuery.getKind())));
+  }
+
+  @Test
+  void queryStreamClosedTest() {
+    EntityQuery page1Query =
+        Query.newEntityQueryBuilder().setKind("custom_test_kind").setLimit(1).build();
+    QueryResults<Entity> page1 =
+        entityQueryResults(Cursor.copyFrom("cursor".getBytes()), this.e1);
+    when(this.datastore.run(page1Query)).thenReturn(page1);
+    this.datastoreTemplate.setStreamPageSize(1);
+
+    try (Stream<TestEntity> results =
+        this.datastoreTemplate.queryStream(
+            Query.newEntityQueryBuilder().setKind("custom_test_kind").build(), TestEntity.class)) {
+      assertThat(results.findFirst()).contains(this.ob1);
+    }
+
+    // the second page is only read if the first page is consumed without a prefetch executor
+    verify(this.datastore).run(page1Query);
+    verify(this.datastore, never())
+        .run(
+            Mockito.<Query<Entity>>argThat(
+                runQuery -> runQuery instanceof EntityQuery entityQuery
+                    && entityQuery.getStartCursor() != null));
+  }
+
+  private static QueryResults<Entity> entityQueryResults(Cursor cursorAfter, Entity... entities) {
+    QueryResults<Entity> queryResults = mock(QueryResults.class);
+    when(queryResults.getResultClass()).thenReturn((Class) Entity.class);
+    when(queryResults.getCursorAfter()).thenReturn(cursorAfter);
+    doAnswer(
+            invocation -> {
+              Arrays.asList(entities).iterator().forEachRemaining(invocation.getArgument(0));
+              return null;
+            })
+        .when(queryResults)
+        .forEachRemaining(any());
+    return queryResults;
+  }
+
+  private static QueryResults<Key> keyQueryResults(Cursor cursorAfter, Key... keys) {
     QueryResults<Key> queryResults = mock(QueryResults.class);
     when(queryResults.getResultClass()).thenReturn((Class) Key.class);
+    when(queryResults.getCursorAfter()).thenReturn(cursorAfter);
     doAnswer(
             invocation -> {
-              Arrays.asList(this.key1, this.key2)
-                  .iterator()
-                  .forEachRemaining(invocation.getArgument(0));
+              Arrays.asList(keys).iterator().forEachRemaining(invocation.getArgument(0));
               return null;
             })
         .when(queryResults)
         .forEachRemaining(any());
-    when(this.datastore.run(Query.newKeyQueryBuilder().setKind("custom_test_kind").build()))
-        .thenReturn(queryResults);
-
-    verifyBeforeAndAfterEvents(
-        new BeforeDeleteEvent(new Key[] {this.key1, this.key2}, TestEntity.class, null, null),
-        new AfterDeleteEvent(new Key[] {this.key1, this.key2}, TestEntity.class, null, null),
-        () -> assertThat(this.datastoreTemplate.deleteAll(TestEntity.class)).isEqualTo(2),
-        x -> x.verify(this.datastore, times(1)).delete(same(this.key1), same(this.key2)));
+    return queryResults;
   }
 
   private void verifyBeforeAndAfterEvents(
@@ -1524,6 +2074,14 @@ class DatastoreTemplateTests {
     }
   }
 
+  @com.google.cloud.spring.data.datastore.core.mapping.Entity(name = "cached_kind")
+  @Cached(maxSize = 10, ttlSeconds = 60)
+  private static class CachedTestEntity {
+    @Id String id;
+
+    String color;
+  }
+
   @com.google.cloud.spring.data.datastore.core.mapping.Entity(name = "test_kind")
   private static class SimpleTestEntity {
     @Id String id;
@@ -18,11 +18,16 @@ package com.google.cloud.spring.data.datastore.core.convert;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.google.cloud.datastore.StringValue;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastoreDataException;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastoreMappingContext;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Currency;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -104,6 +109,28 @@ class TwoStepsConversionsTests {
     assertThat(result).isEqualTo("three");
   }
 
+  @Test
+  void convertOnWriteResolvesConversionStepsOnce() {
+    Converter<Currency, String> converter =
+        new Converter<Currency, String>() {
+          @Override
+          public String convert(Currency currency) {
+            return currency.getCurrencyCode();
+          }
+        };
+    DatastoreCustomConversions customConversions =
+        spy(new DatastoreCustomConversions(Arrays.asList(converter)));
+    TwoStepsConversions conversions =
+        new TwoStepsConversions(customConversions, null, this.datastoreMappingContext);
+
+    assertThat(conversions.convertOnWriteSingle(Currency.getInstance("EUR")))
+        .isEqualTo(StringValue.of("EUR"));
+    assertThat(conversions.convertOnWriteSingle(Currency.getInstance("USD")))
+        .isEqualTo(StringValue.of("USD"));
+
+    verify(customConversions, times(1)).getCustomWriteTarget(Currency.class);
+  }
+
   @Test
   void convertingArrayNotSupported() {
     String[] arr = new String[] {"a", "b", "c"};
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.datastore.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.datastore.Cursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/** Tests for the Datastore pageable. */
+class DatastorePageableTests {
+
+  private final Cursor cursor = Cursor.copyFrom("abc".getBytes());
+
+  private final Sort sort = Sort.by("name");
+
+  @Test
+  void pageTokenRoundTripTest() {
+    DatastorePageable pageable =
+        (DatastorePageable)
+            DatastorePageable.from(PageRequest.of(3, 20, this.sort), this.cursor, 99L);
+
+    DatastorePageable restored =
+        DatastorePageable.fromPageToken(pageable.toPageToken(), this.sort);
+
+    assertThat(restored).isEqualTo(pageable);
+    assertThat(restored.toCursor()).isEqualTo(this.cursor);
+    assertThat(restored.getTotalCount()).isEqualTo(99L);
+    assertThat(restored.isCountTotal()).isTrue();
+  }
+
+  @Test
+  void pageTokenWithoutTotalCountTest() {
+    DatastorePageable pageable =
+        DatastorePageable.withoutTotalCount(PageRequest.of(0, 20, this.sort));
+
+    DatastorePageable restored =
+        DatastorePageable.fromPageToken(pageable.toPageToken(), this.sort);
+
+    assertThat(restored.toCursor()).isNull();
+    assertThat(restored.getTotalCount()).isNull();
+    assertThat(restored.isCountTotal()).isFalse();
+  }
+
+  @Test
+  void withoutTotalCountKeptForNextPagesTest() {
+    Pageable pageable =
+        DatastorePageable.from(
+            DatastorePageable.withoutTotalCount(PageRequest.of(0, 20)), this.cursor, 99L);
+
+    DatastorePageable next = (DatastorePageable) pageable.next();
+
+    assertThat(next.getPageNumber()).isEqualTo(1);
+    assertThat(next.toCursor()).isEqualTo(this.cursor);
+    assertThat(next.getTotalCount()).isNull();
+    assertThat(next.isCountTotal()).isFalse();
+  }
+
+  @Test
+  void invalidPageTokenTest() {
+    assertThatThrownBy(() -> DatastorePageable.fromPageToken("not a token", this.sort))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid page token");
+    assertThatThrownBy(() -> DatastorePageable.fromPageToken("YWJj", this.sort))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid page token");
+  }
+}
@@ -25,8 +25,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.google.cloud.datastore.AggregationQuery;
+import com.google.cloud.datastore.AggregationResult;
 import com.google.cloud.datastore.Cursor;
 import com.google.cloud.datastore.DoubleValue;
 import com.google.cloud.datastore.GqlQuery;
@@ -342,6 +346,54 @@ class GqlDatastoreQueryTests {
     verify(this.datastoreTemplate, times(1)).queryKeysOrEntities(any(), eq(Trade.class));
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void parsedGqlReusedTest(boolean useValueExpressionDelegate) {
+
+    String gql = "SELECT * FROM trades WHERE price=@price";
+
+    Object[] paramVals = new Object[] {1, Sort.by("p1")};
+
+    String[] paramNames = new String[] {"price", null};
+
+    Parameters parameters = buildParameters(paramVals, paramNames);
+
+    when(parameters.hasSortParameter()).thenReturn(true);
+    when(parameters.getSortIndex()).thenReturn(1);
+
+    QueryMethodValueEvaluationContextAccessor evaluationContextAccessor =
+        (QueryMethodValueEvaluationContextAccessor)
+            this.valueExpressionDelegate.getEvaluationContextAccessor();
+
+    GqlDatastoreQuery gqlDatastoreQuery = createQuery(gql, false, false, useValueExpressionDelegate);
+
+    List<String> queryStrings = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              GqlQuery statement = invocation.getArgument(0);
+              queryStrings.add(statement.getQueryString());
+              return null;
+            })
+        .when(this.datastoreTemplate)
+        .queryKeysOrEntities(any(), eq(Trade.class));
+
+    doReturn(false).when(gqlDatastoreQuery).isNonEntityReturnedType(any());
+
+    gqlDatastoreQuery.execute(paramVals);
+    gqlDatastoreQuery.execute(new Object[] {2, Sort.by("p2")});
+    gqlDatastoreQuery.execute(paramVals);
+
+    assertThat(queryStrings)
+        .containsExactly(
+            "SELECT * FROM trades WHERE price=@price ORDER BY p1 ASC",
+            "SELECT * FROM trades WHERE price=@price ORDER BY p2 ASC",
+            "SELECT * FROM trades WHERE price=@price ORDER BY p1 ASC");
+    // the GQL is parsed once and has no expressions to evaluate
+    verify(evaluationContextAccessor, times(useValueExpressionDelegate ? 1 : 0)).create(any());
+    verifyNoMoreInteractions(evaluationContextAccessor);
+    verifyNoInteractions(this.evaluationContextProvider);
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void pageableTestSlice(boolean useValueExpressionDelegate) {
@@ -423,28 +475,33 @@ class GqlDatastoreQueryTests {
             invocation -> {
               GqlQuery statement = invocation.getArgument(0);
 
-              assertThat(
-                      statement.getQueryString().equals(gql)
-                          || statement.getQueryString().equals(expected))
-                  .isTrue();
+              assertThat(statement.getQueryString()).isEqualTo(expected);
               Map<String, Value> paramMap = statement.getNamedBindings();
 
-              if (statement.getQueryString().equals(expected)) {
-                assertThat(paramMap).hasSize(3);
-                assertThat(paramMap.get("price").get()).isEqualTo(1L);
-                assertThat(paramMap.get("limit").get()).isEqualTo(2L);
-                assertThat(paramMap.get("offset").get()).isEqualTo(0L);
-                return new DatastoreResultsIterable(Collections.emptyList(), cursor);
-              } else if (statement.getQueryString().equals(gql)) {
-                assertThat(paramMap).hasSize(1);
-                assertThat(paramMap.get("price").get()).isEqualTo(1L);
-                return new DatastoreResultsIterable(Arrays.asList(1L, 2L), cursor);
-              }
-              return null;
+              assertThat(paramMap).hasSize(3);
+              assertThat(paramMap.get("price").get()).isEqualTo(1L);
+              assertThat(paramMap.get("limit").get()).isEqualTo(2L);
+              assertThat(paramMap.get("offset").get()).isEqualTo(0L);
+              return new DatastoreResultsIterable(Collections.emptyList(), cursor);
             })
         .when(this.datastoreTemplate)
         .queryKeysOrEntities(any(), eq(Trade.class));
 
+    doAnswer(
+            invocation -> {
+              GqlQuery statement =
+                  ((AggregationQuery) invocation.getArgument(0)).getNestedGqlQuery();
+
+              assertThat(statement.getQueryString())
+                  .isEqualTo("AGGREGATE COUNT(*) AS total_count OVER (" + gql + ")");
+              Map<String, Value> paramMap = statement.getNamedBindings();
+              assertThat(paramMap).hasSize(1);
+              assertThat(paramMap.get("price").get()).isEqualTo(1L);
+              return new AggregationResult(Map.of("total_count", LongValue.of(2L)));
+            })
+        .when(this.datastoreTemplate)
+        .aggregate(any());
+
     doReturn(false).when(gqlDatastoreQuery).isNonEntityReturnedType(any());
     doAnswer(invocation -> invocation.getArgument(0))
         .when(gqlDatastoreQuery)
@@ -457,7 +514,69 @@ class GqlDatastoreQueryTests {
 
     assertThat(((Page) result).getTotalElements()).isEqualTo(2L);
 
-    verify(this.datastoreTemplate, times(2)).queryKeysOrEntities(any(), eq(Trade.class));
+    verify(this.datastoreTemplate, times(1)).queryKeysOrEntities(any(), eq(Trade.class));
+    verify(this.datastoreTemplate, times(1)).aggregate(any());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void countQueryTest(boolean useValueExpressionDelegate) {
+    String gql = "SELECT * FROM trades WHERE price=@price";
+
+    Object[] paramVals = new Object[] {1};
+    buildParameters(paramVals, new String[] {"price"});
+    Mockito.<Class>when(this.queryMethod.getReturnedObjectType()).thenReturn(long.class);
+    when(this.queryMethod.isCountQuery()).thenReturn(true);
+
+    GqlDatastoreQuery gqlDatastoreQuery =
+        createQuery(gql, false, false, useValueExpressionDelegate);
+
+    doAnswer(
+            invocation -> {
+              GqlQuery statement =
+                  ((AggregationQuery) invocation.getArgument(0)).getNestedGqlQuery();
+
+              assertThat(statement.getQueryString())
+                  .isEqualTo("AGGREGATE COUNT(*) AS total_count OVER (" + gql + ")");
+              assertThat(((Value) statement.getNamedBindings().get("price")).get()).isEqualTo(1L);
+              return new AggregationResult(Map.of("total_count", LongValue.of(1000000L)));
+            })
+        .when(this.datastoreTemplate)
+        .aggregate(any());
+
+    assertThat(gqlDatastoreQuery.execute(paramVals)).isEqualTo(1000000L);
+
+    verify(this.datastoreTemplate, times(0)).queryKeysOrEntities(any(), any());
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void existsQueryTest(boolean useValueExpressionDelegate) {
+    String gql = "SELECT * FROM trades WHERE price=@price";
+
+    Object[] paramVals = new Object[] {1};
+    buildParameters(paramVals, new String[] {"price"});
+    Mockito.<Class>when(this.queryMethod.getReturnedObjectType()).thenReturn(boolean.class);
+    when(this.queryMethod.isExistsQuery()).thenReturn(true);
+
+    GqlDatastoreQuery gqlDatastoreQuery =
+        createQuery(gql, false, false, useValueExpressionDelegate);
+
+    doAnswer(
+            invocation -> {
+              GqlQuery statement =
+                  ((AggregationQuery) invocation.getArgument(0)).getNestedGqlQuery();
+
+              assertThat(statement.getQueryString())
+                  .isEqualTo("AGGREGATE COUNT_UP_TO(1) AS total_count OVER (" + gql + ")");
+              return new AggregationResult(Map.of("total_count", LongValue.of(0L)));
+            })
+        .when(this.datastoreTemplate)
+        .aggregate(any());
+
+    assertThat(gqlDatastoreQuery.execute(paramVals)).isEqualTo(false);
+
+    verify(this.datastoreTemplate, times(0)).queryKeysOrEntities(any(), any());
   }
 
   @ParameterizedTest
@@ -25,26 +25,34 @@ import static org.mockito.ArgumentMatchers.isNotNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.cloud.datastore.AggregationQuery;
+import com.google.cloud.datastore.AggregationResult;
 import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.DoubleValue;
 import com.google.cloud.datastore.EntityQuery;
 import com.google.cloud.datastore.Key;
 import com.google.cloud.datastore.KeyQuery;
 import com.google.cloud.datastore.KeyValue;
+import com.google.cloud.datastore.LongValue;
 import com.google.cloud.datastore.StructuredQuery;
 import com.google.cloud.datastore.StructuredQuery.CompositeFilter;
 import com.google.cloud.datastore.StructuredQuery.OrderBy;
 import com.google.cloud.datastore.StructuredQuery.PropertyFilter;
+import com.google.cloud.datastore.Value;
+import com.google.cloud.datastore.aggregation.Aggregation;
 import com.google.cloud.spring.data.datastore.core.DatastoreResultsIterable;
 import com.google.cloud.spring.data.datastore.core.DatastoreTemplate;
 import com.google.cloud.spring.data.datastore.core.convert.DatastoreCustomConversions;
 import com.google.cloud.spring.data.datastore.core.convert.DatastoreEntityConverter;
 import com.google.cloud.spring.data.datastore.core.convert.ReadWriteConversions;
 import com.google.cloud.spring.data.datastore.core.convert.TwoStepsConversions;
+import com.google.cloud.spring.data.datastore.core.mapping.DatastoreDataException;
 import com.google.cloud.spring.data.datastore.core.mapping.DatastoreMappingContext;
 import com.google.cloud.spring.data.datastore.core.mapping.Entity;
 import com.google.cloud.spring.data.datastore.core.mapping.Field;
@@ -55,11 +63,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
@@ -584,7 +594,8 @@ class PartTreeDatastoreQueryTests {
 
     verify(this.datastoreTemplate, times(1)).queryKeysOrEntities(isA(EntityQuery.class), any());
 
-    verify(this.datastoreTemplate, times(1)).queryKeysOrEntities(isA(KeyQuery.class), any());
+    verify(this.datastoreTemplate, times(0)).queryKeysOrEntities(isA(KeyQuery.class), any());
+    verify(this.datastoreTemplate, times(1)).aggregate(any());
   }
 
   @Test
@@ -643,7 +654,8 @@ class PartTreeDatastoreQueryTests {
 
     verify(this.datastoreTemplate, times(1)).queryKeysOrEntities(isA(EntityQuery.class), any());
 
-    verify(this.datastoreTemplate, times(1)).queryKeysOrEntities(isA(KeyQuery.class), any());
+    verify(this.datastoreTemplate, times(0)).queryKeysOrEntities(isA(KeyQuery.class), any());
+    verify(this.datastoreTemplate, times(1)).aggregate(any());
   }
 
   @Test
@@ -729,6 +741,45 @@ class PartTreeDatastoreQueryTests {
             .queryEntitiesSlice(isA(EntityQuery.class), any(), any());
   }
 
+  @Test
+  void pageableQueryWithoutTotalCount() throws NoSuchMethodException {
+    queryWithMockResult(
+            "findByActionAndSymbolAndPriceLessThanAndPriceGreater" + "ThanEqualAndIdIsNull",
+            null,
+            getClass()
+                    .getMethod(
+                            "tradeMethod",
+                            String.class,
+                            String.class,
+                            double.class,
+                            double.class,
+                            Pageable.class));
+
+    this.partTreeDatastoreQuery = createQuery(true, false, null);
+
+    Cursor cursor = Cursor.copyFrom("abc".getBytes());
+    Pageable pageable =
+            DatastorePageable.withoutTotalCount(PageRequest.of(1, 2, Sort.Direction.DESC, "id"));
+    Object[] params = new Object[] {"BUY", "abcd", 8.88, 3.33, pageable};
+
+    when(this.datastoreTemplate.queryEntitiesSlice(isA(EntityQuery.class), any(), any()))
+            .thenReturn(
+                    new SliceImpl(
+                            Arrays.asList(3, 4), DatastorePageable.from(pageable, cursor, null), true));
+
+    when(this.queryMethod.getCollectionReturnType()).thenReturn(List.class);
+
+    Page result = (Page) this.partTreeDatastoreQuery.execute(params);
+    assertThat(result.getNumberOfElements()).isEqualTo(2);
+    assertThat(result.hasNext()).isTrue();
+    assertThat(result.getTotalElements()).isEqualTo(5L);
+    assertThat(((DatastorePageable) result.nextPageable()).isCountTotal()).isFalse();
+    assertThat(((DatastorePageable) result.nextPageable()).toCursor()).isEqualTo(cursor);
+
+    verify(this.datastoreTemplate, never()).aggregate(any());
+    verify(this.datastoreTemplate, never()).queryKeysOrEntities(any(), any());
+  }
+
   private void preparePageResults(
           int offset,
           Integer limit,
@@ -754,10 +805,10 @@ class PartTreeDatastoreQueryTests {
                               pageResults.iterator(), Cursor.copyFrom("abc".getBytes()));
                     });
 
-    when(this.datastoreTemplate.queryKeysOrEntities(isA(KeyQuery.class), any()))
+    when(this.datastoreTemplate.aggregate(any()))
             .thenAnswer(
                     invocation -> {
-                      KeyQuery statement = invocation.getArgument(0);
+                      AggregationQuery statement = invocation.getArgument(0);
                       KeyQuery expected =
                               StructuredQuery.newKeyQueryBuilder()
                                       .setFilter(FILTER)
@@ -765,9 +816,8 @@ class PartTreeDatastoreQueryTests {
                                       .setOrderBy(OrderBy.desc("__key__"))
                                       .build();
 
-                      assertThat(statement).isEqualTo(expected);
-                      return new DatastoreResultsIterable(
-                              fullResults.iterator(), Cursor.copyFrom("def".getBytes()));
+                      assertThat(statement.getNestedStructuredQuery()).isEqualTo(expected);
+                      return aggregationResult(Map.of("count", LongValue.of(fullResults.size())));
                     });
   }
 
@@ -805,17 +855,38 @@ class PartTreeDatastoreQueryTests {
 
     Object[] params = new Object[] {"BUY"};
 
-    prepareDeleteResults(false);
+    KeyQuery expected =
+            StructuredQuery.newKeyQueryBuilder()
+                    .setFilter(PropertyFilter.eq("action", "BUY"))
+                    .setKind("trades")
+                    .build();
+    when(this.datastoreTemplate.deleteAll(expected, Trade.class)).thenReturn(3L);
 
     when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) int.class);
 
-    this.partTreeDatastoreQuery.execute(params);
+    assertThat(this.partTreeDatastoreQuery.execute(params)).isEqualTo(3L);
 
     verify(this.datastoreTemplate, times(0)).query(any(), (Function) any());
 
-    verify(this.datastoreTemplate, times(1)).queryKeysOrEntities(any(), any());
+    // the keys are streamed and deleted in batches by the template
+    verify(this.datastoreTemplate, times(0)).queryKeysOrEntities(any(), any());
+
+    verify(this.datastoreTemplate, times(1)).deleteAll(expected, Trade.class);
+  }
+
+  @Test
+  void deleteVoidTest() throws NoSuchMethodException {
+    queryWithMockResult(
+            "deleteByAction", null, getClass().getMethod("countByAction", String.class));
+
+    this.partTreeDatastoreQuery = createQuery(false, false, null);
+
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) void.class);
+
+    assertThat(this.partTreeDatastoreQuery.execute(new Object[] {"BUY"})).isNull();
 
-    verify(this.datastoreTemplate, times(1)).deleteAllById(eq(Arrays.asList(3, 4, 5)), any());
+    verify(this.datastoreTemplate, times(0)).queryKeysOrEntities(any(), any());
+    verify(this.datastoreTemplate, times(1)).deleteAll(any(KeyQuery.class), eq(Trade.class));
   }
 
   @Test
@@ -917,26 +988,33 @@ class PartTreeDatastoreQueryTests {
 
   @Test
   void countTest() throws NoSuchMethodException {
-    List<Trade> results = new ArrayList<>();
-    results.add(new Trade());
-
     queryWithMockResult(
-            "countByAction", results, getClass().getMethod("countByAction", String.class));
+            "countByAction", null, getClass().getMethod("countByAction", String.class));
+    prepareCountResult(1);
 
     PartTreeDatastoreQuery spyQuery = this.partTreeDatastoreQuery;
 
     Object[] params =
             new Object[] {"BUY", };
     assertThat(spyQuery.execute(params)).isEqualTo(1L);
+
+    AggregationQuery aggregationQuery = captureAggregationQuery();
+    assertThat(aggregationQuery.getNestedStructuredQuery())
+            .isEqualTo(
+                    StructuredQuery.newKeyQueryBuilder()
+                            .setFilter(PropertyFilter.eq("action", "BUY"))
+                            .setKind("trades")
+                            .build());
+    assertThat(aggregationQuery.getAggregations())
+            .containsExactly(Aggregation.count().as("count").build());
+    verify(this.datastoreTemplate, times(0)).queryKeysOrEntities(any(), any());
   }
 
   @Test
   void existShouldBeTrueWhenResultSetIsNotEmpty() throws NoSuchMethodException {
-    List<Trade> results = new ArrayList<>();
-    results.add(new Trade());
-
     queryWithMockResult(
-            "existsByAction", results, getClass().getMethod("countByAction", String.class));
+            "existsByAction", null, getClass().getMethod("countByAction", String.class));
+    prepareCountResult(1);
 
     PartTreeDatastoreQuery spyQuery = this.partTreeDatastoreQuery;
 
@@ -955,6 +1033,7 @@ class PartTreeDatastoreQueryTests {
             "existsByAction",
             Collections.emptyList(),
             getClass().getMethod("countByAction", String.class));
+    prepareCountResult(0);
 
     PartTreeDatastoreQuery spyQuery = this.partTreeDatastoreQuery;
 
@@ -1079,11 +1158,118 @@ class PartTreeDatastoreQueryTests {
             Arrays.asList(tradeA, tradeB),
             getClass().getMethod("findStreamByAction", String.class));
     when(this.queryMethod.isStreamQuery()).thenReturn(true);
+    when(this.datastoreTemplate.queryStream(any(), Mockito.<Class<Trade>>any()))
+            .thenAnswer(invocation -> Stream.of(tradeA, tradeB));
     Object[] params =
             new Object[] {"BUY", };
     Object result = this.partTreeDatastoreQuery.execute(params);
     assertThat(result).isInstanceOf(Stream.class);
     assertThat((Stream) result).hasSize(2).contains(tradeA, tradeB);
+
+    ArgumentCaptor<EntityQuery> captor = ArgumentCaptor.forClass(EntityQuery.class);
+    verify(this.datastoreTemplate).queryStream(captor.capture(), eq(Trade.class));
+    assertThat(captor.getValue().getFilter())
+            .isEqualTo(PropertyFilter.eq("action", "BUY"));
+    verify(this.datastoreTemplate, never()).queryKeysOrEntities(any(), any());
+  }
+
+  @Test
+  void sumTest() throws NoSuchMethodException {
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) double.class);
+    queryWithMockResult(
+        "sumSharesByAction", null, getClass().getMethod("sumSharesByAction", String.class));
+    when(this.datastoreTemplate.aggregate(any()))
+        .thenReturn(aggregationResult(Map.of("aggregate", DoubleValue.of(12.5))));
+
+    assertThat(this.partTreeDatastoreQuery.execute(new Object[] {"BUY"})).isEqualTo(12.5);
+
+    AggregationQuery aggregationQuery = captureAggregationQuery();
+    assertThat(aggregationQuery.getNestedStructuredQuery())
+        .isEqualTo(
+            StructuredQuery.newEntityQueryBuilder()
+                .setFilter(PropertyFilter.eq("action", "BUY"))
+                .setKind("trades")
+                .build());
+    assertThat(aggregationQuery.getAggregations())
+        .containsExactly(Aggregation.sum("shares").as("aggregate").build());
+  }
+
+  @Test
+  void avgTest() throws NoSuchMethodException {
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) Double.class);
+    queryWithMockResult("avgPriceBy", null, getClass().getMethod("avgPriceBy"));
+    when(this.datastoreTemplate.aggregate(any()))
+        .thenReturn(
+            aggregationResult(Map.of("aggregate", DoubleValue.of(4.2), "count", LongValue.of(3))));
+
+    assertThat(this.partTreeDatastoreQuery.execute(EMPTY_PARAMETERS)).isEqualTo(4.2);
+
+    AggregationQuery aggregationQuery = captureAggregationQuery();
+    assertThat(aggregationQuery.getNestedStructuredQuery())
+        .isEqualTo(StructuredQuery.newEntityQueryBuilder().setKind("trades").build());
+    assertThat(aggregationQuery.getAggregations())
+        .containsExactlyInAnyOrder(
+            Aggregation.avg("price").as("aggregate").build(),
+            Aggregation.count().as("count").build());
+  }
+
+  @Test
+  void avgOfNoEntitiesTest() throws NoSuchMethodException {
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) Double.class);
+    queryWithMockResult("avgPriceBy", null, getClass().getMethod("avgPriceBy"));
+    when(this.datastoreTemplate.aggregate(any()))
+        .thenReturn(aggregationResult(Map.of("count", LongValue.of(0))));
+
+    assertThat(this.partTreeDatastoreQuery.execute(EMPTY_PARAMETERS)).isNull();
+  }
+
+  @Test
+  void avgAsIntegralTypeRejectedTest() throws NoSuchMethodException {
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) long.class);
+    Method method = getClass().getMethod("avgPriceBy");
+
+    assertThatThrownBy(() -> queryWithMockResult("avgPriceBy", null, method))
+        .isInstanceOf(DatastoreDataException.class)
+        .hasMessage(
+            "The avg of price is floating-point and cannot be returned as long: avgPriceBy");
+    verify(this.datastoreTemplate, never()).aggregate(any());
+  }
+
+  @Test
+  void sumOfFloatingPointAsIntegralTypeRejectedTest() throws NoSuchMethodException {
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) Integer.class);
+    Method method = getClass().getMethod("sumSharesByAction", String.class);
+
+    assertThatThrownBy(() -> queryWithMockResult("sumSharesByAction", null, method))
+        .isInstanceOf(DatastoreDataException.class)
+        .hasMessageStartingWith("The sum of shares is floating-point");
+    verify(this.datastoreTemplate, never()).aggregate(any());
+  }
+
+  @Test
+  void avgAsNumberTest() throws NoSuchMethodException {
+    when(this.queryMethod.getReturnedObjectType()).thenReturn((Class) Number.class);
+    queryWithMockResult("avgPriceBy", null, getClass().getMethod("avgPriceBy"));
+    when(this.datastoreTemplate.aggregate(any()))
+        .thenReturn(
+            aggregationResult(Map.of("aggregate", DoubleValue.of(4.2), "count", LongValue.of(3))));
+
+    assertThat(this.partTreeDatastoreQuery.execute(EMPTY_PARAMETERS)).isEqualTo(4.2);
+  }
+
+  private AggregationQuery captureAggregationQuery() {
+    ArgumentCaptor<AggregationQuery> captor = ArgumentCaptor.forClass(AggregationQuery.class);
+    verify(this.datastoreTemplate).aggregate(captor.capture());
+    return captor.getValue();
+  }
+
+  private void prepareCountResult(long count) {
+    when(this.datastoreTemplate.aggregate(any()))
+        .thenReturn(aggregationResult(Map.of("count", LongValue.of(count))));
+  }
+
+  private static AggregationResult aggregationResult(Map<String, ? extends Value<?>> values) {
+    return new AggregationResult(values);
   }
 
   private void queryWithMockResult(
@@ -1186,6 +1372,14 @@ class PartTreeDatastoreQueryTests {
     return 0;
   }
 
+  public double sumSharesByAction(String action) {
+    return 0;
+  }
+
+  public Double avgPriceBy() {
+    return null;
+  }
+
   @Entity(name = "trades")
   private static class Trade {
     @Id String id;
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Defines non-blocking operations available to use with Spanner. Every operation returns
+ * immediately, and its result is delivered through the returned future once Cloud Spanner
+ * responds. Reactive applications can adapt the futures, for example with {@code
+ * Mono.fromFuture}.
+ *
+ * @since 6.0.2
+ */
+public interface AsyncSpannerOperations {
+
+  /**
+   * Executes a DML statement on Cloud Spanner. A read-write transaction is started if needed.
+   *
+   * @param statement the DML statement to execute.
+   * @return the number of rows affected.
+   */
+  CompletableFuture<Long> executeDmlStatement(Statement statement);
+
+  /**
+   * Finds a single stored object using a key.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param key the key of the object.
+   * @param <T> the type of the object to retrieve.
+   * @return the object, or {@code null} if none was found.
+   */
+  <T> CompletableFuture<T> read(Class<T> entityClass, Key key);
+
+  /**
+   * Finds objects stored from their keys.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param keys the keys of the objects to retrieve.
+   * @param options Spanner read options with which to conduct the read operation.
+   * @param <T> the type of the object to retrieve.
+   * @return the list of objects found.
+   */
+  <T> CompletableFuture<List<T>> read(
+      Class<T> entityClass, KeySet keys, SpannerReadOptions options);
+
+  /**
+   * Finds all objects of the given type.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param <T> the type of the object to retrieve.
+   * @return the list of all objects of the type.
+   */
+  <T> CompletableFuture<List<T>> readAll(Class<T> entityClass);
+
+  /**
+   * Finds objects by using an SQL statement. Interleaved children that are not selected by the
+   * statement are loaded with additional, blocking queries, so statements for entities with eagerly
+   * loaded children should select them as {@code ARRAY} subqueries.
+   *
+   * @param entityClass the type of object to retrieve.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the Spanner query options with which to conduct the query operation.
+   * @param <T> the type of object to retrieve.
+   * @return a list of the objects found.
+   */
+  <T> CompletableFuture<List<T>> query(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Executes a query and maps the rows with the given function.
+   *
+   * @param rowFunc the function to apply to each row of the result.
+   * @param statement the SQL statement used to select the objects.
+   * @param options the Spanner query options with which to conduct the query operation.
+   * @param <A> the type of the mapped rows.
+   * @return a list of the mapped rows.
+   */
+  <A> CompletableFuture<List<A>> query(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options);
+
+  /**
+   * Inserts an object into Cloud Spanner.
+   *
+   * @param object the object to insert.
+   * @return a future that completes when the insert is committed.
+   */
+  CompletableFuture<Void> insert(Object object);
+
+  /**
+   * Inserts objects into Cloud Spanner in a single commit.
+   *
+   * @param objects the objects to insert.
+   * @return a future that completes when the insert is committed.
+   */
+  CompletableFuture<Void> insertAll(Iterable<?> objects);
+
+  /**
+   * Updates an object in Cloud Spanner.
+   *
+   * @param object the object to update.
+   * @return a future that completes when the update is committed.
+   */
+  CompletableFuture<Void> update(Object object);
+
+  /**
+   * Updates objects in Cloud Spanner in a single commit.
+   *
+   * @param objects the objects to update.
+   * @return a future that completes when the update is committed.
+   */
+  CompletableFuture<Void> updateAll(Iterable<?> objects);
+
+  /**
+   * Updates or inserts an object into Cloud Spanner.
+   *
+   * @param object the object to update or insert.
+   * @return a future that completes when the write is committed.
+   */
+  CompletableFuture<Void> upsert(Object object);
+
+  /**
+   * Updates or inserts objects into Cloud Spanner in a single commit.
+   *
+   * @param objects the objects to update or insert.
+   * @return a future that completes when the write is committed.
+   */
+  CompletableFuture<Void> upsertAll(Iterable<?> objects);
+
+  /**
+   * Deletes an object from Cloud Spanner.
+   *
+   * @param entity the object to delete.
+   * @return a future that completes when the delete is committed.
+   */
+  CompletableFuture<Void> delete(Object entity);
+
+  /**
+   * Deletes objects from Cloud Spanner in a single commit.
+   *
+   * @param entities the objects to delete.
+   * @return a future that completes when the delete is committed.
+   */
+  CompletableFuture<Void> deleteAll(Iterable<?> entities);
+
+  /**
+   * Deletes objects given a set of keys.
+   *
+   * @param entityClass the type of object to delete.
+   * @param keys the keys of the objects to delete.
+   * @param <T> the type of the object to delete.
+   * @return a future that completes when the delete is committed.
+   */
+  <T> CompletableFuture<Void> delete(Class<T> entityClass, KeySet keys);
+
+  /**
+   * Performs multiple read and write operations in a single read-write transaction. The function
+   * may be invoked several times if the transaction is aborted and retried. Writes are buffered
+   * and committed once the future returned by the function completes.
+   *
+   * @param operations the function that performs the operations with the given transactional
+   *     operations object and returns a future for its result.
+   * @param <T> the final return type of the operations.
+   * @return the result of the function once the transaction is committed.
+   */
+  <T> CompletableFuture<T> performReadWriteTransaction(
+      Function<AsyncSpannerOperations, CompletableFuture<T>> operations);
+}
@@ -0,0 +1,531 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncRunner.AsyncWork;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spanner.TransactionContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterQueryEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterReadEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import com.google.cloud.spring.data.spanner.repository.query.SpannerStatementQueryExecutor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.Assert;
+
+/**
+ * An implementation of {@link AsyncSpannerOperations} that uses the asynchronous API of the Cloud
+ * Spanner client library. Rows are consumed through {@link AsyncResultSet} callbacks on the given
+ * executor, so no thread waits for Cloud Spanner while rows are streamed.
+ *
+ * <p>The mapping context, entity processor, mutation factory, event publisher, and entity cache of
+ * the given {@link SpannerTemplate} are reused. Interleaved child entities that are not selected by
+ * a query are read with blocking reads of that template on the executor, and lazily loaded
+ * interleaved properties are read with blocking reads when they are first accessed. These reads
+ * cannot take part in a read-write transaction, so entities whose interleaved properties are not
+ * loaded by the query itself are rejected with a {@link SpannerDataException} in {@link
+ * #performReadWriteTransaction(Function)}.
+ *
+ * @since 6.0.2
+ */
+public class AsyncSpannerTemplate implements AsyncSpannerOperations {
+
+  private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+  private final Supplier<DatabaseClient> databaseClientProvider;
+
+  private final SpannerTemplate spannerTemplate;
+
+  private final Executor executor;
+
+  // Only set for templates that are bound to a read-write transaction.
+  private final TransactionContext transactionContext;
+
+  private final List<Mutation> bufferedMutations = Collections.synchronizedList(new ArrayList<>());
+
+  private volatile boolean dmlExecuted;
+
+  /**
+   * Constructor.
+   *
+   * @param databaseClientProvider supplies the database client used for all operations.
+   * @param spannerTemplate the blocking template whose mapping and events are reused.
+   * @param executor runs the result set callbacks and the entity mapping.
+   */
+  public AsyncSpannerTemplate(
+      Supplier<DatabaseClient> databaseClientProvider,
+      SpannerTemplate spannerTemplate,
+      Executor executor) {
+    this(databaseClientProvider, spannerTemplate, executor, null);
+    Assert.notNull(databaseClientProvider, "A valid database client for Spanner is required.");
+    Assert.notNull(spannerTemplate, "A valid Spanner template is required.");
+    Assert.notNull(executor, "A valid executor is required.");
+  }
+
+  private AsyncSpannerTemplate(
+      Supplier<DatabaseClient> databaseClientProvider,
+      SpannerTemplate spannerTemplate,
+      Executor executor,
+      TransactionContext transactionContext) {
+    this.databaseClientProvider = databaseClientProvider;
+    this.spannerTemplate = spannerTemplate;
+    this.executor = executor;
+    this.transactionContext = transactionContext;
+  }
+
+  @Override
+  public CompletableFuture<Long> executeDmlStatement(Statement statement) {
+    Assert.notNull(statement, "A non-null statement is required.");
+    this.spannerTemplate.maybeEmitEvent(new BeforeExecuteDmlEvent(statement));
+    CompletableFuture<Long> rowsAffected;
+    if (this.transactionContext != null) {
+      this.dmlExecuted = true;
+      rowsAffected = toCompletableFuture(this.transactionContext.executeUpdateAsync(statement));
+    } else {
+      rowsAffected = runInTransaction(transaction -> transaction.executeUpdateAsync(statement));
+    }
+    return rowsAffected.thenApply(
+        rows -> {
+          getEntityCache().invalidateAll();
+          this.spannerTemplate.maybeEmitEvent(new AfterExecuteDmlEvent(statement, rows));
+          return rows;
+        });
+  }
+
+  @Override
+  public <T> CompletableFuture<T> read(Class<T> entityClass, Key key) {
+    return read(entityClass, KeySet.singleKey(key), null)
+        .thenApply(items -> items.isEmpty() ? null : items.get(0));
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> read(
+      Class<T> entityClass, KeySet keys, SpannerReadOptions options) {
+    SpannerPersistentEntity<T> persistentEntity =
+        (SpannerPersistentEntity<T>)
+            this.spannerTemplate.getMappingContext().getPersistentEntityOrFail(entityClass);
+
+    CompletableFuture<List<T>> entities;
+    if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+      // Eagerly loaded children are selected as ARRAY subqueries, so they need no further reads.
+      entities =
+          query(
+              entityClass,
+              SpannerStatementQueryExecutor.buildQuery(
+                  keys,
+                  persistentEntity,
+                  this.spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
+                  this.spannerTemplate.getMappingContext(),
+                  options != null ? options.getIndex() : null),
+              SpannerTemplate.toQueryOption(keys, options));
+    } else {
+      ReadContext readContext =
+          getReadContext(options != null ? options.getTimestampBound() : null);
+      AsyncResultSet resultSet;
+      if (options == null) {
+        resultSet =
+            readContext.readAsync(persistentEntity.tableName(), keys, persistentEntity.columns());
+      } else if (options.getIndex() == null) {
+        resultSet =
+            readContext.readAsync(
+                persistentEntity.tableName(),
+                keys,
+                persistentEntity.columns(),
+                options.getOptions());
+      } else {
+        resultSet =
+            readContext.readUsingIndexAsync(
+                persistentEntity.tableName(),
+                options.getIndex(),
+                keys,
+                persistentEntity.columns(),
+                options.getOptions());
+      }
+      entities =
+          mapToEntities(
+              resultSet,
+              entityClass,
+              options != null ? options.getIncludeProperties() : null,
+              options != null && options.isAllowPartialRead());
+    }
+    return entities.thenApply(
+        items -> {
+          this.spannerTemplate.maybeEmitEvent(new AfterReadEvent(items, keys, options));
+          return items;
+        });
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> readAll(Class<T> entityClass) {
+    return read(entityClass, KeySet.all(), null);
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> query(
+      Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
+    return mapToEntities(
+            executeQuery(statement, options),
+            entityClass,
+            options != null ? options.getIncludeProperties() : null,
+            options != null && options.isAllowPartialRead())
+        .thenApply(
+            items -> {
+              this.spannerTemplate.maybeEmitEvent(new AfterQueryEvent(items, statement, options));
+              return items;
+            });
+  }
+
+  @Override
+  public <A> CompletableFuture<List<A>> query(
+      Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
+    return collect(executeQuery(statement, options), rowFunc);
+  }
+
+  @Override
+  public CompletableFuture<Void> insert(Object object) {
+    return applySaveMutations(
+        () -> getMutationFactory().insert(object), Collections.singletonList(object));
+  }
+
+  @Override
+  public CompletableFuture<Void> insertAll(Iterable<?> objects) {
+    return applySaveMutations(
+        () -> getMutationsForMultipleObjects(objects, getMutationFactory()::insert), objects);
+  }
+
+  @Override
+  public CompletableFuture<Void> update(Object object) {
+    return applySaveMutations(
+        () -> getMutationFactory().update(object, null), Collections.singletonList(object));
+  }
+
+  @Override
+  public CompletableFuture<Void> updateAll(Iterable<?> objects) {
+    return applySaveMutations(
+        () -> getMutationsForMultipleObjects(objects, x -> getMutationFactory().update(x, null)),
+        objects);
+  }
+
+  @Override
+  public CompletableFuture<Void> upsert(Object object) {
+    return applySaveMutations(
+        () -> getMutationFactory().upsert(object, null), Collections.singletonList(object));
+  }
+
+  @Override
+  public CompletableFuture<Void> upsertAll(Iterable<?> objects) {
+    return applySaveMutations(
+        () -> getMutationsForMultipleObjects(objects, x -> getMutationFactory().upsert(x, null)),
+        objects);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(Object entity) {
+    return deleteAll(Collections.singletonList(entity));
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteAll(Iterable<?> entities) {
+    List<Mutation> mutations =
+        StreamSupport.stream(entities.spliterator(), false)
+            .map(getMutationFactory()::delete)
+            .collect(Collectors.toList());
+    this.spannerTemplate.maybeEmitEvent(new BeforeDeleteEvent(mutations, entities, null, null));
+    return applyMutations(mutations)
+        .thenRun(
+            () ->
+                this.spannerTemplate.maybeEmitEvent(
+                    new AfterDeleteEvent(mutations, entities, null, null)));
+  }
+
+  @Override
+  public <T> CompletableFuture<Void> delete(Class<T> entityClass, KeySet keys) {
+    List<Mutation> mutations =
+        Collections.singletonList(getMutationFactory().delete(entityClass, keys));
+    this.spannerTemplate.maybeEmitEvent(new BeforeDeleteEvent(mutations, null, keys, entityClass));
+    return applyMutations(mutations)
+        .thenRun(
+            () ->
+                this.spannerTemplate.maybeEmitEvent(
+                    new AfterDeleteEvent(mutations, null, keys, entityClass)));
+  }
+
+  @Override
+  public <T> CompletableFuture<T> performReadWriteTransaction(
+      Function<AsyncSpannerOperations, CompletableFuture<T>> operations) {
+    if (this.transactionContext != null) {
+      return CompletableFuture.failedFuture(
+          new SpannerDataException(
+              "A read-write transaction is already under execution. "
+                  + "Opening sub-transactions is not supported!"));
+    }
+    AtomicReference<AsyncSpannerTemplate> lastAttempt = new AtomicReference<>();
+    return runInTransaction(
+            transaction -> {
+              AsyncSpannerTemplate transactionTemplate =
+                  new AsyncSpannerTemplate(
+                      this.databaseClientProvider,
+                      this.spannerTemplate,
+                      this.executor,
+                      transaction);
+              lastAttempt.set(transactionTemplate);
+              return toApiFuture(operations.apply(transactionTemplate));
+            })
+        .whenComplete(
+            (result, ex) -> {
+              // Entities may have been cached again between the writes and the commit.
+              AsyncSpannerTemplate transactionTemplate = lastAttempt.get();
+              if (transactionTemplate != null) {
+                transactionTemplate.invalidateCommittedEntities();
+              }
+            });
+  }
+
+  private CompletableFuture<Void> applySaveMutations(
+      Supplier<List<Mutation>> mutationsSupplier, Iterable<?> entities) {
+    this.spannerTemplate.maybeEmitEvent(new BeforeSaveEvent(entities, null));
+    List<Mutation> mutations = mutationsSupplier.get();
+    return applyMutations(mutations)
+        .thenRun(
+            () ->
+                this.spannerTemplate.maybeEmitEvent(new AfterSaveEvent(mutations, entities, null)));
+  }
+
+  private CompletableFuture<Void> applyMutations(List<Mutation> mutations) {
+    if (this.transactionContext != null) {
+      this.transactionContext.buffer(mutations);
+      this.bufferedMutations.addAll(mutations);
+      getEntityCache().invalidate(mutations);
+      return CompletableFuture.completedFuture(null);
+    }
+    return this.<Void>runInTransaction(
+            transaction -> {
+              transaction.buffer(mutations);
+              return ApiFutures.immediateFuture(null);
+            })
+        .thenRun(() -> getEntityCache().invalidate(mutations));
+  }
+
+  private void invalidateCommittedEntities() {
+    if (this.dmlExecuted) {
+      getEntityCache().invalidateAll();
+    } else {
+      synchronized (this.bufferedMutations) {
+        getEntityCache().invalidate(this.bufferedMutations);
+      }
+    }
+  }
+
+  private AsyncResultSet executeQuery(Statement statement, SpannerQueryOptions options) {
+    ReadContext readContext = getReadContext(options != null ? options.getTimestampBound() : null);
+    return options == null
+        ? readContext.executeQueryAsync(statement)
+        : readContext.executeQueryAsync(statement, options.getOptions());
+  }
+
+  private ReadContext getReadContext(TimestampBound timestampBound) {
+    if (this.transactionContext != null) {
+      if (timestampBound != null) {
+        throw new SpannerDataException(
+            "Getting stale snapshot read contexts is not supported"
+                + " in read-write transaction templates.");
+      }
+      return this.transactionContext;
+    }
+    TimestampBound singleUseBound =
+        timestampBound != null ? timestampBound : this.spannerTemplate.getSingleUseTimestampBound();
+    return singleUseBound != null
+        ? this.databaseClientProvider.get().singleUse(singleUseBound)
+        : this.databaseClientProvider.get().singleUse();
+  }
+
+  private <T> CompletableFuture<List<T>> mapToEntities(
+      AsyncResultSet resultSet,
+      Class<T> entityClass,
+      Set<String> includeProperties,
+      boolean allowMissingColumns) {
+    CompletableFuture<List<T>> entities =
+        collect(
+            resultSet,
+            struct ->
+                this.spannerTemplate
+                    .getSpannerEntityProcessor()
+                    .read(entityClass, struct, includeProperties, allowMissingColumns));
+    if (this.transactionContext != null) {
+      // Child rows would otherwise be read outside of the transaction.
+      return entities.thenApply(
+          items -> {
+            verifyChildrenLoaded(items, includeProperties);
+            return items;
+          });
+    }
+    return entities.thenApplyAsync(
+        items -> this.spannerTemplate.resolveChildEntities(items, includeProperties),
+        this.executor);
+  }
+
+  private void verifyChildrenLoaded(List<?> entities, Set<String> includeProperties) {
+    for (Object entity : entities) {
+      SpannerPersistentEntity<?> persistentEntity =
+          this.spannerTemplate.getMappingContext().getPersistentEntityOrFail(entity.getClass());
+      PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(entity);
+      persistentEntity.doWithInterleavedProperties(
+          property -> {
+            if (includeProperties != null
+                && !includeProperties.contains(persistentEntity.getName())) {
+              return;
+            }
+            List<?> children = (List<?>) accessor.getProperty(property);
+            if (children == null) {
+              throw new SpannerDataException(
+                  "Interleaved property "
+                      + property.getName()
+                      + " of "
+                      + persistentEntity.getType().getSimpleName()
+                      + " is not loaded by the query and cannot be read in an asynchronous"
+                      + " read-write transaction.");
+            }
+            verifyChildrenLoaded(children, null);
+          });
+    }
+  }
+
+  /**
+   * Consumes all rows of a result set as they become available, without blocking.
+   *
+   * @param resultSet the result set to consume. It is closed once all rows are consumed.
+   * @param rowFunc the function to apply to each row.
+   * @param <A> the type of the mapped rows.
+   * @return the mapped rows.
+   */
+  private <A> CompletableFuture<List<A>> collect(
+      AsyncResultSet resultSet, Function<Struct, A> rowFunc) {
+    List<A> rows = new ArrayList<>();
+    ApiFuture<Void> done =
+        resultSet.setCallback(
+            this.executor,
+            rs -> {
+              while (true) {
+                switch (rs.tryNext()) {
+                  case OK:
+                    rows.add(rowFunc.apply(rs.getCurrentRowAsStruct()));
+                    break;
+                  case NOT_READY:
+                    return CallbackResponse.CONTINUE;
+                  default:
+                    return CallbackResponse.DONE;
+                }
+              }
+            });
+    return toCompletableFuture(done).thenApply(unused -> rows);
+  }
+
+  private <R> CompletableFuture<R> runInTransaction(AsyncWork<R> work) {
+    return toCompletableFuture(
+        this.databaseClientProvider.get().runAsync().runAsync(work, this.executor));
+  }
+
+  private List<Mutation> getMutationsForMultipleObjects(
+      Iterable<?> objects, Function<Object, List<Mutation>> individualEntityMutationFunc) {
+    return StreamSupport.stream(objects.spliterator(), false)
+        .flatMap(x -> individualEntityMutationFunc.apply(x).stream())
+        .collect(Collectors.toList());
+  }
+
+  private SpannerMutationFactory getMutationFactory() {
+    return this.spannerTemplate.getMutationFactory();
+  }
+
+  private SpannerEntityCache getEntityCache() {
+    return this.spannerTemplate.getEntityCache();
+  }
+
+  private static <V> CompletableFuture<V> toCompletableFuture(ApiFuture<V> apiFuture) {
+    CompletableFuture<V> future = new CompletableFuture<>();
+    ApiFutures.addCallback(
+        apiFuture,
+        new ApiFutureCallback<V>() {
+          @Override
+          public void onFailure(Throwable t) {
+            future.completeExceptionally(t);
+          }
+
+          @Override
+          public void onSuccess(V result) {
+            future.complete(result);
+          }
+        },
+        DIRECT_EXECUTOR);
+    return future;
+  }
+
+  private static <V> ApiFuture<V> toApiFuture(CompletableFuture<V> future) {
+    SettableApiFuture<V> apiFuture = SettableApiFuture.create();
+    CompletableFuture<V> unused =
+        future.whenComplete(
+            (result, ex) -> {
+              if (ex == null) {
+                apiFuture.set(result);
+              } else {
+                // The transaction runner must see an aborted exception itself to retry.
+                apiFuture.setException(unwrap(ex));
+              }
+            });
+    return apiFuture;
+  }
+
+  private static Throwable unwrap(Throwable ex) {
+    Throwable cause = ex;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.ForwardingResultSet;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spring.data.spanner.core.observation.SpannerObservationContext;
+
+/**
+ * Adds the time spent waiting for the rows of a result set to its observation, which separates the
+ * time spent streaming from Cloud Spanner from the time spent mapping the rows.
+ */
+class ObservedResultSet extends ForwardingResultSet {
+
+  private final SpannerObservationContext context;
+
+  ObservedResultSet(ResultSet delegate, SpannerObservationContext context) {
+    super(delegate);
+    this.context = context;
+  }
+
+  @Override
+  public boolean next() {
+    long start = System.nanoTime();
+    try {
+      return super.next();
+    } finally {
+      this.context.addStreamingNanos(System.nanoTime() - start);
+    }
+  }
+}
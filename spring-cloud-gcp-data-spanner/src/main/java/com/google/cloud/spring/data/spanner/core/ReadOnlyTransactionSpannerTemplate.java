@@ -28,6 +28,7 @@ import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -62,6 +63,17 @@ class ReadOnlyTransactionSpannerTemplate extends SpannerTemplate {
     throw new SpannerDataException("A read-only transaction template cannot perform mutations.");
   }
 
+  @Override
+  boolean isOutsideTransaction() {
+    return false;
+  }
+
+  @Override
+  protected SpannerBulkWriteResult applyBulkMutations(
+      List<List<Mutation>> groups, SpannerBulkWriteOptions options) {
+    throw new SpannerDataException("A read-only transaction template cannot perform bulk writes.");
+  }
+
   @Override
   public long executeDmlStatement(Statement statement) {
     throw new SpannerDataException("A read-only transaction template cannot execute DML.");
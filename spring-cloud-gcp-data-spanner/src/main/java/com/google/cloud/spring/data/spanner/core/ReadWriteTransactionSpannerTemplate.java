@@ -27,7 +27,9 @@ import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -41,6 +43,10 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
 
   private TransactionContext transactionContext;
 
+  private final List<Mutation> bufferedMutations = new ArrayList<>();
+
+  private boolean dmlExecuted;
+
   ReadWriteTransactionSpannerTemplate(
       Supplier<DatabaseClient> databaseClient,
       SpannerMappingContext mappingContext,
@@ -60,6 +66,21 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
   @Override
   protected void applyMutations(Collection<Mutation> mutations) {
     this.transactionContext.buffer(mutations);
+    this.bufferedMutations.addAll(mutations);
+  }
+
+  @Override
+  boolean isOutsideTransaction() {
+    return false;
+  }
+
+  /** Removes the entities written by this transaction from the cache after it is committed. */
+  void invalidateCommittedEntities() {
+    if (this.dmlExecuted) {
+      getEntityCache().invalidateAll();
+    } else {
+      getEntityCache().invalidate(this.bufferedMutations);
+    }
   }
 
   @Override
@@ -67,9 +88,18 @@ class ReadWriteTransactionSpannerTemplate extends SpannerTemplate {
     return this.transactionContext;
   }
 
+  @Override
+  protected SpannerBulkWriteResult applyBulkMutations(
+      List<List<Mutation>> groups, SpannerBulkWriteOptions options) {
+    throw new SpannerDataException("A read-write transaction template cannot perform bulk writes.");
+  }
+
   @Override
   public long executeDmlStatement(Statement statement) {
-    return this.transactionContext.executeUpdate(statement);
+    long rowsAffected = this.transactionContext.executeUpdate(statement);
+    this.dmlExecuted = true;
+    getEntityCache().invalidateAll();
+    return rowsAffected;
   }
 
   @Override
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Options.TransactionOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.springframework.util.Assert;
+
+/**
+ * Encapsulates the settings of a bulk write. A bulk write splits the mutations of many entities
+ * into several commits that each stay within the given mutation count and byte size. The mutations
+ * of a single entity, including its interleaved children, are never split across commits.
+ *
+ * <p>Bulk writes are not atomic: each commit succeeds or fails independently, and the outcome for
+ * every entity is reported in the {@link SpannerBulkWriteResult}.
+ *
+ * @since 6.0.2
+ */
+public class SpannerBulkWriteOptions {
+
+  /**
+   * The default maximum number of mutations per commit. Cloud Spanner limits a commit to 80,000
+   * mutations, but that count also includes secondary index entries, which are not known to the
+   * client.
+   */
+  public static final int DEFAULT_MAX_MUTATIONS_PER_COMMIT = 20_000;
+
+  /** The default maximum estimated size of the mutations in a single commit. */
+  public static final long DEFAULT_MAX_BYTES_PER_COMMIT = 32L * 1024 * 1024;
+
+  private int maxMutationsPerCommit = DEFAULT_MAX_MUTATIONS_PER_COMMIT;
+
+  private long maxBytesPerCommit = DEFAULT_MAX_BYTES_PER_COMMIT;
+
+  private int parallelism = 1;
+
+  private Executor executor;
+
+  private boolean batchWrite;
+
+  private final List<TransactionOption> transactionOptions = new ArrayList<>();
+
+  public int getMaxMutationsPerCommit() {
+    return this.maxMutationsPerCommit;
+  }
+
+  /**
+   * Sets the maximum number of mutations in a single commit. Write mutations count one per column
+   * and delete mutations count one each.
+   *
+   * @param maxMutationsPerCommit the maximum number of mutations. Must be positive.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxMutationsPerCommit(int maxMutationsPerCommit) {
+    Assert.isTrue(maxMutationsPerCommit > 0, "The maximum number of mutations must be positive.");
+    this.maxMutationsPerCommit = maxMutationsPerCommit;
+    return this;
+  }
+
+  public long getMaxBytesPerCommit() {
+    return this.maxBytesPerCommit;
+  }
+
+  /**
+   * Sets the maximum estimated size in bytes of the mutations in a single commit.
+   *
+   * @param maxBytesPerCommit the maximum size. Must be positive.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setMaxBytesPerCommit(long maxBytesPerCommit) {
+    Assert.isTrue(maxBytesPerCommit > 0, "The maximum commit size must be positive.");
+    this.maxBytesPerCommit = maxBytesPerCommit;
+    return this;
+  }
+
+  public int getParallelism() {
+    return this.parallelism;
+  }
+
+  /**
+   * Sets the maximum number of commits that are in flight at the same time. With the default of
+   * {@code 1} all commits are performed sequentially on the calling thread.
+   *
+   * @param parallelism the maximum number of concurrent commits. Must be positive.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setParallelism(int parallelism) {
+    Assert.isTrue(parallelism > 0, "The parallelism must be positive.");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public Executor getExecutor() {
+    return this.executor;
+  }
+
+  /**
+   * Sets the executor used to run concurrent commits. If none is set and the parallelism is greater
+   * than {@code 1}, a thread pool is created for the duration of each bulk write.
+   *
+   * @param executor the executor to use.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setExecutor(Executor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public boolean isBatchWrite() {
+    return this.batchWrite;
+  }
+
+  /**
+   * Sets whether the chunks are written with {@link DatabaseClient#batchWriteAtLeastOnce}, where
+   * the mutations of every entity form a separate mutation group that is committed independently
+   * and may be applied more than once. Otherwise, each chunk is applied in a single commit.
+   *
+   * @param batchWrite {@code true} to use batch writes.
+   * @return this options object.
+   */
+  public SpannerBulkWriteOptions setBatchWrite(boolean batchWrite) {
+    this.batchWrite = batchWrite;
+    return this;
+  }
+
+  public TransactionOption[] getTransactionOptions() {
+    return this.transactionOptions.toArray(new TransactionOption[0]);
+  }
+
+  public SpannerBulkWriteOptions addTransactionOption(TransactionOption transactionOption) {
+    Assert.notNull(transactionOption, "Valid transaction option is required!");
+    this.transactionOptions.add(transactionOption);
+    return this;
+  }
+}
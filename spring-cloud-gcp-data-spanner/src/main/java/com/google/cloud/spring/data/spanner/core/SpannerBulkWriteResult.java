@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.Timestamp;
+import com.google.rpc.Code;
+import com.google.rpc.Status;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The outcome of a bulk write. Every entity of the bulk write forms a mutation group, identified
+ * by the position of the entity in the written {@link Iterable}, and has exactly one {@link
+ * GroupResult}.
+ *
+ * @since 6.0.2
+ */
+public class SpannerBulkWriteResult {
+
+  private final List<GroupResult> groupResults;
+
+  private final int commitCount;
+
+  private final long mutationCount;
+
+  SpannerBulkWriteResult(List<GroupResult> groupResults, int commitCount, long mutationCount) {
+    this.groupResults = Collections.unmodifiableList(groupResults);
+    this.commitCount = commitCount;
+    this.mutationCount = mutationCount;
+  }
+
+  /**
+   * Gets the results of all mutation groups, ordered by group index.
+   *
+   * @return the group results.
+   */
+  public List<GroupResult> getGroupResults() {
+    return this.groupResults;
+  }
+
+  /**
+   * Gets the results of the mutation groups that were not applied.
+   *
+   * @return the failed group results, ordered by group index.
+   */
+  public List<GroupResult> getFailedGroups() {
+    return this.groupResults.stream().filter(r -> !r.isSuccess()).collect(Collectors.toList());
+  }
+
+  public boolean hasFailures() {
+    return this.groupResults.stream().anyMatch(r -> !r.isSuccess());
+  }
+
+  /**
+   * Gets the number of commit or batch write requests that were sent to Cloud Spanner.
+   *
+   * @return the number of requests.
+   */
+  public int getCommitCount() {
+    return this.commitCount;
+  }
+
+  public long getMutationCount() {
+    return this.mutationCount;
+  }
+
+  /** The outcome of a single mutation group. */
+  public static class GroupResult {
+
+    private final int groupIndex;
+
+    private final Status status;
+
+    private final Timestamp commitTimestamp;
+
+    GroupResult(int groupIndex, Status status, Timestamp commitTimestamp) {
+      this.groupIndex = groupIndex;
+      this.status = status;
+      this.commitTimestamp = commitTimestamp;
+    }
+
+    /**
+     * Gets the position of the entity that produced this group in the written {@link Iterable}.
+     *
+     * @return the group index.
+     */
+    public int getGroupIndex() {
+      return this.groupIndex;
+    }
+
+    public Status getStatus() {
+      return this.status;
+    }
+
+    /**
+     * Gets the commit timestamp of the group.
+     *
+     * @return the commit timestamp, or {@code null} if the group was not applied.
+     */
+    public Timestamp getCommitTimestamp() {
+      return this.commitTimestamp;
+    }
+
+    public boolean isSuccess() {
+      return this.status.getCode() == Code.OK_VALUE;
+    }
+
+    @Override
+    public String toString() {
+      return "GroupResult{groupIndex="
+          + this.groupIndex
+          + ", status="
+          + Code.forNumber(this.status.getCode())
+          + ", commitTimestamp="
+          + this.commitTimestamp
+          + "}";
+    }
+  }
+}
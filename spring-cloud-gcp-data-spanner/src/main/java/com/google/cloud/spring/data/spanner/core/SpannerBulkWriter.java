@@ -0,0 +1,313 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.api.gax.rpc.ServerStream;
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.CommitResponse;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Mutation.Op;
+import com.google.cloud.spanner.MutationGroup;
+import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spanner.Type.Code;
+import com.google.cloud.spanner.Value;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.rpc.Status;
+import com.google.spanner.v1.BatchWriteResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Splits mutation groups into commit-sized chunks and applies them, either as regular commits or
+ * as batch writes, with bounded parallelism. This class is not intended for the user to directly
+ * instantiate.
+ *
+ * @since 6.0.2
+ */
+class SpannerBulkWriter {
+
+  private static final Log LOGGER = LogFactory.getLog(SpannerBulkWriter.class);
+
+  // Rough per-value overhead of the encoded mutation, and size of fixed-width values.
+  private static final long VALUE_OVERHEAD_BYTES = 8;
+
+  private static final Status OK = Status.newBuilder().setCode(com.google.rpc.Code.OK_VALUE).build();
+
+  private final Supplier<DatabaseClient> databaseClientProvider;
+
+  SpannerBulkWriter(Supplier<DatabaseClient> databaseClientProvider) {
+    this.databaseClientProvider = databaseClientProvider;
+  }
+
+  /**
+   * Applies the given mutation groups.
+   *
+   * @param groups the mutations of each entity. A group is never split across commits.
+   * @param options the bulk write settings.
+   * @return the outcome of every group.
+   */
+  SpannerBulkWriteResult write(List<List<Mutation>> groups, SpannerBulkWriteOptions options) {
+    if (groups.isEmpty()) {
+      return new SpannerBulkWriteResult(Collections.emptyList(), 0, 0);
+    }
+    List<Chunk> chunks = chunk(groups, options);
+    GroupResultCollector collector = new GroupResultCollector(groups.size());
+
+    if (options.getParallelism() == 1 && options.getExecutor() == null) {
+      chunks.forEach(chunk -> applyChunk(chunk, options, collector));
+    } else {
+      applyConcurrently(chunks, options, collector);
+    }
+
+    long mutationCount = chunks.stream().mapToLong(c -> c.mutationCount).sum();
+    return new SpannerBulkWriteResult(collector.getResults(), chunks.size(), mutationCount);
+  }
+
+  private void applyConcurrently(
+      List<Chunk> chunks, SpannerBulkWriteOptions options, GroupResultCollector collector) {
+    ExecutorService ownedExecutor =
+        options.getExecutor() == null
+            ? Executors.newFixedThreadPool(Math.min(options.getParallelism(), chunks.size()))
+            : null;
+    Executor executor = ownedExecutor != null ? ownedExecutor : options.getExecutor();
+    Semaphore inFlight = new Semaphore(options.getParallelism());
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    try {
+      for (Chunk chunk : chunks) {
+        inFlight.acquire();
+        futures.add(
+            CompletableFuture.runAsync(() -> applyChunk(chunk, options, collector), executor)
+                .whenComplete((unused, ex) -> inFlight.release()));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SpannerDataException("Interrupted while waiting for bulk write commits.", ex);
+    } catch (ExecutionException ex) {
+      throw new SpannerDataException("Failed to apply bulk write commits.", ex.getCause());
+    } finally {
+      if (ownedExecutor != null) {
+        ownedExecutor.shutdown();
+      }
+    }
+  }
+
+  private void applyChunk(
+      Chunk chunk, SpannerBulkWriteOptions options, GroupResultCollector collector) {
+    if (options.isBatchWrite()) {
+      applyBatchWrite(chunk, options, collector);
+    } else {
+      applyCommit(chunk, options, collector);
+    }
+  }
+
+  private void applyCommit(
+      Chunk chunk, SpannerBulkWriteOptions options, GroupResultCollector collector) {
+    List<Mutation> mutations = new ArrayList<>();
+    chunk.groups.forEach(mutations::addAll);
+    try {
+      CommitResponse response =
+          this.databaseClientProvider
+              .get()
+              .writeWithOptions(mutations, options.getTransactionOptions());
+      for (int groupIndex : chunk.groupIndexes) {
+        collector.set(groupIndex, OK, response.getCommitTimestamp());
+      }
+    } catch (SpannerException ex) {
+      LOGGER.debug("Bulk write commit of " + mutations.size() + " mutations failed.", ex);
+      Status status = toStatus(ex);
+      for (int groupIndex : chunk.groupIndexes) {
+        collector.set(groupIndex, status, null);
+      }
+    }
+  }
+
+  private void applyBatchWrite(
+      Chunk chunk, SpannerBulkWriteOptions options, GroupResultCollector collector) {
+    List<MutationGroup> mutationGroups = new ArrayList<>();
+    chunk.groups.forEach(group -> mutationGroups.add(MutationGroup.of(group)));
+    try {
+      ServerStream<BatchWriteResponse> responses =
+          this.databaseClientProvider
+              .get()
+              .batchWriteAtLeastOnce(mutationGroups, options.getTransactionOptions());
+      for (BatchWriteResponse response : responses) {
+        Timestamp commitTimestamp =
+            response.hasCommitTimestamp()
+                ? Timestamp.fromProto(response.getCommitTimestamp())
+                : null;
+        for (int indexInChunk : response.getIndexesList()) {
+          collector.set(chunk.groupIndexes.get(indexInChunk), response.getStatus(), commitTimestamp);
+        }
+      }
+    } catch (SpannerException ex) {
+      LOGGER.debug("Batch write of " + mutationGroups.size() + " mutation groups failed.", ex);
+      Status status = toStatus(ex);
+      for (int groupIndex : chunk.groupIndexes) {
+        collector.setIfAbsent(groupIndex, status);
+      }
+    }
+    // Groups the server did not report on were not applied.
+    Status unknown =
+        Status.newBuilder()
+            .setCode(com.google.rpc.Code.UNKNOWN_VALUE)
+            .setMessage("No batch write response was received for the mutation group.")
+            .build();
+    for (int groupIndex : chunk.groupIndexes) {
+      collector.setIfAbsent(groupIndex, unknown);
+    }
+  }
+
+  private static Status toStatus(SpannerException ex) {
+    return Status.newBuilder()
+        .setCode(ex.getErrorCode().getGrpcStatusCode().value())
+        .setMessage(String.valueOf(ex.getMessage()))
+        .build();
+  }
+
+  static List<Chunk> chunk(List<List<Mutation>> groups, SpannerBulkWriteOptions options) {
+    List<Chunk> chunks = new ArrayList<>();
+    Chunk current = new Chunk();
+    for (int i = 0; i < groups.size(); i++) {
+      List<Mutation> group = groups.get(i);
+      int groupMutations = 0;
+      long groupBytes = 0;
+      for (Mutation mutation : group) {
+        groupMutations += countMutations(mutation);
+        groupBytes += estimateBytes(mutation);
+      }
+      if (!current.groups.isEmpty()
+          && (current.mutationCount + groupMutations > options.getMaxMutationsPerCommit()
+              || current.byteCount + groupBytes > options.getMaxBytesPerCommit())) {
+        chunks.add(current);
+        current = new Chunk();
+      }
+      current.add(i, group, groupMutations, groupBytes);
+    }
+    if (!current.groups.isEmpty()) {
+      chunks.add(current);
+    }
+    return chunks;
+  }
+
+  static int countMutations(Mutation mutation) {
+    if (mutation.getOperation() == Op.DELETE) {
+      return 1;
+    }
+    int count = 0;
+    for (Value unused : mutation.getValues()) {
+      count++;
+    }
+    return count;
+  }
+
+  static long estimateBytes(Mutation mutation) {
+    long bytes = mutation.getTable().length();
+    if (mutation.getOperation() == Op.DELETE) {
+      return bytes + mutation.getKeySet().toString().length();
+    }
+    for (String column : mutation.getColumns()) {
+      bytes += column.length();
+    }
+    for (Value value : mutation.getValues()) {
+      bytes += estimateBytes(value);
+    }
+    return bytes;
+  }
+
+  private static long estimateBytes(Value value) {
+    if (value.isNull()) {
+      return VALUE_OVERHEAD_BYTES;
+    }
+    Code code = value.getType().getCode();
+    switch (code) {
+      case STRING:
+        return VALUE_OVERHEAD_BYTES + value.getString().length();
+      case JSON:
+        return VALUE_OVERHEAD_BYTES + value.getJson().length();
+      case BYTES:
+        return VALUE_OVERHEAD_BYTES + value.getBytes().length();
+      case ARRAY:
+      case STRUCT:
+      case NUMERIC:
+      case PG_NUMERIC:
+      case PG_JSONB:
+        return VALUE_OVERHEAD_BYTES + value.toString().length();
+      default:
+        return VALUE_OVERHEAD_BYTES;
+    }
+  }
+
+  /** A set of mutation groups that is applied in a single request. */
+  static class Chunk {
+
+    final List<Integer> groupIndexes = new ArrayList<>();
+
+    final List<List<Mutation>> groups = new ArrayList<>();
+
+    int mutationCount;
+
+    long byteCount;
+
+    void add(int groupIndex, List<Mutation> group, int mutations, long bytes) {
+      this.groupIndexes.add(groupIndex);
+      this.groups.add(group);
+      this.mutationCount += mutations;
+      this.byteCount += bytes;
+    }
+  }
+
+  /** Collects the group results reported by concurrent requests. */
+  private static class GroupResultCollector {
+
+    private final SpannerBulkWriteResult.GroupResult[] results;
+
+    GroupResultCollector(int size) {
+      this.results = new SpannerBulkWriteResult.GroupResult[size];
+    }
+
+    synchronized void set(int groupIndex, Status status, Timestamp commitTimestamp) {
+      this.results[groupIndex] =
+          new SpannerBulkWriteResult.GroupResult(groupIndex, status, commitTimestamp);
+    }
+
+    synchronized void setIfAbsent(int groupIndex, Status status) {
+      if (this.results[groupIndex] == null) {
+        set(groupIndex, status, null);
+      }
+    }
+
+    synchronized List<SpannerBulkWriteResult.GroupResult> getResults() {
+      List<SpannerBulkWriteResult.GroupResult> list = new ArrayList<>(this.results.length);
+      for (SpannerBulkWriteResult.GroupResult result : this.results) {
+        list.add(result);
+      }
+      return list;
+    }
+  }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.Mutation.Op;
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spanner.Value;
+import com.google.cloud.spring.data.spanner.core.mapping.Cached;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * A read-through cache of entities read by primary key, for entity types annotated with {@link
+ * Cached}. Entities of other types are never cached.
+ *
+ * <p>The cache is kept consistent with the writes of the owning {@link SpannerTemplate}: every
+ * mutation it applies removes the affected keys, and DML statements clear the whole cache. Writes
+ * made by other clients become visible once the cached entities expire. Entities that are read with
+ * bounded staleness are read strongly while their keys were invalidated within the staleness, so
+ * that the rows from before the writes are not cached again.
+ *
+ * @since 6.0.2
+ */
+public class SpannerEntityCache {
+
+  private final SpannerMappingContext mappingContext;
+
+  private final LongSupplier nanoClock;
+
+  private final Map<Class<?>, Optional<Region>> regions = new ConcurrentHashMap<>();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  public SpannerEntityCache(SpannerMappingContext mappingContext) {
+    this(mappingContext, System::nanoTime);
+  }
+
+  SpannerEntityCache(SpannerMappingContext mappingContext, LongSupplier nanoClock) {
+    this.mappingContext = mappingContext;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Gets a cached entity, or reads it with the given function if it is not cached.
+   *
+   * @param entityClass the type of the entity.
+   * @param key the primary key of the entity.
+   * @param reader reads the entity from Cloud Spanner with the given timestamp bound, or as any
+   *     other read if the bound is {@code null}, which is only the case for types that are not
+   *     cached.
+   * @param <T> the type of the entity.
+   * @return the entity, or {@code null} if it does not exist.
+   */
+  <T> T get(Class<T> entityClass, Key key, Function<TimestampBound, T> reader) {
+    Region region = getRegion(entityClass);
+    if (region == null) {
+      return reader.apply(null);
+    }
+    Object cached = region.get(key);
+    if (cached != null) {
+      this.hitCount.increment();
+      return entityClass.cast(cached);
+    }
+    this.missCount.increment();
+    long generation = region.getGeneration();
+    T entity = reader.apply(region.getTimestampBound(key));
+    if (entity != null) {
+      region.put(key, entity, generation);
+    }
+    return entity;
+  }
+
+  /**
+   * Removes a cached entity.
+   *
+   * @param entityClass the type of the entity.
+   * @param key the primary key of the entity.
+   */
+  public void invalidate(Class<?> entityClass, Key key) {
+    Region region = getRegion(entityClass);
+    if (region != null) {
+      region.remove(key);
+    }
+  }
+
+  /**
+   * Removes all cached entities of a type.
+   *
+   * @param entityClass the type of the entities.
+   */
+  public void invalidateAll(Class<?> entityClass) {
+    Region region = getRegion(entityClass);
+    if (region != null) {
+      region.clear();
+    }
+  }
+
+  /** Removes all cached entities. */
+  public void invalidateAll() {
+    forEachRegion(Region::clear);
+  }
+
+  /**
+   * Removes the cached entities whose rows are written or deleted by the given mutations.
+   *
+   * @param mutations the mutations that were applied.
+   */
+  void invalidate(Iterable<Mutation> mutations) {
+    if (this.regions.values().stream().noneMatch(Optional::isPresent)) {
+      return;
+    }
+    for (Mutation mutation : mutations) {
+      for (Optional<Region> optionalRegion : this.regions.values()) {
+        optionalRegion
+            .filter(region -> region.tableName.equals(mutation.getTable()))
+            .ifPresent(region -> region.invalidate(mutation));
+      }
+    }
+  }
+
+  public long getHitCount() {
+    return this.hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return this.missCount.sum();
+  }
+
+  int size(Class<?> entityClass) {
+    Region region = getRegion(entityClass);
+    return region == null ? 0 : region.size();
+  }
+
+  private void forEachRegion(Consumer<Region> action) {
+    this.regions.values().forEach(optionalRegion -> optionalRegion.ifPresent(action));
+  }
+
+  private Region getRegion(Class<?> entityClass) {
+    return this.regions.computeIfAbsent(entityClass, this::createRegion).orElse(null);
+  }
+
+  private Optional<Region> createRegion(Class<?> entityClass) {
+    SpannerPersistentEntity<?> persistentEntity =
+        this.mappingContext.getPersistentEntityOrFail(entityClass);
+    Cached cached = persistentEntity.findAnnotation(Cached.class);
+    return cached == null ? Optional.empty() : Optional.of(new Region(persistentEntity, cached));
+  }
+
+  /** The cached entities of a single type, evicted by age and least recent use. */
+  private final class Region {
+
+    private final String tableName;
+
+    private final List<String> keyColumns;
+
+    private final long ttlNanos;
+
+    private final TimestampBound timestampBound;
+
+    private final long maxStalenessNanos;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    // The keys invalidated within the maximum staleness, by insertion order of their invalidation.
+    private final LinkedHashMap<Key, Long> recentInvalidations = new LinkedHashMap<>();
+
+    // Incremented on every invalidation, so that entities read before a write are not cached.
+    private long generation;
+
+    private long clearedAtNanos;
+
+    private boolean cleared;
+
+    Region(SpannerPersistentEntity<?> persistentEntity, Cached cached) {
+      this.tableName = persistentEntity.tableName();
+      this.keyColumns =
+          persistentEntity.getFlattenedPrimaryKeyProperties().stream()
+              .map(SpannerPersistentProperty::getColumnName)
+              .collect(Collectors.toList());
+      this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(cached.ttlMillis());
+      this.timestampBound =
+          cached.maxStalenessMillis() > 0
+              ? TimestampBound.ofMaxStaleness(cached.maxStalenessMillis(), TimeUnit.MILLISECONDS)
+              : null;
+      this.maxStalenessNanos = TimeUnit.MILLISECONDS.toNanos(cached.maxStalenessMillis());
+      int maxSize = cached.maxSize();
+      this.entries =
+          new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+              return size() > maxSize;
+            }
+          };
+    }
+
+    synchronized Object get(Key key) {
+      Entry entry = this.entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (SpannerEntityCache.this.nanoClock.getAsLong() - entry.expiresAtNanos >= 0) {
+        this.entries.remove(key);
+        return null;
+      }
+      return entry.entity;
+    }
+
+    synchronized long getGeneration() {
+      return this.generation;
+    }
+
+    /**
+     * Gets the timestamp bound to read a missing entity with. Keys invalidated within the maximum
+     * staleness are read strongly, as a stale read could return the row from before the write.
+     */
+    synchronized TimestampBound getTimestampBound(Key key) {
+      if (this.timestampBound == null) {
+        return TimestampBound.strong();
+      }
+      long now = SpannerEntityCache.this.nanoClock.getAsLong();
+      pruneRecentInvalidations(now);
+      if (this.cleared && now - this.clearedAtNanos < this.maxStalenessNanos) {
+        return TimestampBound.strong();
+      }
+      return this.recentInvalidations.containsKey(key)
+          ? TimestampBound.strong()
+          : this.timestampBound;
+    }
+
+    synchronized void put(Key key, Object entity, long readGeneration) {
+      if (readGeneration == this.generation) {
+        this.entries.put(
+            key, new Entry(entity, SpannerEntityCache.this.nanoClock.getAsLong() + this.ttlNanos));
+      }
+    }
+
+    synchronized void remove(Key key) {
+      this.generation++;
+      this.entries.remove(key);
+      if (this.timestampBound != null) {
+        long now = SpannerEntityCache.this.nanoClock.getAsLong();
+        pruneRecentInvalidations(now);
+        this.recentInvalidations.remove(key);
+        this.recentInvalidations.put(key, now);
+      }
+    }
+
+    synchronized void clear() {
+      this.generation++;
+      this.entries.clear();
+      this.recentInvalidations.clear();
+      this.clearedAtNanos = SpannerEntityCache.this.nanoClock.getAsLong();
+      this.cleared = true;
+    }
+
+    private void pruneRecentInvalidations(long now) {
+      Iterator<Long> invalidationTimes = this.recentInvalidations.values().iterator();
+      while (invalidationTimes.hasNext()
+          && now - invalidationTimes.next() >= this.maxStalenessNanos) {
+        invalidationTimes.remove();
+      }
+    }
+
+    synchronized int size() {
+      return this.entries.size();
+    }
+
+    void invalidate(Mutation mutation) {
+      if (mutation.getOperation() == Op.DELETE) {
+        KeySet keySet = mutation.getKeySet();
+        if (keySet.isAll() || keySet.getRanges().iterator().hasNext()) {
+          clear();
+        } else {
+          keySet.getKeys().forEach(this::remove);
+        }
+        return;
+      }
+      Map<String, Value> values = mutation.asMap();
+      Key.Builder keyBuilder = Key.newBuilder();
+      for (String column : this.keyColumns) {
+        Value value = values.get(column);
+        if (value == null) {
+          clear();
+          return;
+        }
+        keyBuilder.appendObject(toKeyPart(value));
+      }
+      remove(keyBuilder.build());
+    }
+
+    private Object toKeyPart(Value value) {
+      if (value.isNull()) {
+        return null;
+      }
+      switch (value.getType().getCode()) {
+        case BOOL:
+          return value.getBool();
+        case INT64:
+          return value.getInt64();
+        case FLOAT64:
+          return value.getFloat64();
+        case NUMERIC:
+          return value.getNumeric();
+        case BYTES:
+          return value.getBytes();
+        case TIMESTAMP:
+          return value.getTimestamp();
+        case DATE:
+          return value.getDate();
+        default:
+          return value.getString();
+      }
+    }
+  }
+
+  private record Entry(Object entity, long expiresAtNanos) {}
+}
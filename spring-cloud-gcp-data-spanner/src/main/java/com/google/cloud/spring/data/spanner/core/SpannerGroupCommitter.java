@@ -0,0 +1,418 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.ErrorCode;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.SpannerException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Merges the single-entity writes of concurrent callers into shared commits. Each write is
+ * buffered until the buffered writes reach the maximum number of mutations per commit, or until
+ * the maximum delay after the first buffered write has passed, and the buffered writes are then
+ * committed together with one {@link com.google.cloud.spanner.DatabaseClient#write}. The future
+ * of every write completes once the commit that contains it is done. Mutations are counted as
+ * Cloud Spanner counts them: write mutations count one per column and delete mutations count one.
+ *
+ * <p>The mutations of one write are always committed together. If a shared commit is rejected
+ * because of the data of one of its writes, such as a row that already exists, the writes in it are
+ * committed again one at a time, so that only the writes that fail by themselves complete
+ * exceptionally. Any other failure, such as a deadline that is exceeded, fails all writes of the
+ * commit, since the commit may have been applied. Writes are not atomic with each other, and
+ * writes of the same entity may be committed in a different order than they were made if a shared
+ * commit is rejected.
+ *
+ * <p>Callers are blocked while the buffered writes hold the maximum number of pending mutations,
+ * until enough of them have been committed. Writes made inside a transaction are not buffered, but
+ * applied directly to the transaction. Since the commits run on the scheduler threads, the template
+ * must not select its database client per request. {@link #close()} commits the buffered writes on
+ * the calling thread, and writes made after it fail.
+ *
+ * @since 6.0.2
+ */
+public class SpannerGroupCommitter implements AutoCloseable {
+
+  // The errors of commits that were certainly not applied because of the data of their mutations.
+  private static final Set<ErrorCode> REJECTED_WRITE_ERROR_CODES =
+      EnumSet.of(
+          ErrorCode.ALREADY_EXISTS,
+          ErrorCode.NOT_FOUND,
+          ErrorCode.FAILED_PRECONDITION,
+          ErrorCode.INVALID_ARGUMENT);
+
+  private final SpannerTemplate spannerTemplate;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final long maxDelayNanos;
+
+  private final int maxMutationsPerCommit;
+
+  private final int maxPendingMutations;
+
+  private final Semaphore pendingMutationPermits;
+
+  private final Object lock = new Object();
+
+  // Guarded by the lock.
+  private List<PendingWrite> buffer = new ArrayList<>();
+
+  // Guarded by the lock.
+  private int bufferedMutations;
+
+  // Guarded by the lock. Whenever writes are buffered, a flush of them has been scheduled.
+  @Nullable private ScheduledFuture<?> scheduledFlush;
+
+  // Guarded by the lock.
+  private boolean closed;
+
+  /**
+   * Constructor.
+   *
+   * @param spannerTemplate the template whose mutation factory creates the mutations and whose
+   *     database client commits them.
+   * @param scheduler runs the delayed and the full commits.
+   * @param maxDelay how long a write may wait in the buffer for other writes to be committed with.
+   * @param maxMutationsPerCommit the number of buffered mutations after which they are committed
+   *     without waiting for the maximum delay.
+   * @param maxPendingMutations the number of buffered and committing mutations after which callers
+   *     are blocked.
+   */
+  public SpannerGroupCommitter(
+      SpannerTemplate spannerTemplate,
+      ScheduledExecutorService scheduler,
+      Duration maxDelay,
+      int maxMutationsPerCommit,
+      int maxPendingMutations) {
+    Assert.notNull(spannerTemplate, "A valid SpannerTemplate is required.");
+    Assert.notNull(scheduler, "A valid scheduler is required.");
+    Assert.isTrue(
+        maxDelay != null && !maxDelay.isNegative(), "A valid non-negative delay is required.");
+    Assert.isTrue(maxMutationsPerCommit > 0, "The maximum mutations per commit must be positive.");
+    Assert.isTrue(
+        maxPendingMutations >= maxMutationsPerCommit,
+        "The maximum pending mutations must be at least the maximum mutations per commit.");
+    this.spannerTemplate = spannerTemplate;
+    this.scheduler = scheduler;
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.maxMutationsPerCommit = maxMutationsPerCommit;
+    this.maxPendingMutations = maxPendingMutations;
+    this.pendingMutationPermits = new Semaphore(maxPendingMutations);
+  }
+
+  /**
+   * Inserts an entity with one of the next commits.
+   *
+   * @param object the entity to insert.
+   * @return completes once the entity has been committed.
+   */
+  public CompletableFuture<Void> insert(Object object) {
+    return save(object, SpannerTemplate::insert, x -> getMutationFactory().insert(x));
+  }
+
+  /**
+   * Inserts or updates an entity with one of the next commits.
+   *
+   * @param object the entity to upsert.
+   * @return completes once the entity has been committed.
+   */
+  public CompletableFuture<Void> upsert(Object object) {
+    return save(object, SpannerTemplate::upsert, x -> getMutationFactory().upsert(x, null));
+  }
+
+  /**
+   * Updates an entity with one of the next commits.
+   *
+   * @param object the entity to update.
+   * @return completes once the entity has been committed.
+   */
+  public CompletableFuture<Void> update(Object object) {
+    return save(object, SpannerTemplate::update, x -> getMutationFactory().update(x, null));
+  }
+
+  /**
+   * Deletes an entity with one of the next commits.
+   *
+   * @param object the entity to delete.
+   * @return completes once the deletion has been committed.
+   */
+  public CompletableFuture<Void> delete(Object object) {
+    Assert.notNull(object, "A non-null entity is required.");
+    if (!this.spannerTemplate.isOutsideTransaction()) {
+      this.spannerTemplate.delete(object);
+      return CompletableFuture.completedFuture(null);
+    }
+    List<Mutation> mutations = Collections.singletonList(getMutationFactory().delete(object));
+    List<Object> entities = Collections.singletonList(object);
+    return enqueue(
+        mutations,
+        new BeforeDeleteEvent(mutations, entities, null, null),
+        new AfterDeleteEvent(mutations, entities, null, null));
+  }
+
+  /** Commits all buffered writes now, without waiting for the maximum delay. */
+  public void flush() {
+    List<PendingWrite> writes = takeBuffer();
+    if (!writes.isEmpty()) {
+      commitLater(writes);
+    }
+  }
+
+  /**
+   * Commits all buffered writes on the calling thread, and makes the writes made from now on fail.
+   * Callers that are blocked until buffered writes have been committed are released.
+   */
+  @Override
+  public void close() {
+    List<PendingWrite> writes;
+    synchronized (this.lock) {
+      this.closed = true;
+      writes = takeBufferLocked();
+      if (this.scheduledFlush != null) {
+        this.scheduledFlush.cancel(false);
+        this.scheduledFlush = null;
+      }
+    }
+    if (!writes.isEmpty()) {
+      commit(writes);
+    }
+  }
+
+  private CompletableFuture<Void> save(
+      Object object,
+      BiConsumer<SpannerTemplate, Object> transactionalWrite,
+      Function<Object, List<Mutation>> mutationsFunction) {
+    Assert.notNull(object, "A non-null entity is required.");
+    if (!this.spannerTemplate.isOutsideTransaction()) {
+      transactionalWrite.accept(this.spannerTemplate, object);
+      return CompletableFuture.completedFuture(null);
+    }
+    List<Object> entities = Collections.singletonList(object);
+    List<Mutation> mutations = mutationsFunction.apply(object);
+    return enqueue(
+        mutations,
+        new BeforeSaveEvent(entities, null),
+        new AfterSaveEvent(mutations, entities, null));
+  }
+
+  private CompletableFuture<Void> enqueue(
+      List<Mutation> mutations, ApplicationEvent beforeEvent, ApplicationEvent afterEvent) {
+    if (isClosed()) {
+      return CompletableFuture.failedFuture(closedException());
+    }
+    int mutationCount = 0;
+    for (Mutation mutation : mutations) {
+      mutationCount += SpannerBulkWriter.countMutations(mutation);
+    }
+    // A write larger than the whole buffer waits until nothing else is pending.
+    int permits = Math.min(mutationCount, this.maxPendingMutations);
+    try {
+      this.pendingMutationPermits.acquire(permits);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SpannerDataException("Interrupted while waiting for buffered writes to commit.", ex);
+    }
+    PendingWrite write = new PendingWrite(mutations, mutationCount, permits, afterEvent);
+    try {
+      this.spannerTemplate.maybeEmitEvent(beforeEvent);
+    } catch (RuntimeException ex) {
+      this.pendingMutationPermits.release(permits);
+      throw ex;
+    }
+
+    List<PendingWrite> fullBuffer = null;
+    boolean closedWhileWaiting;
+    synchronized (this.lock) {
+      closedWhileWaiting = this.closed;
+      if (!closedWhileWaiting) {
+        this.buffer.add(write);
+        this.bufferedMutations += mutationCount;
+        if (this.bufferedMutations >= this.maxMutationsPerCommit) {
+          fullBuffer = takeBufferLocked();
+        } else if (this.scheduledFlush == null) {
+          try {
+            this.scheduledFlush =
+                this.scheduler.schedule(
+                    this::flushDelayed, this.maxDelayNanos, TimeUnit.NANOSECONDS);
+          } catch (RejectedExecutionException ex) {
+            // The scheduler has been shut down, so the buffered writes are committed now.
+            fullBuffer = takeBufferLocked();
+          }
+        }
+      }
+    }
+    if (closedWhileWaiting) {
+      fail(write, closedException());
+    } else if (fullBuffer != null) {
+      commitLater(fullBuffer);
+    }
+    return write.result;
+  }
+
+  private boolean isClosed() {
+    synchronized (this.lock) {
+      return this.closed;
+    }
+  }
+
+  private static SpannerDataException closedException() {
+    return new SpannerDataException("The group committer has been closed.");
+  }
+
+  private void commitLater(List<PendingWrite> writes) {
+    try {
+      this.scheduler.execute(() -> commit(writes));
+    } catch (RejectedExecutionException ex) {
+      // The scheduler has been shut down, so the writes are committed by the caller.
+      commit(writes);
+    }
+  }
+
+  private void flushDelayed() {
+    List<PendingWrite> writes;
+    synchronized (this.lock) {
+      this.scheduledFlush = null;
+      writes = takeBufferLocked();
+    }
+    // The writes buffered since a full commit may be committed before their maximum delay.
+    if (!writes.isEmpty()) {
+      commit(writes);
+    }
+  }
+
+  private List<PendingWrite> takeBuffer() {
+    synchronized (this.lock) {
+      return takeBufferLocked();
+    }
+  }
+
+  private List<PendingWrite> takeBufferLocked() {
+    List<PendingWrite> writes = this.buffer;
+    this.buffer = new ArrayList<>();
+    this.bufferedMutations = 0;
+    return writes;
+  }
+
+  private void commit(List<PendingWrite> writes) {
+    List<PendingWrite> group = new ArrayList<>();
+    int groupMutations = 0;
+    for (PendingWrite write : writes) {
+      if (!group.isEmpty() && groupMutations + write.mutationCount > this.maxMutationsPerCommit) {
+        commitGroup(group);
+        group = new ArrayList<>();
+        groupMutations = 0;
+      }
+      group.add(write);
+      groupMutations += write.mutationCount;
+    }
+    if (!group.isEmpty()) {
+      commitGroup(group);
+    }
+  }
+
+  private void commitGroup(List<PendingWrite> group) {
+    List<Mutation> mutations = new ArrayList<>();
+    group.forEach(write -> mutations.addAll(write.mutations));
+    try {
+      this.spannerTemplate.applyMutations(mutations);
+    } catch (RuntimeException ex) {
+      if (group.size() > 1 && isRejectedWrite(ex)) {
+        // Find the writes that fail by themselves, so the other callers are not failed too.
+        group.forEach(write -> commitGroup(Collections.singletonList(write)));
+      } else {
+        group.forEach(write -> fail(write, ex));
+      }
+      return;
+    }
+    group.forEach(this::complete);
+  }
+
+  // Whether the commit was certainly not applied because of the data of its mutations. Other
+  // failures, such as an exceeded deadline, may have been applied and must not be retried.
+  private static boolean isRejectedWrite(Throwable ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SpannerException spannerException) {
+        return REJECTED_WRITE_ERROR_CODES.contains(spannerException.getErrorCode());
+      }
+    }
+    return false;
+  }
+
+  private void complete(PendingWrite write) {
+    this.pendingMutationPermits.release(write.permits);
+    try {
+      this.spannerTemplate.getEntityCache().invalidate(write.mutations);
+      this.spannerTemplate.maybeEmitEvent(write.afterEvent);
+      write.result.complete(null);
+    } catch (RuntimeException ex) {
+      write.result.completeExceptionally(ex);
+    }
+  }
+
+  private void fail(PendingWrite write, RuntimeException ex) {
+    this.pendingMutationPermits.release(write.permits);
+    write.result.completeExceptionally(ex);
+  }
+
+  private SpannerMutationFactory getMutationFactory() {
+    return this.spannerTemplate.getMutationFactory();
+  }
+
+  /** The mutations of one write, and the result of its caller. */
+  private static final class PendingWrite {
+
+    private final List<Mutation> mutations;
+
+    private final int mutationCount;
+
+    private final int permits;
+
+    private final ApplicationEvent afterEvent;
+
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    PendingWrite(
+        List<Mutation> mutations, int mutationCount, int permits, ApplicationEvent afterEvent) {
+      this.mutations = mutations;
+      this.mutationCount = mutationCount;
+      this.permits = permits;
+      this.afterEvent = afterEvent;
+    }
+  }
+}
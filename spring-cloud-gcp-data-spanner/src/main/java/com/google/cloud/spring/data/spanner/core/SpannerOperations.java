@@ -25,6 +25,8 @@ import com.google.cloud.spanner.Struct;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 /**
  * Defines operations available to use with Spanner.
@@ -82,6 +84,18 @@ public interface SpannerOperations {
    */
   <T> boolean existsById(Class<T> entityClass, Key key);
 
+  /**
+   * Returns which of the given keys exist. Only the primary key columns of the rows are read, so
+   * this is much cheaper than reading the entities to check their existence.
+   *
+   * @param entityClass the type of the entities.
+   * @param keys the keys to check.
+   * @param <T> the type of the entities.
+   * @return the given keys that exist, in the order they were given.
+   * @since 6.0.2
+   */
+  <T> Set<Key> existingIds(Class<T> entityClass, Iterable<Key> keys);
+
   /**
    * Finds a single stored object using a key.
    *
@@ -185,6 +199,24 @@ public interface SpannerOperations {
    */
   <T> List<T> queryAll(Class<T> entityClass, SpannerPageableQueryOptions options);
 
+  /**
+   * Finds a window of objects of the given type. With a keyset scroll position, each window is
+   * read by seeking past the sort key of the previous window, so reading deep windows is as fast
+   * as reading the first one. The primary key properties are appended to the sort to make the
+   * order unique.
+   *
+   * @param entityClass the type of the object to retrieve.
+   * @param scrollPosition the position after which to read, usually taken from the previous
+   *     window, or an initial keyset or offset position.
+   * @param options the Cloud Spanner query options with which to conduct the query operation. The
+   *     limit is required and is the size of the window. The offset must not be set.
+   * @param <T> the type of the object to retrieve.
+   * @return the window of objects.
+   * @since 6.0.2
+   */
+  <T> Window<T> scrollAll(
+      Class<T> entityClass, ScrollPosition scrollPosition, SpannerPageableQueryOptions options);
+
   /**
    * Deletes an object based on a key.
    *
@@ -208,6 +240,17 @@ public interface SpannerOperations {
    */
   void deleteAll(Iterable<?> objects);
 
+  /**
+   * Deletes objects from storage using a bulk write that splits the deletions into several
+   * commits. Unlike {@link #deleteAll(Iterable)}, this operation is not atomic and cannot be
+   * performed in a transaction. The after-delete event only holds the objects that were deleted.
+   *
+   * @param objects the objects to delete from storage.
+   * @param options the settings of the bulk write.
+   * @return the outcome of the deletion of each object.
+   */
+  SpannerBulkWriteResult deleteAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Deletes objects given a set of keys.
    *
@@ -231,6 +274,17 @@ public interface SpannerOperations {
    */
   void insertAll(Iterable<?> objects);
 
+  /**
+   * Insert objects into storage using a bulk write that splits the mutations into several commits.
+   * Unlike {@link #insertAll(Iterable)}, this operation is not atomic and cannot be performed in a
+   * transaction. The after-save event only holds the objects that were inserted.
+   *
+   * @param objects the objects to insert.
+   * @param options the settings of the bulk write.
+   * @return the outcome of the insertion of each object.
+   */
+  SpannerBulkWriteResult insertAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Update an object already in storage.
    *
@@ -277,6 +331,17 @@ public interface SpannerOperations {
    */
   void upsertAll(Iterable<?> objects);
 
+  /**
+   * Update or insert objects into storage using a bulk write that splits the mutations into several
+   * commits. Unlike {@link #upsertAll(Iterable)}, this operation is not atomic and cannot be
+   * performed in a transaction. The after-save event only holds the objects that were written.
+   *
+   * @param objects the objects to update or insert.
+   * @param options the settings of the bulk write.
+   * @return the outcome of the update or insertion of each object.
+   */
+  SpannerBulkWriteResult upsertAll(Iterable<?> objects, SpannerBulkWriteOptions options);
+
   /**
    * Update or insert an object into storage.
    *
@@ -304,6 +369,19 @@ public interface SpannerOperations {
    */
   <T> long count(Class<T> entityClass);
 
+  /**
+   * Count how many objects are stored of the given type, reusing a count that is younger than the
+   * approximate count duration of the template instead of counting again. Counting reads all the
+   * rows of the table, which is wasted on the total of paginated reads if it does not need to be
+   * exact.
+   *
+   * @param entityClass the type of object to count.
+   * @param <T> the type of the object to count.
+   * @return the number of stored objects, as of at most the approximate count duration ago.
+   * @since 6.0.2
+   */
+  <T> long approximateCount(Class<T> entityClass);
+
   /**
    * Performs multiple read and write operations in a single transaction.
    *
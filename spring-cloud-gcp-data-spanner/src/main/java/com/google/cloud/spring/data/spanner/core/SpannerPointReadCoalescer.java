@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.TimestampBound;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Combines concurrent point reads of the same entity type into a single multi-key read. The first
+ * read of an entity type opens a batch that collects the keys read during the batch window, and the
+ * batch is read with one multi-key read once the window has passed or the batch is full. Every
+ * caller then gets the entity of its key. Reads of the same key in one batch are read once, but
+ * every caller gets its own entity instance.
+ *
+ * <p>Point reads of a {@link SpannerTemplate} are coalesced once the coalescer is set with {@link
+ * SpannerTemplate#setPointReadCoalescer}. Reads inside transactions are never coalesced, and reads
+ * with different timestamp bounds, such as those set by {@link SpannerTimestampBoundHolder}, are
+ * read in different batches. Since the batches are read from the scheduler threads, the template
+ * must not select its database client per request.
+ *
+ * @since 6.0.2
+ */
+public class SpannerPointReadCoalescer {
+
+  private final SpannerTemplate spannerTemplate;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final long windowNanos;
+
+  private final int maxBatchSize;
+
+  private final Map<BatchKey, Batch> openBatches = new HashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param spannerTemplate the template that reads the batches.
+   * @param scheduler closes the batch windows and reads the batches.
+   * @param window how long a batch collects keys after the first read.
+   * @param maxBatchSize the number of distinct keys after which a batch is read without waiting for
+   *     the end of its window.
+   */
+  public SpannerPointReadCoalescer(
+      SpannerTemplate spannerTemplate,
+      ScheduledExecutorService scheduler,
+      Duration window,
+      int maxBatchSize) {
+    Assert.notNull(spannerTemplate, "A valid SpannerTemplate is required.");
+    Assert.notNull(scheduler, "A valid scheduler is required.");
+    Assert.isTrue(
+        window != null && !window.isNegative(), "A valid non-negative window is required.");
+    Assert.isTrue(maxBatchSize > 0, "The maximum batch size must be positive.");
+    this.spannerTemplate = spannerTemplate;
+    this.scheduler = scheduler;
+    this.windowNanos = window.toNanos();
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Reads an entity by its key as part of the current batch of its type, waiting for the batch to
+   * be read.
+   *
+   * @param entityClass the type of the entity.
+   * @param key the key of the entity.
+   * @param <T> the type of the entity.
+   * @return the entity, or {@code null} if none was found.
+   */
+  public <T> T read(Class<T> entityClass, Key key) {
+    return read(entityClass, key, this.spannerTemplate.getSingleUseTimestampBound());
+  }
+
+  <T> T read(Class<T> entityClass, Key key, @Nullable TimestampBound timestampBound) {
+    try {
+      return readAsync(entityClass, key, timestampBound).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * Adds a key to the current batch of its type and of the timestamp bound of the current thread.
+   * Inside a transaction, the entity is read directly instead.
+   *
+   * @param entityClass the type of the entity.
+   * @param key the key of the entity.
+   * @param <T> the type of the entity.
+   * @return the entity, or {@code null} if none was found, once the batch is read.
+   */
+  public <T> CompletableFuture<T> readAsync(Class<T> entityClass, Key key) {
+    return readAsync(entityClass, key, this.spannerTemplate.getSingleUseTimestampBound());
+  }
+
+  /**
+   * Adds a key to the current batch of its type and of the given timestamp bound.
+   *
+   * @param timestampBound the timestamp bound of the read, or {@code null} for a strong read.
+   */
+  <T> CompletableFuture<T> readAsync(
+      Class<T> entityClass, Key key, @Nullable TimestampBound timestampBound) {
+    Assert.notNull(entityClass, "A valid entity type is required.");
+    Assert.notNull(key, "A non-null key is required.");
+    if (!this.spannerTemplate.isOutsideTransaction()) {
+      try {
+        return CompletableFuture.completedFuture(this.spannerTemplate.read(entityClass, key, null));
+      } catch (RuntimeException ex) {
+        return CompletableFuture.failedFuture(ex);
+      }
+    }
+    BatchKey batchKey = new BatchKey(entityClass, timestampBound);
+    CompletableFuture<Object> result = new CompletableFuture<>();
+    Batch fullBatch = null;
+    synchronized (this.openBatches) {
+      Batch batch = this.openBatches.get(batchKey);
+      if (batch == null) {
+        Batch newBatch = new Batch(batchKey);
+        // A rejected window fails this read before the batch is opened.
+        newBatch.closeTask =
+            this.scheduler.schedule(() -> close(newBatch), this.windowNanos, TimeUnit.NANOSECONDS);
+        this.openBatches.put(batchKey, newBatch);
+        batch = newBatch;
+      }
+      batch.results.computeIfAbsent(key, k -> new ArrayList<>()).add(result);
+      if (batch.results.size() >= this.maxBatchSize) {
+        this.openBatches.remove(batchKey);
+        batch.closeTask.cancel(false);
+        fullBatch = batch;
+      }
+    }
+    if (fullBatch != null) {
+      Batch batch = fullBatch;
+      this.scheduler.execute(() -> readBatch(batch));
+    }
+    return result.thenApply(entityClass::cast);
+  }
+
+  private void close(Batch batch) {
+    synchronized (this.openBatches) {
+      // A full batch has already been removed and read.
+      if (!this.openBatches.remove(batch.batchKey, batch)) {
+        return;
+      }
+    }
+    readBatch(batch);
+  }
+
+  private void readBatch(Batch batch) {
+    try {
+      Map<Key, Integer> callerCounts = new LinkedHashMap<>();
+      batch.results.forEach((key, results) -> callerCounts.put(key, results.size()));
+      TimestampBound timestampBound = batch.batchKey.timestampBound();
+      Map<Key, ? extends List<?>> entitiesByKey =
+          this.spannerTemplate.readForCallers(
+              batch.batchKey.entityClass(),
+              callerCounts,
+              timestampBound != null
+                  ? new SpannerReadOptions().setTimestampBound(timestampBound)
+                  : null);
+      batch.results.forEach(
+          (key, results) -> {
+            List<?> instances = entitiesByKey.get(key);
+            for (int i = 0; i < results.size(); i++) {
+              results.get(i).complete(instances != null ? instances.get(i) : null);
+            }
+          });
+    } catch (RuntimeException ex) {
+      for (List<CompletableFuture<Object>> results : batch.results.values()) {
+        results.forEach(result -> result.completeExceptionally(ex));
+      }
+    }
+  }
+
+  /** The entity type and the timestamp bound of the reads that are coalesced together. */
+  private record BatchKey(Class<?> entityClass, TimestampBound timestampBound) {}
+
+  /** The keys read together, and the results of their callers. */
+  private static final class Batch {
+
+    private final BatchKey batchKey;
+
+    // Only modified while the batch is open, under the lock of the open batches.
+    private final Map<Key, List<CompletableFuture<Object>>> results = new LinkedHashMap<>();
+
+    // Closes the batch at the end of its window, and is cancelled if the batch fills up first.
+    private ScheduledFuture<?> closeTask;
+
+    Batch(BatchKey batchKey) {
+      this.batchKey = batchKey;
+    }
+  }
+}
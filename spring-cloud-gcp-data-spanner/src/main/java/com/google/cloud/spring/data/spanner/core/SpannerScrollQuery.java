@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerCustomConverter;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
+import com.google.cloud.spring.data.spanner.repository.query.SpannerStatementQueryExecutor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.IntFunction;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.util.StringUtils;
+
+/**
+ * Builds the statement that reads a {@link Window} of entities, and the window from the rows it
+ * returns.
+ *
+ * <p>Keyset positions are turned into a condition that seeks past the sort key of the last row of
+ * the previous window, so every window is read with an index seek instead of skipping the rows of
+ * all previous windows. The primary key columns are appended to the sort, so that the order and
+ * thus the seek is unambiguous. The columns of embedded keys are named by their property paths,
+ * such as {@code tradeIdentifier.identifier}, in the sort and in the keyset.
+ *
+ * @param <T> the type of the entities.
+ */
+final class SpannerScrollQuery<T> {
+
+  private static final String LOWER = "LOWER(";
+
+  private final SpannerPersistentEntity<T> persistentEntity;
+
+  private final SpannerMappingContext mappingContext;
+
+  private final ScrollPosition scrollPosition;
+
+  private final int limit;
+
+  private final Sort sort;
+
+  SpannerScrollQuery(
+      SpannerPersistentEntity<T> persistentEntity,
+      SpannerMappingContext mappingContext,
+      ScrollPosition scrollPosition,
+      Sort sort,
+      int limit) {
+    this.persistentEntity = persistentEntity;
+    this.mappingContext = mappingContext;
+    this.scrollPosition = scrollPosition;
+    this.limit = limit;
+    this.sort = scrollPosition instanceof KeysetScrollPosition ? withKeyOrder(sort) : sort;
+  }
+
+  /**
+   * Builds the statement that reads the window, and one more row to detect whether there are
+   * further rows.
+   *
+   * @param writeConverter converts the keyset values to bind them to the statement.
+   * @return the statement to run.
+   */
+  Statement buildStatement(SpannerCustomConverter writeConverter) {
+    List<String> tags = new ArrayList<>();
+    List<Object> params = new ArrayList<>();
+    SpannerPageableQueryOptions options =
+        new SpannerPageableQueryOptions().setLimit(this.limit + 1);
+    Sort effectiveSort = this.sort;
+    String condition = "";
+    if (this.scrollPosition instanceof OffsetScrollPosition offsetPosition) {
+      options.setOffset(offsetPosition.isInitial() ? 0L : offsetPosition.getOffset() + 1);
+    } else {
+      KeysetScrollPosition keysetPosition = (KeysetScrollPosition) this.scrollPosition;
+      if (keysetPosition.scrollsBackward()) {
+        // The rows before the position are read in reverse order, and reversed again afterwards.
+        effectiveSort = reverse(this.sort);
+      }
+      if (!keysetPosition.isInitial()) {
+        condition = buildSeekCondition(effectiveSort, keysetPosition.getKeys(), tags, params);
+      }
+    }
+    options.setSort(toColumnSort(effectiveSort));
+    String entityWhere = this.persistentEntity.getWhere();
+    String where =
+        condition.isEmpty()
+            ? SpannerStatementQueryExecutor.buildWhere(this.persistentEntity)
+            : " WHERE "
+                + (this.persistentEntity.hasWhere()
+                    ? "(" + entityWhere + ") AND (" + condition + ")"
+                    : condition);
+    String sql =
+        "SELECT "
+            + SpannerStatementQueryExecutor.getColumnsStringForSelect(
+                this.persistentEntity, this.mappingContext, true)
+            + " FROM "
+            + this.persistentEntity.tableName()
+            + where;
+    return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
+        SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
+            this.persistentEntity.getType(), options, sql, this.mappingContext, false),
+        tags,
+        null,
+        writeConverter,
+        params.toArray(),
+        null);
+  }
+
+  /**
+   * Creates the window from the rows read by the statement.
+   *
+   * @param rows the rows read by the statement.
+   * @return the window.
+   */
+  Window<T> toWindow(List<T> rows) {
+    boolean hasNext = rows.size() > this.limit;
+    List<T> content = hasNext ? new ArrayList<>(rows.subList(0, this.limit)) : rows;
+    IntFunction<? extends ScrollPosition> positionFunction;
+    if (this.scrollPosition instanceof OffsetScrollPosition offsetPosition) {
+      positionFunction = offsetPosition.positionFunction();
+    } else {
+      KeysetScrollPosition keysetPosition = (KeysetScrollPosition) this.scrollPosition;
+      if (keysetPosition.scrollsBackward()) {
+        Collections.reverse(content);
+      }
+      List<T> items = content;
+      positionFunction =
+          index -> ScrollPosition.of(getKeys(items.get(index)), keysetPosition.getDirection());
+    }
+    return Window.from(content, positionFunction, hasNext);
+  }
+
+  private String buildSeekCondition(
+      Sort effectiveSort, Map<String, Object> keys, List<String> tags, List<Object> params) {
+    // (a > @a) OR (a = @a AND b > @b) OR ... for ascending orders, with NULLs sorting first in
+    // ascending order and last in descending order.
+    StringJoiner orJoiner = new StringJoiner(" OR ");
+    List<String> equalities = new ArrayList<>();
+    for (Order order : effectiveSort) {
+      if (!keys.containsKey(order.getProperty())) {
+        throw new SpannerDataException(
+            "The keyset scroll position has no value for the sorted property: "
+                + order.getProperty());
+      }
+      Object value = keys.get(order.getProperty());
+      String column = getColumnName(getPropertyPath(order.getProperty()));
+      String tag = null;
+      if (value != null) {
+        tag = "@keyset" + tags.size();
+        tags.add("keyset" + tags.size());
+        params.add(value);
+      }
+      if (order.isIgnoreCase()) {
+        column = LOWER + column + ")";
+        tag = tag == null ? null : LOWER + tag + ")";
+      }
+      String after;
+      if (value == null) {
+        after = order.isAscending() ? column + " IS NOT NULL" : "FALSE";
+      } else {
+        after =
+            order.isAscending()
+                ? column + " > " + tag
+                : "(" + column + " < " + tag + " OR " + column + " IS NULL)";
+      }
+      StringJoiner andJoiner = new StringJoiner(" AND ", "(", ")");
+      equalities.forEach(andJoiner::add);
+      andJoiner.add(after);
+      orJoiner.add(andJoiner.toString());
+      equalities.add(value == null ? column + " IS NULL" : column + " = " + tag);
+    }
+    return orJoiner.toString();
+  }
+
+  private Map<String, Object> getKeys(T entity) {
+    Map<String, Object> keys = new LinkedHashMap<>();
+    for (Order order : this.sort) {
+      Object value = entity;
+      for (SpannerPersistentProperty property : getPropertyPath(order.getProperty())) {
+        if (value == null) {
+          break;
+        }
+        PersistentPropertyAccessor<Object> accessor =
+            property.getOwner().getPropertyAccessor(value);
+        value = accessor.getProperty(property);
+      }
+      keys.put(order.getProperty(), value);
+    }
+    return keys;
+  }
+
+  // Resolves a property name, or a dotted path through embedded properties, to a column property.
+  private List<SpannerPersistentProperty> getPropertyPath(String name) {
+    List<SpannerPersistentProperty> path = new ArrayList<>();
+    SpannerPersistentEntity<?> entity = this.persistentEntity;
+    String[] segments = StringUtils.delimitedListToStringArray(name, ".");
+    for (int i = 0; i < segments.length; i++) {
+      SpannerPersistentProperty property =
+          entity == null ? null : entity.getPersistentProperty(segments[i]);
+      if (property == null
+          || property.isInterleaved()
+          || property.isEmbedded() == (i == segments.length - 1)) {
+        throw new SpannerDataException(
+            "Keyset scrolling requires sorting by column properties of the entity, but "
+                + this.persistentEntity.getType().getSimpleName()
+                + " is sorted by: "
+                + name);
+      }
+      path.add(property);
+      entity =
+          property.isEmbedded()
+              ? this.mappingContext.getPersistentEntityOrFail(property.getType())
+              : null;
+    }
+    return path;
+  }
+
+  private static String getColumnName(List<SpannerPersistentProperty> path) {
+    return path.get(path.size() - 1).getColumnName();
+  }
+
+  private Sort withKeyOrder(Sort sort) {
+    List<Order> orders = new ArrayList<>();
+    sort.forEach(orders::add);
+    addKeyOrders(this.persistentEntity, "", sort, orders);
+    return Sort.by(orders);
+  }
+
+  // Appends the key columns in key order, flattening embedded keys into their property paths.
+  private void addKeyOrders(
+      SpannerPersistentEntity<?> entity, String prefix, Sort sort, List<Order> orders) {
+    for (SpannerPersistentProperty keyProperty : entity.getPrimaryKeyProperties()) {
+      String path = prefix + keyProperty.getName();
+      if (keyProperty.isEmbedded()) {
+        addKeyOrders(
+            this.mappingContext.getPersistentEntityOrFail(keyProperty.getType()),
+            path + ".",
+            sort,
+            orders);
+      } else if (sort.getOrderFor(path) == null) {
+        orders.add(Order.asc(path));
+      }
+    }
+  }
+
+  // The sort of the statement, in which the columns of embedded properties are named directly.
+  private Sort toColumnSort(Sort sort) {
+    if (this.scrollPosition instanceof OffsetScrollPosition) {
+      return sort;
+    }
+    List<Order> orders = new ArrayList<>();
+    for (Order order : sort) {
+      orders.add(
+          order.getProperty().contains(".")
+              ? order.withProperty(getColumnName(getPropertyPath(order.getProperty())))
+              : order);
+    }
+    return Sort.by(orders);
+  }
+
+  private static Sort reverse(Sort sort) {
+    List<Order> orders = new ArrayList<>();
+    sort.forEach(
+        order ->
+            orders.add(order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC)));
+    return Sort.by(orders);
+  }
+}
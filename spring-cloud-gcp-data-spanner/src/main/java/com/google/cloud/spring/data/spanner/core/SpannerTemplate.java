@@ -34,9 +34,11 @@ import com.google.cloud.spanner.TransactionRunner.TransactionCallable;
 import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
 import com.google.cloud.spring.data.spanner.core.convert.ConversionUtils;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.StructAccessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterDeleteEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.AfterQueryEvent;
@@ -45,15 +47,28 @@ import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import com.google.cloud.spring.data.spanner.core.observation.DefaultSpannerObservationConvention;
+import com.google.cloud.spring.data.spanner.core.observation.SpannerObservationContext;
+import com.google.cloud.spring.data.spanner.core.observation.SpannerObservationContext.Operation;
+import com.google.cloud.spring.data.spanner.core.observation.SpannerObservationConvention;
 import com.google.cloud.spring.data.spanner.repository.query.SpannerStatementQueryExecutor;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -64,7 +79,10 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
@@ -77,6 +95,9 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   private static final Log LOGGER = LogFactory.getLog(SpannerTemplate.class);
 
+  private static final SpannerObservationConvention DEFAULT_OBSERVATION_CONVENTION =
+      new DefaultSpannerObservationConvention();
+
   private final Supplier<DatabaseClient> databaseClientProvider;
 
   private final SpannerMappingContext mappingContext;
@@ -87,6 +108,22 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
   private final SpannerSchemaUtils spannerSchemaUtils;
 
+  private final SpannerBulkWriter bulkWriter;
+
+  private SpannerEntityCache entityCache;
+
+  private SpannerPointReadCoalescer pointReadCoalescer;
+
+  private TimestampBound defaultTimestampBound;
+
+  private Duration approximateCountDuration = Duration.ZERO;
+
+  private final Map<Class<?>, ApproximateCount> approximateCounts = new ConcurrentHashMap<>();
+
+  private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+  @Nullable private SpannerObservationConvention observationConvention;
+
   private @Nullable ApplicationEventPublisher eventPublisher;
 
   public SpannerTemplate(
@@ -105,6 +142,8 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     this.spannerEntityProcessor = spannerEntityProcessor;
     this.mutationFactory = spannerMutationFactory;
     this.spannerSchemaUtils = spannerSchemaUtils;
+    this.bulkWriter = new SpannerBulkWriter(databaseClientProvider);
+    this.entityCache = new SpannerEntityCache(mappingContext);
   }
 
   @Override
@@ -113,7 +152,14 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
   }
 
   protected ReadContext getReadContext() {
-    return doWithOrWithoutTransactionContext(x -> x, this.databaseClientProvider.get()::singleUse);
+    return doWithOrWithoutTransactionContext(
+        x -> x,
+        () -> {
+          TimestampBound timestampBound = getSingleUseTimestampBound();
+          return timestampBound != null
+              ? this.databaseClientProvider.get().singleUse(timestampBound)
+              : this.databaseClientProvider.get().singleUse();
+        });
   }
 
   protected ReadContext getReadContext(TimestampBound timestampBound) {
@@ -129,18 +175,128 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     return this.spannerEntityProcessor;
   }
 
+  /**
+   * Gets the cache of entities read by primary key. Only entity types annotated with {@link
+   * com.google.cloud.spring.data.spanner.core.mapping.Cached} are cached.
+   *
+   * @return the entity cache of this template.
+   */
+  public SpannerEntityCache getEntityCache() {
+    return this.entityCache;
+  }
+
+  /**
+   * Sets the coalescer that combines concurrent point reads of {@link #read(Class, Key)} into
+   * multi-key reads. Point reads are not coalesced if it is {@code null}, which is the default.
+   *
+   * @param pointReadCoalescer the coalescer, which must read its batches with this template.
+   */
+  public void setPointReadCoalescer(SpannerPointReadCoalescer pointReadCoalescer) {
+    this.pointReadCoalescer = pointReadCoalescer;
+  }
+
+  /**
+   * Sets the timestamp bound of single-use reads that are given no timestamp bound of their own,
+   * such as the reads of repositories outside transactions. It does not apply to read-only
+   * transactions, whose timestamp bound is set by {@link SpannerTransactionManager}. Reads are
+   * strong if it is {@code null}, which is the default. A bounded staleness allows Cloud Spanner to
+   * serve reads from the nearest replica without a round trip to the leader.
+   *
+   * @param defaultTimestampBound the default timestamp bound, or {@code null} for strong reads.
+   * @see SpannerTimestampBoundHolder
+   */
+  public void setDefaultTimestampBound(TimestampBound defaultTimestampBound) {
+    this.defaultTimestampBound = defaultTimestampBound;
+  }
+
+  /**
+   * Gets the timestamp bound of reads that are given no timestamp bound of their own.
+   *
+   * @return the default timestamp bound, or {@code null} for strong reads.
+   */
+  public TimestampBound getDefaultTimestampBound() {
+    return this.defaultTimestampBound;
+  }
+
+  /**
+   * Gets the timestamp bound of reads outside transactions that are given no timestamp bound of
+   * their own. The timestamp bound of the current thread takes precedence over the default.
+   */
+  TimestampBound getSingleUseTimestampBound() {
+    TimestampBound timestampBound = SpannerTimestampBoundHolder.getTimestampBound();
+    return timestampBound != null ? timestampBound : this.defaultTimestampBound;
+  }
+
+  /**
+   * Sets how long {@link #approximateCount(Class)} reuses a count before counting again. Every call
+   * counts if it is {@link Duration#ZERO}, which is the default.
+   *
+   * @param approximateCountDuration how long counts are reused.
+   * @since 6.0.2
+   */
+  public void setApproximateCountDuration(Duration approximateCountDuration) {
+    Assert.notNull(approximateCountDuration, "A non-null duration is required.");
+    Assert.isTrue(!approximateCountDuration.isNegative(), "The duration must not be negative.");
+    this.approximateCountDuration = approximateCountDuration;
+    this.approximateCounts.clear();
+  }
+
+  /**
+   * Sets the registry of the observations of queries, reads, DML statements, commits and read-write
+   * transactions. Operations are not observed by default.
+   *
+   * @param observationRegistry the observation registry.
+   */
+  public void setObservationRegistry(ObservationRegistry observationRegistry) {
+    Assert.notNull(observationRegistry, "A non-null observation registry is required.");
+    this.observationRegistry = observationRegistry;
+  }
+
+  /**
+   * Sets the convention that names and tags the observations instead of the {@link
+   * DefaultSpannerObservationConvention}.
+   *
+   * @param observationConvention the observation convention, or {@code null} for the default.
+   */
+  public void setObservationConvention(
+      @Nullable SpannerObservationConvention observationConvention) {
+    this.observationConvention = observationConvention;
+  }
+
+  SpannerMutationFactory getMutationFactory() {
+    return this.mutationFactory;
+  }
+
+  SpannerSchemaUtils getSpannerSchemaUtils() {
+    return this.spannerSchemaUtils;
+  }
+
+  void setEntityCache(SpannerEntityCache entityCache) {
+    this.entityCache = entityCache;
+  }
+
   @Override
   public long executeDmlStatement(Statement statement) {
     Assert.notNull(statement, "A non-null statement is required.");
     maybeEmitEvent(new BeforeExecuteDmlEvent(statement));
+    SpannerObservationContext context =
+        new SpannerObservationContext(Operation.DML, null, null, statement);
     long rowsAffected =
-        doWithOrWithoutTransactionContext(
-            x -> x.executeUpdate(statement),
+        observe(
+            context,
             () ->
-                this.databaseClientProvider
-                    .get()
-                    .readWriteTransaction()
-                    .run(transactionContext -> transactionContext.executeUpdate(statement)));
+                countAffectedRows(
+                    context,
+                    doWithOrWithoutTransactionContext(
+                        x -> x.executeUpdate(statement),
+                        () ->
+                            this.databaseClientProvider
+                                .get()
+                                .readWriteTransaction()
+                                .run(
+                                    transactionContext ->
+                                        transactionContext.executeUpdate(statement)))));
+    invalidateCachedEntities(SpannerEntityCache::invalidateAll);
     maybeEmitEvent(new AfterExecuteDmlEvent(statement, rowsAffected));
     return rowsAffected;
   }
@@ -155,19 +311,65 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     Assert.notNull(statement, "A non-null statement is required.");
     Assert.notNull(options, "A non-null UpdateOption is required.");
     maybeEmitEvent(new BeforeExecuteDmlEvent(statement));
+    SpannerObservationContext context =
+        new SpannerObservationContext(Operation.PARTITIONED_DML, null, null, statement);
     long rowsAffected =
         doWithOrWithoutTransactionContext(
             x -> {
               throw new SpannerDataException("Cannot execute partitioned DML in a transaction.");
             },
-            () -> this.databaseClientProvider.get().executePartitionedUpdate(statement, options));
+            () ->
+                observe(
+                    context,
+                    () ->
+                        countAffectedRows(
+                            context,
+                            this.databaseClientProvider
+                                .get()
+                                .executePartitionedUpdate(statement, options))));
+    invalidateCachedEntities(SpannerEntityCache::invalidateAll);
     maybeEmitEvent(new AfterExecuteDmlEvent(statement, rowsAffected));
     return rowsAffected;
   }
 
   @Override
   public <T> T read(Class<T> entityClass, Key key) {
-    return read(entityClass, key, null);
+    if (!isOutsideTransaction()) {
+      return read(entityClass, key, null);
+    }
+    if (SpannerTimestampBoundHolder.getTimestampBound() != null) {
+      // the rows of stale reads of the current thread may be staler than the cache allows
+      return readPoint(entityClass, key, null);
+    }
+    return this.entityCache.get(
+        entityClass, key, timestampBound -> readPoint(entityClass, key, timestampBound));
+  }
+
+  /**
+   * Reads an entity by its key outside of a transaction, coalesced with concurrent reads if a
+   * coalescer is set.
+   *
+   * @param timestampBound the timestamp bound of the read, or {@code null} for the timestamp bound
+   *     of the current thread or the default one.
+   */
+  private <T> T readPoint(Class<T> entityClass, Key key, @Nullable TimestampBound timestampBound) {
+    TimestampBound bound = timestampBound != null ? timestampBound : getSingleUseTimestampBound();
+    SpannerPointReadCoalescer coalescer = this.pointReadCoalescer;
+    if (coalescer != null) {
+      return coalescer.read(entityClass, key, bound);
+    }
+    return read(
+        entityClass, key, bound != null ? new SpannerReadOptions().setTimestampBound(bound) : null);
+  }
+
+  /**
+   * Whether reads of this template run outside of any transaction. Only such point reads may be
+   * served from the entity cache or coalesced with concurrent reads.
+   *
+   * @return {@code true} if no transaction is active.
+   */
+  boolean isOutsideTransaction() {
+    return getTransactionContext() == null;
   }
 
   @Override
@@ -190,6 +392,42 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     }
   }
 
+  @Override
+  public <T> Set<Key> existingIds(Class<T> entityClass, Iterable<Key> keys) {
+    Assert.notNull(keys, "A non-null iterable of keys is required.");
+
+    Set<Key> requestedKeys = new LinkedHashSet<>();
+    KeySet.Builder keySetBuilder = KeySet.newBuilder();
+    for (Key key : keys) {
+      Assert.notNull(key, "Keys must not be null.");
+      if (requestedKeys.add(key)) {
+        keySetBuilder.addKey(key);
+      }
+    }
+    if (requestedKeys.isEmpty()) {
+      return requestedKeys;
+    }
+
+    SpannerPersistentEntity<?> persistentEntity =
+        this.mappingContext.getPersistentEntityOrFail(entityClass);
+    List<String> keyColumns =
+        persistentEntity.getFlattenedPrimaryKeyProperties().stream()
+            .map(SpannerPersistentProperty::getColumnName)
+            .collect(Collectors.toList());
+    KeySet keySet = keySetBuilder.build();
+
+    Set<Key> existingKeys = new HashSet<>();
+    try (ResultSet resultSet =
+        executeRead(persistentEntity.tableName(), keySet, keyColumns, null)) {
+      while (resultSet.next()) {
+        existingKeys.add(toKey(resultSet.getCurrentRowAsStruct()));
+      }
+    }
+    maybeEmitEvent(new AfterReadEvent(Collections.emptyList(), keySet, null));
+    requestedKeys.retainAll(existingKeys);
+    return requestedKeys;
+  }
+
   @Override
   public <T> T read(Class<T> entityClass, Key key, SpannerReadOptions options) {
     List<T> items = read(entityClass, KeySet.singleKey(key), options);
@@ -208,6 +446,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
     List<T> entities;
     if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+      // Observed as a query.
       entities =
           executeReadQueryAndResolveChildren(
               keys,
@@ -215,17 +454,105 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
               toQueryOption(keys, options),
               options != null ? options.getIndex() : null);
     } else {
+      SpannerObservationContext context =
+          new SpannerObservationContext(
+              Operation.READ, entityClass, persistentEntity.tableName(), null);
       entities =
-          mapToListAndResolveChildren(
-              executeRead(persistentEntity.tableName(), keys, persistentEntity.columns(), options),
-              entityClass,
-              (options != null) ? options.getIncludeProperties() : null,
-              options != null && options.isAllowPartialRead());
+          observe(
+              context,
+              () ->
+                  countRows(
+                      context,
+                      mapToListAndResolveChildren(
+                          observeStreaming(
+                              executeRead(
+                                  persistentEntity.tableName(),
+                                  keys,
+                                  persistentEntity.columns(),
+                                  options),
+                              context),
+                          entityClass,
+                          (options != null) ? options.getIncludeProperties() : null,
+                          options != null && options.isAllowPartialRead())));
     }
     maybeEmitEvent(new AfterReadEvent(entities, keys, options));
     return entities;
   }
 
+  /**
+   * Reads entities like {@link #read(Class, KeySet, SpannerReadOptions)}, but maps the row of each
+   * key once for every caller of the key, so that the callers of coalesced point reads do not share
+   * an instance.
+   *
+   * @param entityClass the type of the entities.
+   * @param callerCounts the number of callers of each key to read.
+   * @param options the read options, may be {@code null}.
+   * @param <T> the type of the entities.
+   * @return the instances of the entities that were found, by their keys.
+   */
+  <T> Map<Key, List<T>> readForCallers(
+      Class<T> entityClass, Map<Key, Integer> callerCounts, SpannerReadOptions options) {
+    SpannerPersistentEntity<T> persistentEntity =
+        (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass);
+    KeySet.Builder keySetBuilder = KeySet.newBuilder();
+    callerCounts.keySet().forEach(keySetBuilder::addKey);
+    KeySet keys = keySetBuilder.build();
+
+    List<Struct> rows;
+    if (persistentEntity.hasEagerlyLoadedProperties() || persistentEntity.hasWhere()) {
+      rows =
+          query(
+              Function.identity(),
+              SpannerStatementQueryExecutor.buildQuery(
+                  keys,
+                  persistentEntity,
+                  this.spannerEntityProcessor.getWriteConverter(),
+                  this.mappingContext,
+                  options != null ? options.getIndex() : null),
+              toQueryOption(keys, options));
+    } else {
+      SpannerObservationContext context =
+          new SpannerObservationContext(
+              Operation.READ, entityClass, persistentEntity.tableName(), null);
+      rows =
+          observe(
+              context,
+              () -> {
+                List<Struct> structs = new ArrayList<>();
+                try (ResultSet resultSet =
+                    observeStreaming(
+                        executeRead(
+                            persistentEntity.tableName(),
+                            keys,
+                            persistentEntity.columns(),
+                            options),
+                        context)) {
+                  while (resultSet.next()) {
+                    structs.add(resultSet.getCurrentRowAsStruct());
+                  }
+                }
+                return countRows(context, structs);
+              });
+    }
+
+    Map<Key, List<T>> entitiesByKey = new HashMap<>();
+    List<T> entities = new ArrayList<>();
+    for (Struct row : rows) {
+      T entity = this.spannerEntityProcessor.read(entityClass, row);
+      Key key = this.spannerSchemaUtils.getKey(entity);
+      List<T> instances = new ArrayList<>();
+      instances.add(entity);
+      for (int i = 1; i < callerCounts.getOrDefault(key, 1); i++) {
+        instances.add(this.spannerEntityProcessor.read(entityClass, row));
+      }
+      entitiesByKey.put(key, instances);
+      entities.addAll(instances);
+    }
+    resolveChildEntities(entities, null);
+    maybeEmitEvent(new AfterReadEvent(entities, keys, options));
+    return entitiesByKey;
+  }
+
   /**
    * In many cases {@link KeySet} with {@link SpannerReadOptions} are compatible with {@link
    * SpannerQueryOptions}. The method throws exception when it is impossible.
@@ -236,7 +563,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
    *     SpannerQueryOptions} or {@code keys} have "ranges".
    * @see SpannerReadOptions#toQueryOptions()
    */
-  private static SpannerQueryOptions toQueryOption(KeySet keys, SpannerReadOptions options)
+  static SpannerQueryOptions toQueryOption(KeySet keys, SpannerReadOptions options)
       throws IllegalArgumentException {
     if (keys != null && keys.getRanges().iterator().hasNext()) {
       throw new IllegalArgumentException(String.format("KeySet %s has ranges", keys));
@@ -250,19 +577,40 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
   @Override
   public <A> List<A> query(
       Function<Struct, A> rowFunc, Statement statement, SpannerQueryOptions options) {
-    ArrayList<A> result = new ArrayList<>();
-    try (ResultSet resultSet = executeQuery(statement, options)) {
-      while (resultSet.next()) {
-        result.add(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
-      }
-    }
+    SpannerObservationContext context =
+        new SpannerObservationContext(Operation.QUERY, null, null, statement);
+    List<A> result =
+        observe(
+            context,
+            () -> {
+              ArrayList<A> rows = new ArrayList<>();
+              try (ResultSet resultSet =
+                  observeStreaming(executeQuery(statement, options), context)) {
+                while (resultSet.next()) {
+                  rows.add(rowFunc.apply(resultSet.getCurrentRowAsStruct()));
+                }
+              }
+              return countRows(context, rows);
+            });
     maybeEmitEvent(new AfterQueryEvent(result, statement, options));
     return result;
   }
 
   @Override
   public <T> List<T> query(Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
-    List<T> entities = queryAndResolveChildren(entityClass, statement, options);
+    SpannerObservationContext context =
+        new SpannerObservationContext(Operation.QUERY, entityClass, null, statement);
+    List<T> entities =
+        observe(
+            context,
+            () ->
+                countRows(
+                    context,
+                    mapToListAndResolveChildren(
+                        observeStreaming(executeQuery(statement, options), context),
+                        entityClass,
+                        (options != null) ? options.getIncludeProperties() : null,
+                        options != null && options.isAllowPartialRead())));
     maybeEmitEvent(new AfterQueryEvent(entities, statement, options));
     return entities;
   }
@@ -301,6 +649,31 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         options);
   }
 
+  @Override
+  public <T> Window<T> scrollAll(
+      Class<T> entityClass, ScrollPosition scrollPosition, SpannerPageableQueryOptions options) {
+    Assert.notNull(scrollPosition, "A valid scroll position is required.");
+    Assert.isTrue(
+        options != null && options.getLimit() != null && options.getLimit() > 0,
+        "A positive limit is required to scroll.");
+    if (options.getOffset() != null) {
+      throw new SpannerDataException(
+          "The offset of a scroll query is determined by the scroll position.");
+    }
+    SpannerScrollQuery<T> scrollQuery =
+        new SpannerScrollQuery<>(
+            (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass),
+            this.mappingContext,
+            scrollPosition,
+            options.getSort(),
+            options.getLimit());
+    return scrollQuery.toWindow(
+        query(
+            entityClass,
+            scrollQuery.buildStatement(this.spannerEntityProcessor.getWriteConverter()),
+            options));
+  }
+
   @Override
   public void insert(Object object) {
     applySaveMutations(
@@ -313,6 +686,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         () -> getMutationsForMultipleObjects(objects, this.mutationFactory::insert), objects, null);
   }
 
+  @Override
+  public SpannerBulkWriteResult insertAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    return applyBulkSaveMutations(objects, this.mutationFactory::insert, options);
+  }
+
   @Override
   public void update(Object object) {
     applySaveMutations(
@@ -357,6 +735,11 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         null);
   }
 
+  @Override
+  public SpannerBulkWriteResult upsertAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    return applyBulkSaveMutations(objects, x -> this.mutationFactory.upsert(x, null), options);
+  }
+
   @Override
   public void upsert(Object object, String... includeProperties) {
     Set<String> incl =
@@ -380,9 +763,28 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
     maybeEmitEvent(new BeforeSaveEvent(entities, includeProperties));
     List<Mutation> mutations = mutationsSupplier.get();
     applyMutations(mutations);
+    invalidateCachedEntities(cache -> cache.invalidate(mutations));
     maybeEmitEvent(new AfterSaveEvent(mutations, entities, includeProperties));
   }
 
+  private SpannerBulkWriteResult applyBulkSaveMutations(
+      Iterable<?> entities,
+      Function<Object, List<Mutation>> entityMutationsFunc,
+      SpannerBulkWriteOptions options) {
+    Assert.notNull(options, "A non-null bulk write options is required.");
+    List<?> entityList = toList(entities);
+    maybeEmitEvent(new BeforeSaveEvent(entityList, null));
+    List<List<Mutation>> groups = getMutationGroups(entityList, entityMutationsFunc);
+    SpannerBulkWriteResult result = applyBulkMutations(groups, options);
+    List<Mutation> mutations = flatten(groups);
+    invalidateCachedEntities(cache -> cache.invalidate(mutations));
+    List<Object> savedEntities = new ArrayList<>();
+    List<Mutation> appliedMutations = new ArrayList<>();
+    addSucceededGroups(result, entityList, groups, savedEntities, appliedMutations);
+    maybeEmitEvent(new AfterSaveEvent(appliedMutations, savedEntities, null));
+    return result;
+  }
+
   @Override
   public void delete(Object entity) {
     applyDeleteMutations(
@@ -399,9 +801,28 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
             .collect(Collectors.toList()));
   }
 
+  @Override
+  public SpannerBulkWriteResult deleteAll(Iterable<?> objects, SpannerBulkWriteOptions options) {
+    Assert.notNull(options, "A non-null bulk write options is required.");
+    List<?> objectList = toList(objects);
+    List<List<Mutation>> groups =
+        getMutationGroups(
+            objectList, x -> Collections.singletonList(this.mutationFactory.delete(x)));
+    List<Mutation> mutations = flatten(groups);
+    maybeEmitEvent(new BeforeDeleteEvent(mutations, objectList, null, null));
+    SpannerBulkWriteResult result = applyBulkMutations(groups, options);
+    invalidateCachedEntities(cache -> cache.invalidate(mutations));
+    List<Object> deletedObjects = new ArrayList<>();
+    List<Mutation> appliedMutations = new ArrayList<>();
+    addSucceededGroups(result, objectList, groups, deletedObjects, appliedMutations);
+    maybeEmitEvent(new AfterDeleteEvent(appliedMutations, deletedObjects, null, null));
+    return result;
+  }
+
   private void applyDeleteMutations(Iterable<?> objects, List<Mutation> mutations) {
     maybeEmitEvent(new BeforeDeleteEvent(mutations, objects, null, null));
     applyMutations(mutations);
+    invalidateCachedEntities(cache -> cache.invalidate(mutations));
     maybeEmitEvent(new AfterDeleteEvent(mutations, objects, null, null));
   }
 
@@ -424,6 +845,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
   private void applyDeleteMutations(Class<?> entityClass, KeySet keys, List<Mutation> mutations) {
     maybeEmitEvent(new BeforeDeleteEvent(mutations, null, keys, entityClass));
     applyMutations(mutations);
+    invalidateCachedEntities(cache -> cache.invalidate(mutations));
     maybeEmitEvent(new AfterDeleteEvent(mutations, null, keys, entityClass));
   }
 
@@ -434,41 +856,79 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
 
     Statement statement =
         Statement.of(String.format("SELECT COUNT(*) FROM %s", persistentEntity.tableName()));
-    try (ResultSet resultSet = executeQuery(statement, null)) {
-      resultSet.next();
-      return resultSet.getLong(0);
+    return observe(
+        new SpannerObservationContext(
+            Operation.QUERY, entityClass, persistentEntity.tableName(), statement),
+        () -> {
+          try (ResultSet resultSet = executeQuery(statement, null)) {
+            resultSet.next();
+            return resultSet.getLong(0);
+          }
+        });
+  }
+
+  @Override
+  public <T> long approximateCount(Class<T> entityClass) {
+    if (this.approximateCountDuration.isZero()) {
+      return count(entityClass);
+    }
+    long now = System.nanoTime();
+    ApproximateCount approximateCount = this.approximateCounts.get(entityClass);
+    if (approximateCount == null || now - approximateCount.expiresAt >= 0) {
+      // Concurrent callers may each count once when the count expires.
+      approximateCount =
+          new ApproximateCount(count(entityClass), now + this.approximateCountDuration.toNanos());
+      this.approximateCounts.put(entityClass, approximateCount);
     }
+    return approximateCount.count;
   }
 
   @Override
   public <T> T performReadWriteTransaction(Function<SpannerTemplate, T> operations) {
-    return doWithOrWithoutTransactionContext(
-        x -> {
-          throw new IllegalStateException(
-              "There is already declarative transaction open. "
-                  + "Spanner does not support nested transactions");
-        },
-        () ->
-            this.databaseClientProvider
-                .get()
-                .readWriteTransaction()
-                .run(
-                    new TransactionCallable<T>() {
-                      @Nullable
-                      @Override
-                      public T run(TransactionContext transaction) { // @formatter:off
-                        ReadWriteTransactionSpannerTemplate transactionSpannerTemplate =
-                            new ReadWriteTransactionSpannerTemplate(
-                                // @formatter:on
-                                SpannerTemplate.this.databaseClientProvider,
-                                SpannerTemplate.this.mappingContext,
-                                SpannerTemplate.this.spannerEntityProcessor,
-                                SpannerTemplate.this.mutationFactory,
-                                SpannerTemplate.this.spannerSchemaUtils,
-                                transaction);
-                        return operations.apply(transactionSpannerTemplate);
-                      }
-                    }));
+    AtomicReference<ReadWriteTransactionSpannerTemplate> lastAttempt = new AtomicReference<>();
+    SpannerObservationContext context =
+        new SpannerObservationContext(Operation.READ_WRITE_TRANSACTION, null, null, null);
+    T result =
+        doWithOrWithoutTransactionContext(
+            x -> {
+              throw new IllegalStateException(
+                  "There is already declarative transaction open. "
+                      + "Spanner does not support nested transactions");
+            },
+            () ->
+                observe(
+                    context,
+                    () ->
+                        this.databaseClientProvider
+                            .get()
+                            .readWriteTransaction()
+                            .run(
+                                new TransactionCallable<T>() {
+                                  @Nullable
+                                  @Override
+                                  public T run(TransactionContext transaction) { // @formatter:off
+                                    ReadWriteTransactionSpannerTemplate transactionSpannerTemplate =
+                                        new ReadWriteTransactionSpannerTemplate(
+                                            // @formatter:on
+                                            SpannerTemplate.this.databaseClientProvider,
+                                            SpannerTemplate.this.mappingContext,
+                                            SpannerTemplate.this.spannerEntityProcessor,
+                                            SpannerTemplate.this.mutationFactory,
+                                            SpannerTemplate.this.spannerSchemaUtils,
+                                            transaction);
+                                    transactionSpannerTemplate.setEntityCache(
+                                        SpannerTemplate.this.entityCache);
+                                    copyObservationSettings(transactionSpannerTemplate);
+                                    context.addAttempt();
+                                    lastAttempt.set(transactionSpannerTemplate);
+                                    return operations.apply(transactionSpannerTemplate);
+                                  }
+                                })));
+    // Entities may have been cached again between the writes and the commit.
+    if (lastAttempt.get() != null) {
+      lastAttempt.get().invalidateCommittedEntities();
+    }
+    return result;
   }
 
   @Override
@@ -483,20 +943,23 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         () -> {
           SpannerReadOptions options =
               (readOptions != null) ? readOptions : new SpannerReadOptions();
+          // The default and thread timestamp bounds are not used, since they may be bounded
+          // staleness, which Cloud Spanner only allows for single-use reads.
+          TimestampBound timestampBound = options.getTimestampBound();
           try (ReadOnlyTransaction readOnlyTransaction =
-              (options.getTimestampBound() != null)
-                  ? this.databaseClientProvider
-                      .get()
-                      .readOnlyTransaction(options.getTimestampBound())
+              (timestampBound != null)
+                  ? this.databaseClientProvider.get().readOnlyTransaction(timestampBound)
                   : this.databaseClientProvider.get().readOnlyTransaction()) {
-            return operations.apply(
+            ReadOnlyTransactionSpannerTemplate transactionSpannerTemplate =
                 new ReadOnlyTransactionSpannerTemplate(
                     SpannerTemplate.this.databaseClientProvider,
                     SpannerTemplate.this.mappingContext,
                     SpannerTemplate.this.spannerEntityProcessor,
                     SpannerTemplate.this.mutationFactory,
                     SpannerTemplate.this.spannerSchemaUtils,
-                    readOnlyTransaction));
+                    readOnlyTransaction);
+            copyObservationSettings(transactionSpannerTemplate);
+            return operations.apply(transactionSpannerTemplate);
           }
         });
   }
@@ -629,11 +1092,29 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
           return null;
         },
         () -> {
-          this.databaseClientProvider.get().write(mutations);
-          return null;
+          SpannerObservationContext context =
+              new SpannerObservationContext(Operation.COMMIT, null, getTableName(mutations), null);
+          context.setMutationCount(mutations.size());
+          return observe(context, () -> this.databaseClientProvider.get().write(mutations));
         });
   }
 
+  /**
+   * Applies mutation groups as a bulk write that is split into several commits.
+   *
+   * @param groups the mutations of each entity.
+   * @param options the settings of the bulk write.
+   * @return the outcome of each group.
+   */
+  protected SpannerBulkWriteResult applyBulkMutations(
+      List<List<Mutation>> groups, SpannerBulkWriteOptions options) {
+    return doWithOrWithoutTransactionContext(
+        x -> {
+          throw new SpannerDataException("Cannot perform a bulk write in a transaction.");
+        },
+        () -> this.bulkWriter.write(groups, options));
+  }
+
   private <T> List<T> queryAndResolveChildren(
       Class<T> entityClass, Statement statement, SpannerQueryOptions options) {
     return mapToListAndResolveChildren(
@@ -654,7 +1135,7 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         includeProperties);
   }
 
-  private <T> List<T> resolveChildEntities(List<T> entities, Set<String> includeProperties) {
+  <T> List<T> resolveChildEntities(List<T> entities, Set<String> includeProperties) {
     for (Object entity : entities) {
       resolveChildEntity(entity, includeProperties);
     }
@@ -706,6 +1187,36 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         .collect(Collectors.toList());
   }
 
+  private List<List<Mutation>> getMutationGroups(
+      Iterable<?> it, Function<Object, List<Mutation>> individualEntityMutationFunc) {
+    return StreamSupport.stream(it.spliterator(), false)
+        .map(individualEntityMutationFunc)
+        .collect(Collectors.toList());
+  }
+
+  private static List<Mutation> flatten(List<List<Mutation>> groups) {
+    return groups.stream().flatMap(List::stream).collect(Collectors.toList());
+  }
+
+  private static List<?> toList(Iterable<?> iterable) {
+    return StreamSupport.stream(iterable.spliterator(), false).collect(Collectors.toList());
+  }
+
+  // Adds the entities and mutations of the groups of a bulk write that were applied
+  private static void addSucceededGroups(
+      SpannerBulkWriteResult result,
+      List<?> entities,
+      List<List<Mutation>> groups,
+      List<Object> succeededEntities,
+      List<Mutation> succeededMutations) {
+    for (SpannerBulkWriteResult.GroupResult groupResult : result.getGroupResults()) {
+      if (groupResult.isSuccess()) {
+        succeededEntities.add(entities.get(groupResult.getGroupIndex()));
+        succeededMutations.addAll(groups.get(groupResult.getGroupIndex()));
+      }
+    }
+  }
+
   private TransactionContext getTransactionContext() {
     if (TransactionSynchronizationManager.isActualTransactionActive()) {
       SpannerTransactionManager.Tx tx =
@@ -727,9 +1238,92 @@ public class SpannerTemplate implements SpannerOperations, ApplicationEventPubli
         : funcWithoutTransactionContext.get();
   }
 
-  private void maybeEmitEvent(ApplicationEvent event) {
+  /**
+   * Applies an invalidation to the entity cache. Inside a declarative transaction it is applied
+   * again after the transaction completes, because the entities may have been cached again in the
+   * meantime.
+   */
+  private void invalidateCachedEntities(Consumer<SpannerEntityCache> invalidation) {
+    invalidation.accept(this.entityCache);
+    if (getTransactionContext() != null
+        && TransactionSynchronizationManager.isSynchronizationActive()) {
+      SpannerEntityCache cache = this.entityCache;
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              invalidation.accept(cache);
+            }
+          });
+    }
+  }
+
+  private <T> T observe(SpannerObservationContext context, Supplier<T> operation) {
+    return Observation.createNotStarted(
+            this.observationConvention,
+            DEFAULT_OBSERVATION_CONVENTION,
+            () -> context,
+            this.observationRegistry)
+        .observe(operation);
+  }
+
+  private ResultSet observeStreaming(ResultSet resultSet, SpannerObservationContext context) {
+    return this.observationRegistry.isNoop()
+        ? resultSet
+        : new ObservedResultSet(resultSet, context);
+  }
+
+  private static long countAffectedRows(SpannerObservationContext context, long rowCount) {
+    context.setRowCount(rowCount);
+    return rowCount;
+  }
+
+  private static <T extends Collection<?>> T countRows(SpannerObservationContext context, T rows) {
+    context.setRowCount(rows.size());
+    return rows;
+  }
+
+  private static String getTableName(Collection<Mutation> mutations) {
+    String tableName = null;
+    for (Mutation mutation : mutations) {
+      if (tableName != null && !tableName.equals(mutation.getTable())) {
+        return null;
+      }
+      tableName = mutation.getTable();
+    }
+    return tableName;
+  }
+
+  private void copyObservationSettings(SpannerTemplate spannerTemplate) {
+    spannerTemplate.setObservationRegistry(this.observationRegistry);
+    spannerTemplate.setObservationConvention(this.observationConvention);
+  }
+
+  void maybeEmitEvent(ApplicationEvent event) {
     if (this.eventPublisher != null) {
       this.eventPublisher.publishEvent(event);
     }
   }
+
+  private static Key toKey(Struct struct) {
+    StructAccessor structAccessor = new StructAccessor(struct);
+    Key.Builder keyBuilder = Key.newBuilder();
+    for (int i = 0; i < struct.getColumnCount(); i++) {
+      keyBuilder.appendObject(structAccessor.getSingleValue(i));
+    }
+    return keyBuilder.build();
+  }
+
+  /** A count of entities, and when it expires in {@link System#nanoTime()}. */
+  private static final class ApproximateCount {
+
+    private final long count;
+
+    private final long expiresAt;
+
+    ApproximateCount(long count, long expiresAt) {
+      this.count = count;
+      this.expiresAt = expiresAt;
+    }
+  }
 }
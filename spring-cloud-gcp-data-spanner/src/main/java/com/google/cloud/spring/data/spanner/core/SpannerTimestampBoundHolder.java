@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import com.google.cloud.spanner.TimestampBound;
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+
+/**
+ * Holds the timestamp bound of the reads made by the current thread. It takes precedence over the
+ * default timestamp bound of the {@link SpannerTemplate} for single-use reads that have no
+ * timestamp bound of their own, and is used by repositories to apply the staleness of {@link
+ * com.google.cloud.spring.data.spanner.repository.query.StaleRead} annotations. It does not apply
+ * to read-only transactions, which Cloud Spanner does not allow to use bounded staleness.
+ *
+ * @since 6.0.2
+ */
+public final class SpannerTimestampBoundHolder {
+
+  private static final ThreadLocal<TimestampBound> TIMESTAMP_BOUND =
+      new NamedThreadLocal<>("Spanner read timestamp bound");
+
+  private SpannerTimestampBoundHolder() {}
+
+  /**
+   * Gets the timestamp bound of the reads made by the current thread.
+   *
+   * @return the timestamp bound, or {@code null} if none is set.
+   */
+  @Nullable
+  public static TimestampBound getTimestampBound() {
+    return TIMESTAMP_BOUND.get();
+  }
+
+  /**
+   * Sets the timestamp bound of the reads made by the current thread. The previous timestamp
+   * bound should be set again once the reads are done.
+   *
+   * @param timestampBound the timestamp bound, or {@code null} to remove it.
+   * @return the previous timestamp bound, or {@code null} if none was set.
+   */
+  @Nullable
+  public static TimestampBound setTimestampBound(@Nullable TimestampBound timestampBound) {
+    TimestampBound previous = TIMESTAMP_BOUND.get();
+    if (timestampBound == null) {
+      TIMESTAMP_BOUND.remove();
+    } else {
+      TIMESTAMP_BOUND.set(timestampBound);
+    }
+    return previous;
+  }
+}
@@ -33,30 +33,79 @@ import com.google.cloud.spanner.ResultSet;
 import com.google.cloud.spanner.SpannerException;
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionManager;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.interceptor.TransactionAttribute;
 import org.springframework.transaction.support.AbstractPlatformTransactionManager;
 import org.springframework.transaction.support.DefaultTransactionStatus;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
 
 /**
  * Spanner transaction manager.
  *
+ * <p>Read-only transactions use strong reads unless they are given a timestamp bound. The
+ * timestamp bound of a read-only transaction is taken from the first of:
+ *
+ * <ul>
+ *   <li>a {@code spanner-exact-staleness=<duration>} label of the transaction, such as {@code
+ *       @Transactional(readOnly = true, label = "spanner-exact-staleness=PT10S")}, where the
+ *       duration is in ISO-8601 format;
+ *   <li>the default timestamp bound of the transaction manager.
+ * </ul>
+ *
+ * <p>Cloud Spanner does not allow bounded staleness in read-only transactions, so {@code
+ * spanner-max-staleness=<duration>} labels are rejected, and the timestamp bound of the current
+ * thread in {@link SpannerTimestampBoundHolder} is not used.
+ *
  * @since 1.1
  */
 public class SpannerTransactionManager extends AbstractPlatformTransactionManager {
+
+  static final String MAX_STALENESS_LABEL = "spanner-max-staleness=";
+
+  static final String EXACT_STALENESS_LABEL = "spanner-exact-staleness=";
+
   private final Supplier<DatabaseClient> databaseClientProvider;
 
+  private TimestampBound defaultReadOnlyTimestampBound;
+
   public SpannerTransactionManager(final Supplier databaseClientProvider) {
     this.databaseClientProvider = databaseClientProvider;
   }
 
+  /**
+   * Sets the timestamp bound of read-only transactions that are given no timestamp bound by their
+   * labels. Cloud Spanner only allows an exact staleness or a read timestamp for read-only
+   * transactions, since bounded staleness is only supported by single-use reads.
+   *
+   * @param defaultReadOnlyTimestampBound the timestamp bound, or {@code null} for strong reads,
+   *     which is the default.
+   * @since 6.0.2
+   */
+  public void setDefaultReadOnlyTimestampBound(TimestampBound defaultReadOnlyTimestampBound) {
+    Assert.isTrue(
+        defaultReadOnlyTimestampBound == null
+            || (defaultReadOnlyTimestampBound.getMode() != TimestampBound.Mode.MAX_STALENESS
+                && defaultReadOnlyTimestampBound.getMode()
+                    != TimestampBound.Mode.MIN_READ_TIMESTAMP),
+        () ->
+            "Read-only transactions only support strong reads, an exact staleness or a read"
+                + " timestamp, but the timestamp bound is: "
+                + defaultReadOnlyTimestampBound);
+    this.defaultReadOnlyTimestampBound = defaultReadOnlyTimestampBound;
+  }
+
   @Override
   protected Object doGetTransaction() throws TransactionException {
     Tx tx = (Tx) TransactionSynchronizationManager.getResource(databaseClientProvider.get());
@@ -87,8 +136,11 @@ public class SpannerTransactionManager extends AbstractPlatformTransactionManage
     }
     Tx tx = (Tx) transactionObject;
     if (transactionDefinition.isReadOnly()) {
+      TimestampBound timestampBound = getReadOnlyTimestampBound(transactionDefinition);
       final ReadContext targetTransactionContext =
-          this.databaseClientProvider.get().readOnlyTransaction();
+          timestampBound != null
+              ? this.databaseClientProvider.get().readOnlyTransaction(timestampBound)
+              : this.databaseClientProvider.get().readOnlyTransaction();
       tx.isReadOnly = true;
       tx.transactionManager = null;
       tx.transactionContext =
@@ -221,6 +273,35 @@ public class SpannerTransactionManager extends AbstractPlatformTransactionManage
     TransactionSynchronizationManager.bindResource(tx.getDatabaseClient(), tx);
   }
 
+  private TimestampBound getReadOnlyTimestampBound(TransactionDefinition transactionDefinition) {
+    if (transactionDefinition instanceof TransactionAttribute transactionAttribute) {
+      for (String label : transactionAttribute.getLabels()) {
+        if (label.startsWith(MAX_STALENESS_LABEL)) {
+          throw new IllegalStateException(
+              "Cloud Spanner does not support bounded staleness in read-only transactions;"
+                  + " use a "
+                  + EXACT_STALENESS_LABEL
+                  + " label instead of: "
+                  + label);
+        }
+        if (label.startsWith(EXACT_STALENESS_LABEL)) {
+          return TimestampBound.ofExactStaleness(
+              parseStaleness(label, EXACT_STALENESS_LABEL), TimeUnit.NANOSECONDS);
+        }
+      }
+    }
+    return this.defaultReadOnlyTimestampBound;
+  }
+
+  private static long parseStaleness(String label, String prefix) {
+    try {
+      return Duration.parse(label.substring(prefix.length())).toNanos();
+    } catch (DateTimeParseException ex) {
+      throw new IllegalStateException(
+          "The staleness of the transaction label must be an ISO-8601 duration: " + label, ex);
+    }
+  }
+
   @Override
   protected void doCommit(DefaultTransactionStatus defaultTransactionStatus)
       throws TransactionException {
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables the entity cache of the {@code SpannerTemplate} for point reads of this entity type by
+ * primary key. Cached entities are removed when the template writes or deletes them, and expire
+ * after the configured time so that writes made by other clients become visible.
+ *
+ * <p>Cached instances are shared between callers and should not be modified. The cache is best
+ * suited to small, rarely changing tables such as configuration or reference data.
+ *
+ * @since 6.0.2
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cached {
+
+  /**
+   * The maximum number of entities of this type kept in the cache. The least recently used entity
+   * is evicted first.
+   *
+   * @return the maximum number of cached entities.
+   */
+  int maxSize() default 1000;
+
+  /**
+   * The time in milliseconds after which a cached entity is read again from Cloud Spanner.
+   *
+   * @return the time to live of cached entities.
+   */
+  long ttlMillis() default 60_000;
+
+  /**
+   * If positive, cache misses are read with a bounded-staleness timestamp bound of this many
+   * milliseconds, which Cloud Spanner may serve from a nearby replica without waiting for the
+   * latest data. Cached entities may then be older than the time to live by up to this amount.
+   * Entities whose rows were written or deleted by the template within this time are read strongly.
+   *
+   * @return the maximum staleness of reads that fill the cache, or {@code 0} for strong reads.
+   */
+  long maxStalenessMillis() default 0;
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.observation;
+
+import io.micrometer.common.KeyValues;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import org.springframework.util.Assert;
+
+/**
+ * The default {@link SpannerObservationConvention}. Observations are tagged with the operation, the
+ * entity type, the table and the fingerprint of the statement, which is the SQL with its literals
+ * replaced by {@code ?} and its whitespace collapsed. Applications usually run a fixed set of
+ * statements, but the number of distinct fingerprints is bounded so that statements built from
+ * unbounded input cannot create unbounded meters: once the limit is reached, new fingerprints are
+ * tagged as {@code other}. The numbers of rows, mutations and attempts are high cardinality key
+ * values, and are recorded as meters by a {@link SpannerMeterObservationHandler}.
+ *
+ * @since 6.0.2
+ */
+public class DefaultSpannerObservationConvention implements SpannerObservationConvention {
+
+  /** The name of the observations. */
+  public static final String NAME = "spring.data.spanner.operation";
+
+  static final String OPERATION = "spanner.operation";
+
+  static final String ENTITY = "spanner.entity";
+
+  static final String TABLE = "spanner.table";
+
+  static final String STATEMENT = "spanner.statement";
+
+  static final String RETRIED = "spanner.retried";
+
+  static final String ROWS = "spanner.rows";
+
+  static final String MUTATIONS = "spanner.mutations";
+
+  static final String ATTEMPTS = "spanner.attempts";
+
+  static final String OTHER = "other";
+
+  /** The default maximum number of distinct statement fingerprints. */
+  public static final int DEFAULT_MAX_STATEMENTS = 100;
+
+  private static final String NONE = "none";
+
+  private static final Pattern STRING_LITERAL =
+      Pattern.compile("'(?:[^'\\\\]|\\\\.)*'|\"(?:[^\"\\\\]|\\\\.)*\"");
+
+  private static final Pattern NUMERIC_LITERAL =
+      Pattern.compile("\\b\\d+(?:\\.\\d+)?(?:[eE][+-]?\\d+)?\\b");
+
+  private static final Pattern LITERAL_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final Set<String> statements = ConcurrentHashMap.newKeySet();
+
+  private final int maxStatements;
+
+  /** Creates a convention that tags at most {@link #DEFAULT_MAX_STATEMENTS} statements. */
+  public DefaultSpannerObservationConvention() {
+    this(DEFAULT_MAX_STATEMENTS);
+  }
+
+  /**
+   * Creates a convention that tags at most the given number of distinct statements.
+   *
+   * @param maxStatements the maximum number of distinct statement fingerprints.
+   */
+  public DefaultSpannerObservationConvention(int maxStatements) {
+    Assert.isTrue(maxStatements >= 0, "The maximum number of statements must not be negative.");
+    this.maxStatements = maxStatements;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public String getContextualName(SpannerObservationContext context) {
+    String target =
+        context.getTableName() != null
+            ? context.getTableName()
+            : context.getEntityType() != null ? context.getEntityType().getSimpleName() : null;
+    return target != null
+        ? context.getOperation().getValue() + " " + target
+        : context.getOperation().getValue();
+  }
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(SpannerObservationContext context) {
+    KeyValues keyValues =
+        KeyValues.of(
+            OPERATION,
+            context.getOperation().getValue(),
+            ENTITY,
+            context.getEntityType() != null ? context.getEntityType().getSimpleName() : NONE,
+            TABLE,
+            context.getTableName() != null ? context.getTableName() : NONE,
+            STATEMENT,
+            context.getStatement() != null ? statement(context.getStatement().getSql()) : NONE);
+    if (context.getOperation() == SpannerObservationContext.Operation.READ_WRITE_TRANSACTION) {
+      keyValues = keyValues.and(RETRIED, Boolean.toString(context.getAttempts() > 1));
+    }
+    return keyValues;
+  }
+
+  @Override
+  public KeyValues getHighCardinalityKeyValues(SpannerObservationContext context) {
+    KeyValues keyValues = KeyValues.empty();
+    if (context.getRowCount() >= 0) {
+      keyValues = keyValues.and(ROWS, Long.toString(context.getRowCount()));
+    }
+    if (context.getMutationCount() > 0) {
+      keyValues = keyValues.and(MUTATIONS, Integer.toString(context.getMutationCount()));
+    }
+    if (context.getAttempts() > 0) {
+      keyValues = keyValues.and(ATTEMPTS, Integer.toString(context.getAttempts()));
+    }
+    return keyValues;
+  }
+
+  private String statement(String sql) {
+    String fingerprint = fingerprint(sql);
+    if (this.statements.contains(fingerprint)) {
+      return fingerprint;
+    }
+    synchronized (this.statements) {
+      if (this.statements.size() < this.maxStatements) {
+        this.statements.add(fingerprint);
+        return fingerprint;
+      }
+    }
+    return OTHER;
+  }
+
+  /**
+   * Normalizes SQL so that statements which only differ in their literals have the same
+   * fingerprint.
+   *
+   * @param sql the SQL of a statement.
+   * @return the SQL with its literals replaced by {@code ?} and its whitespace collapsed.
+   */
+  public static String fingerprint(String sql) {
+    String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+    normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+    normalized = LITERAL_LIST.matcher(normalized).replaceAll("(?)");
+    return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.observation;
+
+import com.google.cloud.spring.data.spanner.core.observation.SpannerObservationContext.Operation;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import java.time.Duration;
+import org.springframework.util.Assert;
+
+/**
+ * Records the numbers of rows and mutations and the times spent streaming and mapping rows of the
+ * observed Cloud Spanner operations as meters, tagged with the low cardinality key values of the
+ * observations. The number of rows returned by queries and reads, or affected by DML, and the
+ * number of mutations of commits are recorded as distributions. The time a query or read spent
+ * waiting for rows to be streamed from Cloud Spanner, and the rest of its duration, which is spent
+ * mapping the rows, are recorded as times.
+ *
+ * @since 6.0.2
+ */
+public class SpannerMeterObservationHandler
+    implements ObservationHandler<SpannerObservationContext> {
+
+  /** The name of the distribution of the number of rows. */
+  public static final String ROWS = DefaultSpannerObservationConvention.NAME + ".rows";
+
+  /** The name of the distribution of the number of mutations. */
+  public static final String MUTATIONS = DefaultSpannerObservationConvention.NAME + ".mutations";
+
+  /** The name of the timer of the time spent streaming rows. */
+  public static final String STREAMING = DefaultSpannerObservationConvention.NAME + ".streaming";
+
+  /** The name of the timer of the time spent mapping rows. */
+  public static final String MAPPING = DefaultSpannerObservationConvention.NAME + ".mapping";
+
+  private final SpannerMeterRecorder meterRecorder;
+
+  /**
+   * Constructor.
+   *
+   * @param meterRecorder the recorder of the meters.
+   */
+  public SpannerMeterObservationHandler(SpannerMeterRecorder meterRecorder) {
+    Assert.notNull(meterRecorder, "A non-null meter recorder is required.");
+    this.meterRecorder = meterRecorder;
+  }
+
+  @Override
+  public void onStart(SpannerObservationContext context) {
+    context.put(StartTime.class, new StartTime(System.nanoTime()));
+  }
+
+  @Override
+  public void onStop(SpannerObservationContext context) {
+    KeyValues tags = context.getLowCardinalityKeyValues();
+    if (context.getRowCount() >= 0) {
+      this.meterRecorder.recordDistribution(ROWS, tags, (double) context.getRowCount());
+    }
+    if (context.getMutationCount() > 0) {
+      this.meterRecorder.recordDistribution(MUTATIONS, tags, context.getMutationCount());
+    }
+    StartTime startTime = context.get(StartTime.class);
+    if (startTime != null
+        && (context.getOperation() == Operation.QUERY
+            || context.getOperation() == Operation.READ)) {
+      long streamingNanos = context.getStreamingNanos();
+      long mappingNanos = Math.max(0, System.nanoTime() - startTime.nanos() - streamingNanos);
+      this.meterRecorder.recordTime(STREAMING, tags, Duration.ofNanos(streamingNanos));
+      this.meterRecorder.recordTime(MAPPING, tags, Duration.ofNanos(mappingNanos));
+    }
+  }
+
+  @Override
+  public boolean supportsContext(Observation.Context context) {
+    return context instanceof SpannerObservationContext;
+  }
+
+  /** The time an observation was started at. */
+  private record StartTime(long nanos) {}
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.observation;
+
+import io.micrometer.common.KeyValues;
+import java.time.Duration;
+
+/**
+ * Records the meters of a {@link SpannerMeterObservationHandler} in a meter registry. With
+ * Micrometer, a distribution is a {@code DistributionSummary} and a time is a {@code Timer}, both
+ * tagged with the given key values.
+ *
+ * @since 6.0.2
+ */
+public interface SpannerMeterRecorder {
+
+  /**
+   * Records an amount in a distribution.
+   *
+   * @param name the name of the distribution.
+   * @param tags the tags of the distribution.
+   * @param amount the amount to record.
+   */
+  void recordDistribution(String name, KeyValues tags, double amount);
+
+  /**
+   * Records a time.
+   *
+   * @param name the name of the timer.
+   * @param tags the tags of the timer.
+   * @param duration the time to record.
+   */
+  void recordTime(String name, KeyValues tags, Duration duration);
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core.observation;
+
+import com.google.cloud.spanner.Statement;
+import io.micrometer.observation.Observation;
+import org.springframework.lang.Nullable;
+
+/**
+ * The context of an observed Cloud Spanner operation of a {@code SpannerTemplate}. Besides what
+ * is known when the operation starts, it collects the number of rows, mutations and transaction
+ * attempts, and the time spent waiting for rows to be streamed from Cloud Spanner. The rest of the
+ * duration of a query or read is spent mapping the rows to entities.
+ *
+ * @since 6.0.2
+ */
+public class SpannerObservationContext extends Observation.Context {
+
+  /** The observed operations. */
+  public enum Operation {
+    /** An SQL query. */
+    QUERY("query"),
+
+    /** A read by keys. */
+    READ("read"),
+
+    /** A DML statement. */
+    DML("dml"),
+
+    /** A partitioned DML statement. */
+    PARTITIONED_DML("partitioned-dml"),
+
+    /** A commit of mutations outside of a transaction. */
+    COMMIT("commit"),
+
+    /** A read-write transaction, including all of its attempts. */
+    READ_WRITE_TRANSACTION("read-write-transaction");
+
+    private final String value;
+
+    Operation(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return this.value;
+    }
+  }
+
+  private final Operation operation;
+
+  @Nullable private final Class<?> entityType;
+
+  @Nullable private final String tableName;
+
+  @Nullable private final Statement statement;
+
+  private long rowCount = -1;
+
+  private int mutationCount;
+
+  private int attempts;
+
+  private long streamingNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param operation the observed operation.
+   * @param entityType the entity type that is read or written, if any.
+   * @param tableName the table that is read or written, if known.
+   * @param statement the statement that is run, if any.
+   */
+  public SpannerObservationContext(
+      Operation operation,
+      @Nullable Class<?> entityType,
+      @Nullable String tableName,
+      @Nullable Statement statement) {
+    this.operation = operation;
+    this.entityType = entityType;
+    this.tableName = tableName;
+    this.statement = statement;
+  }
+
+  public Operation getOperation() {
+    return this.operation;
+  }
+
+  @Nullable
+  public Class<?> getEntityType() {
+    return this.entityType;
+  }
+
+  @Nullable
+  public String getTableName() {
+    return this.tableName;
+  }
+
+  @Nullable
+  public Statement getStatement() {
+    return this.statement;
+  }
+
+  /**
+   * Gets the number of rows returned by a query or read, or affected by a DML statement.
+   *
+   * @return the number of rows, or {@code -1} if not known.
+   */
+  public long getRowCount() {
+    return this.rowCount;
+  }
+
+  public void setRowCount(long rowCount) {
+    this.rowCount = rowCount;
+  }
+
+  /**
+   * Gets the number of mutations in a commit.
+   *
+   * @return the number of mutations.
+   */
+  public int getMutationCount() {
+    return this.mutationCount;
+  }
+
+  public void setMutationCount(int mutationCount) {
+    this.mutationCount = mutationCount;
+  }
+
+  /**
+   * Gets the number of times a read-write transaction was run. All attempts but the last were
+   * aborted and retried.
+   *
+   * @return the number of attempts.
+   */
+  public int getAttempts() {
+    return this.attempts;
+  }
+
+  public void addAttempt() {
+    this.attempts++;
+  }
+
+  /**
+   * Gets the time a query or read spent waiting for rows to be streamed from Cloud Spanner.
+   *
+   * @return the time in nanoseconds.
+   */
+  public long getStreamingNanos() {
+    return this.streamingNanos;
+  }
+
+  public void addStreamingNanos(long nanos) {
+    this.streamingNanos += nanos;
+  }
+}
@@ -17,7 +17,13 @@
 package com.google.cloud.spring.data.spanner.repository;
 
 import com.google.cloud.spring.data.spanner.core.SpannerOperations;
+import java.util.Set;
 import java.util.function.Function;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 
@@ -39,6 +45,42 @@ public interface SpannerRepository<T, I> extends PagingAndSortingRepository<T, I
    */
   SpannerOperations getSpannerTemplate();
 
+  /**
+   * Returns which of the given ids exist. Only the primary key columns of the entities are read,
+   * which makes this suited to skipping existing entities before inserting new ones.
+   *
+   * @param ids the ids to check.
+   * @return the given ids that exist, in the order they were given.
+   * @since 6.0.2
+   */
+  Set<I> existingIds(Iterable<I> ids);
+
+  /**
+   * Gets a window of entities. With a keyset scroll position, such as {@link
+   * ScrollPosition#keyset()} or a position taken from a previous window, each window is read by
+   * seeking past the last entity of the previous window, so deep windows are as fast to read as
+   * the first one and no count query is run.
+   *
+   * @param scrollPosition the position after which to read.
+   * @param sort the sort of the entities. The primary key properties are appended to it for keyset
+   *     positions, to make the order unique.
+   * @param limit the maximum number of entities in the window.
+   * @return the window of entities.
+   * @since 6.0.2
+   */
+  Window<T> findAll(ScrollPosition scrollPosition, Sort sort, int limit);
+
+  /**
+   * Gets a slice of entities. Unlike {@link #findAll(Pageable)}, the total number of entities is
+   * not counted; only one more entity than the page size is read to know whether there is a next
+   * slice.
+   *
+   * @param pageable the page to read.
+   * @return the slice of entities.
+   * @since 6.0.2
+   */
+  Slice<T> findSlice(Pageable pageable);
+
   /**
    * Performs multiple read and write operations in a single transaction.
    *
@@ -16,10 +16,15 @@
 
 package com.google.cloud.spring.data.spanner.repository.query;
 
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Struct;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
+import com.google.cloud.spring.data.spanner.core.convert.StructAccessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -36,6 +41,12 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
   private final PartTree tree;
 
+  private volatile PartTreeStatementTemplate statementTemplate;
+
+  private volatile PartTreeStatementTemplate keyStatementTemplate;
+
+  private volatile PartTreeStatementTemplate projectionStatementTemplate;
+
   /**
    * Constructor.
    *
@@ -60,49 +71,132 @@ public class PartTreeSpannerQuery<T> extends AbstractSpannerQuery<T> {
     if (isCountOrExistsQuery()) {
       return SpannerStatementQueryExecutor.executeQuery(
           struct -> isCountQuery() ? struct.getLong(0) : struct.getBoolean(0),
-          this.entityType,
-          this.tree,
+          getStatementTemplate(),
           paramAccessor,
-          getQueryMethod().getQueryMethod().getParameters(),
-          this.spannerTemplate,
-          this.spannerMappingContext);
+          this.spannerTemplate);
     }
     if (this.tree.isDelete()) {
       return this.spannerTemplate.performReadWriteTransaction(getDeleteFunction(parameters));
     }
     return SpannerStatementQueryExecutor.executeQuery(
-        this.entityType,
-        this.tree,
-        paramAccessor,
-        getQueryMethod().getQueryMethod().getParameters(),
-        this.spannerTemplate,
-        this.spannerMappingContext);
+        this.entityType, getProjectionStatementTemplate(), paramAccessor, this.spannerTemplate);
+  }
+
+  /**
+   * Gets the compiled parts of this query's SQL statement, building them on first use.
+   *
+   * @return the statement template shared by all invocations of this query method.
+   */
+  PartTreeStatementTemplate getStatementTemplate() {
+    PartTreeStatementTemplate template = this.statementTemplate;
+    if (template == null) {
+      template =
+          SpannerStatementQueryExecutor.buildPartTreeStatementTemplate(
+              this.tree,
+              this.spannerMappingContext,
+              this.entityType,
+              getQueryMethod().getQueryMethod().getParameters());
+      this.statementTemplate = template;
+    }
+    return template;
+  }
+
+  /**
+   * Gets the compiled parts of this query's SQL statement that selects only the primary key
+   * columns, building them on first use.
+   *
+   * @return the key-only statement template shared by all invocations of this query method.
+   */
+  PartTreeStatementTemplate getKeyStatementTemplate() {
+    PartTreeStatementTemplate template = this.keyStatementTemplate;
+    if (template == null) {
+      template =
+          SpannerStatementQueryExecutor.buildPartTreeStatementTemplate(
+              this.tree,
+              this.spannerMappingContext,
+              this.entityType,
+              getQueryMethod().getQueryMethod().getParameters(),
+              true);
+      this.keyStatementTemplate = template;
+    }
+    return template;
+  }
+
+  /**
+   * Gets the compiled parts of this query's SQL statement that selects only the columns read by
+   * the projection the query method returns, building them on first use. If the query method does
+   * not return a closed projection, or the projection needs the whole entity, the statement
+   * template of the entity is returned.
+   *
+   * @return the statement template to read the results of this query method.
+   */
+  PartTreeStatementTemplate getProjectionStatementTemplate() {
+    PartTreeStatementTemplate template = this.projectionStatementTemplate;
+    if (template == null) {
+      // Dropping columns from a DISTINCT query would change which rows are distinct.
+      Set<String> columns =
+          this.tree.isDistinct() || getReturnedSimpleConvertableItemType() != null
+              ? null
+              : ProjectedColumns.resolve(
+                  this.queryMethod.getResultProcessor().getReturnedType(),
+                  this.spannerMappingContext.getPersistentEntityOrFail(this.entityType),
+                  this.spannerMappingContext);
+      template =
+          columns == null
+              ? getStatementTemplate()
+              : SpannerStatementQueryExecutor.buildPartTreeStatementTemplate(
+                  this.tree,
+                  this.spannerMappingContext,
+                  this.entityType,
+                  getQueryMethod().getQueryMethod().getParameters(),
+                  columns);
+      this.projectionStatementTemplate = template;
+    }
+    return template;
   }
 
   private Function<SpannerTemplate, List> getDeleteFunction(Object[] parameters) {
     return transactionTemplate -> {
       ParameterAccessor paramAccessor =
           new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
-      List<T> entitiesToDelete =
+      if (this.queryMethod.isCollectionQuery()) {
+        // The deleted entities are returned, so they have to be read in full.
+        List<T> entitiesToDelete =
+            SpannerStatementQueryExecutor.executeQuery(
+                this.entityType, getStatementTemplate(), paramAccessor, transactionTemplate);
+        transactionTemplate.deleteAll(entitiesToDelete);
+        return entitiesToDelete;
+      }
+
+      // Only the keys are needed to delete the rows, and interleaved children are removed by the
+      // database, so neither the other columns nor the child rows are read.
+      List<Key> keysToDelete =
           SpannerStatementQueryExecutor.executeQuery(
-              this.entityType,
-              this.tree,
+              PartTreeSpannerQuery::toKey,
+              getKeyStatementTemplate(),
               paramAccessor,
-              getQueryMethod().getQueryMethod().getParameters(),
-              transactionTemplate,
-              this.spannerMappingContext);
-      transactionTemplate.deleteAll(entitiesToDelete);
-
-      List result = null;
-      if (this.queryMethod.isCollectionQuery()) {
-        result = entitiesToDelete;
-      } else if (this.queryMethod.getReturnedObjectType() != void.class) {
-        result = Collections.singletonList(entitiesToDelete.size());
+              transactionTemplate);
+      if (!keysToDelete.isEmpty()) {
+        KeySet.Builder keySetBuilder = KeySet.newBuilder();
+        keysToDelete.forEach(keySetBuilder::addKey);
+        transactionTemplate.delete(this.entityType, keySetBuilder.build());
       }
-      return result;
+
+      return this.queryMethod.getReturnedObjectType() != void.class
+          ? Collections.singletonList(keysToDelete.size())
+          : null;
     };
   }
 
+  private static Key toKey(Struct struct) {
+    StructAccessor structAccessor = new StructAccessor(struct);
+    Key.Builder keyBuilder = Key.newBuilder();
+    for (int i = 0; i < struct.getColumnCount(); i++) {
+      keyBuilder.appendObject(structAccessor.getSingleValue(i));
+    }
+    return keyBuilder.build();
+  }
+
   private boolean isCountOrExistsQuery() {
     return isCountQuery() || isExistsQuery();
   }
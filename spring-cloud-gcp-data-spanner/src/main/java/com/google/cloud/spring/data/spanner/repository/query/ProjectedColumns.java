@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentProperty;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+/**
+ * Resolves the columns that have to be selected to create a projection of an entity, so that
+ * query methods returning projections do not read the columns and interleaved children that the
+ * projection never accesses.
+ *
+ * @since 6.0.2
+ */
+final class ProjectedColumns {
+
+  private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+
+  private ProjectedColumns() {}
+
+  /**
+   * Resolves the columns read by a projection.
+   *
+   * @param returnedType the return type of the query method.
+   * @param persistentEntity the entity the query method reads.
+   * @param mappingContext used to get metadata about embedded entities.
+   * @return the names of the columns to select, or {@code null} if all the columns of the entity
+   *     are needed, for example because the projection is open or reads interleaved children.
+   */
+  static Set<String> resolve(
+      ReturnedType returnedType,
+      SpannerPersistentEntity<?> persistentEntity,
+      SpannerMappingContext mappingContext) {
+    if (!returnedType.isProjecting()
+        || !returnedType.getDomainType().equals(persistentEntity.getType())) {
+      return null;
+    }
+    Class<?> projectionType = returnedType.getReturnedType();
+    List<ProjectedProperty> properties;
+    if (projectionType.isInterface()) {
+      properties = getClosedProjectionProperties(projectionType);
+    } else {
+      // DTOs are created from the entity properties named after their constructor parameters.
+      properties =
+          returnedType.getInputProperties().stream()
+              .map(name -> new ProjectedProperty(name, null))
+              .collect(Collectors.toList());
+    }
+    if (properties == null || properties.isEmpty()) {
+      return null;
+    }
+    Set<String> columns = new LinkedHashSet<>();
+    return addColumns(persistentEntity, properties, mappingContext, columns) ? columns : null;
+  }
+
+  private static boolean addColumns(
+      SpannerPersistentEntity<?> persistentEntity,
+      List<ProjectedProperty> properties,
+      SpannerMappingContext mappingContext,
+      Set<String> columns) {
+    // The entity is created before being projected, so its constructor arguments are always read.
+    InstanceCreatorMetadata<SpannerPersistentProperty> creator =
+        persistentEntity.getInstanceCreatorMetadata();
+    if (creator != null) {
+      for (Parameter<?, SpannerPersistentProperty> parameter : creator.getParameters()) {
+        SpannerPersistentProperty property =
+            persistentEntity.getPersistentProperty(parameter.getName());
+        if (property == null || !addColumns(property, null, mappingContext, columns)) {
+          return false;
+        }
+      }
+    }
+    for (ProjectedProperty projectedProperty : properties) {
+      SpannerPersistentProperty property =
+          persistentEntity.getPersistentProperty(projectedProperty.name());
+      if (property == null
+          || !addColumns(property, projectedProperty.type(), mappingContext, columns)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean addColumns(
+      SpannerPersistentProperty property,
+      Class<?> projectedType,
+      SpannerMappingContext mappingContext,
+      Set<String> columns) {
+    if (property.isInterleaved() || !property.isMapped()) {
+      return false;
+    }
+    if (!property.isEmbedded()) {
+      columns.add(property.getColumnName());
+      return true;
+    }
+    SpannerPersistentEntity<?> embeddedEntity =
+        mappingContext.getPersistentEntityOrFail(property.getType());
+    List<ProjectedProperty> embeddedProperties = null;
+    if (projectedType != null
+        && projectedType.isInterface()
+        && !projectedType.isAssignableFrom(property.getType())) {
+      // A nested projection only reads the embedded columns behind its own accessors.
+      embeddedProperties = getClosedProjectionProperties(projectedType);
+    }
+    if (embeddedProperties == null) {
+      List<ProjectedProperty> allProperties = new ArrayList<>();
+      embeddedEntity.doWithProperties(
+          (PropertyHandler<SpannerPersistentProperty>)
+              embeddedProperty -> {
+                if (embeddedProperty.isMapped()) {
+                  allProperties.add(new ProjectedProperty(embeddedProperty.getName(), null));
+                }
+              });
+      embeddedProperties = allProperties;
+    }
+    return addColumns(embeddedEntity, embeddedProperties, mappingContext, columns);
+  }
+
+  private static List<ProjectedProperty> getClosedProjectionProperties(Class<?> projectionType) {
+    ProjectionInformation information = PROJECTION_FACTORY.getProjectionInformation(projectionType);
+    return information.isClosed()
+        ? information.getInputProperties().stream()
+            .map(
+                descriptor ->
+                    new ProjectedProperty(descriptor.getName(), descriptor.getPropertyType()))
+            .collect(Collectors.toList())
+        : null;
+  }
+
+  /** A property read by a projection, with the type of its accessor if it is known. */
+  private record ProjectedProperty(String name, Class<?> type) {}
+}
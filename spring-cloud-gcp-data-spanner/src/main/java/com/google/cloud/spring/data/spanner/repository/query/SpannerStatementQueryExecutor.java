@@ -22,6 +22,7 @@ import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.ValueBinder;
 import com.google.cloud.spring.data.spanner.core.SpannerPageableQueryOptions;
+import com.google.cloud.spring.data.spanner.core.SpannerQueryOptions;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.core.convert.ConversionUtils;
 import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityWriter;
@@ -36,8 +37,10 @@ import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -87,21 +90,38 @@ public final class SpannerStatementQueryExecutor {
       Parameter[] queryMethodParamsMetadata,
       SpannerTemplate spannerTemplate,
       SpannerMappingContext spannerMappingContext) {
-    SqlStringAndPlaceholders sqlStringAndPlaceholders =
-        buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
-    Map<String, Parameter> paramMetadataMap =
-        preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
-    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
-    return spannerTemplate.query(
+    return executeQuery(
         type,
-        buildStatementFromSqlWithArgs(
-            sqlStringAndPlaceholders.getSql(),
-            sqlStringAndPlaceholders.getPlaceholders(),
-            null,
-            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-            params,
-            paramMetadataMap),
-        null);
+        buildPartTreeStatementTemplate(tree, spannerMappingContext, type, queryMethodParamsMetadata),
+        parameterAccessor,
+        spannerTemplate);
+  }
+
+  /**
+   * Executes a PartTree-based query using a previously compiled statement template.
+   *
+   * @param type the type of the underlying entity
+   * @param template the compiled parts of the query
+   * @param parameterAccessor the parameters of this specific query
+   * @param spannerTemplate used to execute the query
+   * @param <T> the type of the underlying entity
+   * @return list of entities.
+   */
+  static <T> List<T> executeQuery(
+      Class<T> type,
+      PartTreeStatementTemplate template,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
+    // Statements that select only some columns are mapped to partially read entities, without
+    // resolving their interleaved children.
+    SpannerQueryOptions options =
+        template.getSelectedColumns() == null
+            ? null
+            : new SpannerQueryOptions()
+                .setIncludeProperties(template.getSelectedColumns())
+                .setAllowPartialRead(true);
+    return spannerTemplate.query(
+        type, buildPartTreeStatement(template, parameterAccessor, spannerTemplate), options);
   }
 
   private static Map<String, Parameter> preparePartTreeSqlTagParameterMap(
@@ -142,21 +162,45 @@ public final class SpannerStatementQueryExecutor {
       Parameter[] queryMethodParamsMetadata,
       SpannerTemplate spannerTemplate,
       SpannerMappingContext spannerMappingContext) {
-    SqlStringAndPlaceholders sqlStringAndPlaceholders =
-        buildPartTreeSqlString(tree, spannerMappingContext, type, parameterAccessor);
-    Map<String, Parameter> paramMetadataMap =
-        preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, sqlStringAndPlaceholders);
-    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
-    return spannerTemplate.query(
+    return executeQuery(
         rowFunc,
-        buildStatementFromSqlWithArgs(
-            sqlStringAndPlaceholders.getSql(),
-            sqlStringAndPlaceholders.getPlaceholders(),
-            null,
-            spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
-            params,
-            paramMetadataMap),
-        null);
+        buildPartTreeStatementTemplate(tree, spannerMappingContext, type, queryMethodParamsMetadata),
+        parameterAccessor,
+        spannerTemplate);
+  }
+
+  /**
+   * Executes a PartTree-based query using a previously compiled statement template and applies a
+   * custom row-mapping function to the result.
+   *
+   * @param rowFunc the function to apply to each row of the result.
+   * @param template the compiled parts of the query
+   * @param parameterAccessor the parameters of this specific query
+   * @param spannerTemplate used to execute the query
+   * @param <A> the type to which to convert Struct params
+   * @return list of objects mapped using the given function.
+   */
+  static <A> List<A> executeQuery(
+      Function<Struct, A> rowFunc,
+      PartTreeStatementTemplate template,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
+    return spannerTemplate.query(
+        rowFunc, buildPartTreeStatement(template, parameterAccessor, spannerTemplate), null);
+  }
+
+  private static Statement buildPartTreeStatement(
+      PartTreeStatementTemplate template,
+      ParameterAccessor parameterAccessor,
+      SpannerTemplate spannerTemplate) {
+    Object[] params = StreamSupport.stream(parameterAccessor.spliterator(), false).toArray();
+    return buildStatementFromSqlWithArgs(
+        buildPartTreeSqlString(template, parameterAccessor),
+        template.getPlaceholders(),
+        null,
+        spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
+        params,
+        template.getParamMetadataMap());
   }
 
   /**
@@ -181,25 +225,58 @@ public final class SpannerStatementQueryExecutor {
       String sql,
       SpannerMappingContext mappingContext,
       boolean fetchInterleaved) {
+    if (!isWrappingRequired(options, fetchInterleaved)) {
+      return sql;
+    }
+    return applyPaging(
+        applySorting(entityClass, options.getSort(), sql, mappingContext, fetchInterleaved),
+        options);
+  }
+
+  /**
+   * Checks whether {@link #applySortingPagingQueryOptions} wraps the given SQL into an outer query.
+   *
+   * @param options query options containing the sorting and paging options
+   * @param fetchInterleaved whether eager-Interleaved lists are fetched with subqueries.
+   * @return {@code true} if the SQL needs to be wrapped.
+   */
+  static boolean isWrappingRequired(SpannerPageableQueryOptions options, boolean fetchInterleaved) {
     // Cloud Spanner does not preserve the order of derived tables so we must not wrap the
     // derived table
     // in SELECT * FROM () if there is no overriding pageable param.
-    if ((options.getSort() == null || options.getSort().isUnsorted())
-        && options.getLimit() == null
-        && options.getOffset() == null
-        && !fetchInterleaved) {
-      return sql;
-    }
+    return (options.getSort() != null && options.getSort().isSorted())
+        || options.getLimit() != null
+        || options.getOffset() != null
+        || fetchInterleaved;
+  }
 
+  /**
+   * Wraps the given SQL into an outer query that applies the entity where-clause, the interleaved
+   * subqueries and the sort, but not the limit and offset. The result only depends on its
+   * arguments, so it can be compiled once per sort and reused.
+   *
+   * @param entityClass the domain type whose table is being queried.
+   * @param sort the sort to apply, may be {@code null}.
+   * @param sql the sql that will be wrapped.
+   * @param mappingContext a mapping context to convert between Cloud Spanner column names and
+   *     underlying property names.
+   * @param fetchInterleaved whether eager-Interleaved lists are fetched with subqueries.
+   * @return the wrapped SQL string with sorting applied.
+   */
+  static String applySorting(
+      Class<?> entityClass,
+      Sort sort,
+      String sql,
+      SpannerMappingContext mappingContext,
+      boolean fetchInterleaved) {
     SpannerPersistentEntity<?> persistentEntity =
         mappingContext.getPersistentEntityOrFail(entityClass);
 
     final String subquery =
         fetchInterleaved ? getChildrenSubquery(persistentEntity, mappingContext) : "";
     final String alias = subquery.isEmpty() ? "" : " " + persistentEntity.tableName();
-    StringBuilder sb =
-        applySort(
-            options.getSort(),
+    return applySort(
+            sort,
             new StringBuilder("SELECT *")
                 .append(subquery)
                 .append(" FROM (")
@@ -207,7 +284,22 @@ public final class SpannerStatementQueryExecutor {
                 .append(")")
                 .append(alias)
                 .append(buildWhere(persistentEntity)),
-            persistentEntity);
+            persistentEntity)
+        .toString();
+  }
+
+  /**
+   * Appends the limit and offset of the given options to a SQL string.
+   *
+   * @param sql the sql, usually produced by {@link #applySorting}.
+   * @param options query options containing the paging options
+   * @return the SQL string with paging applied.
+   */
+  static String applyPaging(String sql, SpannerPageableQueryOptions options) {
+    if (options.getLimit() == null && options.getOffset() == null) {
+      return sql;
+    }
+    StringBuilder sb = new StringBuilder(sql);
     if (options.getLimit() != null) {
       sb.append(LIMIT).append(options.getLimit());
     }
@@ -538,24 +630,106 @@ public final class SpannerStatementQueryExecutor {
     return joiner.toString();
   }
 
-  private static SqlStringAndPlaceholders buildPartTreeSqlString(
+  /**
+   * Compiles the parts of a PartTree-based query that do not change between invocations of the
+   * query method.
+   *
+   * @param tree the parsed metadata of the query
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @param type the type of the underlying entity
+   * @param queryMethodParamsMetadata parameter metadata from Query Method
+   * @return the compiled statement template.
+   */
+  static PartTreeStatementTemplate buildPartTreeStatementTemplate(
+      PartTree tree,
+      SpannerMappingContext spannerMappingContext,
+      Class<?> type,
+      Parameter[] queryMethodParamsMetadata) {
+    return buildPartTreeStatementTemplate(
+        tree, spannerMappingContext, type, queryMethodParamsMetadata, false);
+  }
+
+  /**
+   * Compiles the parts of a PartTree-based query that do not change between invocations of the
+   * query method.
+   *
+   * @param tree the parsed metadata of the query
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @param type the type of the underlying entity
+   * @param queryMethodParamsMetadata parameter metadata from Query Method
+   * @param keysOnly if {@code true}, only the primary key columns of the matching rows are
+   *     selected.
+   * @return the compiled statement template.
+   */
+  static PartTreeStatementTemplate buildPartTreeStatementTemplate(
+      PartTree tree,
+      SpannerMappingContext spannerMappingContext,
+      Class<?> type,
+      Parameter[] queryMethodParamsMetadata,
+      boolean keysOnly) {
+    return buildPartTreeStatementTemplate(
+        tree,
+        spannerMappingContext,
+        type,
+        queryMethodParamsMetadata,
+        keysOnly
+            ? spannerMappingContext.getPersistentEntityOrFail(type)
+                .getFlattenedPrimaryKeyProperties().stream()
+                .map(SpannerPersistentProperty::getColumnName)
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+            : null);
+  }
+
+  /**
+   * Compiles the parts of a PartTree-based query that do not change between invocations of the
+   * query method, selecting only the given columns.
+   *
+   * @param tree the parsed metadata of the query
+   * @param spannerMappingContext used to get metadata about the entity type
+   * @param type the type of the underlying entity
+   * @param queryMethodParamsMetadata parameter metadata from Query Method
+   * @param selectedColumns the columns to select, or {@code null} to select the whole entity
+   *     including its eagerly loaded interleaved children.
+   * @return the compiled statement template.
+   */
+  static PartTreeStatementTemplate buildPartTreeStatementTemplate(
       PartTree tree,
       SpannerMappingContext spannerMappingContext,
-      Class type,
-      ParameterAccessor params) {
+      Class<?> type,
+      Parameter[] queryMethodParamsMetadata,
+      Set<String> selectedColumns) {
 
     SpannerPersistentEntity<?> persistentEntity =
         spannerMappingContext.getPersistentEntityOrFail(type);
     List<String> tags = new ArrayList<>();
     StringBuilder stringBuilder = new StringBuilder();
 
-    buildSelect(persistentEntity, tree, stringBuilder, spannerMappingContext);
+    if (selectedColumns != null) {
+      buildColumnSelect(selectedColumns, stringBuilder);
+    } else {
+      buildSelect(persistentEntity, tree, stringBuilder, spannerMappingContext);
+    }
     buildFrom(persistentEntity, stringBuilder);
     buildWhere(tree, persistentEntity, tags, stringBuilder);
-    applySort(
-        params.getSort().isSorted() ? params.getSort() : tree.getSort(),
-        stringBuilder,
-        persistentEntity);
+
+    SqlStringAndPlaceholders selectFromWhere =
+        new SqlStringAndPlaceholders(stringBuilder.toString(), tags);
+    return new PartTreeStatementTemplate(
+        tree,
+        persistentEntity,
+        selectFromWhere,
+        preparePartTreeSqlTagParameterMap(queryMethodParamsMetadata, selectFromWhere),
+        selectedColumns);
+  }
+
+  private static String buildPartTreeSqlString(
+      PartTreeStatementTemplate template, ParameterAccessor params) {
+    PartTree tree = template.getTree();
+
+    StringBuilder stringBuilder =
+        new StringBuilder(
+            template.getSortedSql(
+                params.getSort().isSorted() ? params.getSort() : tree.getSort()));
     buildLimit(tree, stringBuilder, params.getPageable());
 
     String selectSql = stringBuilder.toString();
@@ -567,7 +741,7 @@ public final class SpannerStatementQueryExecutor {
     } else if (tree.isExistsProjection()) {
       finalSql = "SELECT EXISTS(" + selectSql + ")";
     }
-    return new SqlStringAndPlaceholders(finalSql, tags);
+    return finalSql;
   }
 
   private static void buildSelect(
@@ -586,6 +760,12 @@ public final class SpannerStatementQueryExecutor {
         .append(" ");
   }
 
+  private static void buildColumnSelect(Set<String> columns, StringBuilder stringBuilder) {
+    // Column selections are only compiled for primary keys, which are unique, and for queries
+    // without DISTINCT, so DISTINCT is never needed.
+    stringBuilder.append("SELECT ").append(String.join(", ", columns)).append(" ");
+  }
+
   private static void buildFrom(
       SpannerPersistentEntity<?> persistentEntity, StringBuilder stringBuilder) {
     stringBuilder.append("FROM ").append(persistentEntity.tableName()).append(" ");
@@ -87,6 +87,13 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
 
   private SpelExpressionParser expressionParser;
 
+  private volatile CompiledSql compiledSql;
+
+  private volatile Boolean returnsEagerlyLoadedEntity;
+
+  private final StatementTemplateCache<SortedSqlKey, String> sortedSqlCache =
+      new StatementTemplateCache<>();
+
   SqlSpannerQuery(
       Class<T> type,
       SpannerQueryMethod queryMethod,
@@ -189,13 +196,17 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
         .getEvaluationContext(queryTagValue.rawParams).getEvaluationContext();
   }
 
-  private void resolveSpelTags(QueryTagValue queryTagValue) {
-    Expression[] expressions = detectExpressions(queryTagValue.sql);
+  private void resolveSpelTags(QueryTagValue queryTagValue, CompiledSql compiled) {
+    if (compiled.literalSql() != null) {
+      // No SpEL expressions, so there is nothing to evaluate or bind beyond the method params.
+      queryTagValue.sql = compiled.literalSql();
+      return;
+    }
     StringBuilder sb = new StringBuilder();
     Map<Object, String> valueToTag = new HashMap<>();
     int tagNum = 0;
     EvaluationContext evaluationContext = getEvaluationContext(queryTagValue);
-    for (Expression expression : expressions) {
+    for (Expression expression : compiled.expressions()) {
       if (expression instanceof LiteralExpression) {
         sb.append(expression.getValue(String.class));
       } else if (expression instanceof SpelExpression) {
@@ -222,6 +233,49 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     queryTagValue.sql = sb.toString();
   }
 
+  /**
+   * Gets the parts of this query that do not change between invocations, compiling them on first
+   * use: the entity class names resolved to table names, the parsed SpEL expressions, the parameter
+   * tags and the parameter metadata.
+   *
+   * @return the compiled query shared by all invocations of this query method.
+   */
+  private CompiledSql getCompiledSql() {
+    CompiledSql compiled = this.compiledSql;
+    if (compiled == null) {
+      List<Expression> expressions =
+          Collections.unmodifiableList(
+              Arrays.asList(
+                  detectExpressions(
+                      resolveEntityClassNames(this.sql, this.spannerMappingContext))));
+      String literalSql = null;
+      if (expressions.stream().allMatch(LiteralExpression.class::isInstance)) {
+        StringBuilder sb = new StringBuilder();
+        for (Expression expression : expressions) {
+          sb.append(expression.getValue(String.class));
+        }
+        literalSql = sb.toString();
+      }
+      compiled =
+          new CompiledSql(
+              Collections.unmodifiableList(getParamTags()),
+              expressions,
+              literalSql,
+              buildParamMetadataMap());
+      this.compiledSql = compiled;
+    }
+    return compiled;
+  }
+
+  private Map<String, java.lang.reflect.Parameter> buildParamMetadataMap() {
+    Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
+    for (java.lang.reflect.Parameter param : getQueryMethod().getQueryMethod().getParameters()) {
+      Param annotation = param.getAnnotation(Param.class);
+      paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
+    }
+    return paramMetadataMap;
+  }
+
   @Override
   public List executeRawResult(Object[] parameters) {
 
@@ -229,22 +283,22 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
         new ParametersParameterAccessor(getQueryMethod().getParameters(), parameters);
     Object[] params = StreamSupport.stream(paramAccessor.spliterator(), false).toArray();
 
+    CompiledSql compiled = getCompiledSql();
     QueryTagValue queryTagValue =
-        new QueryTagValue(
-            getParamTags(),
-            parameters,
-            params,
-            resolveEntityClassNames(this.sql, this.spannerMappingContext));
+        new QueryTagValue(new ArrayList<>(compiled.paramTags()), parameters, params, this.sql);
 
-    resolveSpelTags(queryTagValue);
+    resolveSpelTags(queryTagValue, compiled);
 
     return this.isDml
         ? Collections.singletonList(
-            this.spannerTemplate.executeDmlStatement(buildStatementFromQueryAndTags(queryTagValue)))
-        : executeReadSql(paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue);
+            this.spannerTemplate.executeDmlStatement(
+                buildStatementFromQueryAndTags(queryTagValue, compiled)))
+        : executeReadSql(
+            paramAccessor.getPageable(), paramAccessor.getSort(), queryTagValue, compiled);
   }
 
-  private List executeReadSql(Pageable pageable, Sort sort, QueryTagValue queryTagValue) {
+  private List executeReadSql(
+      Pageable pageable, Sort sort, QueryTagValue queryTagValue, CompiledSql compiled) {
     SpannerPageableQueryOptions spannerQueryOptions =
         new SpannerPageableQueryOptions().setAllowPartialRead(true);
 
@@ -257,18 +311,24 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     }
 
     final Class<?> returnedType = getReturnedType();
-    final SpannerPersistentEntity<?> entity =
-        returnedType == null ? null : this.spannerMappingContext.getPersistentEntity(returnedType);
-
-    queryTagValue.sql =
-        SpannerStatementQueryExecutor.applySortingPagingQueryOptions(
-            this.entityType,
-            spannerQueryOptions,
-            queryTagValue.sql,
-            this.spannerMappingContext,
-            entity != null && entity.hasEagerlyLoadedProperties());
+    final boolean fetchInterleaved = isFetchInterleaved(returnedType);
+
+    if (SpannerStatementQueryExecutor.isWrappingRequired(spannerQueryOptions, fetchInterleaved)) {
+      queryTagValue.sql =
+          SpannerStatementQueryExecutor.applyPaging(
+              this.sortedSqlCache.get(
+                  new SortedSqlKey(queryTagValue.sql, spannerQueryOptions.getSort()),
+                  key ->
+                      SpannerStatementQueryExecutor.applySorting(
+                          this.entityType,
+                          key.sort(),
+                          key.sql(),
+                          this.spannerMappingContext,
+                          fetchInterleaved)),
+              spannerQueryOptions);
+    }
 
-    Statement statement = buildStatementFromQueryAndTags(queryTagValue);
+    Statement statement = buildStatementFromQueryAndTags(queryTagValue, compiled);
 
     if (getReturnedSimpleConvertableItemType() != null) {
       return this.spannerTemplate.query(
@@ -286,6 +346,19 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     return this.spannerTemplate.query(this.entityType, statement, spannerQueryOptions);
   }
 
+  private boolean isFetchInterleaved(Class<?> returnedType) {
+    Boolean result = this.returnsEagerlyLoadedEntity;
+    if (result == null) {
+      SpannerPersistentEntity<?> entity =
+          returnedType == null
+              ? null
+              : this.spannerMappingContext.getPersistentEntity(returnedType);
+      result = entity != null && entity.hasEagerlyLoadedProperties();
+      this.returnsEagerlyLoadedEntity = result;
+    }
+    return result;
+  }
+
   private boolean isJsonFieldType(Class<?> returnedType) {
     SpannerPersistentEntityImpl<?> persistentEntity =
         (SpannerPersistentEntityImpl<?>)
@@ -296,19 +369,15 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     return persistentEntity.isJsonProperty(returnedType);
   }
 
-  private Statement buildStatementFromQueryAndTags(QueryTagValue queryTagValue) {
-    Map<String, java.lang.reflect.Parameter> paramMetadataMap = new HashMap<>();
-    for (java.lang.reflect.Parameter param : getQueryMethod().getQueryMethod().getParameters()) {
-      Param annotation = param.getAnnotation(Param.class);
-      paramMetadataMap.put(annotation == null ? param.getName() : annotation.value(), param);
-    }
+  private Statement buildStatementFromQueryAndTags(
+      QueryTagValue queryTagValue, CompiledSql compiled) {
     return SpannerStatementQueryExecutor.buildStatementFromSqlWithArgs(
         queryTagValue.sql,
         queryTagValue.tags,
         this.paramStructConvertFunc,
         this.spannerTemplate.getSpannerEntityProcessor().getWriteConverter(),
         queryTagValue.params.toArray(),
-        paramMetadataMap);
+        compiled.paramMetadataMap());
   }
 
   private Expression[] detectExpressions(String sql) {
@@ -325,6 +394,17 @@ public class SqlSpannerQuery<T> extends AbstractSpannerQuery<T> {
     }
   }
 
+  // The invocation-independent parts of the query. literalSql is null when there are SpEL
+  // expressions to evaluate.
+  private record CompiledSql(
+      List<String> paramTags,
+      List<Expression> expressions,
+      String literalSql,
+      Map<String, java.lang.reflect.Parameter> paramMetadataMap) {}
+
+  // The shape a sorted query is compiled for; the sort is null when only paging is applied.
+  private record SortedSqlKey(String sql, Sort sort) {}
+
   // Convenience class to hold a grouping of SQL, tags, and parameter values.
   private static class QueryTagValue {
 
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reads with a stale timestamp bound in the methods of a repository. On a repository interface it
+ * applies to all of its methods, including the inherited CRUD methods, and on a method it takes
+ * precedence over the annotation of the interface. Stale reads may be served by the nearest replica
+ * without a round trip to the leader.
+ *
+ * <p>The timestamp bound applies to the single-use reads of the method. Reads in transactions are
+ * not affected. Exactly one of the staleness attributes must be positive.
+ *
+ * @since 6.0.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Documented
+public @interface StaleRead {
+
+  /**
+   * Reads data that is at most this many milliseconds old, at a timestamp chosen by Cloud Spanner.
+   *
+   * @return the maximum staleness in milliseconds.
+   */
+  long maxStalenessMillis() default 0;
+
+  /**
+   * Reads data exactly this many milliseconds old.
+   *
+   * @return the exact staleness in milliseconds.
+   */
+  long exactStalenessMillis() default 0;
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe cache of compiled SQL fragments for a single query method. Once the cache
+ * is full, new shapes are still computed but no longer stored, so that query methods receiving
+ * arbitrary user-provided sorts cannot grow the cache without limit.
+ *
+ * @param <K> the type of the shape (sort, paging, etc.) the fragment was compiled for
+ * @param <V> the type of the compiled fragment
+ * @since 6.0.2
+ */
+final class StatementTemplateCache<K, V> {
+
+  static final int DEFAULT_MAX_SIZE = 256;
+
+  private final Map<K, V> templates = new ConcurrentHashMap<>();
+
+  private final int maxSize;
+
+  StatementTemplateCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  StatementTemplateCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  V get(K key, Function<K, V> compiler) {
+    V template = this.templates.get(key);
+    if (template != null) {
+      return template;
+    }
+    template = compiler.apply(key);
+    if (this.templates.size() < this.maxSize) {
+      V existing = this.templates.putIfAbsent(key, template);
+      if (existing != null) {
+        return existing;
+      }
+    }
+    return template;
+  }
+
+  int size() {
+    return this.templates.size();
+  }
+}
@@ -23,12 +23,21 @@ import com.google.cloud.spring.data.spanner.core.SpannerPageableQueryOptions;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.repository.SpannerRepository;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
 
 /**
@@ -102,6 +111,21 @@ public class SimpleSpannerRepository<T, I> implements SpannerRepository<T, I> {
     return this.spannerTemplate.existsById(this.entityType, toKey(id));
   }
 
+  @Override
+  public Set<I> existingIds(Iterable<I> ids) {
+    Assert.notNull(ids, "IDs must not be null");
+    Map<Key, I> idsByKey = new LinkedHashMap<>();
+    for (I id : ids) {
+      Assert.notNull(id, NON_NULL_ID_REQUIRED);
+      idsByKey.putIfAbsent(toKey(id), id);
+    }
+    Set<I> existingIds = new LinkedHashSet<>();
+    for (Key key : this.spannerTemplate.existingIds(this.entityType, idsByKey.keySet())) {
+      existingIds.add(idsByKey.get(key));
+    }
+    return existingIds;
+  }
+
   @Override
   public Iterable<T> findAll() {
     return this.spannerTemplate.readAll(this.entityType);
@@ -162,7 +186,8 @@ public class SimpleSpannerRepository<T, I> implements SpannerRepository<T, I> {
 
   @Override
   public Page<T> findAll(Pageable pageable) {
-    return new PageImpl<>(
+    // The total is only counted if it cannot be derived from the page, and then approximately.
+    return PageableExecutionUtils.getPage(
         this.spannerTemplate.queryAll(
             this.entityType,
             new SpannerPageableQueryOptions()
@@ -170,7 +195,36 @@ public class SimpleSpannerRepository<T, I> implements SpannerRepository<T, I> {
                 .setOffset(pageable.getOffset())
                 .setSort(pageable.getSort())),
         pageable,
-        this.spannerTemplate.count(this.entityType));
+        () -> this.spannerTemplate.approximateCount(this.entityType));
+  }
+
+  @Override
+  public Window<T> findAll(ScrollPosition scrollPosition, Sort sort, int limit) {
+    return this.spannerTemplate.scrollAll(
+        this.entityType,
+        scrollPosition,
+        new SpannerPageableQueryOptions().setLimit(limit).setSort(sort));
+  }
+
+  @Override
+  public Slice<T> findSlice(Pageable pageable) {
+    if (pageable.isUnpaged()) {
+      return new SliceImpl<>(
+          this.spannerTemplate.queryAll(
+              this.entityType, new SpannerPageableQueryOptions().setSort(pageable.getSort())),
+          pageable,
+          false);
+    }
+    List<T> content =
+        this.spannerTemplate.queryAll(
+            this.entityType,
+            new SpannerPageableQueryOptions()
+                .setLimit(pageable.getPageSize() + 1)
+                .setOffset(pageable.getOffset())
+                .setSort(pageable.getSort()));
+    boolean hasNext = content.size() > pageable.getPageSize();
+    return new SliceImpl<>(
+        hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
   }
 
   @Override
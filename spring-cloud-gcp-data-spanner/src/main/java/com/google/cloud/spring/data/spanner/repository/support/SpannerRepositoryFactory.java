@@ -73,6 +73,10 @@ public class SpannerRepositoryFactory extends RepositoryFactorySupport
     Assert.notNull(spannerTemplate, "A valid SpannerTemplate object is required.");
     this.spannerMappingContext = spannerMappingContext;
     this.spannerTemplate = spannerTemplate;
+    addRepositoryProxyPostProcessor(
+        (factory, repositoryInformation) ->
+            factory.addAdvice(
+                new StaleReadMethodInterceptor(repositoryInformation.getRepositoryInterface())));
   }
 
   @Override
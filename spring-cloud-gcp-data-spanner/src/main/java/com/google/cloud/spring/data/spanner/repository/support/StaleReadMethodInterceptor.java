@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.support;
+
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.SpannerTimestampBoundHolder;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.repository.query.StaleRead;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * Sets the timestamp bound of the {@link StaleRead} annotation of a repository method, or else of
+ * the repository interface, while the method is invoked.
+ *
+ * @since 6.0.2
+ */
+class StaleReadMethodInterceptor implements MethodInterceptor {
+
+  private final Optional<TimestampBound> repositoryTimestampBound;
+
+  private final Map<Method, Optional<TimestampBound>> methodTimestampBounds =
+      new ConcurrentHashMap<>();
+
+  StaleReadMethodInterceptor(Class<?> repositoryInterface) {
+    this.repositoryTimestampBound =
+        Optional.ofNullable(
+            toTimestampBound(
+                AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, StaleRead.class),
+                repositoryInterface.getName()));
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Optional<TimestampBound> timestampBound =
+        this.methodTimestampBounds.computeIfAbsent(invocation.getMethod(), this::resolve);
+    if (timestampBound.isEmpty()) {
+      return invocation.proceed();
+    }
+    TimestampBound previous = SpannerTimestampBoundHolder.setTimestampBound(timestampBound.get());
+    try {
+      return invocation.proceed();
+    } finally {
+      SpannerTimestampBoundHolder.setTimestampBound(previous);
+    }
+  }
+
+  private Optional<TimestampBound> resolve(Method method) {
+    StaleRead staleRead = AnnotatedElementUtils.findMergedAnnotation(method, StaleRead.class);
+    return staleRead != null
+        ? Optional.of(toTimestampBound(staleRead, method.toString()))
+        : this.repositoryTimestampBound;
+  }
+
+  private static TimestampBound toTimestampBound(StaleRead staleRead, String annotatedElement) {
+    if (staleRead == null) {
+      return null;
+    }
+    if ((staleRead.maxStalenessMillis() > 0) == (staleRead.exactStalenessMillis() > 0)) {
+      throw new SpannerDataException(
+          "Exactly one of maxStalenessMillis and exactStalenessMillis must be positive in the"
+              + " @StaleRead annotation of: "
+              + annotatedElement);
+    }
+    return staleRead.maxStalenessMillis() > 0
+        ? TimestampBound.ofMaxStaleness(staleRead.maxStalenessMillis(), TimeUnit.MILLISECONDS)
+        : TimestampBound.ofExactStaleness(staleRead.exactStalenessMillis(), TimeUnit.MILLISECONDS);
+  }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.api.core.ApiFutures;
+import com.google.cloud.spanner.AsyncResultSet;
+import com.google.cloud.spanner.AsyncResultSet.CallbackResponse;
+import com.google.cloud.spanner.AsyncResultSet.CursorState;
+import com.google.cloud.spanner.AsyncResultSet.ReadyCallback;
+import com.google.cloud.spanner.AsyncRunner;
+import com.google.cloud.spanner.AsyncRunner.AsyncWork;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
+import com.google.cloud.spanner.TransactionContext;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
+import com.google.cloud.spring.data.spanner.core.mapping.Interleaved;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the asynchronous Spanner Template. */
+class AsyncSpannerTemplateTests {
+
+  private DatabaseClient databaseClient;
+
+  private ReadContext readContext;
+
+  private SpannerEntityProcessor entityProcessor;
+
+  private SpannerMutationFactory mutationFactory;
+
+  private TransactionContext transactionContext;
+
+  private AsyncSpannerTemplate asyncSpannerTemplate;
+
+  @BeforeEach
+  void setUp() {
+    this.databaseClient = mock(DatabaseClient.class);
+    this.readContext = mock(ReadContext.class);
+    this.entityProcessor = mock(SpannerEntityProcessor.class);
+    this.mutationFactory = mock(SpannerMutationFactory.class);
+    this.transactionContext = mock(TransactionContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(this.readContext);
+    when(this.entityProcessor.getWriteConverter()).thenReturn(new SpannerWriteConverter());
+
+    AsyncRunner asyncRunner = mock(AsyncRunner.class);
+    when(this.databaseClient.runAsync()).thenReturn(asyncRunner);
+    when(asyncRunner.runAsync(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              AsyncWork<?> work = invocation.getArgument(0);
+              return work.doWorkAsync(this.transactionContext);
+            });
+
+    SpannerMappingContext mappingContext = new SpannerMappingContext();
+    SpannerTemplate spannerTemplate =
+        new SpannerTemplate(
+            () -> this.databaseClient,
+            mappingContext,
+            this.entityProcessor,
+            this.mutationFactory,
+            new SpannerSchemaUtils(mappingContext, this.entityProcessor, true));
+    this.asyncSpannerTemplate =
+        new AsyncSpannerTemplate(() -> this.databaseClient, spannerTemplate, Runnable::run);
+  }
+
+  @Test
+  void queryConsumesRowsAsTheyArriveTest() throws Exception {
+    Statement statement = Statement.of("SELECT id FROM async_test");
+    AsyncResultSet resultSet =
+        resultSet(
+            Arrays.asList(row("a"), null, row("b")),
+            Arrays.asList(CallbackResponse.CONTINUE, CallbackResponse.DONE));
+    when(this.readContext.executeQueryAsync(statement)).thenReturn(resultSet);
+
+    CompletableFuture<List<String>> ids =
+        this.asyncSpannerTemplate.query(struct -> struct.getString("id"), statement, null);
+
+    assertThat(ids.get()).containsExactly("a", "b");
+  }
+
+  @Test
+  void readMapsEntitiesTest() throws Exception {
+    Struct row = row("a");
+    AsyncResultSet resultSet =
+        resultSet(Collections.singletonList(row), Collections.singletonList(CallbackResponse.DONE));
+    when(this.readContext.readAsync(eq("async_test"), eq(KeySet.singleKey(Key.of("a"))), any()))
+        .thenReturn(resultSet);
+    TestEntity entity = new TestEntity();
+    when(this.entityProcessor.read(TestEntity.class, row, null, false)).thenReturn(entity);
+
+    assertThat(this.asyncSpannerTemplate.read(TestEntity.class, Key.of("a")).get())
+        .isSameAs(entity);
+  }
+
+  @Test
+  void insertCommitsInTransactionTest() throws Exception {
+    TestEntity entity = new TestEntity();
+    List<Mutation> mutations =
+        Collections.singletonList(
+            Mutation.newInsertBuilder("async_test").set("id").to("a").build());
+    when(this.mutationFactory.insert(entity)).thenReturn(mutations);
+
+    this.asyncSpannerTemplate.insert(entity).get();
+
+    verify(this.transactionContext).buffer(mutations);
+  }
+
+  @Test
+  void readWriteTransactionTest() throws Exception {
+    AsyncResultSet resultSet =
+        resultSet(
+            Collections.singletonList(row("a")), Collections.singletonList(CallbackResponse.DONE));
+    Statement statement = Statement.of("SELECT id FROM async_test");
+    when(this.transactionContext.executeQueryAsync(statement)).thenReturn(resultSet);
+    TestEntity entity = new TestEntity();
+    List<Mutation> mutations =
+        Collections.singletonList(Mutation.delete("async_test", Key.of("a")));
+    when(this.mutationFactory.delete(entity)).thenReturn(mutations.get(0));
+
+    String result =
+        this.asyncSpannerTemplate
+            .performReadWriteTransaction(
+                operations ->
+                    operations
+                        .query(struct -> struct.getString("id"), statement, null)
+                        .thenCompose(
+                            ids -> operations.delete(entity).thenApply(unused -> ids.get(0))))
+            .get();
+
+    assertThat(result).isEqualTo("a");
+    verify(this.transactionContext).buffer(mutations);
+    verify(this.databaseClient, never()).singleUse();
+  }
+
+  @Test
+  void unloadedChildrenRejectedInTransactionTest() {
+    Struct row = row("a");
+    AsyncResultSet resultSet =
+        resultSet(Collections.singletonList(row), Collections.singletonList(CallbackResponse.DONE));
+    Statement statement = Statement.of("SELECT id FROM async_parent");
+    when(this.transactionContext.executeQueryAsync(statement)).thenReturn(resultSet);
+    when(this.entityProcessor.read(ParentEntity.class, row, null, false))
+        .thenReturn(new ParentEntity());
+
+    CompletableFuture<List<ParentEntity>> result =
+        this.asyncSpannerTemplate.performReadWriteTransaction(
+            operations -> operations.query(ParentEntity.class, statement, null));
+
+    assertThatThrownBy(result::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(SpannerDataException.class)
+        .hasMessageContaining("children");
+    verify(this.databaseClient, never()).singleUse();
+  }
+
+  @Test
+  void nestedTransactionTest() {
+    CompletableFuture<Object> result =
+        this.asyncSpannerTemplate.performReadWriteTransaction(
+            operations -> operations.performReadWriteTransaction(nested -> null));
+
+    assertThatThrownBy(result::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(SpannerDataException.class);
+  }
+
+  @Test
+  void failedQueryTest() {
+    Statement statement = Statement.of("SELECT id FROM async_test");
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.setCallback(any(), any()))
+        .thenReturn(ApiFutures.immediateFailedFuture(new IllegalStateException("failed")));
+    when(this.readContext.executeQueryAsync(statement)).thenReturn(resultSet);
+
+    assertThatThrownBy(
+            () ->
+                this.asyncSpannerTemplate
+                    .query(struct -> struct.getString("id"), statement, null)
+                    .get())
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  /**
+   * Creates a result set that delivers the given rows, where {@code null} marks a point at which no
+   * row is ready yet. The callback is invoked once per expected response.
+   */
+  private static AsyncResultSet resultSet(
+      List<Struct> rows, List<CallbackResponse> expectedResponses) {
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    List<CursorState> states = new ArrayList<>();
+    List<Struct> currentRows = new ArrayList<>();
+    for (Struct row : rows) {
+      states.add(row == null ? CursorState.NOT_READY : CursorState.OK);
+      if (row != null) {
+        currentRows.add(row);
+      }
+    }
+    states.add(CursorState.DONE);
+    when(resultSet.tryNext())
+        .thenReturn(states.get(0), states.subList(1, states.size()).toArray(new CursorState[0]));
+    if (!currentRows.isEmpty()) {
+      when(resultSet.getCurrentRowAsStruct())
+          .thenReturn(
+              currentRows.get(0),
+              currentRows.subList(1, currentRows.size()).toArray(new Struct[0]));
+    }
+    when(resultSet.setCallback(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              ReadyCallback callback = invocation.getArgument(1);
+              for (CallbackResponse expected : expectedResponses) {
+                assertThat(callback.cursorReady(resultSet)).isEqualTo(expected);
+              }
+              return ApiFutures.immediateFuture(null);
+            });
+    return resultSet;
+  }
+
+  private static Struct row(String id) {
+    return Struct.newBuilder().set("id").to(id).build();
+  }
+
+  @Table(name = "async_test")
+  private static class TestEntity {
+    @PrimaryKey String id;
+  }
+
+  @Table(name = "async_parent")
+  private static class ParentEntity {
+    @PrimaryKey String id;
+
+    @Interleaved List<ChildEntity> children;
+  }
+
+  @Table(name = "async_child")
+  private static class ChildEntity {
+    @PrimaryKey String id;
+
+    @PrimaryKey(keyOrder = 2)
+    String childId;
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.api.gax.rpc.ServerStream;
+import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.CommitResponse;
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.ErrorCode;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.SpannerExceptionFactory;
+import com.google.rpc.Code;
+import com.google.rpc.Status;
+import com.google.spanner.v1.BatchWriteResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the bulk writer of the Spanner Template. */
+class SpannerBulkWriterTests {
+
+  private static final Timestamp COMMIT_TIMESTAMP = Timestamp.ofTimeMicroseconds(333);
+
+  private DatabaseClient databaseClient;
+
+  private SpannerBulkWriter bulkWriter;
+
+  @BeforeEach
+  void setUp() {
+    this.databaseClient = mock(DatabaseClient.class);
+    this.bulkWriter = new SpannerBulkWriter(() -> this.databaseClient);
+  }
+
+  @Test
+  void chunkByMutationCountTest() {
+    List<List<Mutation>> groups = groups(5, 3);
+
+    List<SpannerBulkWriter.Chunk> chunks =
+        SpannerBulkWriter.chunk(groups, new SpannerBulkWriteOptions().setMaxMutationsPerCommit(7));
+
+    // Each group has 3 mutations, so at most 2 groups fit into a chunk of 7.
+    assertThat(chunks)
+        .extracting(chunk -> chunk.groupIndexes)
+        .containsExactly(Arrays.asList(0, 1), Arrays.asList(2, 3), Collections.singletonList(4));
+    assertThat(chunks).extracting(chunk -> chunk.mutationCount).containsExactly(6, 6, 3);
+  }
+
+  @Test
+  void chunkByBytesTest() {
+    List<List<Mutation>> groups = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      groups.add(
+          Collections.singletonList(
+              Mutation.newInsertBuilder("t").set("c").to("x".repeat(1000)).build()));
+    }
+
+    List<SpannerBulkWriter.Chunk> chunks =
+        SpannerBulkWriter.chunk(groups, new SpannerBulkWriteOptions().setMaxBytesPerCommit(2500));
+
+    assertThat(chunks)
+        .extracting(chunk -> chunk.groupIndexes)
+        .containsExactly(Arrays.asList(0, 1), Collections.singletonList(2));
+  }
+
+  @Test
+  void oversizedGroupIsNotSplitTest() {
+    List<SpannerBulkWriter.Chunk> chunks =
+        SpannerBulkWriter.chunk(
+            groups(2, 10), new SpannerBulkWriteOptions().setMaxMutationsPerCommit(4));
+
+    assertThat(chunks).extracting(chunk -> chunk.mutationCount).containsExactly(10, 10);
+  }
+
+  @Test
+  void emptyInputTest() {
+    SpannerBulkWriteResult result =
+        this.bulkWriter.write(
+            Collections.emptyList(), new SpannerBulkWriteOptions().setParallelism(4));
+
+    assertThat(result.getGroupResults()).isEmpty();
+    assertThat(result.getCommitCount()).isZero();
+    assertThat(result.getMutationCount()).isZero();
+    verifyNoInteractions(this.databaseClient);
+  }
+
+  @Test
+  void deleteMutationsCountOnceTest() {
+    assertThat(SpannerBulkWriter.countMutations(Mutation.delete("t", Key.of("a")))).isEqualTo(1);
+  }
+
+  @Test
+  void commitFailureReportedPerGroupTest() {
+    when(this.databaseClient.writeWithOptions(any()))
+        .thenReturn(new CommitResponse(COMMIT_TIMESTAMP))
+        .thenThrow(
+            SpannerExceptionFactory.newSpannerException(ErrorCode.ALREADY_EXISTS, "duplicate"));
+
+    SpannerBulkWriteResult result =
+        this.bulkWriter.write(
+            groups(4, 1), new SpannerBulkWriteOptions().setMaxMutationsPerCommit(2));
+
+    verify(this.databaseClient, times(2)).writeWithOptions(any());
+    assertThat(result.getCommitCount()).isEqualTo(2);
+    assertThat(result.hasFailures()).isTrue();
+    assertThat(result.getFailedGroups())
+        .extracting(SpannerBulkWriteResult.GroupResult::getGroupIndex)
+        .containsExactly(2, 3);
+    assertThat(result.getFailedGroups().get(0).getStatus().getCode())
+        .isEqualTo(Code.ALREADY_EXISTS_VALUE);
+    assertThat(result.getGroupResults().get(0).getCommitTimestamp()).isEqualTo(COMMIT_TIMESTAMP);
+    assertThat(result.getFailedGroups().get(0).getCommitTimestamp()).isNull();
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void batchWriteReportsGroupStatusTest() {
+    ServerStream<BatchWriteResponse> stream = mock(ServerStream.class);
+    when(stream.iterator())
+        .thenReturn(
+            Arrays.asList(
+                    BatchWriteResponse.newBuilder()
+                        .addAllIndexes(Arrays.asList(0, 2))
+                        .setStatus(Status.newBuilder().setCode(Code.OK_VALUE))
+                        .setCommitTimestamp(COMMIT_TIMESTAMP.toProto())
+                        .build(),
+                    BatchWriteResponse.newBuilder()
+                        .addIndexes(1)
+                        .setStatus(Status.newBuilder().setCode(Code.NOT_FOUND_VALUE))
+                        .build())
+                .iterator());
+    when(this.databaseClient.batchWriteAtLeastOnce(any())).thenReturn(stream);
+
+    SpannerBulkWriteResult result =
+        this.bulkWriter.write(groups(4, 1), new SpannerBulkWriteOptions().setBatchWrite(true));
+
+    verify(this.databaseClient, times(1)).batchWriteAtLeastOnce(any());
+    assertThat(result.getGroupResults())
+        .extracting(r -> r.getStatus().getCode())
+        .containsExactly(
+            Code.OK_VALUE, Code.NOT_FOUND_VALUE, Code.OK_VALUE, Code.UNKNOWN_VALUE);
+    assertThat(result.getGroupResults().get(2).getCommitTimestamp()).isEqualTo(COMMIT_TIMESTAMP);
+  }
+
+  @Test
+  void parallelCommitsTest() {
+    AtomicInteger commits = new AtomicInteger();
+    when(this.databaseClient.writeWithOptions(any()))
+        .thenAnswer(
+            invocation -> {
+              commits.incrementAndGet();
+              return new CommitResponse(COMMIT_TIMESTAMP);
+            });
+
+    SpannerBulkWriteResult result =
+        this.bulkWriter.write(
+            groups(10, 2),
+            new SpannerBulkWriteOptions().setMaxMutationsPerCommit(2).setParallelism(3));
+
+    assertThat(commits.get()).isEqualTo(10);
+    assertThat(result.hasFailures()).isFalse();
+    assertThat(result.getGroupResults())
+        .extracting(SpannerBulkWriteResult.GroupResult::getGroupIndex)
+        .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+  }
+
+  private static List<List<Mutation>> groups(int groupCount, int mutationsPerGroup) {
+    List<List<Mutation>> groups = new ArrayList<>();
+    for (int i = 0; i < groupCount; i++) {
+      List<Mutation> group = new ArrayList<>();
+      for (int j = 0; j < mutationsPerGroup; j++) {
+        group.add(Mutation.newInsertBuilder("t").set("id").to(i + "-" + j).build());
+      }
+      groups.add(group);
+    }
+    return groups;
+  }
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeyRange;
+import com.google.cloud.spanner.KeySet;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.mapping.Cached;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the entity cache of the Spanner Template. */
+class SpannerEntityCacheTests {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  private final AtomicInteger reads = new AtomicInteger();
+
+  private SpannerEntityCache cache;
+
+  @BeforeEach
+  void setUp() {
+    this.cache = new SpannerEntityCache(new SpannerMappingContext(), this.nanoTime::get);
+  }
+
+  @Test
+  void readThroughTest() {
+    CachedEntity first = read(Key.of("a", 1L));
+    CachedEntity second = read(Key.of("a", 1L));
+
+    assertThat(second).isSameAs(first);
+    assertThat(this.reads.get()).isEqualTo(1);
+    assertThat(this.cache.getHitCount()).isEqualTo(1);
+    assertThat(this.cache.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void uncachedEntityTest() {
+    this.cache.get(UncachedEntity.class, Key.of("a"), bound -> countRead(new UncachedEntity()));
+    this.cache.get(UncachedEntity.class, Key.of("a"), bound -> countRead(new UncachedEntity()));
+
+    assertThat(this.reads.get()).isEqualTo(2);
+    assertThat(this.cache.size(UncachedEntity.class)).isZero();
+  }
+
+  @Test
+  void missingEntityNotCachedTest() {
+    this.cache.get(CachedEntity.class, Key.of("a", 1L), bound -> countRead(null));
+    this.cache.get(CachedEntity.class, Key.of("a", 1L), bound -> countRead(null));
+
+    assertThat(this.reads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void expiryTest() {
+    read(Key.of("a", 1L));
+    this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+    read(Key.of("a", 1L));
+    assertThat(this.reads.get()).isEqualTo(1);
+
+    this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    read(Key.of("a", 1L));
+    assertThat(this.reads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void leastRecentlyUsedEvictionTest() {
+    read(Key.of("a", 1L));
+    read(Key.of("b", 1L));
+    read(Key.of("a", 1L));
+    read(Key.of("c", 1L));
+
+    assertThat(this.cache.size(CachedEntity.class)).isEqualTo(2);
+    read(Key.of("a", 1L));
+    assertThat(this.reads.get()).isEqualTo(3);
+    read(Key.of("b", 1L));
+    assertThat(this.reads.get()).isEqualTo(4);
+  }
+
+  @Test
+  void writeMutationInvalidatesKeyTest() {
+    read(Key.of("a", 1L));
+    read(Key.of("b", 1L));
+
+    this.cache.invalidate(
+        Collections.singletonList(
+            Mutation.newInsertOrUpdateBuilder("cached")
+                .set("id")
+                .to("a")
+                .set("id2")
+                .to(1L)
+                .set("value")
+                .to("v")
+                .build()));
+
+    assertThat(this.cache.size(CachedEntity.class)).isEqualTo(1);
+    read(Key.of("a", 1L));
+    assertThat(this.reads.get()).isEqualTo(3);
+  }
+
+  @Test
+  void otherTableMutationIgnoredTest() {
+    read(Key.of("a", 1L));
+
+    this.cache.invalidate(Collections.singletonList(Mutation.delete("other", KeySet.all())));
+
+    assertThat(this.cache.size(CachedEntity.class)).isEqualTo(1);
+  }
+
+  @Test
+  void deleteMutationInvalidatesKeysTest() {
+    read(Key.of("a", 1L));
+    read(Key.of("b", 1L));
+
+    this.cache.invalidate(Collections.singletonList(Mutation.delete("cached", Key.of("b", 1L))));
+    assertThat(this.cache.size(CachedEntity.class)).isEqualTo(1);
+
+    this.cache.invalidate(
+        Collections.singletonList(
+            Mutation.delete("cached", KeySet.range(KeyRange.prefix(Key.of("z"))))));
+    assertThat(this.cache.size(CachedEntity.class)).isZero();
+  }
+
+  @Test
+  void invalidationDuringReadTest() {
+    this.cache.get(
+        CachedEntity.class,
+        Key.of("a", 1L),
+        bound -> {
+          this.cache.invalidate(CachedEntity.class, Key.of("a", 1L));
+          return countRead(new CachedEntity());
+        });
+
+    assertThat(this.cache.size(CachedEntity.class)).isZero();
+  }
+
+  @Test
+  void boundedStalenessReadTest() {
+    List<TimestampBound> bounds = new ArrayList<>();
+    this.cache.get(
+        CachedEntity.class,
+        Key.of("a", 1L),
+        bound -> {
+          bounds.add(bound);
+          return new CachedEntity();
+        });
+    this.cache.get(
+        StaleCachedEntity.class,
+        Key.of("a"),
+        bound -> {
+          bounds.add(bound);
+          return new StaleCachedEntity();
+        });
+
+    assertThat(bounds)
+        .containsExactly(
+            TimestampBound.strong(), TimestampBound.ofMaxStaleness(15_000, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  void strongReadAfterInvalidationTest() {
+    List<TimestampBound> bounds = new ArrayList<>();
+    readStale(Key.of("a"), bounds);
+    this.cache.invalidate(
+        Collections.singletonList(Mutation.delete("stale_cached", Key.of("a"))));
+
+    readStale(Key.of("a"), bounds);
+    readStale(Key.of("b"), bounds);
+    this.cache.invalidate(StaleCachedEntity.class, Key.of("a"));
+    this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(15_000));
+    readStale(Key.of("a"), bounds);
+
+    TimestampBound stale = TimestampBound.ofMaxStaleness(15_000, TimeUnit.MILLISECONDS);
+    assertThat(bounds).containsExactly(stale, TimestampBound.strong(), stale, stale);
+  }
+
+  @Test
+  void strongReadAfterClearTest() {
+    List<TimestampBound> bounds = new ArrayList<>();
+    this.cache.invalidateAll(StaleCachedEntity.class);
+
+    readStale(Key.of("a"), bounds);
+    this.nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(15_000));
+    this.cache.invalidate(StaleCachedEntity.class, Key.of("a"));
+    readStale(Key.of("b"), bounds);
+
+    assertThat(bounds)
+        .containsExactly(
+            TimestampBound.strong(), TimestampBound.ofMaxStaleness(15_000, TimeUnit.MILLISECONDS));
+  }
+
+  private void readStale(Key key, List<TimestampBound> bounds) {
+    this.cache.get(
+        StaleCachedEntity.class,
+        key,
+        bound -> {
+          bounds.add(bound);
+          return new StaleCachedEntity();
+        });
+  }
+
+  private CachedEntity read(Key key) {
+    return this.cache.get(CachedEntity.class, key, bound -> countRead(new CachedEntity()));
+  }
+
+  private <T> T countRead(T entity) {
+    this.reads.incrementAndGet();
+    return entity;
+  }
+
+  @Table(name = "cached")
+  @Cached(maxSize = 2, ttlMillis = 1000)
+  private static class CachedEntity {
+    @PrimaryKey(keyOrder = 1)
+    String id;
+
+    @PrimaryKey(keyOrder = 2)
+    long id2;
+
+    String value;
+  }
+
+  @Table(name = "stale_cached")
+  @Cached(maxStalenessMillis = 15_000)
+  private static class StaleCachedEntity {
+    @PrimaryKey String id;
+  }
+
+  @Table(name = "uncached")
+  private static class UncachedEntity {
+    @PrimaryKey String id;
+  }
+}
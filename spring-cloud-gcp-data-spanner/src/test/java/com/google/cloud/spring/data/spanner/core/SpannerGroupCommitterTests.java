@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.ErrorCode;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.SpannerExceptionFactory;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
+import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+/** Tests for merging writes into shared commits. */
+class SpannerGroupCommitterTests {
+
+  private final List<Runnable> scheduledTasks = new ArrayList<>();
+
+  private final List<Runnable> executedTasks = new ArrayList<>();
+
+  private final List<List<Mutation>> commits = new ArrayList<>();
+
+  private ScheduledExecutorService scheduler;
+
+  private DatabaseClient databaseClient;
+
+  private SpannerMutationFactory mutationFactory;
+
+  private ApplicationEventPublisher eventPublisher;
+
+  private SpannerTemplate spannerTemplate;
+
+  @BeforeEach
+  void setUp() {
+    this.scheduler = mock(ScheduledExecutorService.class);
+    when(this.scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+        .thenAnswer(
+            invocation -> {
+              this.scheduledTasks.add(invocation.getArgument(0));
+              return mock(ScheduledFuture.class);
+            });
+    doAnswer(
+            invocation -> {
+              this.executedTasks.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(this.scheduler)
+        .execute(any());
+
+    this.databaseClient = mock(DatabaseClient.class);
+    when(this.databaseClient.write(any()))
+        .thenAnswer(
+            invocation -> {
+              List<Mutation> mutations = new ArrayList<>();
+              ((Iterable<Mutation>) invocation.getArgument(0)).forEach(mutations::add);
+              this.commits.add(mutations);
+              if (mutations.contains(mutation("bad"))) {
+                throw SpannerExceptionFactory.newSpannerException(
+                    ErrorCode.ALREADY_EXISTS, "rejected");
+              }
+              if (mutations.contains(mutation("slow"))) {
+                throw SpannerExceptionFactory.newSpannerException(
+                    ErrorCode.DEADLINE_EXCEEDED, "deadline exceeded");
+              }
+              return null;
+            });
+    this.mutationFactory = mock(SpannerMutationFactory.class);
+    when(this.mutationFactory.insert(any()))
+        .thenAnswer(
+            invocation -> Collections.singletonList(mutation(invocation.getArgument(0))));
+    this.eventPublisher = mock(ApplicationEventPublisher.class);
+
+    SpannerMappingContext mappingContext = new SpannerMappingContext();
+    SpannerEntityProcessor entityProcessor =
+        new ConverterAwareMappingSpannerEntityProcessor(mappingContext);
+    this.spannerTemplate =
+        new SpannerTemplate(
+            () -> this.databaseClient,
+            mappingContext,
+            entityProcessor,
+            this.mutationFactory,
+            new SpannerSchemaUtils(mappingContext, entityProcessor, true));
+    this.spannerTemplate.setApplicationEventPublisher(this.eventPublisher);
+  }
+
+  @Test
+  void delayedCommitTest() {
+    SpannerGroupCommitter committer = committer(10, 10);
+
+    CompletableFuture<Void> first = committer.insert("a");
+    CompletableFuture<Void> second = committer.insert("b");
+    assertThat(first).isNotDone();
+    assertThat(this.scheduledTasks).hasSize(1);
+    verify(this.eventPublisher, times(2)).publishEvent(any(BeforeSaveEvent.class));
+
+    this.scheduledTasks.get(0).run();
+
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(this.commits).containsExactly(Arrays.asList(mutation("a"), mutation("b")));
+    verify(this.eventPublisher, times(2)).publishEvent(any(AfterSaveEvent.class));
+  }
+
+  @Test
+  void fullCommitTest() {
+    SpannerGroupCommitter committer = committer(2, 10);
+
+    CompletableFuture<Void> first = committer.insert("a");
+    CompletableFuture<Void> second = committer.insert("b");
+    CompletableFuture<Void> third = committer.insert("c");
+    assertThat(this.executedTasks).hasSize(1);
+    this.executedTasks.get(0).run();
+
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(third).isNotDone();
+    assertThat(this.commits).containsExactly(Arrays.asList(mutation("a"), mutation("b")));
+
+    // The delayed flush scheduled for the first write commits the writes buffered since.
+    assertThat(this.scheduledTasks).hasSize(1);
+    this.scheduledTasks.get(0).run();
+    assertThat(third).isCompleted();
+    assertThat(this.commits).hasSize(2);
+  }
+
+  @Test
+  void failedCommitOnlyFailsOffendingWriteTest() {
+    SpannerGroupCommitter committer = committer(10, 10);
+
+    CompletableFuture<Void> good = committer.insert("good");
+    CompletableFuture<Void> bad = committer.insert("bad");
+    committer.flush();
+    this.executedTasks.get(0).run();
+
+    assertThat(good).isCompleted();
+    assertThat(bad).isCompletedExceptionally();
+    assertThat(this.commits)
+        .containsExactly(
+            Arrays.asList(mutation("good"), mutation("bad")),
+            Collections.singletonList(mutation("good")),
+            Collections.singletonList(mutation("bad")));
+    verify(this.eventPublisher, times(1)).publishEvent(any(AfterSaveEvent.class));
+  }
+
+  @Test
+  void ambiguousFailureFailsWholeCommitTest() {
+    SpannerGroupCommitter committer = committer(10, 10);
+
+    CompletableFuture<Void> good = committer.insert("good");
+    CompletableFuture<Void> slow = committer.insert("slow");
+    committer.flush();
+    this.executedTasks.get(0).run();
+
+    // The commit may have been applied, so its writes are not committed again.
+    assertThat(good).isCompletedExceptionally();
+    assertThat(slow).isCompletedExceptionally();
+    assertThat(this.commits).containsExactly(Arrays.asList(mutation("good"), mutation("slow")));
+    verify(this.eventPublisher, never()).publishEvent(any(AfterSaveEvent.class));
+  }
+
+  @Test
+  void mutationsCountedPerColumnTest() {
+    when(this.mutationFactory.insert("wide1")).thenReturn(Collections.singletonList(wide("1")));
+    when(this.mutationFactory.insert("wide2")).thenReturn(Collections.singletonList(wide("2")));
+    SpannerGroupCommitter committer = committer(4, 10);
+
+    committer.insert("wide1");
+    assertThat(this.executedTasks).isEmpty();
+    committer.insert("wide2");
+    assertThat(this.executedTasks).hasSize(1);
+    this.executedTasks.get(0).run();
+
+    assertThat(this.commits)
+        .containsExactly(
+            Collections.singletonList(wide("1")), Collections.singletonList(wide("2")));
+  }
+
+  @Test
+  void closeCommitsBufferedWritesTest() {
+    SpannerGroupCommitter committer = committer(10, 10);
+    CompletableFuture<Void> buffered = committer.insert("a");
+
+    committer.close();
+
+    assertThat(buffered).isCompleted();
+    assertThat(this.commits).containsExactly(Collections.singletonList(mutation("a")));
+    assertThatThrownBy(committer.insert("b")::join)
+        .hasCauseInstanceOf(SpannerDataException.class)
+        .hasMessageContaining("The group committer has been closed.");
+    assertThat(this.commits).hasSize(1);
+  }
+
+  @Test
+  void rejectedFlushCommitsOnCallerTest() {
+    when(this.scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+        .thenThrow(new RejectedExecutionException("shut down"));
+    doThrow(new RejectedExecutionException("shut down")).when(this.scheduler).execute(any());
+    SpannerGroupCommitter committer = committer(10, 10);
+
+    CompletableFuture<Void> first = committer.insert("a");
+    CompletableFuture<Void> second = committer.insert("b");
+
+    // Each write is committed by its caller instead of staying buffered.
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(this.commits)
+        .containsExactly(
+            Collections.singletonList(mutation("a")), Collections.singletonList(mutation("b")));
+  }
+
+  @Test
+  void closeReleasesBlockedCallersTest() throws InterruptedException {
+    when(this.mutationFactory.insert("wide")).thenReturn(Collections.singletonList(wide("w")));
+    SpannerGroupCommitter committer = committer(3, 3);
+    committer.insert("a");
+    committer.insert("b");
+
+    AtomicReference<CompletableFuture<Void>> blocked = new AtomicReference<>();
+    Thread thread = new Thread(() -> blocked.set(committer.insert("wide")));
+    thread.start();
+    thread.join(200);
+    assertThat(thread.isAlive()).isTrue();
+
+    committer.close();
+    thread.join(5000);
+
+    assertThat(thread.isAlive()).isFalse();
+    assertThat(blocked.get()).isCompletedExceptionally();
+    assertThat(this.commits).containsExactly(Arrays.asList(mutation("a"), mutation("b")));
+  }
+
+  @Test
+  void backPressureTest() throws InterruptedException {
+    SpannerGroupCommitter committer = committer(2, 2);
+    committer.insert("a");
+    committer.insert("b");
+
+    CompletableFuture<Void> blocked = new CompletableFuture<>();
+    Thread thread = new Thread(() -> committer.insert("c").thenRun(() -> blocked.complete(null)));
+    thread.start();
+    thread.join(200);
+    assertThat(thread.isAlive()).isTrue();
+    assertThat(this.commits).isEmpty();
+
+    // Committing the full buffer lets the blocked caller buffer its write.
+    this.executedTasks.get(0).run();
+    thread.join(5000);
+    assertThat(thread.isAlive()).isFalse();
+    committer.flush();
+    this.executedTasks.get(1).run();
+    assertThat(blocked).isCompleted();
+  }
+
+  private SpannerGroupCommitter committer(int maxMutationsPerCommit, int maxPendingMutations) {
+    return new SpannerGroupCommitter(
+        this.spannerTemplate,
+        this.scheduler,
+        Duration.ofMillis(5),
+        maxMutationsPerCommit,
+        maxPendingMutations);
+  }
+
+  private static Mutation wide(String id) {
+    return Mutation.newInsertBuilder("test_table")
+        .set("id")
+        .to(id)
+        .set("a")
+        .to("a")
+        .set("b")
+        .to("b")
+        .build();
+  }
+
+  private static Mutation mutation(Object id) {
+    return Mutation.newInsertBuilder("test_table").set("id").to((String) id).build();
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.ConverterAwareMappingSpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for coalescing point reads. */
+class SpannerPointReadCoalescerTests {
+
+  private final List<Runnable> scheduledTasks = new ArrayList<>();
+
+  private final List<ScheduledFuture<?>> scheduledFutures = new ArrayList<>();
+
+  private ScheduledExecutorService scheduler;
+
+  private SpannerTemplate spannerTemplate;
+
+  @BeforeEach
+  void setUp() {
+    this.scheduler = mock(ScheduledExecutorService.class);
+    when(this.scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+        .thenAnswer(
+            invocation -> {
+              this.scheduledTasks.add(invocation.getArgument(0));
+              ScheduledFuture<?> future = mock(ScheduledFuture.class);
+              this.scheduledFutures.add(future);
+              return future;
+            });
+    doAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return null;
+            })
+        .when(this.scheduler)
+        .execute(any());
+
+    SpannerMappingContext mappingContext = new SpannerMappingContext();
+    SpannerEntityProcessor entityProcessor =
+        new ConverterAwareMappingSpannerEntityProcessor(mappingContext);
+    this.spannerTemplate =
+        spy(
+            new SpannerTemplate(
+                () -> mock(DatabaseClient.class),
+                mappingContext,
+                entityProcessor,
+                mock(SpannerMutationFactory.class),
+                new SpannerSchemaUtils(mappingContext, entityProcessor, true)));
+  }
+
+  @Test
+  void readsWindowInOneBatchTest() {
+    stubReadForCallers();
+    SpannerPointReadCoalescer coalescer = coalescer(10);
+
+    CompletableFuture<TestEntity> first = coalescer.readAsync(TestEntity.class, Key.of("a"));
+    CompletableFuture<TestEntity> second = coalescer.readAsync(TestEntity.class, Key.of("b"));
+    CompletableFuture<TestEntity> duplicate = coalescer.readAsync(TestEntity.class, Key.of("a"));
+    CompletableFuture<TestEntity> missing = coalescer.readAsync(TestEntity.class, Key.of("c"));
+    assertThat(first).isNotDone();
+
+    assertThat(this.scheduledTasks).hasSize(1);
+    this.scheduledTasks.get(0).run();
+
+    assertThat(first.join().id).isEqualTo("a");
+    assertThat(second.join().id).isEqualTo("b");
+    assertThat(duplicate.join().id).isEqualTo("a");
+    assertThat(duplicate.join()).isNotSameAs(first.join());
+    assertThat(missing.join()).isNull();
+    Map<Key, Integer> callerCounts = new LinkedHashMap<>();
+    callerCounts.put(Key.of("a"), 2);
+    callerCounts.put(Key.of("b"), 1);
+    callerCounts.put(Key.of("c"), 1);
+    verify(this.spannerTemplate, times(1)).readForCallers(TestEntity.class, callerCounts, null);
+  }
+
+  @Test
+  void fullBatchReadImmediatelyTest() {
+    stubReadForCallers();
+    SpannerPointReadCoalescer coalescer = coalescer(2);
+
+    CompletableFuture<TestEntity> first = coalescer.readAsync(TestEntity.class, Key.of("a"));
+    CompletableFuture<TestEntity> second = coalescer.readAsync(TestEntity.class, Key.of("b"));
+    assertThat(first).isDone();
+    assertThat(second).isDone();
+    verify(this.scheduledFutures.get(0)).cancel(false);
+
+    // The window of the full batch ends without reading it again.
+    this.scheduledTasks.get(0).run();
+    coalescer.readAsync(TestEntity.class, Key.of("c"));
+    assertThat(this.scheduledTasks).hasSize(2);
+    verify(this.spannerTemplate, times(1)).readForCallers(eq(TestEntity.class), any(), any());
+  }
+
+  @Test
+  void failedBatchTest() {
+    doThrow(new SpannerDataException("failed"))
+        .when(this.spannerTemplate)
+        .readForCallers(eq(TestEntity.class), any(), any());
+    SpannerPointReadCoalescer coalescer = coalescer(1);
+
+    assertThatThrownBy(() -> coalescer.read(TestEntity.class, Key.of("a")))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage("failed");
+  }
+
+  @Test
+  void rejectedWindowTest() {
+    stubReadForCallers();
+    SpannerPointReadCoalescer coalescer = coalescer(10);
+    when(this.scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+        .thenThrow(new RejectedExecutionException("shut down"))
+        .thenAnswer(
+            invocation -> {
+              this.scheduledTasks.add(invocation.getArgument(0));
+              return mock(ScheduledFuture.class);
+            });
+
+    assertThatThrownBy(() -> coalescer.readAsync(TestEntity.class, Key.of("a")))
+        .isInstanceOf(RejectedExecutionException.class);
+
+    // The rejected read did not leave an open batch without a window behind.
+    CompletableFuture<TestEntity> next = coalescer.readAsync(TestEntity.class, Key.of("b"));
+    assertThat(this.scheduledTasks).hasSize(1);
+    this.scheduledTasks.get(0).run();
+    assertThat(next.join().id).isEqualTo("b");
+  }
+
+  @Test
+  void timestampBoundsReadInSeparateBatchesTest() {
+    stubReadForCallers();
+    SpannerPointReadCoalescer coalescer = coalescer(10);
+    TimestampBound stale = TimestampBound.ofExactStaleness(10, TimeUnit.SECONDS);
+
+    coalescer.readAsync(TestEntity.class, Key.of("a"));
+    TimestampBound previous = SpannerTimestampBoundHolder.setTimestampBound(stale);
+    try {
+      coalescer.readAsync(TestEntity.class, Key.of("b"));
+    } finally {
+      SpannerTimestampBoundHolder.setTimestampBound(previous);
+    }
+
+    assertThat(this.scheduledTasks).hasSize(2);
+    this.scheduledTasks.forEach(Runnable::run);
+    verify(this.spannerTemplate)
+        .readForCallers(TestEntity.class, Collections.singletonMap(Key.of("a"), 1), null);
+    verify(this.spannerTemplate)
+        .readForCallers(
+            eq(TestEntity.class),
+            eq(Collections.singletonMap(Key.of("b"), 1)),
+            argThat(options -> stale.equals(options.getTimestampBound())));
+  }
+
+  @Test
+  void transactionReadNotCoalescedTest() {
+    TestEntity a = entity("a");
+    doReturn(false).when(this.spannerTemplate).isOutsideTransaction();
+    doReturn(a).when(this.spannerTemplate).read(TestEntity.class, Key.of("a"), null);
+    SpannerPointReadCoalescer coalescer = coalescer(10);
+
+    assertThat(coalescer.readAsync(TestEntity.class, Key.of("a")).join()).isSameAs(a);
+    assertThat(this.scheduledTasks).isEmpty();
+    verify(this.spannerTemplate, never()).readForCallers(any(), any(), any());
+  }
+
+  @Test
+  void templatePointReadsAreCoalescedTest() {
+    stubReadForCallers();
+    SpannerPointReadCoalescer coalescer = spy(coalescer(1));
+    this.spannerTemplate.setPointReadCoalescer(coalescer);
+
+    assertThat(this.spannerTemplate.read(TestEntity.class, Key.of("a")).id).isEqualTo("a");
+
+    verify(coalescer).read(TestEntity.class, Key.of("a"), null);
+  }
+
+  // Reads the entities of the keys "a" and "b", with an instance for every caller.
+  private void stubReadForCallers() {
+    doAnswer(
+            invocation -> {
+              Map<Key, Integer> callerCounts = invocation.getArgument(1);
+              Map<Key, List<TestEntity>> entities = new HashMap<>();
+              for (String id : Arrays.asList("a", "b")) {
+                Integer count = callerCounts.get(Key.of(id));
+                if (count != null) {
+                  List<TestEntity> instances = new ArrayList<>();
+                  for (int i = 0; i < count; i++) {
+                    instances.add(entity(id));
+                  }
+                  entities.put(Key.of(id), instances);
+                }
+              }
+              return entities;
+            })
+        .when(this.spannerTemplate)
+        .readForCallers(eq(TestEntity.class), any(), any());
+  }
+
+  private SpannerPointReadCoalescer coalescer(int maxBatchSize) {
+    return new SpannerPointReadCoalescer(
+        this.spannerTemplate, this.scheduler, Duration.ofMillis(2), maxBatchSize);
+  }
+
+  private static TestEntity entity(String id) {
+    TestEntity entity = new TestEntity();
+    entity.id = id;
+    return entity;
+  }
+
+  @Table(name = "test_table")
+  private static class TestEntity {
+    @PrimaryKey String id;
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Value;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerPersistentEntity;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import com.google.cloud.spring.data.spanner.test.domain.SubTrade;
+import com.google.cloud.spring.data.spanner.test.domain.SubTradeComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+/** Tests for reading windows of entities. */
+class SpannerScrollQueryTests {
+
+  private final SpannerMappingContext mappingContext = new SpannerMappingContext();
+
+  @Test
+  void initialKeysetTest() {
+    Statement statement =
+        scrollQuery(ScrollPosition.keyset(), Sort.by(Sort.Order.desc("price")), 2)
+            .buildStatement(new SpannerWriteConverter());
+
+    assertThat(statement.getSql())
+        .startsWith("SELECT * FROM (SELECT ")
+        .endsWith(" FROM trades) ORDER BY trade_price DESC , id ASC LIMIT 3")
+        .doesNotContain("WHERE");
+    assertThat(statement.getParameters()).isEmpty();
+  }
+
+  @Test
+  void forwardKeysetSeeksPastLastRowTest() {
+    Map<String, Object> keys = new HashMap<>();
+    keys.put("price", 1.5);
+    keys.put("id", "b");
+
+    Statement statement =
+        scrollQuery(ScrollPosition.forward(keys), Sort.by(Sort.Order.desc("price")), 2)
+            .buildStatement(new SpannerWriteConverter());
+
+    assertThat(statement.getSql())
+        .contains(
+            " FROM trades WHERE ((trade_price < @keyset0 OR trade_price IS NULL))"
+                + " OR (trade_price = @keyset0 AND id > @keyset1))")
+        .endsWith(" ORDER BY trade_price DESC , id ASC LIMIT 3");
+    assertThat(statement.getParameters())
+        .containsEntry("keyset0", Value.float64(1.5))
+        .containsEntry("keyset1", Value.string("b"));
+  }
+
+  @Test
+  void nullKeyTest() {
+    Map<String, Object> keys = new HashMap<>();
+    keys.put("price", null);
+    keys.put("id", "b");
+
+    Statement statement =
+        scrollQuery(ScrollPosition.forward(keys), Sort.by("price"), 2)
+            .buildStatement(new SpannerWriteConverter());
+
+    assertThat(statement.getSql())
+        .contains(
+            " FROM trades WHERE (trade_price IS NOT NULL)"
+                + " OR (trade_price IS NULL AND id > @keyset0))");
+    assertThat(statement.getParameters()).containsOnlyKeys("keyset0");
+  }
+
+  @Test
+  void backwardKeysetTest() {
+    Map<String, Object> keys = new HashMap<>();
+    keys.put("price", 1.5);
+    keys.put("id", "b");
+    SpannerScrollQuery<Trade> scrollQuery =
+        scrollQuery(ScrollPosition.backward(keys), Sort.by("price"), 2);
+
+    assertThat(scrollQuery.buildStatement(new SpannerWriteConverter()).getSql())
+        .contains(
+            "WHERE ((trade_price < @keyset0 OR trade_price IS NULL))"
+                + " OR (trade_price = @keyset0 AND (id < @keyset1 OR id IS NULL))")
+        .endsWith(" ORDER BY trade_price DESC , id DESC LIMIT 3");
+
+    // The rows are read in reverse order, and returned in the order of the sort.
+    Window<Trade> window =
+        scrollQuery.toWindow(
+            new ArrayList<>(Arrays.asList(trade("a", 1.0), trade("c", 0.5), trade("d", 0.1))));
+    assertThat(window.getContent()).extracting(trade -> trade.id).containsExactly("c", "a");
+    assertThat(window.hasNext()).isTrue();
+    assertThat(window.positionAt(0))
+        .isEqualTo(ScrollPosition.backward(Map.of("price", 0.5, "id", "c")));
+  }
+
+  @Test
+  void windowPositionsTest() {
+    Window<Trade> window =
+        scrollQuery(ScrollPosition.keyset(), Sort.by(Sort.Order.desc("price")), 2)
+            .toWindow(Arrays.asList(trade("a", 2.0), trade("b", 1.0)));
+
+    assertThat(window.hasNext()).isFalse();
+    assertThat(window.positionAt(1))
+        .isEqualTo(ScrollPosition.forward(Map.of("price", 1.0, "id", "b")));
+  }
+
+  @Test
+  void offsetTest() {
+    SpannerScrollQuery<Trade> scrollQuery =
+        scrollQuery(ScrollPosition.offset(9), Sort.by("price"), 2);
+
+    assertThat(scrollQuery.buildStatement(new SpannerWriteConverter()).getSql())
+        .endsWith(" FROM trades) ORDER BY trade_price ASC LIMIT 3 OFFSET 10");
+    Window<Trade> window =
+        scrollQuery.toWindow(Arrays.asList(trade("a", 1.0), trade("b", 2.0), trade("c", 3.0)));
+    assertThat(window.getContent()).hasSize(2);
+    assertThat(window.positionAt(1)).isEqualTo(ScrollPosition.offset(11));
+  }
+
+  @Test
+  void missingKeyTest() {
+    SpannerScrollQuery<Trade> scrollQuery =
+        scrollQuery(
+            ScrollPosition.forward(Collections.singletonMap("price", 1.0)), Sort.by("price"), 2);
+
+    assertThatThrownBy(() -> scrollQuery.buildStatement(new SpannerWriteConverter()))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage("The keyset scroll position has no value for the sorted property: id");
+  }
+
+  @Test
+  void embeddedKeyTest() {
+    this.mappingContext.setApplicationContext(tableNameSuffixContext());
+    Map<String, Object> keys = new HashMap<>();
+    keys.put("tradeIdentifier.identifier", "t1");
+    keys.put("tradeIdentifier.trader_id", "u1");
+    keys.put("subTradeId", "s1");
+    SpannerScrollQuery<SubTrade> scrollQuery =
+        scrollQuery(SubTrade.class, ScrollPosition.forward(keys), Sort.unsorted(), 1);
+
+    assertThat(scrollQuery.buildStatement(new SpannerWriteConverter()).getSql())
+        .contains(
+            " FROM sub_trades_test WHERE (disabled = false) AND ((id > @keyset0)"
+                + " OR (id = @keyset0 AND trader_id > @keyset1)"
+                + " OR (id = @keyset0 AND trader_id = @keyset1 AND subTradeId > @keyset2)))")
+        .endsWith(" ORDER BY id ASC , trader_id ASC , subTradeId ASC LIMIT 2");
+
+    Window<SubTrade> window =
+        scrollQuery.toWindow(
+            Arrays.asList(new SubTrade("t1", "u1", "s2"), new SubTrade("t1", "u2", "s1")));
+    assertThat(window.positionAt(0))
+        .isEqualTo(
+            ScrollPosition.forward(
+                Map.of(
+                    "tradeIdentifier.identifier", "t1",
+                    "tradeIdentifier.trader_id", "u1",
+                    "subTradeId", "s2")));
+  }
+
+  @Test
+  void nestedEmbeddedKeyTest() {
+    this.mappingContext.setApplicationContext(tableNameSuffixContext());
+
+    Statement statement =
+        scrollQuery(
+                SubTradeComponent.class,
+                ScrollPosition.keyset(),
+                Sort.by(Sort.Order.desc("subTradeIdentifier.tradeIdentifier.trader_id")),
+                1)
+            .buildStatement(new SpannerWriteConverter());
+
+    assertThat(statement.getSql())
+        .endsWith(
+            " ORDER BY trader_id DESC , id ASC , subTradeId ASC , componentIdPartA ASC ,"
+                + " componentIdPartB ASC LIMIT 2");
+  }
+
+  @Test
+  void embeddedPropertySortTest() {
+    this.mappingContext.setApplicationContext(tableNameSuffixContext());
+    SpannerScrollQuery<SubTrade> scrollQuery =
+        scrollQuery(
+            SubTrade.class,
+            ScrollPosition.forward(Collections.singletonMap("tradeIdentifier", "t1")),
+            Sort.by("tradeIdentifier"),
+            1);
+
+    assertThatThrownBy(() -> scrollQuery.buildStatement(new SpannerWriteConverter()))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage(
+            "Keyset scrolling requires sorting by column properties of the entity, but SubTrade"
+                + " is sorted by: tradeIdentifier");
+  }
+
+  private static GenericApplicationContext tableNameSuffixContext() {
+    GenericApplicationContext applicationContext = new GenericApplicationContext();
+    applicationContext.registerBean("tableNameSuffix", String.class, () -> "test");
+    applicationContext.refresh();
+    return applicationContext;
+  }
+
+  private SpannerScrollQuery<Trade> scrollQuery(ScrollPosition position, Sort sort, int limit) {
+    return scrollQuery(Trade.class, position, sort, limit);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> SpannerScrollQuery<T> scrollQuery(
+      Class<T> entityClass, ScrollPosition position, Sort sort, int limit) {
+    return new SpannerScrollQuery<>(
+        (SpannerPersistentEntity<T>) this.mappingContext.getPersistentEntityOrFail(entityClass),
+        this.mappingContext,
+        position,
+        sort,
+        limit);
+  }
+
+  private static Trade trade(String id, Double price) {
+    Trade trade = new Trade();
+    trade.id = id;
+    trade.price = price;
+    return trade;
+  }
+
+  @Table(name = "trades")
+  private static class Trade {
+    @PrimaryKey String id;
+
+    @Column(name = "trade_price")
+    Double price;
+
+    String symbol;
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.Mutation;
+import com.google.cloud.spanner.ReadContext;
+import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.TransactionContext;
+import com.google.cloud.spanner.TransactionRunner;
+import com.google.cloud.spanner.TransactionRunner.TransactionCallable;
+import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
+import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import com.google.cloud.spring.data.spanner.core.observation.DefaultSpannerObservationConvention;
+import com.google.cloud.spring.data.spanner.core.observation.SpannerMeterObservationHandler;
+import com.google.cloud.spring.data.spanner.core.observation.SpannerMeterRecorder;
+import com.google.cloud.spring.data.spanner.core.observation.SpannerObservationContext;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the observations of the Spanner Template. */
+class SpannerTemplateObservationTests {
+
+  private final List<SpannerObservationContext> observed = new ArrayList<>();
+
+  private DatabaseClient databaseClient;
+
+  private ReadContext readContext;
+
+  private SpannerEntityProcessor entityProcessor;
+
+  private SpannerTemplate spannerTemplate;
+
+  @BeforeEach
+  void setUp() {
+    this.databaseClient = mock(DatabaseClient.class);
+    this.readContext = mock(ReadContext.class);
+    when(this.databaseClient.singleUse()).thenReturn(this.readContext);
+    SpannerMappingContext mappingContext = new SpannerMappingContext();
+    this.entityProcessor = mock(SpannerEntityProcessor.class);
+    when(this.entityProcessor.getWriteConverter()).thenReturn(new SpannerWriteConverter());
+    this.spannerTemplate =
+        new SpannerTemplate(
+            () -> this.databaseClient,
+            mappingContext,
+            this.entityProcessor,
+            mock(SpannerMutationFactory.class),
+            new SpannerSchemaUtils(mappingContext, this.entityProcessor, true));
+
+    ObservationRegistry registry = ObservationRegistry.create();
+    registry
+        .observationConfig()
+        .observationHandler(
+            new ObservationHandler<SpannerObservationContext>() {
+              @Override
+              public void onStop(SpannerObservationContext context) {
+                SpannerTemplateObservationTests.this.observed.add(context);
+              }
+
+              @Override
+              public boolean supportsContext(Observation.Context context) {
+                return context instanceof SpannerObservationContext;
+              }
+            });
+    this.spannerTemplate.setObservationRegistry(registry);
+  }
+
+  @Test
+  void queryTest() {
+    Statement statement = Statement.of("SELECT * FROM trades WHERE price >  1.5 LIMIT 10");
+    ResultSet resultSet = mock(ResultSet.class);
+    when(this.readContext.executeQuery(statement)).thenReturn(resultSet);
+    when(this.entityProcessor.mapToList(any(), eq(Trade.class), any(), anyBoolean()))
+        .thenReturn(Arrays.asList(new Trade(), new Trade()));
+
+    this.spannerTemplate.query(Trade.class, statement, null);
+
+    assertThat(this.observed).hasSize(1);
+    SpannerObservationContext context = this.observed.get(0);
+    assertThat(context.getName()).isEqualTo(DefaultSpannerObservationConvention.NAME);
+    assertThat(context.getContextualName()).isEqualTo("query Trade");
+    assertThat(context.getLowCardinalityKeyValues())
+        .contains(
+            KeyValue.of("spanner.operation", "query"),
+            KeyValue.of("spanner.entity", "Trade"),
+            KeyValue.of("spanner.statement", "SELECT * FROM trades WHERE price > ? LIMIT ?"));
+    assertThat(context.getHighCardinalityKeyValues().stream().map(KeyValue::getKey))
+        .doesNotContain("spanner.statement");
+    assertThat(context.getHighCardinalityKeyValues()).contains(KeyValue.of("spanner.rows", "2"));
+  }
+
+  @Test
+  void statementCardinalityBoundedTest() {
+    this.spannerTemplate.setObservationConvention(new DefaultSpannerObservationConvention(2));
+    ResultSet resultSet = mock(ResultSet.class);
+    when(this.readContext.executeQuery(any())).thenReturn(resultSet);
+
+    for (String sql :
+        Arrays.asList(
+            "SELECT * FROM trades WHERE id = 'a'",
+            "SELECT * FROM trades WHERE id = 'b'",
+            "SELECT * FROM trades LIMIT 1",
+            "SELECT id FROM trades",
+            "SELECT * FROM trades LIMIT 2")) {
+      this.spannerTemplate.query(Trade.class, Statement.of(sql), null);
+    }
+
+    assertThat(this.observed)
+        .extracting(context -> context.getLowCardinalityKeyValue("spanner.statement").getValue())
+        .containsExactly(
+            "SELECT * FROM trades WHERE id = ?",
+            "SELECT * FROM trades WHERE id = ?",
+            "SELECT * FROM trades LIMIT ?",
+            "other",
+            "SELECT * FROM trades LIMIT ?");
+  }
+
+  @Test
+  void queryMetersTest() {
+    List<String> recorded = new ArrayList<>();
+    ObservationRegistry registry = ObservationRegistry.create();
+    registry
+        .observationConfig()
+        .observationHandler(
+            new SpannerMeterObservationHandler(
+                new SpannerMeterRecorder() {
+                  @Override
+                  public void recordDistribution(String name, KeyValues tags, double amount) {
+                    assertThat(tags).contains(KeyValue.of("spanner.operation", "query"));
+                    recorded.add(name + "=" + (long) amount);
+                  }
+
+                  @Override
+                  public void recordTime(String name, KeyValues tags, Duration duration) {
+                    assertThat(duration.isNegative()).isFalse();
+                    recorded.add(name);
+                  }
+                }));
+    this.spannerTemplate.setObservationRegistry(registry);
+    Statement statement = Statement.of("SELECT * FROM trades");
+    ResultSet resultSet = mock(ResultSet.class);
+    when(this.readContext.executeQuery(statement)).thenReturn(resultSet);
+    when(this.entityProcessor.mapToList(any(), eq(Trade.class), any(), anyBoolean()))
+        .thenReturn(Arrays.asList(new Trade(), new Trade()));
+
+    this.spannerTemplate.query(Trade.class, statement, null);
+
+    assertThat(recorded)
+        .containsExactly(
+            "spring.data.spanner.operation.rows=2",
+            "spring.data.spanner.operation.streaming",
+            "spring.data.spanner.operation.mapping");
+  }
+
+  @Test
+  void commitTest() {
+    List<Mutation> mutations =
+        Arrays.asList(
+            Mutation.newInsertBuilder("trades").set("id").to("a").build(),
+            Mutation.newInsertBuilder("trades").set("id").to("b").build());
+
+    this.spannerTemplate.applyMutations(mutations);
+
+    assertThat(this.observed).hasSize(1);
+    assertThat(this.observed.get(0).getContextualName()).isEqualTo("commit trades");
+    assertThat(this.observed.get(0).getHighCardinalityKeyValues())
+        .contains(KeyValue.of("spanner.mutations", "2"));
+  }
+
+  @Test
+  void commitMetersTest() {
+    List<String> recorded = new ArrayList<>();
+    ObservationRegistry registry = ObservationRegistry.create();
+    registry
+        .observationConfig()
+        .observationHandler(
+            new SpannerMeterObservationHandler(
+                new SpannerMeterRecorder() {
+                  @Override
+                  public void recordDistribution(String name, KeyValues tags, double amount) {
+                    recorded.add(name + "=" + (long) amount);
+                  }
+
+                  @Override
+                  public void recordTime(String name, KeyValues tags, Duration duration) {
+                    recorded.add(name);
+                  }
+                }));
+    this.spannerTemplate.setObservationRegistry(registry);
+
+    this.spannerTemplate.applyMutations(
+        List.of(Mutation.newInsertBuilder("trades").set("id").to("a").build()));
+
+    assertThat(recorded).containsExactly("spring.data.spanner.operation.mutations=1");
+  }
+
+  @Test
+  void retriedTransactionTest() {
+    TransactionRunner runner = mock(TransactionRunner.class);
+    when(this.databaseClient.readWriteTransaction()).thenReturn(runner);
+    when(runner.run(any()))
+        .thenAnswer(
+            invocation -> {
+              TransactionCallable<?> callable = invocation.getArgument(0);
+              // The first attempt is aborted and retried.
+              callable.run(mock(TransactionContext.class));
+              return callable.run(mock(TransactionContext.class));
+            });
+
+    this.spannerTemplate.performReadWriteTransaction(template -> null);
+
+    assertThat(this.observed).hasSize(1);
+    SpannerObservationContext context = this.observed.get(0);
+    assertThat(context.getAttempts()).isEqualTo(2);
+    assertThat(context.getLowCardinalityKeyValues())
+        .contains(
+            KeyValue.of("spanner.operation", "read-write-transaction"),
+            KeyValue.of("spanner.retried", "true"));
+  }
+
+  @Test
+  void fingerprintTest() {
+    assertThat(
+            DefaultSpannerObservationConvention.fingerprint(
+                "SELECT id FROM t2\n WHERE name = 'it\\'s' AND x IN (1, 2.5, 3e4) AND y = @tag0"))
+        .isEqualTo("SELECT id FROM t2 WHERE name = ? AND x IN (?) AND y = @tag0");
+  }
+
+  @Table(name = "trades")
+  private static class Trade {
+    @PrimaryKey String id;
+  }
+}
@@ -25,6 +25,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,7 +33,9 @@ import static org.mockito.Mockito.when;
 
 import com.google.cloud.ByteArray;
 import com.google.cloud.Timestamp;
+import com.google.cloud.spanner.CommitResponse;
 import com.google.cloud.spanner.DatabaseClient;
+import com.google.cloud.spanner.ErrorCode;
 import com.google.cloud.spanner.Key;
 import com.google.cloud.spanner.KeySet;
 import com.google.cloud.spanner.Mutation;
@@ -43,7 +46,9 @@ import com.google.cloud.spanner.Options.RpcPriority;
 import com.google.cloud.spanner.ReadContext;
 import com.google.cloud.spanner.ReadOnlyTransaction;
 import com.google.cloud.spanner.ResultSet;
+import com.google.cloud.spanner.SpannerExceptionFactory;
 import com.google.cloud.spanner.Statement;
+import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionRunner;
@@ -52,10 +57,12 @@ import com.google.cloud.spring.data.spanner.core.admin.CachingComposingSupplier;
 import com.google.cloud.spring.data.spanner.core.admin.SpannerSchemaUtils;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
+import com.google.cloud.spring.data.spanner.core.mapping.Cached;
 import com.google.cloud.spring.data.spanner.core.mapping.Column;
 import com.google.cloud.spring.data.spanner.core.mapping.Embedded;
 import com.google.cloud.spring.data.spanner.core.mapping.Interleaved;
 import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import com.google.cloud.spring.data.spanner.core.mapping.Where;
@@ -67,12 +74,16 @@ import com.google.cloud.spring.data.spanner.core.mapping.event.AfterSaveEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeDeleteEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeExecuteDmlEvent;
 import com.google.cloud.spring.data.spanner.core.mapping.event.BeforeSaveEvent;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -313,6 +324,42 @@ class SpannerTemplateTests {
         .read("custom_test_table", keySet, Collections.singleton("id"));
   }
 
+  @Test
+  void defaultTimestampBoundTest() {
+    ResultSet results = mock(ResultSet.class);
+    when(this.readContext.read(any(), any(), any(), any())).thenReturn(results);
+    when(this.databaseClient.singleUse(any())).thenReturn(this.readContext);
+    TimestampBound defaultBound = TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS);
+    TimestampBound threadBound = TimestampBound.ofExactStaleness(15, TimeUnit.SECONDS);
+    this.spannerTemplate.setDefaultTimestampBound(defaultBound);
+
+    this.spannerTemplate.existsById(TestEntity.class, Key.of("key"));
+    verify(this.databaseClient, times(1)).singleUse(defaultBound);
+
+    // The timestamp bound of the current thread takes precedence over the default.
+    SpannerTimestampBoundHolder.setTimestampBound(threadBound);
+    try {
+      this.spannerTemplate.existsById(TestEntity.class, Key.of("key"));
+    } finally {
+      SpannerTimestampBoundHolder.setTimestampBound(null);
+    }
+    verify(this.databaseClient, times(1)).singleUse(threadBound);
+    verify(this.databaseClient, never()).singleUse();
+  }
+
+  @Test
+  void readOnlyTransactionIgnoresDefaultTimestampBoundTest() {
+    when(this.databaseClient.readOnlyTransaction()).thenReturn(mock(ReadOnlyTransaction.class));
+    this.spannerTemplate.setDefaultTimestampBound(
+        TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS));
+
+    this.spannerTemplate.performReadOnlyTransaction(spannerOperations -> null, null);
+
+    // Cloud Spanner rejects bounded staleness in read-only transactions.
+    verify(this.databaseClient, times(1)).readOnlyTransaction();
+    verify(this.databaseClient, never()).readOnlyTransaction(any());
+  }
+
   @Test
   void existsByIdEmbeddedKeyTest() {
     ResultSet results = mock(ResultSet.class);
@@ -330,6 +377,69 @@ class SpannerTemplateTests {
         .read("test_table_embedded_pk", keySet, Collections.singleton("stringId"));
   }
 
+  @Test
+  void existingIdsTest() {
+    Key existing = Key.of("a", 1L);
+    Key missing = Key.of("b", 2L);
+    ResultSet results = mock(ResultSet.class);
+    when(results.next()).thenReturn(true, false);
+    when(results.getCurrentRowAsStruct())
+        .thenReturn(Struct.newBuilder().set("id").to("a").set("id2").to(1L).build());
+    when(this.readContext.read(any(), any(), any(), any())).thenReturn(results);
+
+    assertThat(
+            this.spannerTemplate.existingIds(
+                TestEntity.class, Arrays.asList(missing, existing, missing)))
+        .containsExactly(existing);
+
+    // Duplicate keys are read once, and only the key columns are read.
+    verify(this.readContext, times(1))
+        .read(
+            "custom_test_table",
+            KeySet.newBuilder().addKey(missing).addKey(existing).build(),
+            Arrays.asList("id", "id2"));
+    verify(results, times(1)).close();
+  }
+
+  @Test
+  void readForCallersTest() {
+    ResultSet results = mock(ResultSet.class);
+    when(results.next()).thenReturn(true, false);
+    when(results.getCurrentRowAsStruct()).thenReturn(Struct.newBuilder().set("id").to("a").build());
+    when(this.readContext.read(any(), any(), any())).thenReturn(results);
+    when(this.objectMapper.read(eq(CachedEntity.class), any(Struct.class)))
+        .thenAnswer(
+            invocation -> {
+              CachedEntity entity = new CachedEntity();
+              entity.id = invocation.<Struct>getArgument(1).getString("id");
+              return entity;
+            });
+    Map<Key, Integer> callerCounts = new LinkedHashMap<>();
+    callerCounts.put(Key.of("a"), 2);
+    callerCounts.put(Key.of("b"), 1);
+
+    Map<Key, List<CachedEntity>> entities =
+        this.spannerTemplate.readForCallers(CachedEntity.class, callerCounts, null);
+
+    // Every caller of a key gets its own instance of the row.
+    assertThat(entities).containsOnlyKeys(Key.of("a"));
+    List<CachedEntity> instances = entities.get(Key.of("a"));
+    assertThat(instances).extracting(entity -> entity.id).containsExactly("a", "a");
+    assertThat(instances.get(0)).isNotSameAs(instances.get(1));
+    verify(this.readContext, times(1))
+        .read(
+            eq("cached_table"),
+            eq(KeySet.newBuilder().addKey(Key.of("a")).addKey(Key.of("b")).build()),
+            any());
+  }
+
+  @Test
+  void existingIdsNoKeysTest() {
+    assertThat(this.spannerTemplate.existingIds(TestEntity.class, Collections.emptyList()))
+        .isEmpty();
+    verify(this.databaseClient, never()).singleUse();
+  }
+
   @Test
   void readOnlyTransactionTest() {
 
@@ -500,6 +610,72 @@ class SpannerTemplateTests {
     verify(this.databaseClient, times(1)).singleUse();
   }
 
+  @Test
+  void cachedReadTest() {
+    CachedEntity entity = new CachedEntity();
+    entity.id = "key";
+    when(this.objectMapper.mapToList(any(), eq(CachedEntity.class), any(), eq(false)))
+        .thenReturn(Collections.singletonList(entity));
+    Mutation mutation = Mutation.newInsertOrUpdateBuilder("cached_table").set("id").to("key").build();
+    when(this.mutationFactory.upsert(same(entity), any()))
+        .thenReturn(Collections.singletonList(mutation));
+
+    when(this.databaseClient.singleUse(any())).thenReturn(this.readContext);
+
+    assertThat(this.spannerTemplate.read(CachedEntity.class, Key.of("key"))).isSameAs(entity);
+    assertThat(this.spannerTemplate.read(CachedEntity.class, Key.of("key"))).isSameAs(entity);
+    verify(this.databaseClient, times(1)).singleUse(TimestampBound.strong());
+
+    this.spannerTemplate.upsert(entity);
+    this.spannerTemplate.read(CachedEntity.class, Key.of("key"));
+    verify(this.databaseClient, times(2)).singleUse(TimestampBound.strong());
+    assertThat(this.spannerTemplate.getEntityCache().getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void cachedReadIgnoresDefaultTimestampBoundTest() {
+    CachedEntity entity = new CachedEntity();
+    entity.id = "key";
+    when(this.objectMapper.mapToList(any(), eq(CachedEntity.class), any(), eq(false)))
+        .thenReturn(Collections.singletonList(entity));
+    Mutation mutation = Mutation.newInsertOrUpdateBuilder("cached_table").set("id").to("key").build();
+    when(this.mutationFactory.upsert(same(entity), any()))
+        .thenReturn(Collections.singletonList(mutation));
+    when(this.databaseClient.singleUse(any())).thenReturn(this.readContext);
+    TimestampBound defaultBound = TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS);
+    this.spannerTemplate.setDefaultTimestampBound(defaultBound);
+
+    this.spannerTemplate.read(CachedEntity.class, Key.of("key"));
+    // the invalidated key is read again strongly, not with the default timestamp bound
+    this.spannerTemplate.upsert(entity);
+    this.spannerTemplate.read(CachedEntity.class, Key.of("key"));
+
+    verify(this.databaseClient, times(2)).singleUse(TimestampBound.strong());
+    verify(this.databaseClient, never()).singleUse(defaultBound);
+  }
+
+  @Test
+  void staleReadNotCachedTest() {
+    CachedEntity entity = new CachedEntity();
+    entity.id = "key";
+    when(this.objectMapper.mapToList(any(), eq(CachedEntity.class), any(), eq(false)))
+        .thenReturn(Collections.singletonList(entity));
+    when(this.databaseClient.singleUse(any())).thenReturn(this.readContext);
+    TimestampBound threadBound = TimestampBound.ofExactStaleness(15, TimeUnit.SECONDS);
+
+    SpannerTimestampBoundHolder.setTimestampBound(threadBound);
+    try {
+      this.spannerTemplate.read(CachedEntity.class, Key.of("key"));
+    } finally {
+      SpannerTimestampBoundHolder.setTimestampBound(null);
+    }
+    this.spannerTemplate.read(CachedEntity.class, Key.of("key"));
+
+    verify(this.databaseClient, times(1)).singleUse(threadBound);
+    verify(this.databaseClient, times(1)).singleUse(TimestampBound.strong());
+    assertThat(this.spannerTemplate.getEntityCache().getHitCount()).isZero();
+  }
+
   @Test
   void findKeySetTest() {
     SpannerTemplate spyTemplate = spy(this.spannerTemplate);
@@ -650,6 +826,88 @@ class SpannerTemplateTests {
         x -> x.verify(this.databaseClient, times(1)).write(mutations));
   }
 
+  @Test
+  void insertAllBulkWriteTest() {
+    Mutation mutation =
+        Mutation.newInsertBuilder("custom_test_table").set("id").to("a").set("id2").to("b").build();
+    TestEntity entity = new TestEntity();
+    List<Mutation> mutations = Arrays.asList(mutation, mutation, mutation);
+    List entities = Arrays.asList(entity, entity, entity);
+    when(this.mutationFactory.insert(same(entity))).thenReturn(Collections.singletonList(mutation));
+    Timestamp commitTimestamp = Timestamp.ofTimeMicroseconds(333);
+    when(this.databaseClient.writeWithOptions(any()))
+        .thenReturn(new CommitResponse(commitTimestamp));
+
+    SpannerBulkWriteResult[] result = new SpannerBulkWriteResult[1];
+    verifyBeforeAndAfterEvents(
+        new BeforeSaveEvent(entities, null),
+        new AfterSaveEvent(mutations, entities, null),
+        () ->
+            result[0] =
+                this.spannerTemplate.insertAll(
+                    entities, new SpannerBulkWriteOptions().setMaxMutationsPerCommit(3)),
+        x -> x.verify(this.databaseClient, times(3)).writeWithOptions(any()));
+
+    assertThat(result[0].getCommitCount()).isEqualTo(3);
+    assertThat(result[0].getMutationCount()).isEqualTo(6);
+    assertThat(result[0].hasFailures()).isFalse();
+    assertThat(result[0].getGroupResults())
+        .extracting(SpannerBulkWriteResult.GroupResult::getCommitTimestamp)
+        .containsExactly(commitTimestamp, commitTimestamp, commitTimestamp);
+  }
+
+  @Test
+  void bulkWriteEventsOnlyHoldAppliedEntitiesTest() {
+    TestEntity applied = new TestEntity();
+    TestEntity failed = new TestEntity();
+    Mutation appliedMutation =
+        Mutation.newInsertBuilder("custom_test_table").set("id").to("a").build();
+    Mutation failedMutation =
+        Mutation.newInsertBuilder("custom_test_table").set("id").to("b").build();
+    when(this.mutationFactory.insert(same(applied)))
+        .thenReturn(Collections.singletonList(appliedMutation));
+    when(this.mutationFactory.insert(same(failed)))
+        .thenReturn(Collections.singletonList(failedMutation));
+    when(this.databaseClient.writeWithOptions(any()))
+        .thenReturn(new CommitResponse(Timestamp.ofTimeMicroseconds(333)))
+        .thenThrow(
+            SpannerExceptionFactory.newSpannerException(ErrorCode.ALREADY_EXISTS, "duplicate"));
+    List<TestEntity> entities = Arrays.asList(applied, failed);
+
+    verifyBeforeAndAfterEvents(
+        new BeforeSaveEvent(entities, null),
+        new AfterSaveEvent(
+            Collections.singletonList(appliedMutation), Collections.singletonList(applied), null),
+        () ->
+            this.spannerTemplate.insertAll(
+                entities, new SpannerBulkWriteOptions().setMaxMutationsPerCommit(1)),
+        x -> x.verify(this.databaseClient, times(2)).writeWithOptions(any()));
+  }
+
+  @Test
+  void bulkWriteInTransactionTest() {
+    TransactionContext transactionContext = mock(TransactionContext.class);
+    TransactionRunner transactionRunner = mock(TransactionRunner.class);
+    when(this.databaseClient.readWriteTransaction()).thenReturn(transactionRunner);
+    when(transactionRunner.run(any()))
+        .thenAnswer(
+            invocation -> {
+              TransactionCallable transactionCallable = invocation.getArgument(0);
+              return transactionCallable.run(transactionContext);
+            });
+    TestEntity entity = new TestEntity();
+    List<TestEntity> entities = Collections.singletonList(entity);
+    SpannerBulkWriteOptions options = new SpannerBulkWriteOptions();
+
+    assertThatThrownBy(
+            () ->
+                this.spannerTemplate.performReadWriteTransaction(
+                    template -> template.upsertAll(entities, options)))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessage("A read-write transaction template cannot perform bulk writes.");
+    verify(transactionContext, times(0)).buffer(any(Iterable.class));
+  }
+
   @Test
   void updateTest() {
     Mutation mutation = Mutation.newUpdateBuilder("custom_test_table").build();
@@ -830,6 +1088,24 @@ class SpannerTemplateTests {
         x -> x.verify(this.databaseClient, times(1)).write(Collections.singletonList(mutation)));
   }
 
+  @Test
+  void approximateCountTest() {
+    ResultSet results = mock(ResultSet.class);
+    when(results.getLong(0)).thenReturn(5L);
+    when(this.readContext.executeQuery(Statement.of("SELECT COUNT(*) FROM custom_test_table")))
+        .thenReturn(results);
+
+    // Every call counts by default.
+    this.spannerTemplate.approximateCount(TestEntity.class);
+    this.spannerTemplate.approximateCount(TestEntity.class);
+    verify(results, times(2)).getLong(0);
+
+    this.spannerTemplate.setApproximateCountDuration(Duration.ofHours(1));
+    assertThat(this.spannerTemplate.approximateCount(TestEntity.class)).isEqualTo(5L);
+    assertThat(this.spannerTemplate.approximateCount(TestEntity.class)).isEqualTo(5L);
+    verify(results, times(3)).getLong(0);
+  }
+
   @Test
   void countTest() {
     ResultSet results = mock(ResultSet.class);
@@ -1043,6 +1319,12 @@ class SpannerTemplateTests {
     double[] doubles;
   }
 
+  @Table(name = "cached_table")
+  @Cached
+  private static class CachedEntity {
+    @PrimaryKey String id;
+  }
+
   @Table(name = "parent_test_table")
   private static class ParentEntity {
     @PrimaryKey(keyOrder = 1)
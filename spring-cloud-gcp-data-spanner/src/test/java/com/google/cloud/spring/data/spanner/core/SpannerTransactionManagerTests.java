@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -30,14 +31,18 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.cloud.Timestamp;
 import com.google.cloud.spanner.AbortedException;
 import com.google.cloud.spanner.DatabaseClient;
 import com.google.cloud.spanner.ErrorCode;
 import com.google.cloud.spanner.SpannerException;
 import com.google.cloud.spanner.SpannerExceptionFactory;
+import com.google.cloud.spanner.TimestampBound;
 import com.google.cloud.spanner.TransactionContext;
 import com.google.cloud.spanner.TransactionManager;
 import com.google.cloud.spanner.TransactionManager.TransactionState;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -46,6 +51,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 import org.springframework.transaction.support.DefaultTransactionStatus;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
@@ -155,6 +161,106 @@ class SpannerTransactionManagerTests {
     verify(transactionManager, times(0)).getState();
   }
 
+  @Test
+  void testDoBeginReadOnlyWithStalenessLabel() {
+    DefaultTransactionAttribute definition = new DefaultTransactionAttribute();
+    definition.setReadOnly(true);
+    definition.setLabels(Collections.singletonList("spanner-exact-staleness=PT15S"));
+    this.manager.setDefaultReadOnlyTimestampBound(
+        TimestampBound.ofExactStaleness(10, TimeUnit.SECONDS));
+
+    TransactionSynchronizationManager.unbindResource(this.databaseClient);
+
+    manager.doBegin(tx, definition);
+
+    verify(this.databaseClient)
+        .readOnlyTransaction(TimestampBound.ofExactStaleness(15, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void testDoBeginReadOnlyWithDefaultTimestampBound() {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+    this.manager.setDefaultReadOnlyTimestampBound(
+        TimestampBound.ofExactStaleness(10, TimeUnit.SECONDS));
+
+    TransactionSynchronizationManager.unbindResource(this.databaseClient);
+
+    manager.doBegin(tx, definition);
+
+    verify(this.databaseClient)
+        .readOnlyTransaction(TimestampBound.ofExactStaleness(10, TimeUnit.SECONDS));
+    verify(this.databaseClient, never()).readOnlyTransaction();
+  }
+
+  @Test
+  void testDoBeginReadOnlyWithMaxStalenessLabel() {
+    DefaultTransactionAttribute definition = new DefaultTransactionAttribute();
+    definition.setReadOnly(true);
+    definition.setLabels(Collections.singletonList("spanner-max-staleness=PT10S"));
+
+    TransactionSynchronizationManager.unbindResource(this.databaseClient);
+
+    assertThatThrownBy(() -> manager.doBegin(tx, definition))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage(
+            "Cloud Spanner does not support bounded staleness in read-only transactions;"
+                + " use a spanner-exact-staleness= label instead of: spanner-max-staleness=PT10S");
+    verify(this.databaseClient, never()).readOnlyTransaction(any());
+  }
+
+  @Test
+  void testBoundedStalenessDefaultRejected() {
+    assertThatThrownBy(
+            () ->
+                this.manager.setDefaultReadOnlyTimestampBound(
+                    TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith(
+            "Read-only transactions only support strong reads, an exact staleness or a read"
+                + " timestamp");
+    assertThatThrownBy(
+            () ->
+                this.manager.setDefaultReadOnlyTimestampBound(
+                    TimestampBound.ofMinReadTimestamp(Timestamp.ofTimeMicroseconds(333L))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testDoBeginReadOnlyIgnoresThreadTimestampBound() {
+    DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+    definition.setReadOnly(true);
+
+    TransactionSynchronizationManager.unbindResource(this.databaseClient);
+
+    TimestampBound previous =
+        SpannerTimestampBoundHolder.setTimestampBound(
+            TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS));
+    try {
+      manager.doBegin(tx, definition);
+    } finally {
+      SpannerTimestampBoundHolder.setTimestampBound(previous);
+    }
+
+    verify(this.databaseClient).readOnlyTransaction();
+    verify(this.databaseClient, never()).readOnlyTransaction(any());
+  }
+
+  @Test
+  void testDoBeginReadOnlyWithInvalidStalenessLabel() {
+    DefaultTransactionAttribute definition = new DefaultTransactionAttribute();
+    definition.setReadOnly(true);
+    definition.setLabels(Collections.singletonList("spanner-exact-staleness=10s"));
+
+    TransactionSynchronizationManager.unbindResource(this.databaseClient);
+
+    assertThatThrownBy(() -> manager.doBegin(tx, definition))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage(
+            "The staleness of the transaction label must be an ISO-8601 duration:"
+                + " spanner-exact-staleness=10s");
+  }
+
   @Test
   void testDoCommit() {
     when(transactionManager.getState()).thenReturn(TransactionState.STARTED);
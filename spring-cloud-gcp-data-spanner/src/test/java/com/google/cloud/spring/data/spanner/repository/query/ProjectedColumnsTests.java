@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.cloud.spring.data.spanner.core.mapping.Column;
+import com.google.cloud.spring.data.spanner.core.mapping.Embedded;
+import com.google.cloud.spring.data.spanner.core.mapping.Interleaved;
+import com.google.cloud.spring.data.spanner.core.mapping.PrimaryKey;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
+import com.google.cloud.spring.data.spanner.core.mapping.Table;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.ReturnedType;
+
+/** Tests for resolving the columns read by projections. */
+class ProjectedColumnsTests {
+
+  private final SpannerMappingContext mappingContext = new SpannerMappingContext();
+
+  @Test
+  void nestedEmbeddedProjectionTest() {
+    assertThat(resolve(NameAndCity.class)).containsExactly("name", "address_city");
+  }
+
+  @Test
+  void embeddedPropertyReadInFullTest() {
+    assertThat(resolve(NameAndAddress.class))
+        .containsExactly("name", "address_street", "address_city");
+  }
+
+  @Test
+  void dtoProjectionTest() {
+    assertThat(resolve(NameDto.class)).containsExactly("name");
+  }
+
+  @Test
+  void interleavedPropertyReadsEntityTest() {
+    assertThat(resolve(NameAndOrders.class)).isNull();
+  }
+
+  @Test
+  void entityReturnTypeReadsEntityTest() {
+    assertThat(resolve(Customer.class)).isNull();
+  }
+
+  private Set<String> resolve(Class<?> returnedType) {
+    return ProjectedColumns.resolve(
+        ReturnedType.of(returnedType, Customer.class, new SpelAwareProxyProjectionFactory()),
+        this.mappingContext.getPersistentEntityOrFail(Customer.class),
+        this.mappingContext);
+  }
+
+  @Table(name = "customers")
+  private static class Customer {
+    @PrimaryKey String id;
+
+    String name;
+
+    @Embedded Address address;
+
+    @Interleaved List<Order> orders;
+  }
+
+  private static class Address {
+    @Column(name = "address_street")
+    String street;
+
+    @Column(name = "address_city")
+    String city;
+  }
+
+  @Table(name = "orders")
+  private static class Order {
+    @PrimaryKey String id;
+
+    @PrimaryKey(keyOrder = 2)
+    String orderId;
+  }
+
+  private interface NameAndCity {
+    String getName();
+
+    City getAddress();
+
+    interface City {
+      String getCity();
+    }
+  }
+
+  private interface NameAndAddress {
+    String getName();
+
+    Address getAddress();
+  }
+
+  private interface NameAndOrders {
+    String getName();
+
+    List<Order> getOrders();
+  }
+
+  private static class NameDto {
+    private final String name;
+
+    NameDto(String name) {
+      this.name = name;
+    }
+
+    String getName() {
+      return this.name;
+    }
+  }
+}
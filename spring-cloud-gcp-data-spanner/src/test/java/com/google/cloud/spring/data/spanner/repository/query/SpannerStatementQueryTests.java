@@ -19,16 +19,21 @@ package com.google.cloud.spring.data.spanner.repository.query;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.cloud.spanner.Key;
+import com.google.cloud.spanner.KeySet;
 import com.google.cloud.spanner.Statement;
 import com.google.cloud.spanner.Struct;
 import com.google.cloud.spanner.Value;
+import com.google.cloud.spring.data.spanner.core.SpannerQueryOptions;
 import com.google.cloud.spring.data.spanner.core.SpannerTemplate;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.convert.SpannerWriteConverter;
@@ -38,6 +43,7 @@ import com.google.cloud.spring.data.spanner.core.mapping.SpannerMappingContext;
 import com.google.cloud.spring.data.spanner.core.mapping.Table;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -50,8 +56,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.ParametersSource;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 
 /** Tests Spanner statement queries. */
 class SpannerStatementQueryTests {
@@ -289,6 +299,148 @@ class SpannerStatementQueryTests {
     runPageableOrSortTest(params, method, expectedSql);
   }
 
+  @Test
+  void statementTemplateReusedAcrossInvocationsTest() throws NoSuchMethodException {
+    when(this.queryMethod.getName()).thenReturn("findByPriceLessThan");
+    this.partTreeSpannerQuery = spy(createQuery());
+    Method method = QueryHolder.class.getMethod("repositoryMethod5", Double.class, Pageable.class);
+    doReturn(new DefaultParameters(ParametersSource.of(method))).when(this.queryMethod).getParameters();
+    doReturn(Object.class).when(this.partTreeSpannerQuery).getReturnedSimpleConvertableItemType();
+    doReturn(null).when(this.partTreeSpannerQuery).convertToSimpleReturnType(any(), any());
+
+    List<Statement> statements = new ArrayList<>();
+    when(this.spannerTemplate.query((Class) any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              statements.add(invocation.getArgument(1));
+              return null;
+            });
+
+    this.partTreeSpannerQuery.execute(new Object[] {1.11, PageRequest.of(0, 10, Sort.by("traderId"))});
+    PartTreeStatementTemplate template = this.partTreeSpannerQuery.getStatementTemplate();
+    this.partTreeSpannerQuery.execute(new Object[] {2.22, PageRequest.of(3, 10, Sort.by("traderId"))});
+    this.partTreeSpannerQuery.execute(new Object[] {3.33, PageRequest.of(0, 5, Sort.by("price"))});
+
+    assertThat(this.partTreeSpannerQuery.getStatementTemplate()).isSameAs(template);
+    assertThat(statements)
+        .extracting(Statement::getSql)
+        .containsExactly(
+            "SELECT shares, trader_id, ticker, price, action, id, value FROM trades WHERE ("
+                + " price<@tag0 ) ORDER BY trader_id ASC LIMIT 10 OFFSET 0",
+            "SELECT shares, trader_id, ticker, price, action, id, value FROM trades WHERE ("
+                + " price<@tag0 ) ORDER BY trader_id ASC LIMIT 10 OFFSET 30",
+            "SELECT shares, trader_id, ticker, price, action, id, value FROM trades WHERE ("
+                + " price<@tag0 ) ORDER BY price ASC LIMIT 5 OFFSET 0");
+    assertThat(statements)
+        .extracting(statement -> statement.getParameters().get("tag0").getFloat64())
+        .containsExactly(1.11, 2.22, 3.33);
+  }
+
+  @Test
+  void deleteReadsOnlyKeysTest() throws NoSuchMethodException {
+    when(this.queryMethod.getName()).thenReturn("deleteByPriceLessThan");
+    when(this.queryMethod.isCollectionQuery()).thenReturn(false);
+    doReturn(long.class).when(this.queryMethod).getReturnedObjectType();
+    this.partTreeSpannerQuery = spy(createQuery());
+    Method method = QueryHolder.class.getMethod("repositoryMethod5", Double.class, Pageable.class);
+    doReturn(new DefaultParameters(ParametersSource.of(method))).when(this.queryMethod).getParameters();
+    doReturn(Integer.class).when(this.partTreeSpannerQuery).getReturnedSimpleConvertableItemType();
+    doAnswer(invocation -> invocation.getArgument(0))
+        .when(this.partTreeSpannerQuery)
+        .convertToSimpleReturnType(any(), any());
+
+    when(this.spannerTemplate.performReadWriteTransaction(any()))
+        .thenAnswer(
+            invocation -> {
+              Function<SpannerTemplate, ?> function = invocation.getArgument(0);
+              return function.apply(this.spannerTemplate);
+            });
+    when(this.spannerTemplate.query((Function<Struct, Object>) any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Statement statement = invocation.getArgument(1);
+              assertThat(statement.getSql())
+                  .isEqualTo("SELECT id FROM trades WHERE ( price<@tag0 ) LIMIT 10 OFFSET 0");
+              Function<Struct, Object> rowFunc = invocation.getArgument(0);
+              return Arrays.asList(
+                  rowFunc.apply(Struct.newBuilder().set("id").to("a").build()),
+                  rowFunc.apply(Struct.newBuilder().set("id").to("b").build()));
+            });
+
+    assertThat(this.partTreeSpannerQuery.execute(new Object[] {1.11, PageRequest.of(0, 10)}))
+        .isEqualTo(Collections.singletonList(2));
+
+    verify(this.spannerTemplate, never()).query((Class) any(), any(), any());
+    verify(this.spannerTemplate, never()).deleteAll(any());
+    verify(this.spannerTemplate)
+        .delete(Trade.class, KeySet.newBuilder().addKey(Key.of("a")).addKey(Key.of("b")).build());
+  }
+
+  @Test
+  void closedProjectionSelectsOnlyProjectedColumnsTest() throws NoSuchMethodException {
+    ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+    setUpProjection(SymbolAndPrice.class, projectionFactory);
+    List<SpannerQueryOptions> options = new ArrayList<>();
+    when(this.spannerTemplate.query((Class) any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Statement statement = invocation.getArgument(1);
+              assertThat(statement.getSql())
+                  .isEqualTo("SELECT ticker, price FROM trades WHERE ( action=@tag0 )");
+              options.add(invocation.getArgument(2));
+              Trade trade = new Trade();
+              trade.symbol = "ABCD";
+              trade.price = 1.5;
+              return Collections.singletonList(trade);
+            });
+
+    List<SymbolAndPrice> results =
+        (List<SymbolAndPrice>) this.partTreeSpannerQuery.execute(new Object[] {"BUY"});
+
+    assertThat(results).extracting(SymbolAndPrice::getSymbol).containsExactly("ABCD");
+    assertThat(results).extracting(SymbolAndPrice::getPrice).containsExactly(1.5);
+    assertThat(options.get(0).getIncludeProperties()).containsExactly("ticker", "price");
+    assertThat(options.get(0).isAllowPartialRead()).isTrue();
+  }
+
+  @Test
+  void openProjectionSelectsEntityTest() throws NoSuchMethodException {
+    setUpProjection(OpenProjection.class, new SpelAwareProxyProjectionFactory());
+    when(this.spannerTemplate.query((Class) any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Statement statement = invocation.getArgument(1);
+              assertThat(statement.getSql())
+                  .isEqualTo(
+                      "SELECT shares, trader_id, ticker, price, action, id, value FROM trades"
+                          + " WHERE ( action=@tag0 )");
+              assertThat((SpannerQueryOptions) invocation.getArgument(2)).isNull();
+              return Collections.emptyList();
+            });
+
+    this.partTreeSpannerQuery.execute(new Object[] {"BUY"});
+
+    verify(this.spannerTemplate).query((Class) any(), any(), any());
+  }
+
+  private void setUpProjection(Class<?> projectionType, ProjectionFactory projectionFactory)
+      throws NoSuchMethodException {
+    when(this.queryMethod.getName()).thenReturn("findByAction");
+    when(this.queryMethod.isCollectionQuery()).thenReturn(true);
+    Method method = QueryHolder.class.getMethod("repositoryMethod8", String.class);
+    doReturn(new DefaultParameters(ParametersSource.of(method))).when(this.queryMethod).getParameters();
+    ResultProcessor resultProcessor = mock(ResultProcessor.class);
+    when(resultProcessor.getReturnedType())
+        .thenReturn(ReturnedType.of(projectionType, Trade.class, projectionFactory));
+    when(resultProcessor.processResult(any()))
+        .thenAnswer(
+            invocation ->
+                projectionFactory.createProjection(projectionType, invocation.getArgument(0)));
+    when(this.queryMethod.getResultProcessor()).thenReturn(resultProcessor);
+    this.partTreeSpannerQuery = spy(createQuery());
+    doReturn(null).when(this.partTreeSpannerQuery).getReturnedSimpleConvertableItemType();
+  }
+
   private void runPageableOrSortTest(Object[] params, Method method, String expectedSql) {
     when(this.queryMethod.getName()).thenReturn("findByPriceLessThan");
     this.partTreeSpannerQuery = spy(createQuery());
@@ -460,6 +612,17 @@ class SpannerStatementQueryTests {
     BigDecimal value;
   }
 
+  private interface SymbolAndPrice {
+    String getSymbol();
+
+    Double getPrice();
+  }
+
+  private interface OpenProjection {
+    @org.springframework.beans.factory.annotation.Value("#{target.symbol + target.price}")
+    String getSymbolAndPrice();
+  }
+
   // The methods in this class are used to emulate repository methods
   private static class QueryHolder {
     public long repositoryMethod1(
@@ -517,5 +680,9 @@ class SpannerStatementQueryTests {
     public long repositoryMethod7(String tag0, Pageable tag1, String tag2) {
       return 0;
     }
+
+    public long repositoryMethod8(String tag0) {
+      return 0;
+    }
   }
 }
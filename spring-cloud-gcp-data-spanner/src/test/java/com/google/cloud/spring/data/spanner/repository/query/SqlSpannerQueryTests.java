@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -53,6 +54,7 @@ import com.google.common.base.Objects;
 import com.google.gson.Gson;
 import com.google.spanner.v1.TypeCode;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -284,6 +286,57 @@ class SqlSpannerQueryTests {
     verify(this.spannerTemplate, times(1)).executeQuery(any(), any());
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void compiledQueryReusedAcrossInvocationsTest(boolean useValueExpressionDelegate)
+      throws NoSuchMethodException {
+
+    String sql =
+        "SELECT * FROM"
+            + " :com.google.cloud.spring.data.spanner.repository.query.SqlSpannerQueryTests$Child:"
+            + " WHERE id = @id AND trader_id = @trader_id";
+    String sortedSql =
+        "SELECT *, ARRAY (SELECT AS STRUCT canceled, documentId, id, childId, content FROM"
+            + " documents WHERE (documents.id = children.id AND documents.childId ="
+            + " children.childId) AND (canceled = false)) AS documents FROM (SELECT * FROM children"
+            + " WHERE id = @id AND trader_id = @trader_id) children WHERE disabled = false ORDER BY"
+            + " trader_id ASC";
+
+    when(queryMethod.isCollectionQuery()).thenReturn(false);
+    when(queryMethod.getReturnedObjectType()).thenReturn((Class) Child.class);
+
+    SqlSpannerQuery sqlSpannerQuery = createQuery(sql, Child.class, false, useValueExpressionDelegate);
+
+    List<Statement> statements = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              statements.add(invocation.getArgument(0));
+              return null;
+            })
+        .when(this.spannerTemplate)
+        .executeQuery(any(), any());
+
+    Method method =
+        QueryHolder.class.getMethod("dummyMethod4", String.class, String.class, Pageable.class);
+    when(this.queryMethod.getQueryMethod()).thenReturn(method);
+    Mockito.<Parameters>when(this.queryMethod.getParameters())
+        .thenReturn(new DefaultParameters(ParametersSource.of(method)));
+
+    Sort sort = Sort.by(Order.asc("trader_id"));
+    sqlSpannerQuery.execute(new Object[] {"ID1", "TRADER_ID1", PageRequest.of(0, 10, sort)});
+    sqlSpannerQuery.execute(new Object[] {"ID2", "TRADER_ID2", PageRequest.of(5, 20, sort)});
+
+    assertThat(statements)
+        .extracting(Statement::getSql)
+        .containsExactly(sortedSql + " LIMIT 10 OFFSET 0", sortedSql + " LIMIT 20 OFFSET 100");
+    assertThat(statements)
+        .extracting(statement -> statement.getParameters().get("id").getString())
+        .containsExactly("ID1", "ID2");
+    // The SQL has no SpEL expressions, so no evaluation context is ever needed.
+    verify(this.evaluationContextProvider, never()).getEvaluationContext(any(), any());
+    verify(this.valueExpressionDelegate, never()).getEvaluationContextAccessor();
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void sortParamQueryTest(boolean useValueExpressionDelegate) throws NoSuchMethodException {
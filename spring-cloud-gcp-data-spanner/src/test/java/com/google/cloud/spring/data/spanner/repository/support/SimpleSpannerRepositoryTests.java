@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -34,13 +35,19 @@ import com.google.cloud.spring.data.spanner.core.convert.SpannerEntityProcessor;
 import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 /** Tests for the standard Spanner repository implementation. */
 class SimpleSpannerRepositoryTests {
@@ -253,6 +260,83 @@ class SimpleSpannerRepositoryTests {
     verify(this.template, times(1)).queryAll(eq(Object.class), any());
   }
 
+  @Test
+  void findAllPageableApproximateCountTest() {
+    when(this.template.queryAll(eq(Object.class), any()))
+        .thenReturn(new ArrayList<>(Arrays.asList("a", "b")));
+    when(this.template.approximateCount(Object.class)).thenReturn(10L);
+    SimpleSpannerRepository<Object, Key> repository =
+        new SimpleSpannerRepository<>(this.template, Object.class);
+
+    // The total of a partial first page is the size of the page.
+    Page<Object> page = repository.findAll(PageRequest.of(0, 5));
+    assertThat(page.getTotalElements()).isEqualTo(2);
+    verify(this.template, never()).approximateCount(any());
+
+    page = repository.findAll(PageRequest.of(0, 2));
+    assertThat(page.getTotalElements()).isEqualTo(10);
+    verify(this.template, times(1)).approximateCount(Object.class);
+    verify(this.template, never()).count(any());
+  }
+
+  @Test
+  void existingIdsTest() {
+    when(this.entityProcessor.convertToKey(any()))
+        .thenAnswer(invocation -> Key.of((String) invocation.getArgument(0)));
+    when(this.template.existingIds(eq(Object.class), any()))
+        .thenAnswer(
+            invocation -> {
+              Iterable<Key> keys = invocation.getArgument(1);
+              assertThat(keys).containsExactly(Key.of("a"), Key.of("b"), Key.of("c"));
+              return new LinkedHashSet<>(Arrays.asList(Key.of("a"), Key.of("c")));
+            });
+
+    assertThat(
+            new SimpleSpannerRepository<Object, String>(this.template, Object.class)
+                .existingIds(Arrays.asList("a", "b", "a", "c")))
+        .containsExactly("a", "c");
+  }
+
+  @Test
+  void findSliceTest() {
+    when(this.template.queryAll(eq(Object.class), any()))
+        .thenAnswer(
+            invocation -> {
+              SpannerPageableQueryOptions spannerQueryOptions = invocation.getArgument(1);
+              assertThat(spannerQueryOptions.getOffset()).isEqualTo(4);
+              assertThat(spannerQueryOptions.getLimit()).isEqualTo(3);
+              return new ArrayList<>(Arrays.asList("a", "b", "c"));
+            });
+
+    Slice<Object> slice =
+        new SimpleSpannerRepository<Object, Key>(this.template, Object.class)
+            .findSlice(PageRequest.of(2, 2));
+
+    assertThat(slice.getContent()).containsExactly("a", "b");
+    assertThat(slice.hasNext()).isTrue();
+    verify(this.template, never()).count(any());
+  }
+
+  @Test
+  void findAllScrollTest() {
+    Sort sort = Sort.by("id");
+    Window<Object> window = Window.from(Arrays.asList("a"), ScrollPosition::offset);
+    when(this.template.scrollAll(eq(Object.class), eq(ScrollPosition.keyset()), any()))
+        .thenAnswer(
+            invocation -> {
+              SpannerPageableQueryOptions spannerQueryOptions = invocation.getArgument(2);
+              assertThat(spannerQueryOptions.getSort()).isSameAs(sort);
+              assertThat(spannerQueryOptions.getLimit()).isEqualTo(10);
+              return window;
+            });
+
+    assertThat(
+            new SimpleSpannerRepository<Object, Key>(this.template, Object.class)
+                .findAll(ScrollPosition.keyset(), sort, 10))
+        .isSameAs(window);
+    verify(this.template, never()).count(any());
+  }
+
   @Test
   void findAllByIdTest() {
     List<Key> unconvertedKey = Arrays.asList(Key.of("key1"), Key.of("key2"));
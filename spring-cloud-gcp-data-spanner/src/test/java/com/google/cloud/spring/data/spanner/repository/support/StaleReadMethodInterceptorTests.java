@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.spring.data.spanner.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.spanner.TimestampBound;
+import com.google.cloud.spring.data.spanner.core.SpannerTimestampBoundHolder;
+import com.google.cloud.spring.data.spanner.core.mapping.SpannerDataException;
+import com.google.cloud.spring.data.spanner.repository.query.StaleRead;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+
+/** Tests for applying the staleness of repository annotations. */
+class StaleReadMethodInterceptorTests {
+
+  @Test
+  void methodAnnotationTakesPrecedenceTest() throws Throwable {
+    StaleReadMethodInterceptor interceptor =
+        new StaleReadMethodInterceptor(StaleRepository.class);
+
+    assertThat(invoke(interceptor, "findByName"))
+        .isEqualTo(TimestampBound.ofExactStaleness(15, TimeUnit.SECONDS));
+    assertThat(invoke(interceptor, "findByAge"))
+        .isEqualTo(TimestampBound.ofMaxStaleness(10, TimeUnit.SECONDS));
+    assertThat(SpannerTimestampBoundHolder.getTimestampBound()).isNull();
+  }
+
+  @Test
+  void unannotatedRepositoryTest() throws Throwable {
+    StaleReadMethodInterceptor interceptor =
+        new StaleReadMethodInterceptor(StrongRepository.class);
+
+    assertThat(invoke(interceptor, "findByAge")).isNull();
+  }
+
+  @Test
+  void invalidAnnotationTest() {
+    assertThatThrownBy(() -> new StaleReadMethodInterceptor(InvalidRepository.class))
+        .isInstanceOf(SpannerDataException.class)
+        .hasMessageStartingWith(
+            "Exactly one of maxStalenessMillis and exactStalenessMillis must be positive");
+  }
+
+  private static TimestampBound invoke(StaleReadMethodInterceptor interceptor, String methodName)
+      throws Throwable {
+    AtomicReference<TimestampBound> timestampBound = new AtomicReference<>();
+    MethodInvocation invocation = mock(MethodInvocation.class);
+    when(invocation.getMethod()).thenReturn(StaleRepository.class.getMethod(methodName));
+    when(invocation.proceed())
+        .thenAnswer(
+            x -> {
+              timestampBound.set(SpannerTimestampBoundHolder.getTimestampBound());
+              return null;
+            });
+    interceptor.invoke(invocation);
+    return timestampBound.get();
+  }
+
+  @StaleRead(maxStalenessMillis = 10_000)
+  private interface StaleRepository {
+    @StaleRead(exactStalenessMillis = 15_000)
+    Object findByName();
+
+    Object findByAge();
+  }
+
+  private interface StrongRepository {}
+
+  @StaleRead(maxStalenessMillis = 10_000, exactStalenessMillis = 15_000)
+  private interface InvalidRepository {}
+}